@@ -10,6 +10,17 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     
+    // 캐시
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    
+    // Redis (읽기 모델)
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    
+    // Kafka (이벤트 발행, 스트림 집계)
+    implementation("org.springframework.kafka:spring-kafka")
+    implementation("org.apache.kafka:kafka-streams")
+    
     // API 문서화
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.4.0")
     
@@ -17,4 +28,7 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:mysql")
+    testImplementation("org.apache.kafka:kafka-streams-test-utils")
+    testImplementation("org.springframework.kafka:spring-kafka-test")
+    testImplementation("org.redisson:redisson:3.27.2")
 }
@@ -0,0 +1,32 @@
+package adapter.command;
+
+import application.service.MoneyMovementCommand;
+import domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 입출금 명령 메시지 (account.commands)
+ *
+ * @param commandId     명령 ID (처리 결과의 거래 이벤트 ID로도 사용)
+ * @param accountNumber 계좌번호 (파티션 키)
+ * @param type          DEPOSIT 또는 WITHDRAW
+ * @param amount        거래 금액
+ * @param description   거래 설명
+ * @param requestedAt   요청 일시
+ */
+public record AccountCommandMessage(String commandId, String accountNumber, TransactionType type,
+                                    BigDecimal amount, String description, LocalDateTime requestedAt) {
+
+    public static AccountCommandMessage of(MoneyMovementCommand command) {
+        return new AccountCommandMessage(
+                UUID.randomUUID().toString(),
+                command.accountNumber().getValue(),
+                command.type(),
+                command.amount() != null ? command.amount().getAmount() : null,
+                command.description(),
+                LocalDateTime.now());
+    }
+}
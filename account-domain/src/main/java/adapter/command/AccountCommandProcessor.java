@@ -0,0 +1,90 @@
+package adapter.command;
+
+import application.port.out.LoadAccountPort;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.util.Optional;
+
+/**
+ * 입출금 명령 단일 기록자 프로세서
+ *
+ * 파티션을 소유한 스트림 태스크만 해당 계좌의 상태를 변경하므로 노드 간 락이 필요 없다.
+ * 상태는 메모리 저장소에 두고 변경 로그 토픽으로 복제되며, 리밸런싱으로 파티션을 넘겨받은 노드는
+ * 변경 로그를 재생해 상태를 복원한 뒤 처리를 이어간다.
+ *
+ * 저장소에 없는 계좌는 처음 한 번만 DB에서 읽어 온다. 이후에는 저장소가 원본이다.
+ * 상태 갱신, 결과 기록, 입력 오프셋 커밋이 원자적이어야 하므로 processing.guarantee=exactly_once_v2 로 실행한다.
+ * 명령 메시지의 헤더(응답 상관관계 ID 등)는 결과 레코드에 그대로 전달된다.
+ */
+public class AccountCommandProcessor implements Processor<String, AccountCommandMessage, String, AccountCommandReply> {
+
+    private final String storeName;
+    private final LoadAccountPort loadAccountPort;
+
+    private ProcessorContext<String, AccountCommandReply> context;
+    private KeyValueStore<String, AccountStateSnapshot> store;
+
+    public AccountCommandProcessor(String storeName, LoadAccountPort loadAccountPort) {
+        this.storeName = storeName;
+        this.loadAccountPort = loadAccountPort;
+    }
+
+    @Override
+    public void init(ProcessorContext<String, AccountCommandReply> context) {
+        this.context = context;
+        this.store = context.getStateStore(storeName);
+    }
+
+    @Override
+    public void process(Record<String, AccountCommandMessage> record) {
+        AccountCommandMessage command = record.value();
+        if (command == null) {
+            return;
+        }
+        context.forward(record.withValue(apply(command)));
+    }
+
+    private AccountCommandReply apply(AccountCommandMessage command) {
+        try {
+            Optional<Account> loaded = load(command.accountNumber());
+            if (loaded.isEmpty()) {
+                return AccountCommandReply.failure(command, AccountCommandReply.ACCOUNT_NOT_FOUND,
+                        "계좌를 찾을 수 없습니다: " + command.accountNumber());
+            }
+
+            Account account = loaded.get();
+            Money amount = new Money(command.amount());
+            Transaction transaction = command.type() == TransactionType.WITHDRAW
+                    ? account.withdraw(amount, command.description())
+                    : account.deposit(amount, command.description());
+
+            long version = (account.getVersion() == null ? 0L : account.getVersion()) + 1;
+            store.put(command.accountNumber(), AccountStateSnapshot.from(account, version));
+            return AccountCommandReply.success(command, transaction, version);
+        } catch (InsufficientBalanceException e) {
+            return AccountCommandReply.failure(command, AccountCommandReply.INSUFFICIENT_BALANCE, e.getMessage());
+        } catch (InactiveAccountException e) {
+            return AccountCommandReply.failure(command, AccountCommandReply.INACTIVE_ACCOUNT, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return AccountCommandReply.failure(command, AccountCommandReply.INVALID_COMMAND, e.getMessage());
+        }
+    }
+
+    private Optional<Account> load(String accountNumber) {
+        AccountStateSnapshot snapshot = store.get(accountNumber);
+        if (snapshot != null) {
+            return Optional.of(snapshot.toDomain());
+        }
+        return loadAccountPort.loadAccount(new AccountNumber(accountNumber));
+    }
+}
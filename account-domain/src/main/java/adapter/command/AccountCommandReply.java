@@ -0,0 +1,65 @@
+package adapter.command;
+
+import adapter.event.TransactionEvent;
+import application.service.commandlog.AccountStateProjection;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입출금 명령 처리 결과 (account.command-results)
+ *
+ * @param commandId     명령 ID
+ * @param accountNumber 계좌번호
+ * @param errorCode     실패 코드 (성공이면 null)
+ * @param errorMessage  실패 메시지
+ * @param type          거래 유형
+ * @param amount        거래 금액
+ * @param balanceAfter  거래 후 잔액
+ * @param transactionAt 거래 일시
+ * @param description   거래 설명
+ * @param version       명령 적용 후 계좌 버전
+ */
+public record AccountCommandReply(String commandId, String accountNumber, String errorCode, String errorMessage,
+                                  TransactionType type, BigDecimal amount, BigDecimal balanceAfter,
+                                  LocalDateTime transactionAt, String description, long version) {
+
+    public static final String INSUFFICIENT_BALANCE = "INSUFFICIENT_BALANCE";
+    public static final String INACTIVE_ACCOUNT = "INACTIVE_ACCOUNT";
+    public static final String ACCOUNT_NOT_FOUND = "ACCOUNT_NOT_FOUND";
+    public static final String INVALID_COMMAND = "INVALID_COMMAND";
+
+    public static AccountCommandReply success(AccountCommandMessage command, Transaction transaction, long version) {
+        return new AccountCommandReply(command.commandId(), command.accountNumber(), null, null,
+                transaction.getType(), transaction.getAmount().getAmount(), transaction.getBalanceAfter().getAmount(),
+                transaction.getTransactionAt(), transaction.getDescription(), version);
+    }
+
+    public static AccountCommandReply failure(AccountCommandMessage command, String errorCode, String errorMessage) {
+        return new AccountCommandReply(command.commandId(), command.accountNumber(), errorCode, errorMessage,
+                command.type(), command.amount(), null, null, command.description(), 0L);
+    }
+
+    @JsonIgnore
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    public Transaction toTransaction() {
+        return new Transaction(null, type, new Money(amount), new Money(balanceAfter), transactionAt, description);
+    }
+
+    public AccountStateProjection toProjection() {
+        return new AccountStateProjection(new AccountNumber(accountNumber), version, new Money(balanceAfter),
+                transactionAt, toTransaction());
+    }
+
+    public TransactionEvent toTransactionEvent() {
+        return new TransactionEvent(commandId, accountNumber, type, amount, balanceAfter, transactionAt);
+    }
+}
@@ -0,0 +1,159 @@
+package adapter.command;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountTopics;
+import adapter.event.TransactionEvent;
+import adapter.stream.TransactionEventSerde;
+import application.port.out.LoadAccountPort;
+import application.service.commandlog.CommandLogProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumer;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerFactory;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.Stores;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBeanConfigurer;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 명령 로그 모드 설정 (fintech.account.command-log.enabled=true 일 때만 등록)
+ *
+ * account.commands -> [AccountCommandProcessor + account-state] -> account.command-results
+ *                                                                -> account.transactions (성공 건)
+ * account.command-results -> 요청 노드 응답 대기 (노드별 컨슈머 그룹)
+ *                         -> DB 반영 컨슈머 (공용 컨슈머 그룹, 키 순서 보장 병렬 처리)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.account.command-log", name = "enabled", havingValue = "true")
+public class AccountCommandStreamsConfig {
+
+    @Bean
+    public KStream<String, AccountCommandReply> accountCommandStream(StreamsBuilder streamsBuilder,
+                                                                     CommandLogProperties properties,
+                                                                     LoadAccountPort loadAccountPort,
+                                                                     AccountEventCodec codec,
+                                                                     ObjectMapper objectMapper) {
+        String storeName = properties.getStoreName();
+
+        // 메모리 저장소 + 변경 로그 (압축 토픽) - 리밸런싱 시 변경 로그에서 복원
+        streamsBuilder.addStateStore(Stores.keyValueStoreBuilder(
+                        Stores.inMemoryKeyValueStore(storeName),
+                        Serdes.String(),
+                        jsonSerde(AccountStateSnapshot.class, objectMapper))
+                .withLoggingEnabled(Map.of()));
+
+        KStream<String, AccountCommandReply> replies = streamsBuilder
+                .stream(AccountTopics.COMMANDS,
+                        Consumed.with(Serdes.String(), jsonSerde(AccountCommandMessage.class, objectMapper)))
+                .process(() -> new AccountCommandProcessor(storeName, loadAccountPort), storeName);
+
+        replies.to(AccountTopics.COMMAND_RESULTS,
+                Produced.with(Serdes.String(), jsonSerde(AccountCommandReply.class, objectMapper)));
+
+        // 거래 이벤트는 파티션 소유 노드가 명령 처리와 같은 트랜잭션으로 발행한다
+        replies.filter((accountNumber, reply) -> reply.isSuccess())
+                .mapValues(AccountCommandReply::toTransactionEvent)
+                .to(AccountTopics.TRANSACTIONS,
+                        Produced.<String, TransactionEvent>with(Serdes.String(), new TransactionEventSerde(codec, objectMapper)));
+        return replies;
+    }
+
+    @Bean
+    public StreamsBuilderFactoryBeanConfigurer accountStateRestoreConfigurer(MeterRegistry meterRegistry) {
+        return factoryBean -> factoryBean.setStateRestoreListener(new AccountStateRestoreListener(meterRegistry));
+    }
+
+    /**
+     * 요청-응답 템플릿
+     * 결과 토픽을 모든 노드가 공유하므로 노드마다 별도 컨슈머 그룹으로 구독하고, 상관관계 ID가 다른 응답은 무시한다.
+     */
+    @Bean
+    public ReplyingKafkaTemplate<String, AccountCommandMessage, AccountCommandReply> accountCommandReplyingTemplate(
+            KafkaProperties kafkaProperties,
+            CommandLogProperties properties,
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name}") String applicationName) {
+
+        JsonSerializer<AccountCommandMessage> serializer = new JsonSerializer<>(objectMapper);
+        serializer.setAddTypeInfo(false);
+        DefaultKafkaProducerFactory<String, AccountCommandMessage> producerFactory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(), serializer);
+
+        Map<String, Object> consumerConfig = kafkaProperties.buildConsumerProperties(null);
+        consumerConfig.put(ConsumerConfig.GROUP_ID_CONFIG, applicationName + "-command-replies-" + UUID.randomUUID());
+        consumerConfig.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        DefaultKafkaConsumerFactory<String, AccountCommandReply> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                consumerConfig, new StringDeserializer(), replyDeserializer(objectMapper));
+
+        KafkaMessageListenerContainer<String, AccountCommandReply> replyContainer =
+                new KafkaMessageListenerContainer<>(consumerFactory, new ContainerProperties(AccountTopics.COMMAND_RESULTS));
+
+        ReplyingKafkaTemplate<String, AccountCommandMessage, AccountCommandReply> template =
+                new ReplyingKafkaTemplate<>(producerFactory, replyContainer);
+        template.setSharedReplyTopic(true);
+        template.setDefaultReplyTimeout(properties.getReplyTimeout());
+        return template;
+    }
+
+    /**
+     * DB 반영 컨슈머 (계좌별 순서 보장, 계좌 간 병렬)
+     */
+    @Bean
+    public KeyOrderedConsumer<AccountCommandReply> commandResultProjectionConsumer(
+            KeyOrderedConsumerFactory consumerFactory,
+            CommandResultProjectionListener projectionListener,
+            CommandLogProperties properties,
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name}") String applicationName) {
+
+        return consumerFactory.create(
+                applicationName + "-command-projection",
+                List.of(AccountTopics.COMMAND_RESULTS),
+                replyDeserializer(objectMapper),
+                projectionListener,
+                KeyOrderedConsumerOptions.builder()
+                        .name("command-projection")
+                        .autoOffsetReset("earliest")
+                        .concurrency(properties.getProjectionConcurrency())
+                        .maxBatchSize(properties.getProjectionBatchSize())
+                        .build());
+    }
+
+    private static JsonDeserializer<AccountCommandReply> replyDeserializer(ObjectMapper objectMapper) {
+        // 명령 레코드에서 넘어온 헤더가 섞여 있으므로 타입 헤더는 보지 않는다
+        return new JsonDeserializer<>(AccountCommandReply.class, objectMapper, false);
+    }
+
+    private static <T> JsonSerde<T> jsonSerde(Class<T> type, ObjectMapper objectMapper) {
+        return new JsonSerde<>(type, objectMapper)
+                .noTypeInfo()
+                .ignoreTypeHeaders();
+    }
+}
@@ -0,0 +1,62 @@
+package adapter.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 저장소 복원 리스너
+ * 리밸런싱으로 파티션을 넘겨받아 변경 로그를 재생하는 동안 해당 파티션의 명령은 처리되지 않으므로,
+ * 복원 시간과 건수를 기록해 응답 대기 시간 설정과 standby 복제본 수 조정에 사용한다.
+ *
+ * 지표:
+ * - account.command_log.restore          : 파티션별 복원 소요 시간
+ * - account.command_log.restored_records : 복원한 변경 로그 레코드 수
+ */
+@Slf4j
+public class AccountStateRestoreListener implements StateRestoreListener {
+    private static final Logger log = LoggerFactory.getLogger(AccountStateRestoreListener.class);
+
+    private final Map<TopicPartition, Long> startedAt = new ConcurrentHashMap<>();
+    private final Timer restoreTimer;
+    private final Counter restoredRecords;
+
+    public AccountStateRestoreListener(MeterRegistry meterRegistry) {
+        this.restoreTimer = Timer.builder("account.command_log.restore")
+                .description("상태 저장소 파티션 복원 시간")
+                .register(meterRegistry);
+        this.restoredRecords = Counter.builder("account.command_log.restored_records")
+                .description("복원한 변경 로그 레코드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset, long endingOffset) {
+        startedAt.put(topicPartition, System.nanoTime());
+        log.info("상태 저장소 복원 시작 - 저장소: {}, 파티션: {}, 오프셋: {} ~ {}",
+                storeName, topicPartition, startingOffset, endingOffset);
+    }
+
+    @Override
+    public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset, long numRestored) {
+        restoredRecords.increment(numRestored);
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        Long started = startedAt.remove(topicPartition);
+        long elapsedNanos = started == null ? 0L : System.nanoTime() - started;
+        restoreTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("상태 저장소 복원 완료 - 저장소: {}, 파티션: {}, 건수: {}, 소요: {}ms",
+                storeName, topicPartition, totalRestored, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+}
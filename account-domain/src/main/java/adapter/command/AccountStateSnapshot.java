@@ -0,0 +1,27 @@
+package adapter.command;
+
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 상태 저장소 값 (변경 로그 토픽에 계좌별 최신 상태로 압축 보관)
+ */
+public record AccountStateSnapshot(Long accountId, String accountNumber, BigDecimal balance, AccountStatus status,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+
+    public static AccountStateSnapshot from(Account account, long version) {
+        return new AccountStateSnapshot(account.getAccountId(), account.getAccountNumber().getValue(),
+                account.getBalance().getAmount(), account.getStatus(),
+                account.getCreatedAt(), account.getUpdatedAt(), version);
+    }
+
+    public Account toDomain() {
+        return new Account(accountId, new AccountNumber(accountNumber), new Money(balance), status,
+                createdAt, updatedAt, version);
+    }
+}
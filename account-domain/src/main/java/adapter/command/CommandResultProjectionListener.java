@@ -0,0 +1,34 @@
+package adapter.command;
+
+import application.service.commandlog.AccountStateProjection;
+import application.service.commandlog.CommandResultProjectionService;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedBatchHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 명령 처리 결과 DB 반영 리스너
+ * 모든 노드가 같은 컨슈머 그룹으로 구독하므로 결과 한 건은 한 노드에서만 반영된다.
+ * 키 순서 보장 컨슈머로 실행되어 서로 다른 계좌는 병렬로, 같은 계좌는 버전 순서대로 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "fintech.account.command-log", name = "enabled", havingValue = "true")
+public class CommandResultProjectionListener implements KeyOrderedBatchHandler<AccountCommandReply> {
+
+    private final CommandResultProjectionService projectionService;
+
+    @Override
+    public void handle(List<ConsumerRecord<String, AccountCommandReply>> records) {
+        List<AccountStateProjection> projections = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(AccountCommandReply::isSuccess)
+                .map(AccountCommandReply::toProjection)
+                .toList();
+        projectionService.project(projections);
+    }
+}
@@ -0,0 +1,67 @@
+package adapter.command;
+
+import adapter.event.AccountTopics;
+import application.port.out.AccountCommandLogPort;
+import application.service.MoneyMovementCommand;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Transaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입출금 명령 로그 Kafka 어댑터
+ * 명령을 계좌번호 키로 account.commands 에 기록하고, 파티션 소유 노드가 기록한 결과를 기다린다.
+ *
+ * 지표:
+ * - account.command_log.round_trip : 명령 기록부터 결과 수신까지 걸린 시간 (잠금 기반 경로와 비교용)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.account.command-log", name = "enabled", havingValue = "true")
+public class KafkaAccountCommandAdapter implements AccountCommandLogPort {
+
+    private final ReplyingKafkaTemplate<String, AccountCommandMessage, AccountCommandReply> replyingTemplate;
+    private final Timer roundTripTimer;
+
+    public KafkaAccountCommandAdapter(ReplyingKafkaTemplate<String, AccountCommandMessage, AccountCommandReply> replyingTemplate,
+                                      MeterRegistry meterRegistry) {
+        this.replyingTemplate = replyingTemplate;
+        this.roundTripTimer = Timer.builder("account.command_log.round_trip")
+                .description("명령 기록부터 처리 결과 수신까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Transaction> submit(MoneyMovementCommand command) {
+        AccountCommandMessage message = AccountCommandMessage.of(command);
+        long startedAt = System.nanoTime();
+
+        return replyingTemplate.sendAndReceive(new ProducerRecord<>(AccountTopics.COMMANDS, message.accountNumber(), message))
+                .whenComplete((reply, ex) -> roundTripTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                .thenApply(reply -> toTransaction(reply.value()));
+    }
+
+    private Transaction toTransaction(AccountCommandReply reply) {
+        if (reply.isSuccess()) {
+            return reply.toTransaction();
+        }
+        throw switch (reply.errorCode()) {
+            case AccountCommandReply.INSUFFICIENT_BALANCE -> new InsufficientBalanceException(reply.errorMessage());
+            case AccountCommandReply.INACTIVE_ACCOUNT -> new InactiveAccountException(reply.errorMessage());
+            case AccountCommandReply.ACCOUNT_NOT_FOUND -> new AccountNotFoundException(reply.errorMessage());
+            default -> new IllegalArgumentException(reply.errorMessage());
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package adapter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.kafka.codec.BinaryEventReader;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * 계좌 이벤트 역직렬화기 (거래 이벤트, 계좌 상태 변경 이벤트)
+ * 이진 코덱으로 읽고, 이진 형식 도입 전에 JSON으로 발행된 이벤트는 토픽으로 유형을 구분해 읽는다.
+ */
+public class AccountEventDeserializer implements Deserializer<PublishableEvent> {
+
+    private final AccountEventCodec codec;
+    private final ObjectMapper objectMapper;
+
+    public AccountEventDeserializer(AccountEventCodec codec, ObjectMapper objectMapper) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public PublishableEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (BinaryEventReader.isBinaryEvent(data)) {
+            return codec.decode(data);
+        }
+        try {
+            return switch (topic) {
+                case AccountTopics.TRANSACTIONS -> objectMapper.readValue(data, TransactionEvent.class);
+                case AccountTopics.STATUS_CHANGES -> objectMapper.readValue(data, AccountStatusChangedEvent.class);
+                default -> throw new SerializationException("지원하지 않는 계좌 이벤트 토픽입니다: " + topic);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("계좌 이벤트 역직렬화에 실패했습니다. 토픽: " + topic, e);
+        }
+    }
+}
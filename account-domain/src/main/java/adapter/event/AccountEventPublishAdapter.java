@@ -0,0 +1,59 @@
+package adapter.event;
+
+import application.port.out.PublishAccountEventPort;
+import com.fintech.platform.infrastructure.kafka.publisher.EventPublishRejectedException;
+import com.fintech.platform.infrastructure.kafka.publisher.EventPublisher;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌 이벤트 Kafka 발행 어댑터
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountEventPublishAdapter implements PublishAccountEventPort {
+    private static final Logger log = LoggerFactory.getLogger(AccountEventPublishAdapter.class);
+
+    private final EventPublisher eventPublisher;
+
+    @Override
+    public void publishTransaction(AccountNumber accountNumber, Transaction transaction) {
+        try {
+            eventPublisher.publish(TransactionEvent.of(accountNumber, transaction));
+        } catch (EventPublishRejectedException e) {
+            log.warn("거래 이벤트 발행 거절 - 계좌번호: {}, 오류: {}", accountNumber, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishStatusChanged(Account account, AccountStatus previousStatus) {
+        try {
+            eventPublisher.publish(AccountStatusChangedEvent.of(account, previousStatus));
+        } catch (EventPublishRejectedException e) {
+            log.warn("계좌 상태 변경 이벤트 발행 거절 - 계좌번호: {}, 오류: {}", account.getAccountNumber(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishVelocityObserved(String originNodeId, AccountNumber accountNumber, String merchantId,
+                                        long amountMinor, long observedAtMillis) {
+        try {
+            eventPublisher.publish(new VelocityObservedEvent(originNodeId, accountNumber.getValue(),
+                    merchantId != null ? merchantId : "", amountMinor, observedAtMillis));
+        } catch (EventPublishRejectedException e) {
+            // 다른 노드의 집계에서 이 거래가 빠질 뿐 거래 처리에는 영향이 없다
+            log.warn("거래 속도 이벤트 발행 거절 - 계좌번호: {}, 오류: {}", accountNumber, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package adapter.event;
+
+import com.fintech.platform.infrastructure.kafka.publisher.EventClass;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import domain.model.Account;
+import domain.model.AccountStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 계좌 상태 변경 이벤트
+ *
+ * @param eventId        이벤트 ID (중복 처리 방지용)
+ * @param accountNumber  계좌번호 (파티션 키)
+ * @param previousStatus 변경 전 상태
+ * @param currentStatus  변경 후 상태
+ * @param occurredAt     변경 일시
+ */
+public record AccountStatusChangedEvent(String eventId, String accountNumber, AccountStatus previousStatus,
+                                        AccountStatus currentStatus, LocalDateTime occurredAt)
+        implements PublishableEvent {
+
+    public static AccountStatusChangedEvent of(Account account, AccountStatus previousStatus) {
+        return new AccountStatusChangedEvent(
+                UUID.randomUUID().toString(),
+                account.getAccountNumber().getValue(),
+                previousStatus,
+                account.getStatus(),
+                account.getUpdatedAt() != null ? account.getUpdatedAt() : LocalDateTime.now());
+    }
+
+    @Override
+    public String topic() {
+        return AccountTopics.STATUS_CHANGES;
+    }
+
+    @Override
+    public String key() {
+        return accountNumber;
+    }
+
+    @Override
+    public String eventType() {
+        return "AccountStatusChanged";
+    }
+
+    @Override
+    public EventClass eventClass() {
+        return EventClass.ACCOUNT_STATE;
+    }
+}
@@ -0,0 +1,35 @@
+package adapter.event;
+
+/**
+ * 계좌 도메인 Kafka 토픽
+ */
+public final class AccountTopics {
+
+    /**
+     * 거래 이벤트 (키: 계좌번호)
+     */
+    public static final String TRANSACTIONS = "account.transactions";
+
+    /**
+     * 계좌 상태 변경 이벤트 (키: 계좌번호)
+     */
+    public static final String STATUS_CHANGES = "account.status-changes";
+
+    /**
+     * 입출금 명령 (키: 계좌번호, 명령 로그 모드)
+     */
+    public static final String COMMANDS = "account.commands";
+
+    /**
+     * 입출금 명령 처리 결과 (키: 계좌번호, 명령 로그 모드)
+     */
+    public static final String COMMAND_RESULTS = "account.command-results";
+
+    /**
+     * 이상거래 심사 집계 동기화 (키: 계좌번호, 보존 기간은 24시간 이상)
+     */
+    public static final String VELOCITY = "account.velocity";
+
+    private AccountTopics() {
+    }
+}
@@ -0,0 +1,56 @@
+package adapter.event;
+
+import com.fintech.platform.infrastructure.kafka.publisher.EventClass;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import domain.model.AccountNumber;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 거래 발생 이벤트
+ *
+ * @param eventId         이벤트 ID (중복 처리 방지용)
+ * @param accountNumber   계좌번호 (파티션 키)
+ * @param transactionType 거래 유형
+ * @param amount          거래 금액
+ * @param balanceAfter    거래 후 잔액
+ * @param occurredAt      거래 일시
+ */
+public record TransactionEvent(String eventId, String accountNumber, TransactionType transactionType,
+                               BigDecimal amount, BigDecimal balanceAfter, LocalDateTime occurredAt)
+        implements PublishableEvent {
+
+    public static TransactionEvent of(AccountNumber accountNumber, Transaction transaction) {
+        return new TransactionEvent(
+                UUID.randomUUID().toString(),
+                accountNumber.getValue(),
+                transaction.getType(),
+                transaction.getAmount().getAmount(),
+                transaction.getBalanceAfter().getAmount(),
+                transaction.getTransactionAt());
+    }
+
+    @Override
+    public String topic() {
+        return AccountTopics.TRANSACTIONS;
+    }
+
+    @Override
+    public String key() {
+        return accountNumber;
+    }
+
+    @Override
+    public String eventType() {
+        return "TransactionOccurred";
+    }
+
+    @Override
+    public EventClass eventClass() {
+        return EventClass.TRANSACTION;
+    }
+}
@@ -0,0 +1,37 @@
+package adapter.event;
+
+import com.fintech.platform.infrastructure.kafka.publisher.EventClass;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+
+/**
+ * 이상거래 심사 집계 동기화 이벤트 (한 노드에서 처리된 출금/결제 승인)
+ *
+ * @param originNodeId     기록한 노드 ID
+ * @param accountNumber    계좌번호 (파티션 키)
+ * @param merchantId       가맹점 ID (출금이면 빈 문자열)
+ * @param amountMinor      거래 금액 (최소 화폐 단위)
+ * @param observedAtMillis 기록 시각 (epoch 밀리초)
+ */
+public record VelocityObservedEvent(String originNodeId, String accountNumber, String merchantId,
+                                    long amountMinor, long observedAtMillis) implements PublishableEvent {
+
+    @Override
+    public String topic() {
+        return AccountTopics.VELOCITY;
+    }
+
+    @Override
+    public String key() {
+        return accountNumber;
+    }
+
+    @Override
+    public String eventType() {
+        return "VelocityObserved";
+    }
+
+    @Override
+    public EventClass eventClass() {
+        return EventClass.TRANSACTION;
+    }
+}
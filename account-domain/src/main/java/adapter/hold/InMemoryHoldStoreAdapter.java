@@ -0,0 +1,137 @@
+package adapter.hold;
+
+import application.port.out.HoldStorePort;
+import application.service.hold.HoldPlacementResult;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 보류 저장소 메모리 어댑터 (단일 노드/테스트용, fintech.account.hold.store=memory)
+ * 계좌 단위로 동기화해 Redis 어댑터와 같은 원자성을 보장한다. 재시작하면 보류가 사라진다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.account.hold", name = "store", havingValue = "memory")
+public class InMemoryHoldStoreAdapter implements HoldStorePort {
+
+    private final Map<AccountNumber, AccountHolds> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<ExpiryEntry> expiryIndex = new ConcurrentSkipListSet<>();
+
+    @Override
+    public HoldPlacementResult place(Hold hold, Money balance) {
+        return holdsOf(hold.getAccountNumber()).place(hold, balance);
+    }
+
+    @Override
+    public Optional<Hold> find(AccountNumber accountNumber, String holdId, Instant now) {
+        return holdsOf(accountNumber).get(holdId)
+                .filter(hold -> !hold.isExpired(now));
+    }
+
+    @Override
+    public Optional<Hold> release(AccountNumber accountNumber, String holdId) {
+        return holdsOf(accountNumber).remove(holdId);
+    }
+
+    @Override
+    public Money loadHeldAmount(AccountNumber accountNumber) {
+        AccountHolds holds = accounts.get(accountNumber);
+        return new Money(BigDecimal.valueOf(holds != null ? holds.heldMinorUnits : 0, 2));
+    }
+
+    @Override
+    public int sweepExpired(Instant now, int batchSize) {
+        int expired = 0;
+        Iterator<ExpiryEntry> iterator = expiryIndex.iterator();
+        for (int scanned = 0; scanned < batchSize && iterator.hasNext(); scanned++) {
+            ExpiryEntry entry = iterator.next();
+            if (entry.expiresAt() > now.toEpochMilli()) {
+                break;
+            }
+            if (holdsOf(entry.accountNumber()).expire(entry, now)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private AccountHolds holdsOf(AccountNumber accountNumber) {
+        return accounts.computeIfAbsent(accountNumber, key -> new AccountHolds());
+    }
+
+    private final class AccountHolds {
+        private final Map<String, Hold> holds = new HashMap<>();
+        private volatile long heldMinorUnits;
+
+        synchronized HoldPlacementResult place(Hold hold, Money balance) {
+            if (holds.containsKey(hold.getHoldId())) {
+                return HoldPlacementResult.DUPLICATE;
+            }
+            long amount = toMinorUnits(hold.getAmount());
+            if (heldMinorUnits + amount > toMinorUnits(balance)) {
+                return HoldPlacementResult.INSUFFICIENT_AVAILABLE;
+            }
+            holds.put(hold.getHoldId(), hold);
+            heldMinorUnits += amount;
+            expiryIndex.add(ExpiryEntry.of(hold));
+            return HoldPlacementResult.PLACED;
+        }
+
+        synchronized Optional<Hold> get(String holdId) {
+            return Optional.ofNullable(holds.get(holdId));
+        }
+
+        synchronized Optional<Hold> remove(String holdId) {
+            Hold hold = holds.remove(holdId);
+            if (hold == null) {
+                return Optional.empty();
+            }
+            heldMinorUnits -= toMinorUnits(hold.getAmount());
+            expiryIndex.remove(ExpiryEntry.of(hold));
+            return Optional.of(hold);
+        }
+
+        synchronized boolean expire(ExpiryEntry entry, Instant now) {
+            expiryIndex.remove(entry);
+            Hold hold = holds.get(entry.holdId());
+            if (hold == null || !hold.isExpired(now)) {
+                return false;
+            }
+            remove(entry.holdId());
+            return true;
+        }
+    }
+
+    private record ExpiryEntry(long expiresAt, AccountNumber accountNumber, String holdId)
+            implements Comparable<ExpiryEntry> {
+
+        static ExpiryEntry of(Hold hold) {
+            return new ExpiryEntry(hold.getExpiresAt().toEpochMilli(), hold.getAccountNumber(), hold.getHoldId());
+        }
+
+        @Override
+        public int compareTo(ExpiryEntry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byAccount = accountNumber.getValue().compareTo(other.accountNumber.getValue());
+            return byAccount != 0 ? byAccount : holdId.compareTo(other.holdId);
+        }
+    }
+
+    private static long toMinorUnits(Money money) {
+        return money.getAmount().movePointRight(2).longValueExact();
+    }
+}
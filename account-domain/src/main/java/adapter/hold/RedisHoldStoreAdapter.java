@@ -0,0 +1,211 @@
+package adapter.hold;
+
+import application.port.out.HoldStorePort;
+import application.service.hold.HoldPlacementResult;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 보류 저장소 Redis 어댑터
+ *
+ * - account:holds:{계좌번호} (Hash)   보류ID -> "금액(최소 화폐 단위)|만료 시각(epoch ms)"
+ * - account:held:{계좌번호}  (String) 보류 합계 (최소 화폐 단위, 0이 되면 삭제)
+ * - account:hold-expiry     (ZSet)   "계좌번호|보류ID" -> 만료 시각 (만료 정리용 인덱스)
+ *
+ * 등록/해제/만료는 각각 Lua 스크립트 하나로 처리해 보류와 합계, 만료 인덱스가 항상 함께 바뀐다.
+ * 금액은 최소 화폐 단위 정수로 다뤄 Lua 숫자(double) 연산에서도 오차가 생기지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.account.hold", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisHoldStoreAdapter implements HoldStorePort {
+
+    private static final String HOLDS_KEY_PREFIX = "account:holds:";
+    private static final String HELD_KEY_PREFIX = "account:held:";
+    private static final String EXPIRY_KEY = "account:hold-expiry";
+    private static final String DELIMITER = "|";
+
+    private static final long DUPLICATE = -1;
+    private static final long REJECTED = -2;
+
+    /**
+     * KEYS[1]=보류, KEYS[2]=합계, KEYS[3]=만료 인덱스
+     * ARGV[1]=보류ID, ARGV[2]=금액, ARGV[3]=만료 시각, ARGV[4]=잔액, ARGV[5]=인덱스 멤버
+     * 반환: 등록 후 합계, -1=중복, -2=사용 가능 잔액 부족
+     */
+    private static final RedisScript<Long> PLACE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+              return -1
+            end
+            local held = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if held + tonumber(ARGV[2]) > tonumber(ARGV[4]) then
+              return -2
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3])
+            redis.call('ZADD', KEYS[3], ARGV[3], ARGV[5])
+            return redis.call('INCRBY', KEYS[2], ARGV[2])
+            """, Long.class);
+
+    /**
+     * KEYS[1]=보류, KEYS[2]=합계, KEYS[3]=만료 인덱스
+     * ARGV[1]=보류ID, ARGV[2]=인덱스 멤버
+     * 반환: 제거한 보류 값, 없으면 nil
+     */
+    private static final RedisScript<String> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local hold = redis.call('HGET', KEYS[1], ARGV[1])
+            if not hold then
+              return false
+            end
+            local sep = string.find(hold, '|', 1, true)
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[2])
+            if redis.call('DECRBY', KEYS[2], string.sub(hold, 1, sep - 1)) <= 0 then
+              redis.call('DEL', KEYS[2])
+            end
+            return hold
+            """, String.class);
+
+    /**
+     * KEYS[1]=보류, KEYS[2]=합계, KEYS[3]=만료 인덱스
+     * ARGV[1]=보류ID, ARGV[2]=인덱스 멤버, ARGV[3]=현재 시각
+     * 반환: 1=만료 제거, 0=없음 또는 아직 유효 (같은 ID로 다시 등록된 보류는 건드리지 않는다)
+     */
+    private static final byte[] EXPIRE_SCRIPT = """
+            local hold = redis.call('HGET', KEYS[1], ARGV[1])
+            if not hold then
+              redis.call('ZREM', KEYS[3], ARGV[2])
+              return 0
+            end
+            local sep = string.find(hold, '|', 1, true)
+            if tonumber(string.sub(hold, sep + 1)) > tonumber(ARGV[3]) then
+              return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[2])
+            if redis.call('DECRBY', KEYS[2], string.sub(hold, 1, sep - 1)) <= 0 then
+              redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisHoldStoreAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public HoldPlacementResult place(Hold hold, Money balance) {
+        String accountNumber = hold.getAccountNumber().getValue();
+        Long result = redisTemplate.execute(PLACE_SCRIPT,
+                List.of(holdsKey(accountNumber), heldKey(accountNumber), EXPIRY_KEY),
+                hold.getHoldId(),
+                String.valueOf(toMinorUnits(hold.getAmount())),
+                String.valueOf(hold.getExpiresAt().toEpochMilli()),
+                String.valueOf(toMinorUnits(balance)),
+                expiryMember(accountNumber, hold.getHoldId()));
+        if (result == DUPLICATE) {
+            return HoldPlacementResult.DUPLICATE;
+        }
+        if (result == REJECTED) {
+            return HoldPlacementResult.INSUFFICIENT_AVAILABLE;
+        }
+        return HoldPlacementResult.PLACED;
+    }
+
+    @Override
+    public Optional<Hold> find(AccountNumber accountNumber, String holdId, Instant now) {
+        String value = redisTemplate.<String, String>opsForHash().get(holdsKey(accountNumber.getValue()), holdId);
+        return Optional.ofNullable(value)
+                .map(held -> toHold(accountNumber, holdId, held))
+                .filter(hold -> !hold.isExpired(now));
+    }
+
+    @Override
+    public Optional<Hold> release(AccountNumber accountNumber, String holdId) {
+        String value = accountNumber.getValue();
+        String removed = redisTemplate.execute(REMOVE_SCRIPT,
+                List.of(holdsKey(value), heldKey(value), EXPIRY_KEY),
+                holdId, expiryMember(value, holdId));
+        return Optional.ofNullable(removed).map(held -> toHold(accountNumber, holdId, held));
+    }
+
+    private static Hold toHold(AccountNumber accountNumber, String holdId, String value) {
+        int sep = value.indexOf(DELIMITER);
+        return new Hold(holdId, accountNumber,
+                fromMinorUnits(Long.parseLong(value.substring(0, sep))),
+                Instant.ofEpochMilli(Long.parseLong(value.substring(sep + 1))));
+    }
+
+    @Override
+    public Money loadHeldAmount(AccountNumber accountNumber) {
+        String held = redisTemplate.opsForValue().get(heldKey(accountNumber.getValue()));
+        return fromMinorUnits(held != null ? Math.max(0, Long.parseLong(held)) : 0);
+    }
+
+    @Override
+    public int sweepExpired(Instant now, int batchSize) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(EXPIRY_KEY, Double.NEGATIVE_INFINITY, now.toEpochMilli(), 0, batchSize);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        byte[] nowArg = bytes(String.valueOf(now.toEpochMilli()));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String member : members) {
+                int sep = member.indexOf(DELIMITER);
+                String accountNumber = member.substring(0, sep);
+                String holdId = member.substring(sep + 1);
+                connection.scriptingCommands().eval(EXPIRE_SCRIPT, ReturnType.INTEGER, 3,
+                        bytes(holdsKey(accountNumber)),
+                        bytes(heldKey(accountNumber)),
+                        bytes(EXPIRY_KEY),
+                        bytes(holdId),
+                        bytes(member),
+                        nowArg);
+            }
+            return null;
+        });
+
+        return (int) results.stream().filter(result -> Long.valueOf(1).equals(result)).count();
+    }
+
+    private static long toMinorUnits(Money money) {
+        return money.getAmount().movePointRight(2).longValueExact();
+    }
+
+    private static Money fromMinorUnits(long minorUnits) {
+        return new Money(BigDecimal.valueOf(minorUnits, 2));
+    }
+
+    private static String holdsKey(String accountNumber) {
+        return HOLDS_KEY_PREFIX + accountNumber;
+    }
+
+    private static String heldKey(String accountNumber) {
+        return HELD_KEY_PREFIX + accountNumber;
+    }
+
+    private static String expiryMember(String accountNumber, String holdId) {
+        return accountNumber + DELIMITER + holdId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,39 @@
+package adapter.persistence;
+
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.entity.TransactionJpaEntity;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌 도메인 <-> JPA 엔티티 변환
+ */
+@Component
+public class AccountMapper {
+
+    public Account toDomain(AccountJpaEntity entity) {
+        return new Account(
+                entity.getAccountId(),
+                new AccountNumber(entity.getAccountNumber()),
+                new Money(entity.getBalance()),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getVersion()
+        );
+    }
+
+    public TransactionJpaEntity toEntity(Long accountId, Transaction transaction) {
+        return TransactionJpaEntity.builder()
+                .accountId(accountId)
+                .type(transaction.getType())
+                .amount(transaction.getAmount().getAmount())
+                .balanceAfter(transaction.getBalanceAfter().getAmount())
+                .transactionAt(transaction.getTransactionAt())
+                .description(transaction.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package adapter.persistence;
+
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.entity.TransactionJpaEntity;
+import adapter.persistence.repository.AccountJpaRepository;
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.port.out.LoadAccountPort;
+import application.port.out.UpdateAccountStatePort;
+import domain.exception.AccountNotFoundException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 영속성 어댑터
+ * 저장 메서드는 호출 측 트랜잭션 안에서 실행되어야 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountPersistenceAdapter implements LoadAccountPort, UpdateAccountStatePort {
+
+    private final AccountJpaRepository accountJpaRepository;
+    private final TransactionJpaRepository transactionJpaRepository;
+    private final AccountMapper accountMapper;
+
+    @Override
+    public Optional<Account> loadAccount(AccountNumber accountNumber) {
+        return accountJpaRepository.findByAccountNumber(accountNumber.getValue())
+                .map(accountMapper::toDomain);
+    }
+
+    @Override
+    public List<Account> loadAccounts(Collection<AccountNumber> accountNumbers) {
+        List<String> values = accountNumbers.stream()
+                .map(AccountNumber::getValue)
+                .distinct()
+                .toList();
+
+        return accountJpaRepository.findAllByAccountNumberIn(values).stream()
+                .map(accountMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateAccount(Account account) {
+        AccountJpaEntity entity = accountJpaRepository.findById(account.getAccountId())
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + account.getAccountNumber()));
+
+        // 조회 이후 다른 트랜잭션이 먼저 변경했다면 flush 시 @Version 조건으로 실패한다
+        entity.applyChanges(account.getBalance().getAmount(), account.getStatus(), account.getUpdatedAt());
+
+        List<TransactionJpaEntity> newTransactions = account.getTransactions().stream()
+                .filter(transaction -> transaction.getTransactionId() == null)
+                .map(transaction -> accountMapper.toEntity(account.getAccountId(), transaction))
+                .toList();
+        transactionJpaRepository.saveAll(newTransactions);
+    }
+
+    @Override
+    public void updateAccounts(Collection<Account> accounts) {
+        List<Account> ordered = new ArrayList<>(accounts);
+        // 여러 계좌를 한 트랜잭션에서 갱신할 때 교착을 피하기 위해 PK 순서로 갱신
+        ordered.sort((a, b) -> Long.compare(a.getAccountId(), b.getAccountId()));
+        ordered.forEach(this::updateAccount);
+    }
+}
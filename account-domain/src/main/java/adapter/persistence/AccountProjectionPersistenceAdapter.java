@@ -0,0 +1,68 @@
+package adapter.persistence;
+
+import application.port.out.ProjectAccountStatePort;
+import application.service.commandlog.AccountStateProjection;
+import domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 명령 로그 처리 결과 DB 반영 어댑터
+ * 계좌 잔액은 버전 조건부 UPDATE로 갱신하고, 갱신된 경우에만 거래 내역을 추가한다.
+ * 같은 결과가 다시 전달되어도 버전 조건에 걸려 중복 반영되지 않는다.
+ * 호출 측 트랜잭션 안에서 실행되어야 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountProjectionPersistenceAdapter implements ProjectAccountStatePort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int project(List<AccountStateProjection> projections) {
+        List<SqlParameterSource> transactionRows = new ArrayList<>(projections.size());
+
+        for (AccountStateProjection projection : projections) {
+            int updated = jdbcTemplate.update(
+                    "UPDATE accounts SET balance = :balance, version = :version, updated_at = :updatedAt " +
+                            "WHERE account_number = :accountNumber AND version < :version",
+                    new MapSqlParameterSource()
+                            .addValue("balance", projection.balance().getAmount())
+                            .addValue("version", projection.version())
+                            .addValue("updatedAt", projection.updatedAt())
+                            .addValue("accountNumber", projection.accountNumber().getValue()));
+            if (updated > 0) {
+                transactionRows.add(transactionParams(projection));
+            }
+        }
+
+        if (!transactionRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO transactions (account_id, transaction_type, amount, balance_after, transaction_at, description) " +
+                            "SELECT account_id, :type, :amount, :balanceAfter, :transactionAt, :description " +
+                            "FROM accounts WHERE account_number = :accountNumber",
+                    transactionRows.toArray(SqlParameterSource[]::new));
+        }
+        return transactionRows.size();
+    }
+
+    private SqlParameterSource transactionParams(AccountStateProjection projection) {
+        Transaction transaction = projection.transaction();
+        return new MapSqlParameterSource()
+                .addValue("type", transaction.getType().name())
+                .addValue("amount", transaction.getAmount().getAmount())
+                .addValue("balanceAfter", transaction.getBalanceAfter().getAmount())
+                .addValue("transactionAt", transaction.getTransactionAt())
+                .addValue("description", transaction.getDescription())
+                .addValue("accountNumber", projection.accountNumber().getValue());
+    }
+}
@@ -0,0 +1,46 @@
+package adapter.persistence;
+
+import application.port.out.LoadAccountSnapshotPort;
+import application.service.query.AccountSnapshot;
+import domain.model.AccountStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계좌 스냅샷 조회 어댑터
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotPersistenceAdapter implements LoadAccountSnapshotPort {
+
+    private static final String SELECT_SNAPSHOTS =
+            "SELECT account_id, account_number, account_status, balance, version " +
+                    "FROM accounts WHERE account_number IN (:accountNumbers)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<AccountSnapshot> loadSnapshots(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(SELECT_SNAPSHOTS,
+                new MapSqlParameterSource("accountNumbers", accountNumbers),
+                (rs, rowNum) -> new AccountSnapshot(
+                        rs.getLong("account_id"),
+                        rs.getString("account_number"),
+                        AccountStatus.valueOf(rs.getString("account_status")),
+                        rs.getBigDecimal("balance"),
+                        rs.getLong("version")));
+    }
+}
@@ -0,0 +1,164 @@
+package adapter.persistence;
+
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.port.out.BalanceSlotPort;
+import domain.model.Account;
+import domain.model.Money;
+import domain.model.ShardedBalance;
+import domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핫 계좌 잔액 슬롯 영속성 어댑터 (account_balance_slots 테이블)
+ * 슬롯 갱신은 JPA 엔티티를 거치지 않고 원자적 UPDATE 한 문장으로 처리한다.
+ * 호출 측 트랜잭션 안에서 실행되어야 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotPersistenceAdapter implements BalanceSlotPort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionJpaRepository transactionJpaRepository;
+    private final AccountMapper accountMapper;
+
+    @Override
+    public boolean initializeSlots(Account account, int slotCount) {
+        // 계좌 행을 먼저 잠그고 센다 - 동시에 기동한 다른 노드는 락을 기다린 뒤 이미 만든 슬롯을 본다
+        MapSqlParameterSource params = new MapSqlParameterSource("accountId", account.getAccountId());
+        BigDecimal balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM accounts WHERE account_id = :accountId FOR UPDATE", params, BigDecimal.class);
+        if (countSlots(account.getAccountId()) > 0) {
+            return false;
+        }
+
+        SqlParameterSource[] rows = new SqlParameterSource[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            rows[slot] = new MapSqlParameterSource()
+                    .addValue("accountId", account.getAccountId())
+                    .addValue("slotNo", slot)
+                    .addValue("balance", slot == 0 ? balance : BigDecimal.ZERO);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO account_balance_slots (account_id, slot_no, balance) VALUES (:accountId, :slotNo, :balance)", rows);
+
+        // 기존 잔액은 0번 슬롯으로 이동 - 이후 계좌 잔액은 슬롯 합계로만 계산한다
+        jdbcTemplate.update(
+                "UPDATE accounts SET balance = 0, version = version + 1 WHERE account_id = :accountId", params);
+        return true;
+    }
+
+    @Override
+    public List<Long> findSlottedAccountIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT account_id FROM account_balance_slots", new MapSqlParameterSource(), Long.class);
+    }
+
+    @Override
+    public Money mergeSlots(Long accountId) {
+        // 슬롯 생성과 같은 순서(계좌 행 → 슬롯)로 잠근다
+        MapSqlParameterSource params = new MapSqlParameterSource("accountId", accountId);
+        jdbcTemplate.queryForObject(
+                "SELECT balance FROM accounts WHERE account_id = :accountId FOR UPDATE", params, BigDecimal.class);
+        BigDecimal total = jdbcTemplate.queryForList(
+                        "SELECT balance FROM account_balance_slots WHERE account_id = :accountId ORDER BY slot_no FOR UPDATE",
+                        params, BigDecimal.class).stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        jdbcTemplate.update("DELETE FROM account_balance_slots WHERE account_id = :accountId", params);
+        jdbcTemplate.update(
+                "UPDATE accounts SET balance = balance + :total, version = version + 1 WHERE account_id = :accountId",
+                new MapSqlParameterSource("accountId", accountId).addValue("total", total));
+        return new Money(total);
+    }
+
+    @Override
+    public int countSlots(Long accountId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_balance_slots WHERE account_id = :accountId",
+                new MapSqlParameterSource("accountId", accountId), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void credit(Long accountId, int slot, Money amount) {
+        int updated = jdbcTemplate.update(
+                "UPDATE account_balance_slots SET balance = balance + :amount " +
+                        "WHERE account_id = :accountId AND slot_no = :slotNo",
+                slotParams(accountId, slot, amount));
+        if (updated != 1) {
+            // 다른 노드가 슬롯을 계좌 잔액으로 되돌렸다 - 입금을 기록하지 않도록 롤백한다
+            throw new IllegalStateException("잔액 슬롯이 없습니다. 계좌ID: " + accountId + ", 슬롯: " + slot);
+        }
+    }
+
+    @Override
+    public boolean tryDebit(Long accountId, int slot, Money amount) {
+        int updated = jdbcTemplate.update(
+                "UPDATE account_balance_slots SET balance = balance - :amount " +
+                        "WHERE account_id = :accountId AND slot_no = :slotNo AND balance >= :amount",
+                slotParams(accountId, slot, amount));
+        return updated == 1;
+    }
+
+    @Override
+    public ShardedBalance load(Account account) {
+        return querySlots(account,
+                "SELECT balance FROM account_balance_slots WHERE account_id = :accountId ORDER BY slot_no");
+    }
+
+    @Override
+    public ShardedBalance loadForUpdate(Account account) {
+        // PK (account_id, slot_no) 순으로 읽으므로 슬롯 락도 항상 slot_no 순으로 잡힌다
+        return querySlots(account,
+                "SELECT balance FROM account_balance_slots WHERE account_id = :accountId ORDER BY slot_no FOR UPDATE");
+    }
+
+    @Override
+    public void debit(Long accountId, Map<Integer, Money> debits) {
+        SqlParameterSource[] params = debits.entrySet().stream()
+                .map(entry -> slotParams(accountId, entry.getKey(), entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "UPDATE account_balance_slots SET balance = balance - :amount " +
+                        "WHERE account_id = :accountId AND slot_no = :slotNo AND balance >= :amount",
+                params);
+    }
+
+    @Override
+    public Money sumBalance(Long accountId) {
+        BigDecimal sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots WHERE account_id = :accountId",
+                new MapSqlParameterSource("accountId", accountId), BigDecimal.class);
+        return new Money(sum);
+    }
+
+    @Override
+    public void appendTransaction(Long accountId, Transaction transaction) {
+        transactionJpaRepository.save(accountMapper.toEntity(accountId, transaction));
+    }
+
+    private ShardedBalance querySlots(Account account, String sql) {
+        List<Money> slots = jdbcTemplate.query(sql,
+                new MapSqlParameterSource("accountId", account.getAccountId()),
+                (rs, rowNum) -> new Money(rs.getBigDecimal("balance")));
+        return new ShardedBalance(account.getAccountNumber(), slots.toArray(Money[]::new));
+    }
+
+    private MapSqlParameterSource slotParams(Long accountId, int slot, Money amount) {
+        return new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("slotNo", slot)
+                .addValue("amount", amount.getAmount());
+    }
+}
@@ -0,0 +1,15 @@
+package adapter.persistence.config;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 계좌 영속성 설정
+ * 계좌 모듈은 com.fintech.platform 하위가 아니므로 엔티티/리포지토리 스캔 위치를 직접 지정한다.
+ */
+@Configuration
+@EntityScan(basePackages = "adapter.persistence.entity")
+@EnableJpaRepositories(basePackages = "adapter.persistence.repository")
+public class AccountPersistenceConfig {
+}
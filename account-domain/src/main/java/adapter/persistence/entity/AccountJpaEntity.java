@@ -0,0 +1,61 @@
+package adapter.persistence.entity;
+
+import domain.model.AccountStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 JPA 엔티티 (accounts 테이블)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "accounts")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccountJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "account_number", nullable = false, unique = true, length = 20)
+    private String accountNumber;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_status", nullable = false)
+    private AccountStatus status;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * 도메인 변경 사항 반영 (버전은 flush 시점에 증가)
+     */
+    public void applyChanges(BigDecimal balance, AccountStatus status, LocalDateTime updatedAt) {
+        this.balance = balance;
+        this.status = status;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package adapter.persistence.repository;
+
+import adapter.persistence.entity.AccountJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Long> {
+
+    Optional<AccountJpaEntity> findByAccountNumber(String accountNumber);
+
+    List<AccountJpaEntity> findAllByAccountNumberIn(Collection<String> accountNumbers);
+}
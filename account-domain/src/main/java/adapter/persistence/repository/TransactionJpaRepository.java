@@ -0,0 +1,7 @@
+package adapter.persistence.repository;
+
+import adapter.persistence.entity.TransactionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, Long> {
+}
@@ -0,0 +1,53 @@
+package adapter.readmodel;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountEventDeserializer;
+import adapter.event.AccountTopics;
+import application.service.readmodel.ReadModelProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumer;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerFactory;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerOptions;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 읽기 모델 반영 설정 (fintech.account.read-model.enabled=true 일 때만 등록)
+ *
+ * account.transactions, account.status-changes -> [AccountReadModelProjector] -> Redis
+ * 모든 노드가 같은 컨슈머 그룹으로 구독하고, 계좌별 순서를 지키면서 계좌 간에는 병렬로 반영한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.account.read-model", name = "enabled", havingValue = "true")
+public class AccountReadModelConfig {
+
+    @Bean
+    public KeyOrderedConsumer<PublishableEvent> accountReadModelConsumer(
+            KeyOrderedConsumerFactory consumerFactory,
+            AccountReadModelProjector projector,
+            ReadModelProperties properties,
+            AccountEventCodec codec,
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name}") String applicationName) {
+
+        return consumerFactory.create(
+                applicationName + "-read-model",
+                List.of(AccountTopics.TRANSACTIONS, AccountTopics.STATUS_CHANGES),
+                new AccountEventDeserializer(codec, objectMapper),
+                projector,
+                KeyOrderedConsumerOptions.builder()
+                        .name("read-model")
+                        .autoOffsetReset("earliest")
+                        .concurrency(properties.getProjectorConcurrency())
+                        .maxBatchSize(properties.getProjectorBatchSize())
+                        .build());
+    }
+}
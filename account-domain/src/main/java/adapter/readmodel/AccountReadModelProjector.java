@@ -0,0 +1,72 @@
+package adapter.readmodel;
+
+import adapter.event.AccountStatusChangedEvent;
+import adapter.event.TransactionEvent;
+import application.service.readmodel.AccountReadModelService;
+import application.service.readmodel.ReadModelUpdate;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedBatchHandler;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌 읽기 모델 반영기
+ * 거래/상태 변경 이벤트를 계좌별 순서대로 읽어 Redis 읽기 모델에 반영한다.
+ * 반영 지연(레코드 기록 시각 -> 반영 완료)을 지표로 남기고 조회 응답에도 전달한다.
+ *
+ * 지표:
+ * - account.read_model.projection_lag      : 레코드별 반영 지연
+ * - account.read_model.projection_lag_last : 마지막 반영 묶음의 최대 반영 지연 (ms)
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.account.read-model", name = "enabled", havingValue = "true")
+public class AccountReadModelProjector implements KeyOrderedBatchHandler<PublishableEvent> {
+
+    private final AccountReadModelService readModelService;
+    private final Timer projectionLagTimer;
+    private final AtomicLong lastProjectionLag = new AtomicLong();
+
+    public AccountReadModelProjector(AccountReadModelService readModelService, MeterRegistry meterRegistry) {
+        this.readModelService = readModelService;
+        this.projectionLagTimer = Timer.builder("account.read_model.projection_lag")
+                .description("이벤트 기록부터 읽기 모델 반영까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("account.read_model.projection_lag_last", lastProjectionLag, AtomicLong::get)
+                .description("마지막 반영 묶음의 최대 반영 지연 (ms)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void handle(List<ConsumerRecord<String, PublishableEvent>> records) {
+        List<ReadModelUpdate> updates = new ArrayList<>(records.size());
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (ConsumerRecord<String, PublishableEvent> record : records) {
+            oldestTimestamp = Math.min(oldestTimestamp, record.timestamp());
+            if (record.value() instanceof TransactionEvent event) {
+                updates.add(new ReadModelUpdate.TransactionApplied(event.eventId(), event.accountNumber(),
+                        event.transactionType(), event.amount(), event.balanceAfter(), event.occurredAt()));
+            } else if (record.value() instanceof AccountStatusChangedEvent event) {
+                updates.add(new ReadModelUpdate.StatusChanged(event.accountNumber(), event.currentStatus(),
+                        event.occurredAt()));
+            }
+        }
+
+        long lag = records.isEmpty() ? 0 : Math.max(0, System.currentTimeMillis() - oldestTimestamp);
+        readModelService.project(updates, lag);
+
+        long projectedAt = System.currentTimeMillis();
+        records.forEach(record ->
+                projectionLagTimer.record(Math.max(0, projectedAt - record.timestamp()), TimeUnit.MILLISECONDS));
+        lastProjectionLag.set(lag);
+    }
+}
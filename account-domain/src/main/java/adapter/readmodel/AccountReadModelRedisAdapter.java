@@ -0,0 +1,233 @@
+package adapter.readmodel;
+
+import application.port.out.LoadAccountReadModelPort;
+import application.port.out.ProjectAccountReadModelPort;
+import application.service.readmodel.AccountSummaryView;
+import application.service.readmodel.ReadModelProperties;
+import application.service.readmodel.ReadModelUpdate;
+import application.service.readmodel.RecentTransactionView;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 계좌 읽기 모델 Redis 어댑터
+ *
+ * - account:summary:{계좌번호}   (Hash) balance, balance_at, status, status_at, created_at, last_tx_at
+ * - account:recent-tx:{계좌번호} (ZSet) 거래 일시(epoch micros) 점수, 최근 N건만 보관
+ * - account:projection:lag-ms  (String) 마지막 반영 묶음의 반영 지연
+ *
+ * 갱신은 Lua 스크립트로 원자적으로 처리하며, 필드별 이벤트 일시(*_at)보다 오래된 이벤트는 무시한다.
+ * 재전달된 이벤트나 토픽 간 도착 순서가 뒤바뀐 이벤트가 최신 값을 덮어쓰지 않는다.
+ * 묶음 전체를 한 번의 파이프라인으로 보낸다 (파이프라인 안에서는 EVALSHA 실패 시 재시도가 불가능하므로 EVAL 사용).
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountReadModelRedisAdapter implements LoadAccountReadModelPort, ProjectAccountReadModelPort {
+
+    private static final String SUMMARY_KEY_PREFIX = "account:summary:";
+    private static final String RECENT_KEY_PREFIX = "account:recent-tx:";
+    private static final String LAG_KEY = "account:projection:lag-ms";
+    private static final String MEMBER_DELIMITER = "|";
+
+    /**
+     * KEYS[1]=요약, KEYS[2]=최근 거래
+     * ARGV[1]=최근 거래 멤버, ARGV[2]=거래 일시, ARGV[3]=거래 후 잔액, ARGV[4]=보관 건수, ARGV[5]=만료(초)
+     */
+    private static final byte[] APPLY_TRANSACTION_SCRIPT = """
+            local at = tonumber(ARGV[2])
+            if at >= tonumber(redis.call('HGET', KEYS[1], 'balance_at') or '-1') then
+              redis.call('HSET', KEYS[1], 'balance', ARGV[3], 'balance_at', ARGV[2])
+            end
+            if at > tonumber(redis.call('HGET', KEYS[1], 'last_tx_at') or '-1') then
+              redis.call('HSET', KEYS[1], 'last_tx_at', ARGV[2])
+            end
+            redis.call('ZADD', KEYS[2], at, ARGV[1])
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -tonumber(ARGV[4]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1]=요약
+     * ARGV[1]=상태, ARGV[2]=변경 일시, ARGV[3]=만료(초)
+     */
+    private static final byte[] APPLY_STATUS_SCRIPT = """
+            if tonumber(ARGV[2]) >= tonumber(redis.call('HGET', KEYS[1], 'status_at') or '-1') then
+              redis.call('HSET', KEYS[1], 'status', ARGV[1], 'status_at', ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1]=요약
+     * ARGV[1]=잔액, ARGV[2]=상태, ARGV[3]=DB 기준 일시, ARGV[4]=개설 일시, ARGV[5]=마지막 거래 일시, ARGV[6]=만료(초)
+     */
+    private static final byte[] SEED_SUMMARY_SCRIPT = """
+            local at = tonumber(ARGV[3])
+            if at > tonumber(redis.call('HGET', KEYS[1], 'balance_at') or '-1') then
+              redis.call('HSET', KEYS[1], 'balance', ARGV[1], 'balance_at', ARGV[3])
+            end
+            if at > tonumber(redis.call('HGET', KEYS[1], 'status_at') or '-1') then
+              redis.call('HSET', KEYS[1], 'status', ARGV[2], 'status_at', ARGV[3])
+            end
+            redis.call('HSETNX', KEYS[1], 'created_at', ARGV[4])
+            if ARGV[5] ~= '' then
+              redis.call('HSETNX', KEYS[1], 'last_tx_at', ARGV[5])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReadModelProperties properties;
+
+    @Override
+    public Optional<AccountSummaryView> loadSummary(AccountNumber accountNumber) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(summaryKey(accountNumber.getValue()));
+        // 개설 정보나 상태가 없으면 거래 이벤트만 먼저 반영된 것이므로 DB에서 채워야 한다
+        if (!fields.containsKey("created_at") || !fields.containsKey("status") || !fields.containsKey("balance")) {
+            return Optional.empty();
+        }
+        return Optional.of(new AccountSummaryView(
+                accountNumber.getValue(),
+                new BigDecimal((String) fields.get("balance")),
+                AccountStatus.valueOf((String) fields.get("status")),
+                fromMicros((String) fields.get("created_at")),
+                fromMicros((String) fields.get("last_tx_at"))));
+    }
+
+    @Override
+    public List<RecentTransactionView> loadRecentTransactions(AccountNumber accountNumber, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRange(recentKey(accountNumber.getValue()), 0, limit - 1);
+        if (members == null) {
+            return List.of();
+        }
+        List<RecentTransactionView> transactions = new ArrayList<>(members.size());
+        for (String member : members) {
+            transactions.add(parseMember(member));
+        }
+        return transactions;
+    }
+
+    @Override
+    public long loadProjectionLagMillis() {
+        String lag = redisTemplate.opsForValue().get(LAG_KEY);
+        return lag != null ? Long.parseLong(lag) : -1;
+    }
+
+    @Override
+    public void project(List<ReadModelUpdate> updates, long projectionLagMillis) {
+        byte[] ttl = bytes(String.valueOf(properties.getTtl().toSeconds()));
+        byte[] cap = bytes(String.valueOf(properties.getRecentTransactionsCap()));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ReadModelUpdate update : updates) {
+                switch (update) {
+                    case ReadModelUpdate.TransactionApplied tx -> applyTransaction(connection, tx, cap, ttl);
+                    case ReadModelUpdate.StatusChanged status -> applyStatus(connection, status, ttl);
+                }
+            }
+            connection.stringCommands().set(bytes(LAG_KEY), bytes(String.valueOf(projectionLagMillis)));
+            return null;
+        });
+    }
+
+    @Override
+    public void seedSummary(AccountSummaryView summary, LocalDateTime asOf) {
+        String seededAt = String.valueOf(toMicros(asOf));
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                SEED_SUMMARY_SCRIPT, ReturnType.INTEGER, 1,
+                bytes(summaryKey(summary.accountNumber())),
+                bytes(summary.balance().toPlainString()),
+                bytes(summary.status().name()),
+                bytes(seededAt),
+                bytes(String.valueOf(toMicros(summary.createdAt()))),
+                bytes(summary.lastTransactionAt() != null ? String.valueOf(toMicros(summary.lastTransactionAt())) : ""),
+                bytes(String.valueOf(properties.getTtl().toSeconds()))));
+    }
+
+    private void applyTransaction(RedisConnection connection, ReadModelUpdate.TransactionApplied tx,
+                                  byte[] cap, byte[] ttl) {
+        long at = toMicros(tx.occurredAt());
+        String member = String.join(MEMBER_DELIMITER,
+                tx.eventId(),
+                tx.transactionType().name(),
+                tx.amount().toPlainString(),
+                tx.balanceAfter().toPlainString(),
+                String.valueOf(at));
+        connection.scriptingCommands().eval(APPLY_TRANSACTION_SCRIPT, ReturnType.INTEGER, 2,
+                bytes(summaryKey(tx.accountNumber())),
+                bytes(recentKey(tx.accountNumber())),
+                bytes(member),
+                bytes(String.valueOf(at)),
+                bytes(tx.balanceAfter().toPlainString()),
+                cap,
+                ttl);
+    }
+
+    private void applyStatus(RedisConnection connection, ReadModelUpdate.StatusChanged status, byte[] ttl) {
+        connection.scriptingCommands().eval(APPLY_STATUS_SCRIPT, ReturnType.INTEGER, 1,
+                bytes(summaryKey(status.accountNumber())),
+                bytes(status.status().name()),
+                bytes(String.valueOf(toMicros(status.occurredAt()))),
+                ttl);
+    }
+
+    private static RecentTransactionView parseMember(String member) {
+        String[] parts = member.split("\\|");
+        return new RecentTransactionView(
+                parts[0],
+                TransactionType.valueOf(parts[1]),
+                new BigDecimal(parts[2]),
+                new BigDecimal(parts[3]),
+                fromMicros(parts[4]));
+    }
+
+    private static String summaryKey(String accountNumber) {
+        return SUMMARY_KEY_PREFIX + accountNumber;
+    }
+
+    private static String recentKey(String accountNumber) {
+        return RECENT_KEY_PREFIX + accountNumber;
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime fromMicros(String micros) {
+        if (micros == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus(Long.parseLong(micros), ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
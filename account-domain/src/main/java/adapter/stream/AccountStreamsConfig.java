@@ -0,0 +1,48 @@
+package adapter.stream;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountTopics;
+import adapter.event.TransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.state.Stores;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+
+/**
+ * 계좌 Kafka Streams 토폴로지 설정
+ *
+ * account.transactions -> [DailyAggregateProcessor] -> account-daily-aggregates (RocksDB)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableKafkaStreams
+@EnableConfigurationProperties(DailyAggregateProperties.class)
+public class AccountStreamsConfig {
+
+    @Bean
+    public KStream<String, TransactionEvent> dailyAggregateStream(StreamsBuilder streamsBuilder,
+                                                                  DailyAggregateProperties properties,
+                                                                  AccountEventCodec codec,
+                                                                  ObjectMapper objectMapper) {
+        String storeName = properties.getStoreName();
+        int retentionDays = properties.getRetentionDays();
+
+        streamsBuilder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(storeName),
+                Serdes.String(),
+                new DailyAccountAggregateSerde()));
+
+        KStream<String, TransactionEvent> stream = streamsBuilder.stream(
+                AccountTopics.TRANSACTIONS, Consumed.with(Serdes.String(), new TransactionEventSerde(codec, objectMapper)));
+        stream.process(() -> new DailyAggregateProcessor(storeName, retentionDays), storeName);
+        return stream;
+    }
+}
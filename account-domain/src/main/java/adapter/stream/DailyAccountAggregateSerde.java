@@ -0,0 +1,63 @@
+package adapter.stream;
+
+import domain.model.DailyAccountAggregate;
+import domain.model.TransactionType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 일일 집계 상태 저장소 값 Serde
+ * [계좌번호 길이(1)][계좌번호][epochDay(4)][건수 x 유형 수(8)][합계 x 유형 수(8)]
+ */
+public class DailyAccountAggregateSerde implements Serde<DailyAccountAggregate> {
+
+    private static final int TYPE_COUNT = TransactionType.values().length;
+
+    @Override
+    public Serializer<DailyAccountAggregate> serializer() {
+        return (topic, aggregate) -> {
+            if (aggregate == null) {
+                return null;
+            }
+            byte[] accountNumber = aggregate.getAccountNumber().getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer buffer = ByteBuffer.allocate(1 + accountNumber.length + 4 + TYPE_COUNT * 16);
+            buffer.put((byte) accountNumber.length);
+            buffer.put(accountNumber);
+            buffer.putInt((int) aggregate.getDate().toEpochDay());
+            for (long count : aggregate.getCounts()) {
+                buffer.putLong(count);
+            }
+            for (long sum : aggregate.getSumsInMinorUnits()) {
+                buffer.putLong(sum);
+            }
+            return buffer.array();
+        };
+    }
+
+    @Override
+    public Deserializer<DailyAccountAggregate> deserializer() {
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            byte[] accountNumber = new byte[buffer.get()];
+            buffer.get(accountNumber);
+            LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+            long[] counts = new long[TYPE_COUNT];
+            long[] sums = new long[TYPE_COUNT];
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                counts[i] = buffer.getLong();
+            }
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                sums[i] = buffer.getLong();
+            }
+            return new DailyAccountAggregate(new String(accountNumber, StandardCharsets.US_ASCII), date, counts, sums);
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package adapter.stream;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 일일 집계 상태 저장소 키
+ * 날짜를 앞에 두어 오래된 날짜를 범위 삭제할 수 있게 한다. (yyyyMMdd|계좌번호)
+ */
+public final class DailyAggregateKeys {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private DailyAggregateKeys() {
+    }
+
+    public static String of(LocalDate date, String accountNumber) {
+        return date.format(DATE_FORMAT) + "|" + accountNumber;
+    }
+
+    /**
+     * 해당 날짜의 첫 키 (범위 조회 하한)
+     */
+    public static String dateLowerBound(LocalDate date) {
+        return date.format(DATE_FORMAT) + "|";
+    }
+}
@@ -0,0 +1,69 @@
+package adapter.stream;
+
+import adapter.event.TransactionEvent;
+import domain.model.DailyAccountAggregate;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 이벤트를 계좌별 일일 집계로 누적하는 프로세서
+ * 입력 토픽이 이미 계좌번호로 파티셔닝되어 있으므로 재파티셔닝 없이 로컬 상태 저장소에 바로 누적한다.
+ */
+public class DailyAggregateProcessor implements Processor<String, TransactionEvent, Void, Void> {
+
+    private final String storeName;
+    private final int retentionDays;
+
+    private KeyValueStore<String, DailyAccountAggregate> store;
+
+    public DailyAggregateProcessor(String storeName, int retentionDays) {
+        this.storeName = storeName;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public void init(ProcessorContext<Void, Void> context) {
+        this.store = context.getStateStore(storeName);
+        // 보존 기간이 지난 날짜는 한 시간마다 정리
+        context.schedule(Duration.ofHours(1), PunctuationType.WALL_CLOCK_TIME, timestamp -> purgeExpired());
+    }
+
+    @Override
+    public void process(Record<String, TransactionEvent> record) {
+        TransactionEvent event = record.value();
+        if (event == null) {
+            return;
+        }
+
+        LocalDate date = event.occurredAt().toLocalDate();
+        String key = DailyAggregateKeys.of(date, event.accountNumber());
+
+        DailyAccountAggregate current = store.get(key);
+        if (current == null) {
+            current = DailyAccountAggregate.empty(event.accountNumber(), date);
+        }
+        store.put(key, current.add(event.transactionType(), event.amount()));
+    }
+
+    private void purgeExpired() {
+        String upperBound = DailyAggregateKeys.dateLowerBound(LocalDate.now().minusDays(retentionDays));
+        List<String> expired = new ArrayList<>();
+        try (KeyValueIterator<String, DailyAccountAggregate> iterator = store.range("", upperBound)) {
+            while (iterator.hasNext()) {
+                KeyValue<String, DailyAccountAggregate> entry = iterator.next();
+                expired.add(entry.key);
+            }
+        }
+        expired.forEach(store::delete);
+    }
+}
@@ -0,0 +1,33 @@
+package adapter.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일일 집계 스트림 설정 (fintech.account.daily-aggregate.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.daily-aggregate")
+public class DailyAggregateProperties {
+
+    /**
+     * 상태 저장소 이름
+     */
+    private String storeName = "account-daily-aggregates";
+
+    /**
+     * 집계 보존 일수
+     */
+    private int retentionDays = 35;
+
+    /**
+     * 이 인스턴스의 대화형 조회 주소 (host:port, application.server와 동일하게 설정)
+     * 비어 있으면 단일 인스턴스로 보고 로컬 저장소만 조회한다.
+     */
+    private String applicationServer = "";
+}
@@ -0,0 +1,117 @@
+package adapter.stream;
+
+import application.port.out.LoadDailyAggregatePort;
+import domain.model.AccountNumber;
+import domain.model.DailyAccountAggregate;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 일일 집계 대화형 조회 어댑터
+ *
+ * 상태 저장소는 파티션 단위로 여러 인스턴스에 나뉘어 있다.
+ * 키의 소유 인스턴스가 자신이면 로컬 RocksDB에서 읽고, 아니면 소유 인스턴스의 내부 엔드포인트를 호출한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class DailyAggregateQueryAdapter implements LoadDailyAggregatePort {
+    private static final Logger log = LoggerFactory.getLogger(DailyAggregateQueryAdapter.class);
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private final DailyAggregateProperties properties;
+    private final RestClient restClient;
+    private final DailyAccountAggregateSerde serde = new DailyAccountAggregateSerde();
+    private final HostInfo self;
+
+    public DailyAggregateQueryAdapter(StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+                                      DailyAggregateProperties properties,
+                                      RestClient.Builder restClientBuilder) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        this.properties = properties;
+        this.restClient = restClientBuilder.build();
+        this.self = properties.getApplicationServer().isBlank()
+                ? null
+                : HostInfo.buildFromEndpoint(properties.getApplicationServer());
+    }
+
+    @Override
+    public Optional<DailyAccountAggregate> loadDailyAggregate(AccountNumber accountNumber, LocalDate date) {
+        KafkaStreams streams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            return Optional.empty();
+        }
+
+        String key = DailyAggregateKeys.of(date, accountNumber.getValue());
+        if (self == null) {
+            return Optional.of(readLocal(streams, key, accountNumber, date));
+        }
+
+        KeyQueryMetadata metadata = streams.queryMetadataForKey(
+                properties.getStoreName(), key, Serdes.String().serializer());
+        if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+            return Optional.empty();
+        }
+
+        if (self.equals(metadata.activeHost())) {
+            return Optional.of(readLocal(streams, key, accountNumber, date));
+        }
+        return readRemote(metadata.activeHost(), key, accountNumber, date);
+    }
+
+    /**
+     * 로컬 상태 저장소에서 원본 바이트 조회 (내부 엔드포인트용)
+     * @return 이 인스턴스가 키를 갖고 있지 않거나 값이 없으면 null
+     */
+    public byte[] readLocalBytes(String key) {
+        KafkaStreams streams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            return null;
+        }
+        DailyAccountAggregate aggregate = localStore(streams).get(key);
+        return aggregate == null ? null : serde.serializer().serialize(properties.getStoreName(), aggregate);
+    }
+
+    private DailyAccountAggregate readLocal(KafkaStreams streams, String key, AccountNumber accountNumber, LocalDate date) {
+        DailyAccountAggregate aggregate = localStore(streams).get(key);
+        return aggregate != null ? aggregate : DailyAccountAggregate.empty(accountNumber.getValue(), date);
+    }
+
+    private ReadOnlyKeyValueStore<String, DailyAccountAggregate> localStore(KafkaStreams streams) {
+        return streams.store(StoreQueryParameters.fromNameAndType(
+                properties.getStoreName(), QueryableStoreTypes.keyValueStore()));
+    }
+
+    private Optional<DailyAccountAggregate> readRemote(HostInfo host, String key, AccountNumber accountNumber, LocalDate date) {
+        try {
+            byte[] bytes = restClient.get()
+                    .uri("http://{host}:{port}/api/internal/daily-aggregates/{key}", host.host(), host.port(), key)
+                    .retrieve()
+                    .body(byte[].class);
+            if (bytes == null || bytes.length == 0) {
+                return Optional.of(DailyAccountAggregate.empty(accountNumber.getValue(), date));
+            }
+            return Optional.of(serde.deserializer().deserialize(properties.getStoreName(), bytes));
+        } catch (RestClientException e) {
+            log.warn("일일 집계 원격 조회 실패 - 호스트: {}, 키: {}, 오류: {}", host, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package adapter.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 일일 집계 상태 저장소 내부 조회 엔드포인트 (인스턴스 간 대화형 조회용)
+ * 외부에 노출하지 않는다.
+ */
+@RestController
+@RequestMapping("/internal/daily-aggregates")
+@RequiredArgsConstructor
+public class DailyAggregateStoreEndpoint {
+
+    private final DailyAggregateQueryAdapter queryAdapter;
+
+    @GetMapping(value = "/{key}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> get(@PathVariable String key) {
+        byte[] bytes = queryAdapter.readLocalBytes(key);
+        if (bytes == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(bytes);
+    }
+}
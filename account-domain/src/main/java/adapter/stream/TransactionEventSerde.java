@@ -0,0 +1,49 @@
+package adapter.stream;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.TransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.kafka.codec.BinaryEventReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+
+/**
+ * 거래 이벤트 Serde
+ * 이진 코덱으로 읽고 쓰며, 이진 형식 도입 전에 JSON으로 발행된 이벤트도 읽을 수 있다.
+ */
+public class TransactionEventSerde implements Serde<TransactionEvent> {
+
+    private final AccountEventCodec codec;
+    private final ObjectMapper objectMapper;
+
+    public TransactionEventSerde(AccountEventCodec codec, ObjectMapper objectMapper) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Serializer<TransactionEvent> serializer() {
+        return (topic, event) -> event == null ? null : codec.encode(event);
+    }
+
+    @Override
+    public Deserializer<TransactionEvent> deserializer() {
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            if (BinaryEventReader.isBinaryEvent(data)) {
+                return codec.decodeTransaction(data);
+            }
+            try {
+                return objectMapper.readValue(data, TransactionEvent.class);
+            } catch (IOException e) {
+                throw new SerializationException("거래 이벤트 역직렬화에 실패했습니다. 토픽: " + topic, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package adapter.velocity;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountEventDeserializer;
+import adapter.event.AccountTopics;
+import application.service.velocity.VelocityProperties;
+import application.service.velocity.VelocityWindow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumer;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerFactory;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerOptions;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 이상거래 심사 집계 동기화 설정 (fintech.account.velocity.sync-enabled=true 일 때만 등록)
+ *
+ * account.velocity -> [VelocitySyncListener] -> 메모리 집계
+ * 모든 노드가 모든 이벤트를 받아야 하므로 읽기 모델과 달리 노드마다 다른 컨슈머 그룹으로 구독한다.
+ * 그룹 이름에는 재기동해도 바뀌지 않는 노드 식별자(sync-instance-id, 비우면 호스트 이름)를 붙여
+ * 기동할 때마다 버려진 그룹과 커밋 오프셋이 쌓이지 않게 한다.
+ * 집계는 메모리에만 있으므로 기동 후 처음 할당받은 파티션은 가장 긴 구간(24시간) 전 위치로 되감아 집계를 복원한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.account.velocity", name = "sync-enabled", havingValue = "true")
+public class VelocitySyncConfig {
+
+    @Bean
+    public KeyOrderedConsumer<PublishableEvent> velocitySyncConsumer(
+            KeyOrderedConsumerFactory consumerFactory,
+            VelocitySyncListener listener,
+            VelocityProperties properties,
+            AccountEventCodec codec,
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name}") String applicationName) {
+
+        return consumerFactory.create(
+                applicationName + "-velocity-" + instanceId(properties),
+                List.of(AccountTopics.VELOCITY),
+                new AccountEventDeserializer(codec, objectMapper),
+                listener,
+                KeyOrderedConsumerOptions.builder()
+                        .name("velocity-sync")
+                        .autoOffsetReset("earliest")
+                        .replayOnStart(VelocityWindow.DAY.getLength())
+                        .concurrency(properties.getSyncConcurrency())
+                        .maxBatchSize(properties.getSyncBatchSize())
+                        .build());
+    }
+
+    private static String instanceId(VelocityProperties properties) {
+        if (StringUtils.hasText(properties.getSyncInstanceId())) {
+            return properties.getSyncInstanceId();
+        }
+        String hostname = System.getenv("HOSTNAME");
+        if (StringUtils.hasText(hostname)) {
+            return hostname;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("거래 속도 동기화 노드 식별자를 정할 수 없습니다. "
+                    + "fintech.account.velocity.sync-instance-id를 지정하세요.", e);
+        }
+    }
+}
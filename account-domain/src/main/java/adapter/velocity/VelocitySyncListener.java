@@ -0,0 +1,46 @@
+package adapter.velocity;
+
+import adapter.event.VelocityObservedEvent;
+import application.service.velocity.VelocityService;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedBatchHandler;
+import com.fintech.platform.infrastructure.kafka.publisher.PublishableEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이상거래 심사 집계 동기화 반영기
+ * 다른 노드에서 처리된 거래를 이 노드의 집계에 더한다. (집계는 덧셈뿐이므로 도착 순서와 무관하다)
+ *
+ * 지표:
+ * - account.velocity.sync.applied : 반영한 이벤트 수 (자기 노드/오래된 이벤트 제외)
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.account.velocity", name = "sync-enabled", havingValue = "true")
+public class VelocitySyncListener implements KeyOrderedBatchHandler<PublishableEvent> {
+
+    private final VelocityService velocityService;
+    private final Counter appliedCounter;
+
+    public VelocitySyncListener(VelocityService velocityService, MeterRegistry meterRegistry) {
+        this.velocityService = velocityService;
+        this.appliedCounter = Counter.builder("account.velocity.sync.applied")
+                .description("다른 노드에서 받아 반영한 거래 속도 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void handle(List<ConsumerRecord<String, PublishableEvent>> records) {
+        for (ConsumerRecord<String, PublishableEvent> record : records) {
+            if (record.value() instanceof VelocityObservedEvent event
+                    && velocityService.applyRemote(event.originNodeId(), event.accountNumber(), event.merchantId(),
+                    event.amountMinor(), event.observedAtMillis())) {
+                appliedCounter.increment();
+            }
+        }
+    }
+}
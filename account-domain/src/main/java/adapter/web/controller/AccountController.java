@@ -2,23 +2,41 @@ package adapter.web.controller;
 
 import adapter.web.model.common.ApiResponse;
 import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.request.BulkAccountLookupRequest;
 import adapter.web.model.response.AccountResponse;
 import adapter.web.model.response.BalanceResponse;
+import adapter.web.model.response.BulkAccountLookupResponse;
+import adapter.web.model.response.DailySummaryResponse;
+import application.service.AccountBalance;
+import application.service.AccountService;
+import application.service.query.BulkAccountQueryService;
+import application.service.query.BulkLookupResult;
+import application.service.readmodel.AccountReadModelService;
+import application.service.readmodel.AccountSummaryView;
+import application.service.readmodel.ReadModelResult;
+import domain.exception.AccountNotFoundException;
+import domain.model.AccountNumber;
+import domain.model.DailyAccountAggregate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 /**
  * 계좌 관리 API Controller
  *
@@ -34,12 +52,18 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
     private static final Logger log = LoggerFactory.getLogger(AccountController.class);
 
-    // TODO: AccountService 의존성 주입 예정
-    // private final AccountService accountService;
+    /**
+     * 읽기 모델 반영 지연 응답 헤더 (조회 값이 쓰기보다 얼마나 늦을 수 있는지)
+     */
+    public static final String PROJECTION_LAG_HEADER = "X-Projection-Lag-Ms";
+
+    private final AccountService accountService;
+    private final BulkAccountQueryService bulkAccountQueryService;
+    private final AccountReadModelService readModelService;
 
     @Operation(
             summary = "계좌 정보 조회",
-            description = "계좌번호로 계좌의 상세 정보를 조회합니다."
+            description = "계좌번호로 계좌의 상세 정보를 조회합니다. 읽기 모델에서 조회하며, 반영 지연을 X-Projection-Lag-Ms 헤더로 알려줍니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -77,29 +101,28 @@ public class AccountController {
         log.info("[{}] 계좌 정보 조회 요청 - 계좌번호: {}", requestId, accountNumber);
 
         try {
-            // TODO: AccountService를 통한 계좌 조회 로직 구현 예정
-            // AccountResponse account = accountService.getAccount(accountNumber);
-
-            // 임시 응답 (개발 단계)
-            AccountResponse mockResponse = AccountResponse.builder()
-                    .accountNumber(accountNumber)
-                    .balance(java.math.BigDecimal.valueOf(1500000.00))
-                    .status("ACTIVE")
-                    .createdAt(java.time.LocalDateTime.now().minusDays(30))
-                    .updatedAt(java.time.LocalDateTime.now())
-                    .accountAlias("주거래 통장")
-                    .accountType("CHECKING")
-                    .availableBalance(java.math.BigDecimal.valueOf(1500000.00))
-                    .holdAmount(java.math.BigDecimal.ZERO)
+            ReadModelResult<AccountSummaryView> result = readModelService.getSummary(new AccountNumber(accountNumber));
+            AccountSummaryView summary = result.value();
+            // 보류 합계는 읽기 모델이 아니라 보류 저장소의 현재 값을 쓴다
+            java.math.BigDecimal holdAmount = accountService.getHeldAmount(new AccountNumber(accountNumber)).getAmount();
+
+            AccountResponse response = AccountResponse.builder()
+                    .accountNumber(summary.accountNumber())
+                    .balance(summary.balance())
+                    .status(summary.status().name())
+                    .createdAt(summary.createdAt())
+                    .updatedAt(summary.lastTransactionAt())
+                    .availableBalance(summary.balance().subtract(holdAmount).max(java.math.BigDecimal.ZERO))
+                    .holdAmount(holdAmount)
                     .build();
 
-            log.info("[{}] 계좌 정보 조회 성공 - 계좌번호: {}, 잔액: {}",
-                    requestId, accountNumber, mockResponse.getBalance());
+            log.info("[{}] 계좌 정보 조회 성공 - 계좌번호: {}, 잔액: {}, 반영 지연: {}ms",
+                    requestId, accountNumber, response.getBalance(), result.projectionLagMillis());
 
-            return ResponseEntity.ok(
-                    ApiResponse.success(mockResponse, "계좌 정보를 성공적으로 조회했습니다.")
-                            .withRequestId(requestId)
-            );
+            return ResponseEntity.ok()
+                    .header(PROJECTION_LAG_HEADER, String.valueOf(result.projectionLagMillis()))
+                    .body(ApiResponse.success(response, "계좌 정보를 성공적으로 조회했습니다.")
+                            .withRequestId(requestId));
 
         } catch (Exception e) {
             log.error("[{}] 계좌 정보 조회 실패 - 계좌번호: {}, 오류: {}",
@@ -149,31 +172,39 @@ public class AccountController {
         log.info("[{}] 잔액 조회 요청 - 계좌번호: {}", requestId, accountNumber);
 
         try {
-            // TODO: AccountService를 통한 실시간 잔액 조회 로직 구현 예정
-            // BalanceResponse balance = accountService.getBalance(accountNumber);
+            AccountBalance balance = accountService.getBalance(new AccountNumber(accountNumber));
 
-            // 임시 응답 (개발 단계)
-            BalanceResponse mockResponse = BalanceResponse.builder()
+            BalanceResponse response = BalanceResponse.builder()
                     .accountNumber(accountNumber)
-                    .balance(java.math.BigDecimal.valueOf(1500000.00))
-                    .availableBalance(java.math.BigDecimal.valueOf(1500000.00))
-                    .holdAmount(java.math.BigDecimal.ZERO)
-                    .lastUpdatedAt(java.time.LocalDateTime.now().minusMinutes(5))
+                    .balance(balance.balance().getAmount())
+                    .availableBalance(balance.availableBalance())
+                    .holdAmount(balance.heldAmount().getAmount())
+                    .lastUpdatedAt(balance.lastUpdatedAt())
                     .retrievedAt(java.time.LocalDateTime.now())
-                    .accountStatus("ACTIVE")
-                    .dailyWithdrawalLimit(java.math.BigDecimal.valueOf(5000000.00))
-                    .dailyWithdrawalUsed(java.math.BigDecimal.valueOf(300000.00))
-                    .dailyWithdrawalAvailable(java.math.BigDecimal.valueOf(4700000.00))
+                    .accountStatus(balance.status().name())
+                    .dailyWithdrawalLimit(balance.dailyWithdrawalLimit())
+                    .dailyWithdrawalUsed(balance.dailyWithdrawalUsed())
+                    .dailyWithdrawalAvailable(balance.dailyWithdrawalAvailable())
                     .build();
 
             log.info("[{}] 잔액 조회 성공 - 계좌번호: {}, 잔액: {}, 사용가능: {}",
-                    requestId, accountNumber, mockResponse.getBalance(), mockResponse.getAvailableBalance());
+                    requestId, accountNumber, response.getBalance(), response.getAvailableBalance());
 
             return ResponseEntity.ok(
-                    ApiResponse.success(mockResponse, "잔액 정보를 성공적으로 조회했습니다.")
+                    ApiResponse.success(response, "잔액 정보를 성공적으로 조회했습니다.")
                             .withRequestId(requestId)
             );
 
+        } catch (AccountNotFoundException e) {
+            log.warn("[{}] 잔액 조회 실패 - 계좌 없음: {}", requestId, accountNumber);
+
+            ErrorResponse errorResponse = ErrorResponse.accountNotFound(accountNumber)
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/" + accountNumber + "/balance", "GET");
+
+            return ResponseEntity.status(404)
+                    .body(ApiResponse.error("ACCOUNT_NOT_FOUND", errorResponse.getErrorMessage()));
+
         } catch (Exception e) {
             log.error("[{}] 잔액 조회 실패 - 계좌번호: {}, 오류: {}",
                     requestId, accountNumber, e.getMessage(), e);
@@ -187,6 +218,66 @@ public class AccountController {
         }
     }
 
+    @Operation(
+            summary = "일일 거래 집계 조회",
+            description = "계좌의 일자별 거래 건수와 입출금 합계를 조회합니다. 스트림으로 미리 집계된 값을 사용합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = DailySummaryResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "집계 준비 중 (리밸런싱 등)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{accountNumber}/daily-summary")
+    public ResponseEntity<ApiResponse<DailySummaryResponse>> getDailySummary(
+            @Parameter(description = "계좌번호 (10-20자리)", example = "1001234567890", required = true)
+            @PathVariable
+            @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+            String accountNumber,
+
+            @Parameter(description = "집계 일자 (기본값: 오늘)", example = "2025-07-12")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "DSM_" + System.currentTimeMillis();
+        }
+        if (date == null) {
+            date = LocalDate.now();
+        }
+
+        log.info("[{}] 일일 거래 집계 조회 요청 - 계좌번호: {}, 일자: {}", requestId, accountNumber, date);
+
+        Optional<DailyAccountAggregate> aggregate = accountService.getDailyAggregate(new AccountNumber(accountNumber), date);
+        if (aggregate.isEmpty()) {
+            log.warn("[{}] 일일 거래 집계 준비 중 - 계좌번호: {}", requestId, accountNumber);
+
+            ErrorResponse errorResponse = ErrorResponse.businessError("AGGREGATE_NOT_READY", "거래 집계를 준비 중입니다. 잠시 후 다시 시도해주세요.")
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/" + accountNumber + "/daily-summary", "GET");
+
+            return ResponseEntity.status(503)
+                    .body(ApiResponse.error("AGGREGATE_NOT_READY", errorResponse.getErrorMessage()));
+        }
+
+        return ResponseEntity.ok(
+                ApiResponse.success(DailySummaryResponse.from(aggregate.get()), "거래 집계를 성공적으로 조회했습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
     @Operation(
             summary = "계좌 상태 변경",
             description = "계좌의 상태를 변경합니다. (ACTIVE, INACTIVE, FROZEN)"
@@ -266,4 +357,61 @@ public class AccountController {
                     .body(ApiResponse.error("ACCOUNT_UPDATE_FAILED", errorResponse.getErrorMessage()));
         }
     }
+
+    @Operation(
+            summary = "계좌 대량 조회 (내부 호출용)",
+            description = "여러 계좌의 상태와 잔액을 한 번에 조회합니다. 최대 5000개까지 요청할 수 있으며 결과는 배열 형태로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공 (존재하지 않는 계좌는 not_found로 응답)",
+                    content = @Content(schema = @Schema(implementation = BulkAccountLookupResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 데이터 (계좌번호 형식 오류, 최대 개수 초과)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/bulk-lookup")
+    public ResponseEntity<ApiResponse<BulkAccountLookupResponse>> bulkLookup(
+            @Parameter(description = "대량 조회 요청 데이터", required = true)
+            @Valid @RequestBody
+            BulkAccountLookupRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "BLK_" + System.currentTimeMillis();
+        }
+
+        log.info("[{}] 계좌 대량 조회 요청 - 요청 건수: {}", requestId, request.getAccountNumbers().size());
+
+        try {
+            BulkLookupResult result = bulkAccountQueryService.lookup(
+                    request.getAccountNumbers().stream().map(AccountNumber::new).toList());
+
+            log.info("[{}] 계좌 대량 조회 성공 - 조회: {}, 없음: {}, 캐시 적중: {}",
+                    requestId, result.snapshots().size(), result.notFound().size(), result.cacheHits());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(BulkAccountLookupResponse.from(result), "계좌 정보를 성공적으로 조회했습니다.")
+                            .withRequestId(requestId)
+            );
+
+        } catch (Exception e) {
+            log.error("[{}] 계좌 대량 조회 실패 - 오류: {}", requestId, e.getMessage(), e);
+
+            ErrorResponse errorResponse = ErrorResponse.systemError("계좌 대량 조회 중 시스템 오류가 발생했습니다.")
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/bulk-lookup", "POST");
+
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("SYSTEM_ERROR", errorResponse.getErrorMessage()));
+        }
+    }
 }
\ No newline at end of file
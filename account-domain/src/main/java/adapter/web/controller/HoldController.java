@@ -0,0 +1,237 @@
+package adapter.web.controller;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.request.CaptureHoldRequest;
+import adapter.web.model.request.PlaceHoldRequest;
+import adapter.web.model.response.HoldResponse;
+import adapter.web.model.response.TransactionResponse;
+import application.service.hold.HoldService;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+import domain.model.Transaction;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+/**
+ * 보류(가승인) API Controller
+ * 카드 승인, 이체 대기 등에서 잔액 일부를 묶어 두었다가 매입하거나 해제한다.
+ * 도메인 예외(잔액 부족, 보류 없음 등)는 GlobalExceptionHandler에서 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Hold Management", description = "보류(가승인) API")
+public class HoldController {
+    private static final Logger log = LoggerFactory.getLogger(HoldController.class);
+
+    private final HoldService holdService;
+
+    @Operation(
+            summary = "보류 등록",
+            description = "사용 가능 잔액(잔액 - 보류 합계) 범위에서 금액을 보류합니다. 만료 시각이 지나면 자동으로 해제됩니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "보류 성공",
+                    content = @Content(schema = @Schema(implementation = HoldResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "사용 가능 잔액 부족, 비활성 계좌 또는 중복 보류 ID",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{accountNumber}/holds")
+    public ResponseEntity<ApiResponse<HoldResponse>> placeHold(
+            @Parameter(description = "계좌번호 (10-20자리)", example = "1001234567890", required = true)
+            @PathVariable
+            @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+            String accountNumber,
+
+            @Parameter(description = "보류 등록 요청 데이터", required = true)
+            @Valid @RequestBody
+            PlaceHoldRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "HLD_" + System.currentTimeMillis();
+        }
+
+        if (!holdService.isEnabled()) {
+            return holdDisabled(requestId, "/api/v1/accounts/" + accountNumber + "/holds", "POST");
+        }
+
+        log.info("[{}] 보류 등록 요청 - 계좌번호: {}, 금액: {}, 보류ID: {}",
+                requestId, accountNumber, request.getAmount(), request.getHoldId());
+
+        Hold hold = holdService.place(
+                new AccountNumber(accountNumber),
+                request.getHoldId(),
+                new Money(request.getAmount()),
+                request.getTtlSeconds() != null ? Duration.ofSeconds(request.getTtlSeconds()) : null);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(HoldResponse.of(hold, "HELD"), "보류가 등록되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "보류 매입",
+            description = "보류를 실제 출금으로 확정합니다. 보류 금액 이하로 부분 매입할 수 있으며, 남은 금액은 해제됩니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "매입 성공",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "보류 없음 또는 만료",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{accountNumber}/holds/{holdId}/capture")
+    public ResponseEntity<ApiResponse<TransactionResponse>> captureHold(
+            @Parameter(description = "계좌번호 (10-20자리)", example = "1001234567890", required = true)
+            @PathVariable
+            @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+            String accountNumber,
+
+            @Parameter(description = "보류 ID", example = "AUTH_20250712_0001", required = true)
+            @PathVariable
+            String holdId,
+
+            @Parameter(description = "보류 매입 요청 데이터", required = true)
+            @Valid @RequestBody
+            CaptureHoldRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "CAP_" + System.currentTimeMillis();
+        }
+
+        if (!holdService.isEnabled()) {
+            return holdDisabled(requestId, "/api/v1/accounts/" + accountNumber + "/holds/" + holdId + "/capture", "POST");
+        }
+
+        log.info("[{}] 보류 매입 요청 - 계좌번호: {}, 보류ID: {}, 금액: {}",
+                requestId, accountNumber, holdId, request.getAmount());
+
+        Transaction transaction = holdService.capture(
+                new AccountNumber(accountNumber),
+                holdId,
+                request.getAmount() != null ? new Money(request.getAmount()) : null,
+                request.getDescription());
+
+        TransactionResponse response = TransactionResponse.builder()
+                .transactionId(holdId)
+                .accountNumber(accountNumber)
+                .transactionType(transaction.getType().name())
+                .amount(transaction.getAmount().getAmount())
+                .balanceAfter(transaction.getBalanceAfter().getAmount())
+                .balanceBefore(transaction.getBalanceAfter().getAmount().add(transaction.getAmount().getAmount()))
+                .description(request.getDescription())
+                .transactionAt(transaction.getTransactionAt())
+                .status("SUCCESS")
+                .channel("API")
+                .requestId(requestId)
+                .build();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "보류가 매입되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "보류 해제",
+            description = "보류를 해제해 사용 가능 잔액으로 돌려줍니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "해제 성공",
+                    content = @Content(schema = @Schema(implementation = HoldResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "보류 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @DeleteMapping("/{accountNumber}/holds/{holdId}")
+    public ResponseEntity<ApiResponse<HoldResponse>> releaseHold(
+            @Parameter(description = "계좌번호 (10-20자리)", example = "1001234567890", required = true)
+            @PathVariable
+            @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+            String accountNumber,
+
+            @Parameter(description = "보류 ID", example = "AUTH_20250712_0001", required = true)
+            @PathVariable
+            String holdId,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "REL_" + System.currentTimeMillis();
+        }
+
+        if (!holdService.isEnabled()) {
+            return holdDisabled(requestId, "/api/v1/accounts/" + accountNumber + "/holds/" + holdId, "DELETE");
+        }
+
+        log.info("[{}] 보류 해제 요청 - 계좌번호: {}, 보류ID: {}", requestId, accountNumber, holdId);
+
+        Hold hold = holdService.release(new AccountNumber(accountNumber), holdId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(HoldResponse.of(hold, "RELEASED"), "보류가 해제되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> holdDisabled(String requestId, String path, String method) {
+        ErrorResponse errorResponse = ErrorResponse.businessError("HOLD_DISABLED", "보류 기능을 사용할 수 없습니다.")
+                .withRequestId(requestId)
+                .withPath(path, method);
+
+        return ResponseEntity.status(503)
+                .body(ApiResponse.error("HOLD_DISABLED", errorResponse.getErrorMessage()));
+    }
+}
@@ -5,6 +5,18 @@ import adapter.web.model.common.ErrorResponse;
 import adapter.web.model.request.DepositRequest;
 import adapter.web.model.request.WithdrawRequest;
 import adapter.web.model.response.TransactionResponse;
+import application.service.TransactionService;
+import application.service.readmodel.AccountReadModelService;
+import application.service.readmodel.ReadModelResult;
+import application.service.readmodel.RecentTransactionView;
+import com.fintech.platform.shared.lock.LockAcquisitionException;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.VelocityLimitExceededException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +24,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +37,12 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * 거래 관리 API Controller
- * 핵심 기능: 입금, 출금 (동시성 제어 적용 예정)
+ * 핵심 기능: 입금, 출금 (계좌 단위 분산 락으로 동시성 제어)
  *
  * @author Fintech Platform Team
  * @since 1.0.0
@@ -41,8 +56,8 @@ import java.util.UUID;
 public class TransactionController {
     private static final Logger log = LoggerFactory.getLogger(TransactionController.class);
 
-    // TODO: TransactionService 의존성 주입 예정
-    // private final TransactionService transactionService;
+    private final TransactionService transactionService;
+    private final AccountReadModelService readModelService;
 
     @Operation(
             summary = "출금 처리",
@@ -61,12 +76,12 @@ public class TransactionController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "409",
-                    description = "잔액 부족 또는 계좌 상태 오류",
+                    description = "잔액 부족, 계좌 상태 오류 또는 동시 요청 처리 중",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "422",
-                    description = "비즈니스 규칙 위반",
+                    description = "비즈니스 규칙 위반 또는 거래 속도 심사 차단",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
@@ -103,29 +118,13 @@ public class TransactionController {
                 requestId, accountNumber, request.getAmount(), request.getDescription(), idempotencyKey);
 
         try {
-            // TODO: 실제 서비스 로직 구현 예정
-            // @DistributedLock 애너테이션이 적용된 서비스 메서드 호출
-            // TransactionResponse transaction = transactionService.withdraw(accountNumber, request, idempotencyKey);
+            Transaction transaction = transactionService.withdraw(
+                    new AccountNumber(accountNumber), new Money(request.getAmount()), request.getDescription());
 
-            // 임시 응답 (개발 단계)
-            BigDecimal currentBalance = BigDecimal.valueOf(1500000.00);
-            BigDecimal afterBalance = currentBalance.subtract(request.getAmount());
-
-            // 잔액 부족 시뮬레이션
-            if (afterBalance.compareTo(BigDecimal.ZERO) < 0) {
-                log.warn("[{}] 출금 실패 - 잔액 부족: 현재 {}, 요청 {}",
-                        requestId, currentBalance, request.getAmount());
-
-                ErrorResponse errorResponse = ErrorResponse.insufficientBalance(
-                                currentBalance.toString(), request.getAmount().toString())
-                        .withRequestId(requestId)
-                        .withPath("/api/v1/accounts/" + accountNumber + "/withdraw", "POST");
+            BigDecimal afterBalance = transaction.getBalanceAfter().getAmount();
+            BigDecimal currentBalance = afterBalance.add(request.getAmount());
 
-                return ResponseEntity.status(409)
-                        .body(ApiResponse.error("INSUFFICIENT_BALANCE", errorResponse.getErrorMessage()));
-            }
-
-            TransactionResponse mockResponse = TransactionResponse.builder()
+            TransactionResponse response = TransactionResponse.builder()
                     .transactionId(request.getOrGenerateTransactionId())
                     .accountNumber(accountNumber)
                     .transactionType("WITHDRAW")
@@ -133,7 +132,7 @@ public class TransactionController {
                     .balanceAfter(afterBalance)
                     .balanceBefore(currentBalance)
                     .description(request.getDescription())
-                    .transactionAt(LocalDateTime.now())
+                    .transactionAt(transaction.getTransactionAt())
                     .status("SUCCESS")
                     .channel("API")
                     .reasonCode(request.getReasonCode())
@@ -142,13 +141,42 @@ public class TransactionController {
                     .build();
 
             log.info("[{}] 출금 성공 - 계좌번호: {}, 금액: {}, 거래후잔액: {}, 거래ID: {}",
-                    requestId, accountNumber, request.getAmount(), afterBalance, mockResponse.getTransactionId());
+                    requestId, accountNumber, request.getAmount(), afterBalance, response.getTransactionId());
 
             return ResponseEntity.ok(
-                    ApiResponse.success(mockResponse, "출금이 성공적으로 처리되었습니다.")
+                    ApiResponse.success(response, "출금이 성공적으로 처리되었습니다.")
                             .withRequestId(requestId)
             );
 
+        } catch (InsufficientBalanceException e) {
+            log.warn("[{}] 출금 실패 - 잔액 부족: 계좌번호 {}, 요청 {}", requestId, accountNumber, request.getAmount());
+
+            ErrorResponse errorResponse = ErrorResponse.businessError("INSUFFICIENT_BALANCE", e.getMessage())
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/" + accountNumber + "/withdraw", "POST");
+
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error("INSUFFICIENT_BALANCE", errorResponse.getErrorMessage()));
+
+        } catch (VelocityLimitExceededException e) {
+            log.warn("[{}] 출금 실패 - 거래 속도 심사 차단: 계좌번호 {}, 요청 {}", requestId, accountNumber, request.getAmount());
+
+            ErrorResponse errorResponse = ErrorResponse.businessError("VELOCITY_LIMIT_EXCEEDED", e.getMessage())
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/" + accountNumber + "/withdraw", "POST");
+
+            return ResponseEntity.status(422)
+                    .body(ApiResponse.error("VELOCITY_LIMIT_EXCEEDED", errorResponse.getErrorMessage()));
+
+        } catch (InactiveAccountException e) {
+            return inactiveAccount(requestId, accountNumber, "/withdraw", e);
+
+        } catch (AccountNotFoundException e) {
+            return accountNotFound(requestId, accountNumber, "/withdraw");
+
+        } catch (LockAcquisitionException e) {
+            return concurrentRequest(requestId, accountNumber, "/withdraw", e);
+
         } catch (Exception e) {
             log.error("[{}] 출금 처리 실패 - 계좌번호: {}, 금액: {}, 오류: {}",
                     requestId, accountNumber, request.getAmount(), e.getMessage(), e);
@@ -179,7 +207,7 @@ public class TransactionController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "409",
-                    description = "계좌 상태 오류",
+                    description = "계좌 상태 오류 또는 동시 요청 처리 중",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
@@ -216,15 +244,13 @@ public class TransactionController {
                 requestId, accountNumber, request.getAmount(), request.getDescription(), idempotencyKey);
 
         try {
-            // TODO: 실제 서비스 로직 구현 예정
-            // @DistributedLock 애너테이션이 적용된 서비스 메서드 호출
-            // TransactionResponse transaction = transactionService.deposit(accountNumber, request, idempotencyKey);
+            Transaction transaction = transactionService.deposit(
+                    new AccountNumber(accountNumber), new Money(request.getAmount()), request.getDescription());
 
-            // 임시 응답 (개발 단계)
-            BigDecimal currentBalance = BigDecimal.valueOf(1500000.00);
-            BigDecimal afterBalance = currentBalance.add(request.getAmount());
+            BigDecimal afterBalance = transaction.getBalanceAfter().getAmount();
+            BigDecimal currentBalance = afterBalance.subtract(request.getAmount());
 
-            TransactionResponse mockResponse = TransactionResponse.builder()
+            TransactionResponse response = TransactionResponse.builder()
                     .transactionId(request.getOrGenerateTransactionId())
                     .accountNumber(accountNumber)
                     .transactionType("DEPOSIT")
@@ -232,7 +258,7 @@ public class TransactionController {
                     .balanceAfter(afterBalance)
                     .balanceBefore(currentBalance)
                     .description(request.getDescription())
-                    .transactionAt(LocalDateTime.now())
+                    .transactionAt(transaction.getTransactionAt())
                     .status("SUCCESS")
                     .channel("API")
                     .counterpartName(request.getDepositorInfo())
@@ -241,13 +267,22 @@ public class TransactionController {
                     .build();
 
             log.info("[{}] 입금 성공 - 계좌번호: {}, 금액: {}, 거래후잔액: {}, 거래ID: {}",
-                    requestId, accountNumber, request.getAmount(), afterBalance, mockResponse.getTransactionId());
+                    requestId, accountNumber, request.getAmount(), afterBalance, response.getTransactionId());
 
             return ResponseEntity.ok(
-                    ApiResponse.success(mockResponse, "입금이 성공적으로 처리되었습니다.")
+                    ApiResponse.success(response, "입금이 성공적으로 처리되었습니다.")
                             .withRequestId(requestId)
             );
 
+        } catch (InactiveAccountException e) {
+            return inactiveAccount(requestId, accountNumber, "/deposit", e);
+
+        } catch (AccountNotFoundException e) {
+            return accountNotFound(requestId, accountNumber, "/deposit");
+
+        } catch (LockAcquisitionException e) {
+            return concurrentRequest(requestId, accountNumber, "/deposit", e);
+
         } catch (Exception e) {
             log.error("[{}] 입금 처리 실패 - 계좌번호: {}, 금액: {}, 오류: {}",
                     requestId, accountNumber, request.getAmount(), e.getMessage(), e);
@@ -333,4 +368,112 @@ public class TransactionController {
                     .body(ApiResponse.error("TRANSACTION_NOT_FOUND", errorResponse.getErrorMessage()));
         }
     }
+
+    @Operation(
+            summary = "최근 거래 조회",
+            description = "계좌의 최근 거래를 최신순으로 조회합니다. 읽기 모델에서 조회하며, 반영 지연을 X-Projection-Lag-Ms 헤더로 알려줍니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "읽기 모델 비활성화",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{accountNumber}/transactions/recent")
+    public ResponseEntity<ApiResponse<List<TransactionResponse>>> getRecentTransactions(
+            @Parameter(description = "계좌번호 (10-20자리)", example = "1001234567890", required = true)
+            @PathVariable
+            @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+            String accountNumber,
+
+            @Parameter(description = "조회 건수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "조회 건수는 1 이상이어야 합니다")
+            @Max(value = 100, message = "조회 건수는 100 이하여야 합니다")
+            int limit,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "RTX_" + System.currentTimeMillis();
+        }
+
+        log.info("[{}] 최근 거래 조회 요청 - 계좌번호: {}, 건수: {}", requestId, accountNumber, limit);
+
+        if (!readModelService.isEnabled()) {
+            ErrorResponse errorResponse = ErrorResponse.businessError("READ_MODEL_DISABLED", "최근 거래 조회를 사용할 수 없습니다.")
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/accounts/" + accountNumber + "/transactions/recent", "GET");
+
+            return ResponseEntity.status(503)
+                    .body(ApiResponse.error("READ_MODEL_DISABLED", errorResponse.getErrorMessage()));
+        }
+
+        ReadModelResult<List<RecentTransactionView>> result =
+                readModelService.getRecentTransactions(new AccountNumber(accountNumber), limit);
+        List<TransactionResponse> transactions = result.value().stream()
+                .map(view -> TransactionResponse.builder()
+                        .transactionId(view.eventId())
+                        .accountNumber(accountNumber)
+                        .transactionType(view.transactionType().name())
+                        .amount(view.amount())
+                        .balanceAfter(view.balanceAfter())
+                        .transactionAt(view.transactionAt())
+                        .status("SUCCESS")
+                        .build())
+                .toList();
+
+        log.info("[{}] 최근 거래 조회 성공 - 계좌번호: {}, 건수: {}, 반영 지연: {}ms",
+                requestId, accountNumber, transactions.size(), result.projectionLagMillis());
+
+        return ResponseEntity.ok()
+                .header(AccountController.PROJECTION_LAG_HEADER, String.valueOf(result.projectionLagMillis()))
+                .body(ApiResponse.success(transactions, "최근 거래를 성공적으로 조회했습니다.")
+                        .withRequestId(requestId));
+    }
+
+    private ResponseEntity<ApiResponse<TransactionResponse>> inactiveAccount(
+            String requestId, String accountNumber, String action, InactiveAccountException e) {
+        log.warn("[{}] 거래 실패 - 비활성 계좌: {}", requestId, accountNumber);
+
+        ErrorResponse errorResponse = ErrorResponse.businessError("INACTIVE_ACCOUNT", e.getMessage())
+                .withRequestId(requestId)
+                .withPath("/api/v1/accounts/" + accountNumber + action, "POST");
+
+        return ResponseEntity.status(409)
+                .body(ApiResponse.error("INACTIVE_ACCOUNT", errorResponse.getErrorMessage()));
+    }
+
+    private ResponseEntity<ApiResponse<TransactionResponse>> concurrentRequest(
+            String requestId, String accountNumber, String action, LockAcquisitionException e) {
+        log.warn("[{}] 거래 실패 - 동시 요청 처리 중: {}, 락 키: {}", requestId, accountNumber, e.getLockKey());
+
+        ErrorResponse errorResponse = ErrorResponse.businessError("CONCURRENT_REQUEST", "같은 계좌의 다른 거래를 처리 중입니다. 잠시 후 다시 시도해주세요.")
+                .withRequestId(requestId)
+                .withPath("/api/v1/accounts/" + accountNumber + action, "POST");
+
+        return ResponseEntity.status(409)
+                .body(ApiResponse.error("CONCURRENT_REQUEST", errorResponse.getErrorMessage()));
+    }
+
+    private ResponseEntity<ApiResponse<TransactionResponse>> accountNotFound(
+            String requestId, String accountNumber, String action) {
+        log.warn("[{}] 거래 실패 - 계좌 없음: {}", requestId, accountNumber);
+
+        ErrorResponse errorResponse = ErrorResponse.accountNotFound(accountNumber)
+                .withRequestId(requestId)
+                .withPath("/api/v1/accounts/" + accountNumber + action, "POST");
+
+        return ResponseEntity.status(404)
+                .body(ApiResponse.error("ACCOUNT_NOT_FOUND", errorResponse.getErrorMessage()));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,13 @@ package adapter.web.exception;
 
 import adapter.web.model.common.ApiResponse;
 import adapter.web.model.common.ErrorResponse;
+import com.fintech.platform.shared.lock.LockAcquisitionException;
+import domain.exception.AccountNotFoundException;
+import domain.exception.DuplicateHoldException;
+import domain.exception.HoldNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.VelocityLimitExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -211,7 +218,14 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
             // domain.exception 패키지의 예외들
             IllegalArgumentException.class,
-            IllegalStateException.class
+            IllegalStateException.class,
+            InsufficientBalanceException.class,
+            InactiveAccountException.class,
+            AccountNotFoundException.class,
+            HoldNotFoundException.class,
+            DuplicateHoldException.class,
+            LockAcquisitionException.class,
+            VelocityLimitExceededException.class
     })
     public ResponseEntity<ApiResponse<Void>> handleBusinessExceptions(
             RuntimeException ex, HttpServletRequest request) {
@@ -272,15 +286,19 @@ public class GlobalExceptionHandler {
         switch (exceptionName) {
             case "InsufficientBalanceException":
             case "InactiveAccountException":
+            case "DuplicateHoldException":
+            case "LockAcquisitionException":
                 return HttpStatus.CONFLICT; // 409
             case "AccountNotFoundException":
             case "TransactionNotFoundException":
+            case "HoldNotFoundException":
                 return HttpStatus.NOT_FOUND; // 404
             case "InvalidAmountException":
             case "InvalidAccountNumberException":
                 return HttpStatus.BAD_REQUEST; // 400
             case "AccountLockedException":
             case "DailyLimitExceededException":
+            case "VelocityLimitExceededException":
                 return HttpStatus.UNPROCESSABLE_ENTITY; // 422
             default:
                 return HttpStatus.BAD_REQUEST; // 400
@@ -313,6 +331,14 @@ public class GlobalExceptionHandler {
                 return "DAILY_LIMIT_EXCEEDED";
             case "DuplicateTransactionException":
                 return "DUPLICATE_TRANSACTION";
+            case "HoldNotFoundException":
+                return "HOLD_NOT_FOUND";
+            case "DuplicateHoldException":
+                return "DUPLICATE_HOLD";
+            case "LockAcquisitionException":
+                return "CONCURRENT_REQUEST";
+            case "VelocityLimitExceededException":
+                return "VELOCITY_LIMIT_EXCEEDED";
             default:
                 return "BUSINESS_ERROR";
         }
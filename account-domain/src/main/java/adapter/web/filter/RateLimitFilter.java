@@ -0,0 +1,118 @@
+package adapter.web.filter;
+
+import adapter.web.model.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.platform.infrastructure.ratelimit.GcraRateLimiter;
+import com.fintech.platform.infrastructure.ratelimit.RateLimitDecision;
+import com.fintech.platform.infrastructure.ratelimit.RateLimitPolicies;
+import com.fintech.platform.infrastructure.ratelimit.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 요청 한도 필터
+ *
+ * 엔드포인트 분류별 정책(fintech.rate-limit.policies)에 따라 계좌/클라이언트 단위로 요청 수를 제한한다.
+ * 재시도 폭주가 DB까지 내려가지 않도록 컨트롤러 앞에서 거절한다.
+ *
+ * 응답 헤더 (IETF RateLimit 헤더 초안)
+ * - RateLimit-Limit     : 한 번에 허용하는 최대 요청 수
+ * - RateLimit-Remaining : 남은 요청 수
+ * - RateLimit-Reset     : 한도가 모두 회복되기까지 남은 초
+ * - Retry-After         : (429 응답) 다시 시도할 수 있기까지 남은 초
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final GcraRateLimiter rateLimiter;
+    private final RateLimitPolicies policies;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<RateLimitPolicies.Match> match = policies.match(request.getMethod(), path, clientId(request));
+        if (match.isEmpty() || match.get().keys().isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(match.get().policy(), match.get().keys());
+        if (decision.limit() > 0) {
+            response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+            response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+            response.setHeader(RESET_HEADER, Long.toString(ceilSeconds(decision.resetAfter())));
+        }
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (decision.limit() == 0) {
+            // Redis 장애이고 fail-open이 꺼져 있는 경우
+            writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "RATE_LIMIT_UNAVAILABLE", "요청 한도를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        log.debug("요청 한도 초과 - 정책: {}, 경로: {}, 재시도까지: {}, 노드 내 판정: {}",
+                match.get().policy(), path, decision.retryAfter(), decision.local());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ceilSeconds(decision.retryAfter())));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS,
+                "RATE_LIMITED", "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(properties.getClientIdHeader());
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String code, String message) throws IOException {
+        ApiResponse<Void> body = ApiResponse.<Void>error(code, message)
+                .withRequestId(request.getHeader("X-Request-ID"));
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static long ceilSeconds(Duration duration) {
+        long millis = duration.toMillis();
+        return millis <= 0 ? 0 : (millis + 999) / 1000;
+    }
+}
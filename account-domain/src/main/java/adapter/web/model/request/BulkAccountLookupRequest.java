@@ -0,0 +1,33 @@
+package adapter.web.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 계좌 대량 조회 요청 DTO
+ * 
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "계좌 대량 조회 요청")
+public class BulkAccountLookupRequest {
+
+    public static final int MAX_ACCOUNTS = 5000;
+
+    @Schema(description = "조회할 계좌번호 목록 (최대 5000개)", example = "[\"1001234567890\", \"2001234567890\"]", required = true)
+    @NotEmpty(message = "계좌번호 목록은 필수입니다")
+    @Size(max = MAX_ACCOUNTS, message = "한 번에 최대 5000개 계좌까지 조회할 수 있습니다")
+    @JsonProperty("account_numbers")
+    private List<@Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다") String> accountNumbers;
+}
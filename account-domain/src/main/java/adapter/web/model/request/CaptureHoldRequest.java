@@ -0,0 +1,35 @@
+package adapter.web.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 보류 매입 요청 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "보류 매입 요청")
+public class CaptureHoldRequest {
+
+    @Schema(description = "매입 금액 (선택사항, 없으면 보류 금액 전체)", example = "45000.00")
+    @DecimalMin(value = "0.01", message = "매입 금액은 0.01원 이상이어야 합니다")
+    @Digits(integer = 10, fraction = 2, message = "금액 형식이 올바르지 않습니다")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "거래 설명", example = "카드 매입", required = true)
+    @NotBlank(message = "거래 설명은 필수입니다")
+    @Size(min = 1, max = 100, message = "거래 설명은 1자 이상 100자 이하여야 합니다")
+    @JsonProperty("description")
+    private String description;
+}
@@ -0,0 +1,42 @@
+package adapter.web.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 보류 등록 요청 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "보류 등록 요청")
+public class PlaceHoldRequest {
+
+    @Schema(description = "보류 ID (선택사항, 승인번호 등 호출 측 식별자)", example = "AUTH_20250712_0001")
+    @Size(max = 64, message = "보류 ID는 64자를 초과할 수 없습니다")
+    @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "보류 ID는 영문, 숫자, _, - 만 사용 가능합니다")
+    @JsonProperty("hold_id")
+    private String holdId;
+
+    @Schema(description = "보류 금액", example = "50000.00", required = true)
+    @NotNull(message = "보류 금액은 필수입니다")
+    @DecimalMin(value = "0.01", message = "보류 금액은 0.01원 이상이어야 합니다")
+    @DecimalMax(value = "10000000.00", message = "보류 금액은 1천만원을 초과할 수 없습니다")
+    @Digits(integer = 10, fraction = 2, message = "금액 형식이 올바르지 않습니다")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "만료 시간(초, 선택사항)", example = "604800")
+    @Positive(message = "만료 시간은 1초 이상이어야 합니다")
+    @JsonProperty("ttl_seconds")
+    private Long ttlSeconds;
+}
@@ -0,0 +1,65 @@
+package adapter.web.model.response;
+
+import application.service.query.AccountSnapshot;
+import application.service.query.BulkLookupResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 계좌 대량 조회 응답 DTO
+ * 계좌마다 필드명을 반복하지 않도록 columns + rows 배열 형태로 응답한다.
+ * 
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "계좌 대량 조회 응답 (배열 형태)")
+public class BulkAccountLookupResponse {
+
+    public static final List<String> COLUMNS = List.of("account_number", "status", "balance", "version");
+
+    @Schema(description = "rows 배열의 컬럼 순서", example = "[\"account_number\", \"status\", \"balance\", \"version\"]")
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    @Schema(description = "조회 결과 (요청 순서, 컬럼 순서대로)", example = "[[\"1001234567890\", \"ACTIVE\", 1000000.00, 3]]")
+    @JsonProperty("rows")
+    private List<Object[]> rows;
+
+    @Schema(description = "존재하지 않는 계좌번호", example = "[\"9991234567890\"]")
+    @JsonProperty("not_found")
+    private List<String> notFound;
+
+    @Schema(description = "캐시에서 응답한 건수", example = "120")
+    @JsonProperty("cache_hits")
+    private int cacheHits;
+
+    /**
+     * 팩토리 메서드 - 조회 결과를 배열 형태로 변환
+     */
+    public static BulkAccountLookupResponse from(BulkLookupResult result) {
+        List<Object[]> rows = result.snapshots().stream()
+                .map(BulkAccountLookupResponse::toRow)
+                .toList();
+
+        return BulkAccountLookupResponse.builder()
+                .columns(COLUMNS)
+                .rows(rows)
+                .notFound(result.notFound())
+                .cacheHits(result.cacheHits())
+                .build();
+    }
+
+    private static Object[] toRow(AccountSnapshot snapshot) {
+        return new Object[]{snapshot.accountNumber(), snapshot.status().name(), snapshot.balance(), snapshot.version()};
+    }
+}
@@ -0,0 +1,81 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.DailyAccountAggregate;
+import domain.model.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 일일 거래 집계 응답 DTO
+ * 
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "계좌별 일일 거래 집계")
+public class DailySummaryResponse {
+
+    @Schema(description = "계좌번호", example = "1001234567890")
+    @JsonProperty("account_number")
+    private String accountNumber;
+
+    @Schema(description = "집계 일자", example = "2025-07-12")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonProperty("date")
+    private LocalDate date;
+
+    @Schema(description = "총 거래 건수", example = "12")
+    @JsonProperty("total_count")
+    private long totalCount;
+
+    @Schema(description = "입금 합계 (입금 + 이체입금)", example = "1200000.00")
+    @JsonProperty("deposit_sum")
+    private BigDecimal depositSum;
+
+    @Schema(description = "출금 합계 (출금 + 이체출금)", example = "300000.00")
+    @JsonProperty("withdrawal_sum")
+    private BigDecimal withdrawalSum;
+
+    @Schema(description = "거래 유형별 건수")
+    @JsonProperty("count_by_type")
+    private Map<TransactionType, Long> countByType;
+
+    @Schema(description = "거래 유형별 합계")
+    @JsonProperty("sum_by_type")
+    private Map<TransactionType, BigDecimal> sumByType;
+
+    /**
+     * 팩토리 메서드 - 집계 값 변환
+     */
+    public static DailySummaryResponse from(DailyAccountAggregate aggregate) {
+        Map<TransactionType, Long> countByType = new EnumMap<>(TransactionType.class);
+        Map<TransactionType, BigDecimal> sumByType = new EnumMap<>(TransactionType.class);
+        for (TransactionType type : TransactionType.values()) {
+            countByType.put(type, aggregate.count(type));
+            sumByType.put(type, aggregate.sum(type));
+        }
+
+        return DailySummaryResponse.builder()
+                .accountNumber(aggregate.getAccountNumber())
+                .date(aggregate.getDate())
+                .totalCount(aggregate.totalCount())
+                .depositSum(aggregate.depositSum())
+                .withdrawalSum(aggregate.withdrawalSum())
+                .countByType(countByType)
+                .sumByType(sumByType)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.Hold;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 보류 응답 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "보류 정보")
+public class HoldResponse {
+
+    @Schema(description = "보류 ID", example = "AUTH_20250712_0001")
+    @JsonProperty("hold_id")
+    private String holdId;
+
+    @Schema(description = "계좌번호", example = "1001234567890")
+    @JsonProperty("account_number")
+    private String accountNumber;
+
+    @Schema(description = "보류 금액", example = "50000.00")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "만료 시각 (UTC)", example = "2025-07-19T05:25:30.123Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+
+    @Schema(description = "보류 상태", example = "HELD", allowableValues = {"HELD", "RELEASED"})
+    @JsonProperty("status")
+    private String status;
+
+    /**
+     * 팩토리 메서드 - 보류 변환
+     */
+    public static HoldResponse of(Hold hold, String status) {
+        return HoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .accountNumber(hold.getAccountNumber().getValue())
+                .amount(hold.getAmount().getAmount())
+                .expiresAt(hold.getExpiresAt())
+                .status(status)
+                .build();
+    }
+}
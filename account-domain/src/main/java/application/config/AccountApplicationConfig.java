@@ -0,0 +1,33 @@
+package application.config;
+
+import application.service.AccountLimitProperties;
+import application.service.commandlog.CommandLogProperties;
+import application.service.groupcommit.GroupCommitProperties;
+import application.service.hold.HoldProperties;
+import application.service.hotaccount.HotAccountProperties;
+import application.service.metadata.AccountMetadataProperties;
+import application.service.query.BulkLookupProperties;
+import application.service.readmodel.ReadModelProperties;
+import application.service.velocity.VelocityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 계좌 애플리케이션 계층 설정
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({
+        GroupCommitProperties.class,
+        HotAccountProperties.class,
+        BulkLookupProperties.class,
+        AccountLimitProperties.class,
+        CommandLogProperties.class,
+        ReadModelProperties.class,
+        HoldProperties.class,
+        AccountMetadataProperties.class,
+        VelocityProperties.class
+})
+public class AccountApplicationConfig {
+}
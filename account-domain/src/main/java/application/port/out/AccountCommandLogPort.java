@@ -0,0 +1,20 @@
+package application.port.out;
+
+import application.service.MoneyMovementCommand;
+import domain.model.Transaction;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 입출금 명령 로그 포트
+ * 명령을 계좌번호로 파티셔닝된 로그에 기록하고, 파티션 소유 노드의 처리 결과를 기다린다.
+ */
+public interface AccountCommandLogPort {
+
+    /**
+     * 명령 제출
+     * @param command
+     * @return 처리 결과 (잔액 부족 등 도메인 예외로 실패할 수 있다)
+     */
+    CompletableFuture<Transaction> submit(MoneyMovementCommand command);
+}
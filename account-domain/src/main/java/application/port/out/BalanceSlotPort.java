@@ -0,0 +1,64 @@
+package application.port.out;
+
+import domain.model.Account;
+import domain.model.Money;
+import domain.model.ShardedBalance;
+import domain.model.Transaction;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핫 계좌 잔액 슬롯 포트
+ * 슬롯 단위 갱신은 해당 슬롯 행만 잠그므로 서로 다른 슬롯에 대한 입금은 경합하지 않는다.
+ */
+public interface BalanceSlotPort {
+
+    /**
+     * 슬롯이 없으면 생성하고 계좌 잔액을 0번 슬롯으로 옮긴다.
+     * @return 새로 생성했으면 true
+     */
+    boolean initializeSlots(Account account, int slotCount);
+
+    int countSlots(Long accountId);
+
+    /**
+     * 슬롯이 있는 계좌 ID 목록
+     */
+    List<Long> findSlottedAccountIds();
+
+    /**
+     * 슬롯 합계를 계좌 잔액으로 되돌리고 슬롯을 지운다. (핫 계좌 설정에서 빠진 계좌)
+     * @return 계좌 잔액으로 옮긴 금액 (슬롯이 없었으면 0)
+     */
+    Money mergeSlots(Long accountId);
+
+    /**
+     * 슬롯에 입금
+     * @throws IllegalStateException 슬롯이 없는 경우 (다른 노드가 계좌 잔액으로 되돌림)
+     */
+    void credit(Long accountId, int slot, Money amount);
+
+    /**
+     * 슬롯 잔액이 충분할 때만 차감 (조건부 UPDATE)
+     * 조건이 맞지 않아 차감하지 못해도 슬롯 행 락은 트랜잭션이 끝날 때까지 남는다.
+     * @return 차감했으면 true
+     */
+    boolean tryDebit(Long accountId, int slot, Money amount);
+
+    /**
+     * 모든 슬롯 조회 (잠그지 않는 읽기, 출금할 슬롯 고르기용)
+     */
+    ShardedBalance load(Account account);
+
+    /**
+     * 모든 슬롯을 슬롯 번호 순으로 잠그고 조회 (슬롯 간 빌려오기용)
+     */
+    ShardedBalance loadForUpdate(Account account);
+
+    void debit(Long accountId, Map<Integer, Money> debits);
+
+    Money sumBalance(Long accountId);
+
+    void appendTransaction(Long accountId, Transaction transaction);
+}
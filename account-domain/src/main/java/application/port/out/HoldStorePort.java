@@ -0,0 +1,47 @@
+package application.port.out;
+
+import application.service.hold.HoldPlacementResult;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 보류 저장소 포트
+ * 모든 연산은 원자적이며, 계좌별 보류 합계를 함께 관리해 O(1)로 조회할 수 있어야 한다.
+ */
+public interface HoldStorePort {
+
+    /**
+     * 보류 등록 (보류 합계 + 금액 <= 잔액 일 때만)
+     * @param hold    등록할 보류
+     * @param balance 현재 잔액
+     */
+    HoldPlacementResult place(Hold hold, Money balance);
+
+    /**
+     * 보류 조회 (제거하지 않는다)
+     * @return 보류가 없거나 이미 만료되었으면 empty
+     */
+    Optional<Hold> find(AccountNumber accountNumber, String holdId, Instant now);
+
+    /**
+     * 해제/매입 완료 - 보류를 제거하고 돌려준다
+     * @return 보류가 없으면 empty
+     */
+    Optional<Hold> release(AccountNumber accountNumber, String holdId);
+
+    /**
+     * 계좌의 보류 합계
+     */
+    Money loadHeldAmount(AccountNumber accountNumber);
+
+    /**
+     * 만료된 보류 일괄 제거
+     * @param batchSize 한 번에 제거할 최대 건수
+     * @return 제거한 건수
+     */
+    int sweepExpired(Instant now, int batchSize);
+}
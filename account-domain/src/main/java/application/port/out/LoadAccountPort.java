@@ -0,0 +1,28 @@
+package application.port.out;
+
+import domain.model.Account;
+import domain.model.AccountNumber;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 조회 포트
+ */
+public interface LoadAccountPort {
+
+    /**
+     * 계좌번호로 계좌 조회
+     * @param accountNumber
+     * @return
+     */
+    Optional<Account> loadAccount(AccountNumber accountNumber);
+
+    /**
+     * 여러 계좌를 한 번에 조회 (존재하지 않는 계좌는 결과에서 제외)
+     * @param accountNumbers
+     * @return
+     */
+    List<Account> loadAccounts(Collection<AccountNumber> accountNumbers);
+}
@@ -0,0 +1,30 @@
+package application.port.out;
+
+import application.service.readmodel.AccountSummaryView;
+import application.service.readmodel.RecentTransactionView;
+import domain.model.AccountNumber;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 읽기 모델 조회 포트
+ */
+public interface LoadAccountReadModelPort {
+
+    /**
+     * 계좌 요약 조회
+     * @return 읽기 모델에 없거나 DB에서 채우기 전이면 empty
+     */
+    Optional<AccountSummaryView> loadSummary(AccountNumber accountNumber);
+
+    /**
+     * 최근 거래 (최신순)
+     */
+    List<RecentTransactionView> loadRecentTransactions(AccountNumber accountNumber, int limit);
+
+    /**
+     * 마지막으로 측정된 반영 지연 (측정값이 없으면 -1)
+     */
+    long loadProjectionLagMillis();
+}
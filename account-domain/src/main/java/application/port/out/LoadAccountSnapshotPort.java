@@ -0,0 +1,20 @@
+package application.port.out;
+
+import application.service.query.AccountSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계좌 스냅샷 대량 조회 포트
+ */
+public interface LoadAccountSnapshotPort {
+
+    /**
+     * 계좌번호 목록을 IN 쿼리 한 번으로 조회 (존재하지 않는 계좌는 결과에서 제외)
+     * 호출 측에서 IN 목록 크기를 제한해서 넘겨야 한다.
+     * @param accountNumbers
+     * @return
+     */
+    List<AccountSnapshot> loadSnapshots(Collection<String> accountNumbers);
+}
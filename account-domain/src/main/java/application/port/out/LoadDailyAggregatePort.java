@@ -0,0 +1,20 @@
+package application.port.out;
+
+import domain.model.AccountNumber;
+import domain.model.DailyAccountAggregate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 계좌별 일일 거래 집계 조회 포트
+ */
+public interface LoadDailyAggregatePort {
+
+    /**
+     * @param accountNumber
+     * @param date
+     * @return 집계가 아직 준비되지 않았으면(리밸런싱 중 등) empty
+     */
+    Optional<DailyAccountAggregate> loadDailyAggregate(AccountNumber accountNumber, LocalDate date);
+}
@@ -0,0 +1,28 @@
+package application.port.out;
+
+import application.service.readmodel.AccountSummaryView;
+import application.service.readmodel.ReadModelUpdate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계좌 읽기 모델 반영 포트
+ * 모든 반영은 이벤트 일시를 기준으로 더 오래된 값이 최신 값을 덮어쓰지 않는다.
+ */
+public interface ProjectAccountReadModelPort {
+
+    /**
+     * 반영 단위 묶음 반영 (한 번의 왕복으로 처리)
+     * @param updates             계좌별로 발생 순서대로 정렬된 반영 단위
+     * @param projectionLagMillis 이 묶음의 반영 지연
+     */
+    void project(List<ReadModelUpdate> updates, long projectionLagMillis);
+
+    /**
+     * DB 값으로 요약 채우기
+     * @param summary DB에서 읽은 요약
+     * @param asOf    DB 값의 기준 일시 (이보다 늦은 이벤트로 반영된 필드는 덮어쓰지 않는다)
+     */
+    void seedSummary(AccountSummaryView summary, LocalDateTime asOf);
+}
@@ -0,0 +1,19 @@
+package application.port.out;
+
+import application.service.commandlog.AccountStateProjection;
+
+import java.util.List;
+
+/**
+ * 명령 로그 처리 결과 DB 반영 포트
+ * 호출 측 트랜잭션 안에서 실행되어야 한다.
+ */
+public interface ProjectAccountStatePort {
+
+    /**
+     * 결과 반영
+     * @param projections 계좌별로 버전 순서대로 정렬된 결과
+     * @return 실제로 반영된 건수 (이미 반영된 결과는 제외)
+     */
+    int project(List<AccountStateProjection> projections);
+}
@@ -0,0 +1,25 @@
+package application.port.out;
+
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Transaction;
+
+/**
+ * 계좌 이벤트 발행 포트
+ * 커밋이 끝난 뒤 호출되며, 발행 실패가 이미 커밋된 거래를 되돌리지 않는다.
+ */
+public interface PublishAccountEventPort {
+
+    void publishTransaction(AccountNumber accountNumber, Transaction transaction);
+
+    void publishStatusChanged(Account account, AccountStatus previousStatus);
+
+    /**
+     * 이상거래 심사 집계 동기화
+     * @param originNodeId 기록한 노드 ID (자기 이벤트는 반영하지 않는다)
+     * @param merchantId   가맹점 ID (출금이면 null)
+     */
+    void publishVelocityObserved(String originNodeId, AccountNumber accountNumber, String merchantId,
+                                 long amountMinor, long observedAtMillis);
+}
@@ -0,0 +1,16 @@
+package application.port.out;
+
+import domain.model.Account;
+
+import java.util.Collection;
+
+/**
+ * 계좌 상태 저장 포트
+ * 잔액/상태 변경과 새로 생성된 거래 기록을 함께 저장한다.
+ */
+public interface UpdateAccountStatePort {
+
+    void updateAccount(Account account);
+
+    void updateAccounts(Collection<Account> accounts);
+}
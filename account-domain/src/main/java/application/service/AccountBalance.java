@@ -0,0 +1,36 @@
+package application.service;
+
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 조회 결과
+ *
+ * @param heldAmount          보류 합계
+ * @param dailyWithdrawalUsed 오늘 출금 합계 (집계가 준비되지 않았으면 null)
+ */
+public record AccountBalance(AccountNumber accountNumber, Money balance, Money heldAmount,
+                             AccountStatus status, LocalDateTime lastUpdatedAt,
+                             BigDecimal dailyWithdrawalLimit, BigDecimal dailyWithdrawalUsed) {
+
+    /**
+     * 사용 가능 잔액 (잔액 - 보류 합계)
+     */
+    public BigDecimal availableBalance() {
+        return balance.getAmount().subtract(heldAmount.getAmount()).max(BigDecimal.ZERO);
+    }
+
+    /**
+     * 오늘 추가로 출금 가능한 금액 (집계가 준비되지 않았으면 null)
+     */
+    public BigDecimal dailyWithdrawalAvailable() {
+        if (dailyWithdrawalUsed == null) {
+            return null;
+        }
+        return dailyWithdrawalLimit.subtract(dailyWithdrawalUsed).max(BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,24 @@
+package application.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 한도 설정 (fintech.account.limit.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.limit")
+public class AccountLimitProperties {
+
+    /**
+     * 일일 출금 한도
+     */
+    private BigDecimal dailyWithdrawalLimit = new BigDecimal("5000000.00");
+}
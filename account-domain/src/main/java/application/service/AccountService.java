@@ -0,0 +1,83 @@
+package application.service;
+
+import application.port.out.LoadAccountPort;
+import application.port.out.HoldStorePort;
+import application.port.out.LoadDailyAggregatePort;
+import application.service.hold.HoldProperties;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import domain.exception.AccountNotFoundException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.DailyAccountAggregate;
+import domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 계좌 조회 서비스
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountService {
+
+    private final LoadAccountPort loadAccountPort;
+    private final HotAccountService hotAccountService;
+    private final LoadDailyAggregatePort loadDailyAggregatePort;
+    private final AccountLimitProperties limitProperties;
+    private final HoldStorePort holdStorePort;
+    private final HoldProperties holdProperties;
+    private final AccountMetadataCache accountMetadataCache;
+
+    /**
+     * 계좌 조회 - 없는 계좌번호는 메타데이터 캐시로 DB 조회 없이 거절한다.
+     */
+    public Account getAccount(AccountNumber accountNumber) {
+        accountMetadataCache.require(accountNumber);
+        return loadAccountPort.loadAccount(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+    }
+
+    /**
+     * 잔액 조회 - 핫 계좌는 슬롯 합계를 잔액으로 사용한다.
+     * 오늘 출금 사용액은 스트림 집계 값을 사용한다. (DB 거래 내역을 스캔하지 않음)
+     * 보류 합계는 보류 저장소가 따로 관리하는 값을 그대로 읽는다.
+     */
+    public AccountBalance getBalance(AccountNumber accountNumber) {
+        Account account = getAccount(accountNumber);
+        Money balance = hotAccountService.isHotAccount(accountNumber)
+                ? hotAccountService.getBalance(account)
+                : account.getBalance();
+
+        BigDecimal dailyWithdrawalUsed = getDailyAggregate(accountNumber, LocalDate.now())
+                .map(DailyAccountAggregate::withdrawalSum)
+                .orElse(null);
+
+        return new AccountBalance(accountNumber, balance, getHeldAmount(accountNumber), account.getStatus(), account.getUpdatedAt(),
+                limitProperties.getDailyWithdrawalLimit(), dailyWithdrawalUsed);
+    }
+
+    /**
+     * 보류 합계 - 보류 저장소 조회 한 번 (보류 기능이 꺼져 있으면 0)
+     */
+    public Money getHeldAmount(AccountNumber accountNumber) {
+        return holdProperties.isEnabled()
+                ? holdStorePort.loadHeldAmount(accountNumber)
+                : new Money(BigDecimal.ZERO);
+    }
+
+    /**
+     * 계좌별 일일 거래 집계
+     * @return 집계가 준비되지 않았으면 empty
+     */
+    public Optional<DailyAccountAggregate> getDailyAggregate(AccountNumber accountNumber, LocalDate date) {
+        return loadDailyAggregatePort.loadDailyAggregate(accountNumber, date);
+    }
+}
@@ -0,0 +1,34 @@
+package application.service;
+
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.TransactionType;
+
+/**
+ * 입출금 명령
+ *
+ * @param accountNumber 대상 계좌번호
+ * @param type          DEPOSIT 또는 WITHDRAW
+ * @param amount        거래 금액
+ * @param description   거래 설명
+ */
+public record MoneyMovementCommand(AccountNumber accountNumber, TransactionType type,
+                                   Money amount, String description) {
+
+    public MoneyMovementCommand {
+        if (accountNumber == null) {
+            throw new IllegalArgumentException("계좌번호는 필수입니다.");
+        }
+        if (type != TransactionType.DEPOSIT && type != TransactionType.WITHDRAW) {
+            throw new IllegalArgumentException("입출금 명령은 DEPOSIT 또는 WITHDRAW만 가능합니다.");
+        }
+    }
+
+    public static MoneyMovementCommand withdraw(AccountNumber accountNumber, Money amount, String description) {
+        return new MoneyMovementCommand(accountNumber, TransactionType.WITHDRAW, amount, description);
+    }
+
+    public static MoneyMovementCommand deposit(AccountNumber accountNumber, Money amount, String description) {
+        return new MoneyMovementCommand(accountNumber, TransactionType.DEPOSIT, amount, description);
+    }
+}
@@ -0,0 +1,31 @@
+package application.service;
+
+import domain.model.Transaction;
+
+/**
+ * 입출금 명령 한 건의 처리 결과 (성공 시 거래, 실패 시 예외)
+ */
+public record MoneyMovementOutcome(Transaction transaction, RuntimeException error) {
+
+    public static MoneyMovementOutcome success(Transaction transaction) {
+        return new MoneyMovementOutcome(transaction, null);
+    }
+
+    public static MoneyMovementOutcome failure(RuntimeException error) {
+        return new MoneyMovementOutcome(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * 성공이면 거래를 반환하고, 실패면 원래 예외를 그대로 던진다.
+     */
+    public Transaction getOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return transaction;
+    }
+}
@@ -0,0 +1,75 @@
+package application.service;
+
+import application.port.out.LoadAccountPort;
+import application.port.out.UpdateAccountStatePort;
+import domain.exception.AccountNotFoundException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 입출금 명령 적용기
+ * 명령 목록을 도착 순서대로 계좌 애그리거트에 적용하고, 변경된 계좌를 한 번에 저장한다.
+ * 도메인 규칙 위반(잔액 부족, 비활성 계좌 등)은 해당 명령만 실패로 기록하고 나머지는 계속 처리한다.
+ * 반드시 호출 측 트랜잭션 안에서 실행해야 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MoneyMovementProcessor {
+
+    private final LoadAccountPort loadAccountPort;
+    private final UpdateAccountStatePort updateAccountStatePort;
+
+    /**
+     * @param commands 도착 순서대로 정렬된 명령 목록
+     * @return 명령과 같은 순서의 처리 결과
+     */
+    public List<MoneyMovementOutcome> apply(List<MoneyMovementCommand> commands) {
+        Set<AccountNumber> accountNumbers = new LinkedHashSet<>();
+        commands.forEach(command -> accountNumbers.add(command.accountNumber()));
+
+        Map<AccountNumber, Account> accounts = new LinkedHashMap<>();
+        loadAccountPort.loadAccounts(accountNumbers)
+                .forEach(account -> accounts.put(account.getAccountNumber(), account));
+
+        List<MoneyMovementOutcome> outcomes = new ArrayList<>(commands.size());
+        Map<AccountNumber, Account> touched = new LinkedHashMap<>();
+
+        for (MoneyMovementCommand command : commands) {
+            Account account = accounts.get(command.accountNumber());
+            if (account == null) {
+                outcomes.add(MoneyMovementOutcome.failure(
+                        new AccountNotFoundException("계좌를 찾을 수 없습니다: " + command.accountNumber())));
+                continue;
+            }
+
+            try {
+                // Account의 입출금 메서드는 검증을 모두 통과한 뒤에만 상태를 바꾸므로 실패한 명령은 흔적을 남기지 않는다
+                outcomes.add(MoneyMovementOutcome.success(switch (command.type()) {
+                    case WITHDRAW -> account.withdraw(command.amount(), command.description());
+                    case DEPOSIT -> account.deposit(command.amount(), command.description());
+                    default -> throw new IllegalArgumentException("지원하지 않는 거래 유형입니다: " + command.type());
+                }));
+                touched.put(account.getAccountNumber(), account);
+            } catch (RuntimeException e) {
+                outcomes.add(MoneyMovementOutcome.failure(e));
+            }
+        }
+
+        if (!touched.isEmpty()) {
+            updateAccountStatePort.updateAccounts(touched.values());
+        }
+        return outcomes;
+    }
+}
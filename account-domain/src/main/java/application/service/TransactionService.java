@@ -0,0 +1,210 @@
+package application.service;
+
+import application.port.out.AccountCommandLogPort;
+import application.port.out.HoldStorePort;
+import application.port.out.LoadAccountPort;
+import application.port.out.PublishAccountEventPort;
+import application.service.groupcommit.GroupCommitExecutor;
+import application.service.hold.HoldProperties;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import application.service.query.BulkAccountQueryService;
+import application.service.velocity.VelocityService;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 입출금 서비스
+ * 핫 계좌는 잔액 슬롯 경로로, 그 외에는 명령 로그 모드가 켜져 있으면 파티션 소유 노드로 명령을 보내고,
+ * 그룹 커밋이 켜져 있으면 그룹 커밋 실행기로 위임하고, 아니면 요청마다 개별 트랜잭션으로 처리한다.
+ * 락이 필요한 경로(일반 계좌의 DB 처리)는 계좌 단위 분산 락으로 노드 간에 직렬화한다.
+ * 없는 계좌/비활성 계좌 요청은 메타데이터 캐시로 DB 조회 없이 먼저 거절한다.
+ * 보류가 켜져 있으면 출금은 잔액이 아니라 사용 가능 잔액(잔액 - 보류 합계)을 기준으로 검사한다.
+ * 출금은 처리 전에 거래 속도 심사를 거치고, 처리된 출금은 심사 집계에 더한다.
+ * (보류 매입은 보류를 걸 때, 보류 없이 확정하는 이체 출금은 출금 보류 단계에서 심사한다)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionService {
+    private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
+
+    private final MoneyMovementProcessor processor;
+    private final GroupCommitExecutor groupCommitExecutor;
+    private final HotAccountService hotAccountService;
+    private final BulkAccountQueryService bulkAccountQueryService;
+    private final PublishAccountEventPort publishAccountEventPort;
+    private final Optional<AccountCommandLogPort> commandLogPort;
+    private final TransactionTemplate transactionTemplate;
+    private final HoldStorePort holdStorePort;
+    private final HoldProperties holdProperties;
+    private final LoadAccountPort loadAccountPort;
+    private final AccountMetadataCache accountMetadataCache;
+    private final VelocityService velocityService;
+
+    /**
+     * 출금
+     * @param accountNumber
+     * @param amount
+     * @param description
+     * @return
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value",
+            condition = "@transactionService.requiresLock(#accountNumber)", waitTime = 3000, leaseTime = 3000)
+    public Transaction withdraw(AccountNumber accountNumber, Money amount, String description) {
+        velocityService.screen(accountNumber, null, amount);
+        Transaction transaction = execute(MoneyMovementCommand.withdraw(accountNumber, amount, description));
+        velocityService.record(accountNumber, null, amount);
+        return transaction;
+    }
+
+    /**
+     * 보류 매입 출금
+     * 보류(결제 승인)를 걸 때 이미 심사하고 집계했으므로 거래 속도 심사를 다시 하지 않는다.
+     * 매입할 보류는 출금이 커밋된 뒤에 제거되고 그 금액은 이미 묶여 있으므로, 사용 가능 잔액 검사도 하지 않는다.
+     * @param accountNumber
+     * @param amount
+     * @param description
+     * @return
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value",
+            condition = "@transactionService.requiresLock(#accountNumber)", waitTime = 3000, leaseTime = 3000)
+    public Transaction withdrawHeld(AccountNumber accountNumber, Money amount, String description) {
+        return execute(MoneyMovementCommand.withdraw(accountNumber, amount, description), false);
+    }
+
+    /**
+     * 심사를 마친 출금 (보류 없이)
+     * 이체처럼 앞 단계(출금 보류)에서 이미 심사하고 집계한 출금을 보류 없이 확정할 때 쓴다.
+     * 거래 속도 심사와 집계를 다시 하지 않고, 사용 가능 잔액 검사는 일반 출금과 같이 한다.
+     * @param accountNumber
+     * @param amount
+     * @param description
+     * @return
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value",
+            condition = "@transactionService.requiresLock(#accountNumber)", waitTime = 3000, leaseTime = 3000)
+    public Transaction withdrawScreened(AccountNumber accountNumber, Money amount, String description) {
+        return execute(MoneyMovementCommand.withdraw(accountNumber, amount, description));
+    }
+
+    /**
+     * 입금
+     * @param accountNumber
+     * @param amount
+     * @param description
+     * @return
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value",
+            condition = "@transactionService.requiresLock(#accountNumber)", waitTime = 3000, leaseTime = 3000)
+    public Transaction deposit(AccountNumber accountNumber, Money amount, String description) {
+        return execute(MoneyMovementCommand.deposit(accountNumber, amount, description));
+    }
+
+    /**
+     * 계좌 락 필요 여부
+     * 핫 계좌는 잔액 슬롯으로 나누어 처리하고, 명령 로그 모드는 파티션 소유 노드 한 곳에서만 처리하므로 락이 필요 없다.
+     * @param accountNumber
+     * @return
+     */
+    public boolean requiresLock(AccountNumber accountNumber) {
+        return commandLogPort.isEmpty() && !hotAccountService.isHotAccount(accountNumber);
+    }
+
+    private Transaction execute(MoneyMovementCommand command) {
+        return execute(command, true);
+    }
+
+    private Transaction execute(MoneyMovementCommand command, boolean checkHolds) {
+        accountMetadataCache.requireActive(command.accountNumber());
+
+        if (checkHolds && command.type() == TransactionType.WITHDRAW && holdProperties.isEnabled()) {
+            validateAvailableBalance(command);
+        }
+
+        if (commandLogPort.isPresent() && !hotAccountService.isHotAccount(command.accountNumber())) {
+            // 거래 이벤트는 파티션 소유 노드가 명령 처리와 함께 발행한다
+            Transaction transaction = await(commandLogPort.get().submit(command));
+            bulkAccountQueryService.evict(command.accountNumber());
+            return transaction;
+        }
+
+        Transaction transaction = apply(command);
+        bulkAccountQueryService.evict(command.accountNumber());
+        publishAccountEventPort.publishTransaction(command.accountNumber(), transaction);
+        return transaction;
+    }
+
+    /**
+     * 보류 합계를 뺀 사용 가능 잔액으로 출금 가능 여부 검사
+     * 보류가 없는 계좌는 보류 합계 조회 한 번으로 끝나고, 잔액 검사는 실제 출금 처리에서 한다.
+     */
+    private void validateAvailableBalance(MoneyMovementCommand command) {
+        Money held = holdStorePort.loadHeldAmount(command.accountNumber());
+        if (held.isZero()) {
+            return;
+        }
+
+        Account account = loadAccountPort.loadAccount(command.accountNumber())
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + command.accountNumber()));
+        Money balance = hotAccountService.isHotAccount(command.accountNumber())
+                ? hotAccountService.getBalance(account)
+                : account.getBalance();
+
+        BigDecimal available = balance.getAmount().subtract(held.getAmount());
+        if (available.compareTo(command.amount().getAmount()) < 0) {
+            throw new InsufficientBalanceException(String.format(
+                    "사용 가능 잔액이 부족합니다. 현재 잔액: %s, 보류 합계: %s, 출금 요청: %s",
+                    balance, held, command.amount()));
+        }
+    }
+
+    private Transaction apply(MoneyMovementCommand command) {
+        if (hotAccountService.isHotAccount(command.accountNumber())) {
+            return hotAccountService.apply(command);
+        }
+
+        if (groupCommitExecutor.isEnabled()) {
+            Optional<CompletableFuture<Transaction>> submitted = groupCommitExecutor.trySubmit(command);
+            if (submitted.isPresent()) {
+                return await(submitted.get());
+            }
+            log.warn("그룹 커밋 대기열 포화, 개별 트랜잭션으로 처리 - 계좌번호: {}", command.accountNumber());
+        }
+
+        List<MoneyMovementOutcome> outcomes = transactionTemplate.execute(status -> processor.apply(List.of(command)));
+        return outcomes.get(0).getOrThrow();
+    }
+
+    private Transaction await(CompletableFuture<Transaction> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
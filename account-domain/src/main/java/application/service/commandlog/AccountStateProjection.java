@@ -0,0 +1,20 @@
+package application.service.commandlog;
+
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 명령 처리 결과의 DB 반영 단위
+ *
+ * @param accountNumber 계좌번호
+ * @param version       명령 적용 후 계좌 버전 (같은 버전 이하는 이미 반영된 것으로 보고 건너뛴다)
+ * @param balance       명령 적용 후 잔액
+ * @param updatedAt     명령 적용 일시
+ * @param transaction   생성된 거래
+ */
+public record AccountStateProjection(AccountNumber accountNumber, long version, Money balance,
+                                     LocalDateTime updatedAt, Transaction transaction) {
+}
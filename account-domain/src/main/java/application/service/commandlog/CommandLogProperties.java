@@ -0,0 +1,47 @@
+package application.service.commandlog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 명령 로그 모드 설정 (fintech.account.command-log.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.command-log")
+public class CommandLogProperties {
+
+    /**
+     * 명령 로그 모드 사용 여부
+     * 켜면 입출금 명령을 Kafka 토픽에 기록하고, 해당 파티션을 소유한 노드가 메모리 상태에 적용한다.
+     * 같은 계좌를 기존 경로(DB 직접 갱신)와 동시에 처리하면 안 되므로 모든 노드에서 함께 켜고 꺼야 한다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 계좌 상태 저장소 이름 (변경 로그 토픽 이름의 접미사로도 쓰인다)
+     */
+    private String storeName = "account-state";
+
+    /**
+     * 처리 결과 응답 대기 시간
+     * 시간 초과는 실패가 아니라 결과를 모르는 상태이며, 명령은 이후에도 처리될 수 있다.
+     */
+    private Duration replyTimeout = Duration.ofSeconds(3);
+
+    /**
+     * DB 반영 컨슈머의 동시 처리 배치 수 (같은 계좌의 결과는 항상 순서대로 반영된다)
+     */
+    private int projectionConcurrency = 4;
+
+    /**
+     * DB 반영 배치당 최대 결과 수 (한 트랜잭션으로 반영)
+     */
+    private int projectionBatchSize = 200;
+}
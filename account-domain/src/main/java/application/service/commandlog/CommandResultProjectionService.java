@@ -0,0 +1,39 @@
+package application.service.commandlog;
+
+import application.port.out.ProjectAccountStatePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 명령 로그 처리 결과 DB 반영 서비스
+ * 명령 로그 모드에서는 파티션 소유 노드의 상태 저장소가 원본이고, DB는 결과 토픽을 따라가는 사본이다.
+ * 결과 묶음을 하나의 트랜잭션으로 반영하며, 버전 조건으로 재전달된 결과는 건너뛴다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommandResultProjectionService {
+    private static final Logger log = LoggerFactory.getLogger(CommandResultProjectionService.class);
+
+    private final ProjectAccountStatePort projectAccountStatePort;
+    private final TransactionTemplate transactionTemplate;
+
+    public void project(List<AccountStateProjection> projections) {
+        if (projections.isEmpty()) {
+            return;
+        }
+        Integer applied = transactionTemplate.execute(status -> projectAccountStatePort.project(projections));
+        if (applied != null && applied < projections.size()) {
+            log.debug("이미 반영된 명령 결과 건너뜀 - 수신: {}, 반영: {}", projections.size(), applied);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package application.service.groupcommit;
+
+import application.service.MoneyMovementCommand;
+import application.service.MoneyMovementOutcome;
+import application.service.MoneyMovementProcessor;
+import domain.model.Transaction;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입출금 그룹 커밋 실행기
+ *
+ * 동시에 들어온 입출금 명령을 짧은 시간 창(maxWait) 또는 최대 배치 크기(maxBatchSize)까지 모아
+ * 하나의 DB 트랜잭션으로 커밋한다. 커밋 한 번(redo log flush 한 번)으로 여러 건을 처리하므로
+ * 처리량이 늘어나는 대신, 각 요청은 최대 maxWait 만큼 지연될 수 있다.
+ *
+ * - 같은 계좌의 명령은 항상 같은 레인에서 도착 순서대로 처리된다.
+ * - 호출자마다 자신의 결과(거래 또는 예외)를 개별 Future로 받는다.
+ * - 배치 커밋이 실패하면 해당 배치의 명령을 개별 트랜잭션으로 다시 처리해 실패를 격리한다.
+ *
+ * 지표:
+ * - account.group_commit.batch_size : 커밋당 명령 수
+ * - account.group_commit.queue_wait : 대기열에서 배치에 합류하기까지 걸린 시간 (그룹 커밋 지연 비용)
+ * - account.group_commit.commit     : 배치 트랜잭션 실행 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GroupCommitExecutor implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitExecutor.class);
+
+    private final GroupCommitProperties properties;
+    private final MoneyMovementProcessor processor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueWaitTimer;
+    private final Timer commitTimer;
+
+    private volatile List<BlockingQueue<PendingCommand>> queues = List.of();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public GroupCommitExecutor(GroupCommitProperties properties,
+                               MoneyMovementProcessor processor,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.processor = processor;
+        this.transactionTemplate = transactionTemplate;
+
+        this.batchSizeSummary = DistributionSummary.builder("account.group_commit.batch_size")
+                .description("그룹 커밋 배치당 명령 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("account.group_commit.queue_wait")
+                .description("명령이 배치에 합류하기까지 대기한 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("account.group_commit.commit")
+                .description("배치 트랜잭션 실행 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && running;
+    }
+
+    /**
+     * 명령을 그룹 커밋 대기열에 넣는다.
+     * @param command
+     * @return 대기열이 가득 찼거나 실행기가 멈춰 있으면 empty (호출 측에서 개별 트랜잭션으로 처리)
+     */
+    public Optional<CompletableFuture<Transaction>> trySubmit(MoneyMovementCommand command) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        PendingCommand pending = new PendingCommand(command, new CompletableFuture<>(), System.nanoTime());
+        if (!laneOf(command).offer(pending)) {
+            return Optional.empty();
+        }
+        return Optional.of(pending.future());
+    }
+
+    private BlockingQueue<PendingCommand> laneOf(MoneyMovementCommand command) {
+        return queues.get(Math.floorMod(command.accountNumber().hashCode(), queues.size()));
+    }
+
+    // ============== 레인 처리 ==============
+
+    private void runLane(BlockingQueue<PendingCommand> queue) {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long maxWaitNanos = properties.getMaxWait().toNanos();
+        List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCommand first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    // 이미 도착한 명령은 기다리지 않고 가져온다
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingCommand next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 워커 스레드는 어떤 경우에도 죽지 않아야 한다
+                log.error("그룹 커밋 처리 중 예상치 못한 오류 - 배치 크기: {}", batch.size(), e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingCommand> batch) {
+        long now = System.nanoTime();
+        batch.forEach(pending -> queueWaitTimer.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(batch.size());
+
+        List<MoneyMovementCommand> commands = batch.stream().map(PendingCommand::command).toList();
+        List<MoneyMovementOutcome> outcomes;
+        try {
+            outcomes = commitTimer.record(() -> transactionTemplate.execute(status -> processor.apply(commands)));
+        } catch (RuntimeException e) {
+            // 버전 충돌이나 DB 오류로 배치 전체가 롤백됨 -> 명령별 개별 트랜잭션으로 재처리
+            log.warn("그룹 커밋 실패, 개별 처리로 전환 - 배치 크기: {}, 오류: {}", batch.size(), e.getMessage());
+            batch.forEach(this::commitIndividually);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), outcomes.get(i));
+        }
+    }
+
+    private void commitIndividually(PendingCommand pending) {
+        try {
+            List<MoneyMovementOutcome> outcomes =
+                    transactionTemplate.execute(status -> processor.apply(List.of(pending.command())));
+            complete(pending, outcomes.get(0));
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private void complete(PendingCommand pending, MoneyMovementOutcome outcome) {
+        if (outcome.isSuccess()) {
+            pending.future().complete(outcome.transaction());
+        } else {
+            pending.future().completeExceptionally(outcome.error());
+        }
+    }
+
+    // ============== 생명주기 ==============
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+
+        List<BlockingQueue<PendingCommand>> lanes = new ArrayList<>();
+        for (int i = 0; i < properties.getLanes(); i++) {
+            lanes.add(new ArrayBlockingQueue<>(properties.getQueueCapacity()));
+        }
+        queues = List.copyOf(lanes);
+        running = true;
+
+        for (int i = 0; i < lanes.size(); i++) {
+            BlockingQueue<PendingCommand> queue = lanes.get(i);
+            Thread worker = new Thread(() -> runLane(queue), "group-commit-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        log.info("그룹 커밋 시작 - 레인: {}, 최대 배치: {}, 최대 대기: {}",
+                properties.getLanes(), properties.getMaxBatchSize(), properties.getMaxWait());
+    }
+
+    @Override
+    public void stop() {
+        // 새 명령은 받지 않고, 이미 들어온 명령은 모두 커밋한 뒤 종료
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record PendingCommand(MoneyMovementCommand command,
+                                  CompletableFuture<Transaction> future,
+                                  long enqueuedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package application.service.groupcommit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 그룹 커밋 설정 (fintech.account.group-commit.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.group-commit")
+public class GroupCommitProperties {
+
+    /**
+     * 그룹 커밋 사용 여부 (false면 요청마다 개별 트랜잭션으로 처리)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션으로 묶을 최대 명령 수
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * 첫 명령 도착 후 다음 명령을 기다리는 최대 시간
+     * 이 시간이 그룹 커밋으로 인해 추가되는 최대 지연이다.
+     */
+    private Duration maxWait = Duration.ofNanos(500_000);
+
+    /**
+     * 레인별 대기열 크기 (가득 차면 개별 트랜잭션으로 처리)
+     */
+    private int queueCapacity = 4096;
+
+    /**
+     * 병렬 커밋 레인 수
+     * 같은 계좌의 명령은 항상 같은 레인으로 라우팅되어 레인 간 버전 충돌이 없다.
+     */
+    private int lanes = 4;
+}
@@ -0,0 +1,96 @@
+package application.service.hold;
+
+import application.port.out.HoldStorePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 보류 정리기
+ *
+ * 만료 시각 인덱스에서 만료된 보류를 배치 단위로 꺼내 한 번에 제거한다.
+ * 배치가 가득 차면 남은 만료 건이 있다고 보고 다음 주기를 기다리지 않고 이어서 처리한다.
+ * 모든 노드에서 실행되지만 제거 연산이 멱등이므로 같은 보류를 두 번 해제하지 않는다.
+ *
+ * 지표:
+ * - account.hold.expired : 만료로 제거된 보류 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class HoldExpirySweeper implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(HoldExpirySweeper.class);
+
+    private final HoldStorePort holdStorePort;
+    private final HoldProperties properties;
+    private final Counter expiredCounter;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public HoldExpirySweeper(HoldStorePort holdStorePort, HoldProperties properties, MeterRegistry meterRegistry) {
+        this.holdStorePort = holdStorePort;
+        this.properties = properties;
+        this.expiredCounter = Counter.builder("account.hold.expired")
+                .description("만료로 제거된 보류 수")
+                .register(meterRegistry);
+    }
+
+    private void sweep() {
+        try {
+            int swept;
+            do {
+                swept = holdStorePort.sweepExpired(Instant.now(), properties.getSweepBatchSize());
+                expiredCounter.increment(swept);
+            } while (running && swept >= properties.getSweepBatchSize());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다
+            log.warn("만료 보류 정리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hold-expiry-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getSweepInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("만료 보류 정리 시작 - 주기: {}, 배치: {}", properties.getSweepInterval(), properties.getSweepBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,13 @@
+package application.service.hold;
+
+/**
+ * 보류 등록 결과
+ */
+public enum HoldPlacementResult {
+    /** 등록됨 */
+    PLACED,
+    /** 같은 보류 ID가 이미 있음 */
+    DUPLICATE,
+    /** 사용 가능 잔액 부족 */
+    INSUFFICIENT_AVAILABLE
+}
@@ -0,0 +1,49 @@
+package application.service.hold;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 보류(가승인) 설정 (fintech.account.hold.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.hold")
+public class HoldProperties {
+
+    /**
+     * 보류 사용 여부 (false면 보류 API를 사용할 수 없고, 출금은 보류 합계를 확인하지 않는다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 보류 저장소 (redis: 노드 간 공유, memory: 단일 노드/테스트용)
+     */
+    private String store = "redis";
+
+    /**
+     * 만료 시간을 지정하지 않은 보류의 만료 시간
+     */
+    private Duration defaultTtl = Duration.ofDays(7);
+
+    /**
+     * 보류 최대 만료 시간
+     */
+    private Duration maxTtl = Duration.ofDays(30);
+
+    /**
+     * 만료 보류 정리 주기
+     */
+    private Duration sweepInterval = Duration.ofSeconds(1);
+
+    /**
+     * 정리 1회당 최대 제거 건수 (남은 건은 다음 주기에 바로 이어서 처리)
+     */
+    private int sweepBatchSize = 500;
+}
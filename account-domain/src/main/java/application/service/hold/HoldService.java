@@ -0,0 +1,153 @@
+package application.service.hold;
+
+import application.port.out.HoldStorePort;
+import application.port.out.LoadAccountPort;
+import application.service.TransactionService;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.exception.AccountNotFoundException;
+import domain.exception.DuplicateHoldException;
+import domain.exception.HoldNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+import domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 보류(가승인) 서비스
+ *
+ * 카드 승인, 이체 대기 등에서 DB 트랜잭션 없이 잔액 일부를 묶어 둔다.
+ * - 등록: 보류 합계 + 금액 <= 잔액 일 때만 등록 (보류 저장소에서 원자적으로 검사)
+ * - 매입: 실제 출금이 커밋된 뒤에 보류를 제거한다 (출금이 실패하면 보류는 그대로 남고,
+ *         출금 후 제거가 실패해도 매입은 성공으로 끝나며 남은 보류는 만료 정리로 지워진다)
+ * - 해제: 보류를 제거해 사용 가능 잔액으로 돌려준다
+ * - 만료: 만료 시각이 지난 보류는 HoldExpirySweeper가 일괄 제거한다
+ *
+ * 사용 가능 잔액 = 잔액 - 보류 합계 (보류 합계는 저장소가 따로 관리하므로 O(1))
+ *
+ * 등록과 매입은 출금과 같은 계좌 락 안에서 처리한다.
+ * 등록이 읽은 잔액과 출금이 읽은 보류 합계가 서로 엇갈려 둘 다 통과하는 일이 없고,
+ * 매입 중인 보류가 출금 전에 사라져 그 금액이 다른 출금에 쓰이는 일도 없다.
+ * 락 조건을 두지 않아 핫 계좌/명령 로그 모드에서도 같은 보류를 두 번 매입하지 못한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+    private static final Logger log = LoggerFactory.getLogger(HoldService.class);
+
+    private final HoldStorePort holdStorePort;
+    private final LoadAccountPort loadAccountPort;
+    private final HotAccountService hotAccountService;
+    private final TransactionService transactionService;
+    private final HoldProperties properties;
+    private final AccountMetadataCache accountMetadataCache;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 보류 등록
+     * @param holdId 보류 ID (없으면 생성)
+     * @param ttl    만료 시간 (없으면 기본값, 최대값으로 제한)
+     * @return 등록된 보류
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value", waitTime = 3000, leaseTime = 3000)
+    public Hold place(AccountNumber accountNumber, String holdId, Money amount, Duration ttl) {
+        accountMetadataCache.requireActive(accountNumber);
+        Account account = loadAccountPort.loadAccount(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        if (!account.getStatus().isActive()) {
+            throw new InactiveAccountException("비활성 상태의 계좌는 보류를 등록할 수 없습니다.");
+        }
+
+        Duration effectiveTtl = ttl == null ? properties.getDefaultTtl()
+                : ttl.compareTo(properties.getMaxTtl()) > 0 ? properties.getMaxTtl() : ttl;
+        Hold hold = new Hold(holdId != null ? holdId : "HOLD_" + UUID.randomUUID(),
+                accountNumber, amount, Instant.now().plus(effectiveTtl));
+
+        Money balance = hotAccountService.isHotAccount(accountNumber)
+                ? hotAccountService.getBalance(account)
+                : account.getBalance();
+
+        switch (holdStorePort.place(hold, balance)) {
+            case PLACED -> log.info("보류 등록 - 계좌번호: {}, 보류ID: {}, 금액: {}, 만료: {}",
+                    accountNumber, hold.getHoldId(), amount, hold.getExpiresAt());
+            case DUPLICATE -> throw new DuplicateHoldException("이미 등록된 보류 ID입니다: " + hold.getHoldId());
+            case INSUFFICIENT_AVAILABLE -> throw new InsufficientBalanceException(String.format(
+                    "사용 가능 잔액이 부족합니다. 현재 잔액: %s, 보류 합계: %s, 보류 요청: %s",
+                    balance, holdStorePort.loadHeldAmount(accountNumber), amount));
+        }
+        return hold;
+    }
+
+    /**
+     * 보류 매입 (보류 금액 이하로 부분 매입 가능, 남은 금액은 해제된다)
+     * 출금이 커밋될 때까지 보류를 남겨 두어 그 금액이 다른 출금에 쓰이지 않게 한다.
+     * @param amount 매입 금액 (없으면 보류 금액 전체)
+     * @return 출금 거래
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value", waitTime = 3000, leaseTime = 3000)
+    public Transaction capture(AccountNumber accountNumber, String holdId, Money amount, String description) {
+        Hold hold = holdStorePort.find(accountNumber, holdId, Instant.now())
+                .orElseThrow(() -> new HoldNotFoundException("보류를 찾을 수 없거나 만료되었습니다: " + holdId));
+
+        Money captureAmount = amount != null ? amount : hold.getAmount();
+        if (!hold.getAmount().isGreaterThanOrEqual(captureAmount)) {
+            throw new IllegalArgumentException(String.format(
+                    "매입 금액이 보류 금액을 초과합니다. 보류 금액: %s, 매입 요청: %s", hold.getAmount(), captureAmount));
+        }
+
+        Transaction transaction = transactionService.withdrawHeld(accountNumber, captureAmount, description);
+
+        // 출금 커밋 후 제거 - 출금은 이미 유효하므로 제거 실패를 호출자에게 알리면 재시도가 두 번 출금한다.
+        // 제거하지 못한 보류는 만료 시각에 HoldExpirySweeper가 정리한다.
+        try {
+            if (holdStorePort.release(accountNumber, holdId).isEmpty()) {
+                log.warn("보류 매입 후 보류가 이미 제거됨 (만료 정리) - 계좌번호: {}, 보류ID: {}", accountNumber, holdId);
+            }
+        } catch (RuntimeException e) {
+            log.error("보류 매입 후 보류 제거 실패, 만료 시 정리 - 계좌번호: {}, 보류ID: {}, 만료: {}",
+                    accountNumber, holdId, hold.getExpiresAt(), e);
+        }
+        log.info("보류 매입 - 계좌번호: {}, 보류ID: {}, 보류 금액: {}, 매입 금액: {}",
+                accountNumber, holdId, hold.getAmount(), captureAmount);
+        return transaction;
+    }
+
+    /**
+     * 보류 해제
+     * @return 해제된 보류
+     */
+    public Hold release(AccountNumber accountNumber, String holdId) {
+        Hold hold = holdStorePort.release(accountNumber, holdId)
+                .orElseThrow(() -> new HoldNotFoundException("보류를 찾을 수 없습니다: " + holdId));
+        log.info("보류 해제 - 계좌번호: {}, 보류ID: {}, 금액: {}", accountNumber, holdId, hold.getAmount());
+        return hold;
+    }
+
+    /**
+     * 보류 합계 (보류를 사용하지 않으면 0)
+     */
+    public Money getHeldAmount(AccountNumber accountNumber) {
+        return properties.isEnabled() ? holdStorePort.loadHeldAmount(accountNumber) : new Money(BigDecimal.ZERO);
+    }
+}
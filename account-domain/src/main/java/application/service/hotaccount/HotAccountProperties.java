@@ -0,0 +1,30 @@
+package application.service.hotaccount;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 핫 계좌 잔액 분할 설정 (fintech.account.hot-account.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.hot-account")
+public class HotAccountProperties {
+
+    /**
+     * 계좌당 잔액 슬롯 수
+     */
+    private int slots = 8;
+
+    /**
+     * 잔액을 분할할 계좌번호 목록 (정산/가맹점 계좌 등 입금이 몰리는 계좌)
+     */
+    private List<String> accounts = new ArrayList<>();
+}
@@ -0,0 +1,210 @@
+package application.service.hotaccount;
+
+import application.port.out.BalanceSlotPort;
+import application.port.out.LoadAccountPort;
+import application.service.MoneyMovementCommand;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.ShardedBalance;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 핫 계좌 잔액 분할 서비스
+ *
+ * 정산/가맹점 계좌처럼 입금이 몰리는 계좌는 모든 입금이 같은 계좌 행과 버전에서 직렬화된다.
+ * 지정된 계좌의 잔액을 N개의 슬롯으로 나누어
+ * - 입금: 임의의 슬롯 하나만 원자적으로 증가 (계좌 행은 건드리지 않음)
+ * - 출금: 잔액이 충분한 슬롯 하나를 골라 그 슬롯만 조건부 차감하고, 한 슬롯으로 부족하면 전체 슬롯을 잠가 나누어 차감
+ * - 잔액 조회: 슬롯 합계
+ * 각 슬롯은 0 미만이 될 수 없으므로 "잔액은 음수가 될 수 없다"는 계좌 불변식이 유지된다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class HotAccountService {
+    private static final Logger log = LoggerFactory.getLogger(HotAccountService.class);
+
+    private final HotAccountProperties properties;
+    private final LoadAccountPort loadAccountPort;
+    private final BalanceSlotPort balanceSlotPort;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<AccountNumber> hotAccounts;
+    private final Map<AccountNumber, Integer> slotCounts = new ConcurrentHashMap<>();
+
+    public HotAccountService(HotAccountProperties properties,
+                             LoadAccountPort loadAccountPort,
+                             BalanceSlotPort balanceSlotPort,
+                             TransactionTemplate transactionTemplate) {
+        this.properties = properties;
+        this.loadAccountPort = loadAccountPort;
+        this.balanceSlotPort = balanceSlotPort;
+        this.transactionTemplate = transactionTemplate;
+        this.hotAccounts = properties.getAccounts().stream()
+                .map(AccountNumber::new)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isHotAccount(AccountNumber accountNumber) {
+        return hotAccounts.contains(accountNumber);
+    }
+
+    /**
+     * 지정된 계좌의 슬롯 준비 (최초 1회 기존 잔액을 0번 슬롯으로 이동)
+     * 설정에서 빠진 계좌에 슬롯이 남아 있으면 슬롯 합계를 계좌 잔액으로 되돌린다.
+     * (계좌를 뺄 때는 모든 노드의 설정에서 함께 빼야 한다. 아직 슬롯으로 처리하는 노드의 입출금은 슬롯이 없어 실패한다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSlots() {
+        Set<Long> hotAccountIds = new HashSet<>();
+        for (AccountNumber accountNumber : hotAccounts) {
+            Account account = loadAccountPort.loadAccount(accountNumber).orElse(null);
+            if (account == null) {
+                log.warn("핫 계좌 설정 무시 - 존재하지 않는 계좌: {}", accountNumber);
+                continue;
+            }
+            hotAccountIds.add(account.getAccountId());
+
+            Boolean created = transactionTemplate.execute(status ->
+                    balanceSlotPort.initializeSlots(account, properties.getSlots()));
+            slotCounts.put(accountNumber, balanceSlotPort.countSlots(account.getAccountId()));
+
+            log.info("핫 계좌 슬롯 준비 완료 - 계좌번호: {}, 슬롯: {}, 신규 생성: {}",
+                    accountNumber, slotCounts.get(accountNumber), created);
+        }
+
+        for (Long accountId : balanceSlotPort.findSlottedAccountIds()) {
+            if (hotAccountIds.contains(accountId)) {
+                continue;
+            }
+            Money merged = transactionTemplate.execute(status -> balanceSlotPort.mergeSlots(accountId));
+            log.info("핫 계좌 해제 - 슬롯 잔액을 계좌 잔액으로 이동 - 계좌ID: {}, 금액: {}", accountId, merged);
+        }
+    }
+
+    public Transaction apply(MoneyMovementCommand command) {
+        return switch (command.type()) {
+            case WITHDRAW -> withdraw(command.accountNumber(), command.amount(), command.description());
+            case DEPOSIT -> deposit(command.accountNumber(), command.amount(), command.description());
+            default -> throw new IllegalArgumentException("지원하지 않는 거래 유형입니다: " + command.type());
+        };
+    }
+
+    /**
+     * 입금 - 임의의 슬롯 하나에만 더한다.
+     */
+    public Transaction deposit(AccountNumber accountNumber, Money amount, String description) {
+        Account account = loadActiveAccount(accountNumber);
+        validateAmount(amount, "입금");
+
+        int slot = ThreadLocalRandom.current().nextInt(slotCount(accountNumber));
+        return transactionTemplate.execute(status -> {
+            balanceSlotPort.credit(account.getAccountId(), slot, amount);
+            return record(account, TransactionType.DEPOSIT, amount, description);
+        });
+    }
+
+    /**
+     * 출금 - 한 슬롯으로 충분하면 그 슬롯만, 아니면 전체 슬롯을 잠그고 나누어 차감한다.
+     *
+     * 조건부 UPDATE는 조건이 맞지 않아도 슬롯 행 락을 트랜잭션 끝까지 남긴다. 한 트랜잭션에서 여러 슬롯을
+     * 임의 순서로 시도하면 동시 출금끼리 서로의 슬롯을 기다리며 교착에 빠지므로
+     * - 슬롯 하나 시도는 트랜잭션 하나로 하고, 차감하지 못하면 되돌려 락을 바로 푼다.
+     * - 여러 슬롯이 필요하면 새 트랜잭션에서 전체 슬롯을 slot_no 순으로 잠근다.
+     * 따라서 어느 트랜잭션도 슬롯 락을 slot_no 순이 아닌 순서로 둘 이상 쥐지 않는다.
+     */
+    public Transaction withdraw(AccountNumber accountNumber, Money amount, String description) {
+        Account account = loadActiveAccount(accountNumber);
+        validateAmount(amount, "출금");
+
+        int slots = slotCount(accountNumber);
+        int startSlot = ThreadLocalRandom.current().nextInt(slots);
+        // 잠그지 않고 읽은 슬롯 잔액으로 한 슬롯으로 충분해 보이는 슬롯만 시도한다
+        ShardedBalance snapshot = balanceSlotPort.load(account);
+        for (int i = 0; i < slots; i++) {
+            int slot = (startSlot + i) % slots;
+            if (slot >= snapshot.getSlotCount() || !snapshot.getSlot(slot).isGreaterThanOrEqual(amount)) {
+                continue;
+            }
+            Transaction transaction = transactionTemplate.execute(status -> {
+                if (!balanceSlotPort.tryDebit(account.getAccountId(), slot, amount)) {
+                    // 읽은 뒤 다른 출금이 먼저 차감함 - 실패한 UPDATE가 잡은 락을 풀기 위해 되돌린다
+                    status.setRollbackOnly();
+                    return null;
+                }
+                return record(account, TransactionType.WITHDRAW, amount, description);
+            });
+            if (transaction != null) {
+                return transaction;
+            }
+        }
+
+        return transactionTemplate.execute(status -> {
+            // 슬롯 간 빌려오기 - 잔액이 부족하면 InsufficientBalanceException으로 롤백
+            ShardedBalance balance = balanceSlotPort.loadForUpdate(account);
+            balanceSlotPort.debit(account.getAccountId(), balance.planWithdrawal(amount, startSlot));
+            return record(account, TransactionType.WITHDRAW, amount, description);
+        });
+    }
+
+    /**
+     * 슬롯 합계 잔액
+     */
+    public Money getBalance(Account account) {
+        return getBalance(account.getAccountId());
+    }
+
+    public Money getBalance(Long accountId) {
+        return balanceSlotPort.sumBalance(accountId);
+    }
+
+    private Transaction record(Account account, TransactionType type, Money amount, String description) {
+        Money balanceAfter = balanceSlotPort.sumBalance(account.getAccountId());
+        Transaction transaction = new Transaction(type, amount, balanceAfter, description);
+        balanceSlotPort.appendTransaction(account.getAccountId(), transaction);
+        return transaction;
+    }
+
+    private Account loadActiveAccount(AccountNumber accountNumber) {
+        Account account = loadAccountPort.loadAccount(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        if (!account.getStatus().isActive()) {
+            throw new InactiveAccountException("비활성 상태의 계좌는 거래할 수 없습니다.");
+        }
+        return account;
+    }
+
+    private int slotCount(AccountNumber accountNumber) {
+        Integer count = slotCounts.get(accountNumber);
+        if (count == null || count == 0) {
+            throw new IllegalStateException("핫 계좌 슬롯이 준비되지 않았습니다: " + accountNumber);
+        }
+        return count;
+    }
+
+    private void validateAmount(Money amount, String action) {
+        if (amount == null || amount.isZero()) {
+            throw new IllegalArgumentException(action + " 금액은 0보다 커야 합니다.");
+        }
+    }
+}
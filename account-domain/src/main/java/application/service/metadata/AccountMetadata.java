@@ -0,0 +1,18 @@
+package application.service.metadata;
+
+import domain.model.AccountStatus;
+
+/**
+ * 계좌 메타데이터 (계좌번호 검증용)
+ *
+ * @param accountId     계좌 ID
+ * @param accountNumber 계좌번호
+ * @param status        계좌 상태
+ * @param version       적재 시점의 계좌 버전 (잔액이 바뀔 때마다 오르므로 최신 값이 아닐 수 있다)
+ */
+public record AccountMetadata(Long accountId, String accountNumber, AccountStatus status, Long version) {
+
+    public boolean isActive() {
+        return status.isActive();
+    }
+}
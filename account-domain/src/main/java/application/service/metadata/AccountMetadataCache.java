@@ -0,0 +1,181 @@
+package application.service.metadata;
+
+import application.port.out.LoadAccountSnapshotPort;
+import application.service.query.AccountSnapshot;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.model.AccountNumber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 계좌 메타데이터 캐시 (계좌번호 -> 계좌 ID, 상태, 버전)
+ *
+ * 모든 입출금/조회 요청의 계좌번호 검증(없는 계좌, 비활성 계좌)을 DB 없이 처리한다.
+ * - 미리 갱신: refreshAfter가 지난 항목은 기존 값을 바로 돌려주고 백그라운드에서 다시 읽는다.
+ *   자주 조회되는 계좌는 만료되지 않으므로 조회 경로에서 DB를 기다리지 않는다.
+ * - 부정 캐시: 없는 계좌번호도 짧은 시간(negativeTtl) 동안 캐시해 오타/무작위 대입 요청이 DB로 가지 않게 한다.
+ * - 여러 항목을 다시 읽을 때는 IN 쿼리 한 번으로 읽는다.
+ *
+ * 캐시 값은 빠른 거절에만 쓰고, 실제 출금 가능 여부는 계좌 애그리거트가 다시 검사한다.
+ *
+ * 지표: cache.* (cache=accountMetadata), account.metadata.negative_hits
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AccountMetadataCache implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AccountMetadataCache.class);
+
+    private static final String CACHE_NAME = "accountMetadata";
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final LoadAccountSnapshotPort loadAccountSnapshotPort;
+    private final AccountMetadataProperties properties;
+    private final ExecutorService refreshExecutor;
+    private final LoadingCache<String, Optional<AccountMetadata>> cache;
+    private final Counter negativeHitCounter;
+
+    public AccountMetadataCache(LoadAccountSnapshotPort loadAccountSnapshotPort,
+                                AccountMetadataProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.loadAccountSnapshotPort = loadAccountSnapshotPort;
+        this.properties = properties;
+        this.refreshExecutor = Executors.newFixedThreadPool(properties.getRefreshThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "account-metadata-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long ttlNanos = properties.getTtl().toNanos();
+        long negativeTtlNanos = properties.getNegativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, Optional<AccountMetadata>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<AccountMetadata> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<AccountMetadata> value,
+                                                  long currentTime, long currentDuration) {
+                        // 갱신으로 값이 바뀌면 (없던 계좌가 생기는 경우 포함) 새 값 기준으로 다시 계산
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<AccountMetadata> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(new MetadataLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.negativeHitCounter = Counter.builder("account.metadata.negative_hits")
+                .description("없는 계좌번호 요청을 DB 조회 없이 거절한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계좌 메타데이터 조회
+     * @return 없는 계좌면 empty
+     */
+    public Optional<AccountMetadata> find(AccountNumber accountNumber) {
+        if (!properties.isEnabled()) {
+            return load(Set.of(accountNumber.getValue())).get(accountNumber.getValue());
+        }
+        return cache.get(accountNumber.getValue());
+    }
+
+    /**
+     * 존재하는 계좌인지 확인
+     * @throws AccountNotFoundException 없는 계좌
+     */
+    public AccountMetadata require(AccountNumber accountNumber) {
+        Optional<AccountMetadata> metadata = find(accountNumber);
+        if (metadata.isEmpty()) {
+            negativeHitCounter.increment();
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber);
+        }
+        return metadata.get();
+    }
+
+    /**
+     * 거래 가능한 계좌인지 확인
+     * @throws AccountNotFoundException 없는 계좌
+     * @throws InactiveAccountException 비활성 계좌
+     */
+    public AccountMetadata requireActive(AccountNumber accountNumber) {
+        AccountMetadata metadata = require(accountNumber);
+        if (!metadata.isActive()) {
+            throw new InactiveAccountException("비활성 상태의 계좌는 거래할 수 없습니다.");
+        }
+        return metadata;
+    }
+
+    /**
+     * 계좌 상태가 바뀌었거나 계좌가 새로 개설된 경우 이 노드의 캐시 항목 제거
+     */
+    public void invalidate(AccountNumber accountNumber) {
+        cache.invalidate(accountNumber.getValue());
+    }
+
+    private Map<String, Optional<AccountMetadata>> load(Set<? extends String> accountNumbers) {
+        List<String> keys = new ArrayList<>(accountNumbers);
+        Map<String, Optional<AccountMetadata>> loaded = new HashMap<>(keys.size() * 2);
+        for (int from = 0; from < keys.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + LOAD_CHUNK_SIZE, keys.size()));
+            for (AccountSnapshot snapshot : loadAccountSnapshotPort.loadSnapshots(chunk)) {
+                loaded.put(snapshot.accountNumber(), Optional.of(new AccountMetadata(
+                        snapshot.accountId(), snapshot.accountNumber(), snapshot.status(), snapshot.version())));
+            }
+        }
+        // 결과에 없는 계좌번호는 없는 계좌로 캐시한다
+        keys.forEach(key -> loaded.putIfAbsent(key, Optional.empty()));
+        return loaded;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private final class MetadataLoader implements CacheLoader<String, Optional<AccountMetadata>> {
+
+        @Override
+        public Optional<AccountMetadata> load(String accountNumber) {
+            return AccountMetadataCache.this.load(Set.of(accountNumber)).get(accountNumber);
+        }
+
+        @Override
+        public Map<? extends String, ? extends Optional<AccountMetadata>> loadAll(Set<? extends String> accountNumbers) {
+            return AccountMetadataCache.this.load(accountNumbers);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package application.service.metadata;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 메타데이터 캐시 설정 (fintech.account.metadata-cache.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.metadata-cache")
+public class AccountMetadataProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 매 요청 DB에서 확인)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최대 보관 계좌 수 (없는 계좌번호 포함)
+     */
+    private long maximumSize = 500_000;
+
+    /**
+     * 존재하는 계좌의 만료 시간 (이 시간 동안 조회가 없으면 다음 조회는 DB에서 동기로 읽는다)
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * 미리 갱신 시점 (적재 후 이 시간이 지난 뒤 조회되면 기존 값을 바로 돌려주고 백그라운드에서 다시 읽는다)
+     * 상태 변경이 다른 노드에 반영되기까지의 최대 지연이기도 하다.
+     */
+    private Duration refreshAfter = Duration.ofSeconds(5);
+
+    /**
+     * 없는 계좌번호의 만료 시간 (새로 개설된 계좌가 조회되기까지의 최대 지연)
+     */
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    /**
+     * 백그라운드 갱신 스레드 수
+     */
+    private int refreshThreads = 2;
+}
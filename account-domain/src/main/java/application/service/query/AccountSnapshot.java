@@ -0,0 +1,18 @@
+package application.service.query;
+
+import domain.model.AccountStatus;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * 계좌 상태/잔액 스냅샷 (대량 조회용 읽기 모델)
+ * 캐시에 그대로 저장되므로 직렬화 가능해야 한다.
+ */
+public record AccountSnapshot(Long accountId, String accountNumber, AccountStatus status,
+                              BigDecimal balance, Long version) implements Serializable {
+
+    public AccountSnapshot withBalance(BigDecimal balance) {
+        return new AccountSnapshot(accountId, accountNumber, status, balance, version);
+    }
+}
@@ -0,0 +1,105 @@
+package application.service.query;
+
+import application.port.out.LoadAccountSnapshotPort;
+import application.service.hotaccount.HotAccountService;
+import domain.model.AccountNumber;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계좌 대량 조회 서비스 (이체/결제 도메인 등 내부 호출용)
+ *
+ * 캐시에 있는 계좌는 캐시에서 응답하고, 나머지만 IN 쿼리로 조회한다.
+ * IN 목록은 inQueryChunkSize 단위로 잘라 쿼리 하나가 너무 커지지 않게 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkAccountQueryService {
+    private static final Logger log = LoggerFactory.getLogger(BulkAccountQueryService.class);
+
+    private final LoadAccountSnapshotPort loadAccountSnapshotPort;
+    private final HotAccountService hotAccountService;
+    private final BulkLookupProperties properties;
+    private final CacheManager cacheManager;
+
+    public BulkLookupResult lookup(Collection<AccountNumber> accountNumbers) {
+        Set<String> requested = new LinkedHashSet<>();
+        accountNumbers.forEach(accountNumber -> requested.add(accountNumber.getValue()));
+
+        Cache cache = cacheManager.getCache(properties.getCacheName());
+        Map<String, AccountSnapshot> found = new HashMap<>(requested.size() * 2);
+        List<String> misses = new ArrayList<>();
+
+        for (String accountNumber : requested) {
+            AccountSnapshot cached = cache != null ? cache.get(accountNumber, AccountSnapshot.class) : null;
+            if (cached != null) {
+                found.put(accountNumber, cached);
+            } else {
+                misses.add(accountNumber);
+            }
+        }
+        int cacheHits = found.size();
+
+        int chunkSize = properties.getInQueryChunkSize();
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            for (AccountSnapshot snapshot : loadAccountSnapshotPort.loadSnapshots(chunk)) {
+                AccountSnapshot resolved = resolveBalance(snapshot);
+                found.put(resolved.accountNumber(), resolved);
+                if (cache != null) {
+                    cache.put(resolved.accountNumber(), resolved);
+                }
+            }
+        }
+
+        List<AccountSnapshot> snapshots = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String accountNumber : requested) {
+            AccountSnapshot snapshot = found.get(accountNumber);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            } else {
+                notFound.add(accountNumber);
+            }
+        }
+
+        log.debug("계좌 대량 조회 - 요청: {}, 캐시 적중: {}, DB 조회: {}, 없음: {}",
+                requested.size(), cacheHits, misses.size(), notFound.size());
+        return new BulkLookupResult(snapshots, notFound, cacheHits);
+    }
+
+    /**
+     * 잔액/상태가 바뀐 계좌의 스냅샷 제거
+     */
+    public void evict(AccountNumber accountNumber) {
+        Cache cache = cacheManager.getCache(properties.getCacheName());
+        if (cache != null) {
+            cache.evict(accountNumber.getValue());
+        }
+    }
+
+    private AccountSnapshot resolveBalance(AccountSnapshot snapshot) {
+        // 핫 계좌는 계좌 행이 아닌 슬롯 합계가 잔액
+        if (hotAccountService.isHotAccount(new AccountNumber(snapshot.accountNumber()))) {
+            return snapshot.withBalance(hotAccountService.getBalance(snapshot.accountId()).getAmount());
+        }
+        return snapshot;
+    }
+}
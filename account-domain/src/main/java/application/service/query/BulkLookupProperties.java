@@ -0,0 +1,27 @@
+package application.service.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 계좌 대량 조회 설정 (fintech.account.bulk-lookup.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.bulk-lookup")
+public class BulkLookupProperties {
+
+    /**
+     * IN 쿼리 하나에 넣을 최대 계좌 수
+     */
+    private int inQueryChunkSize = 500;
+
+    /**
+     * 스냅샷 캐시 이름
+     */
+    private String cacheName = "accountSnapshots";
+}
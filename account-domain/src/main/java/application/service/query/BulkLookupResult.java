@@ -0,0 +1,13 @@
+package application.service.query;
+
+import java.util.List;
+
+/**
+ * 대량 조회 결과
+ *
+ * @param snapshots 요청 순서대로 정렬된 조회 결과
+ * @param notFound  존재하지 않는 계좌번호
+ * @param cacheHits 캐시에서 응답한 건수
+ */
+public record BulkLookupResult(List<AccountSnapshot> snapshots, List<String> notFound, int cacheHits) {
+}
@@ -0,0 +1,110 @@
+package application.service.readmodel;
+
+import application.port.out.LoadAccountPort;
+import application.port.out.LoadAccountReadModelPort;
+import application.port.out.ProjectAccountReadModelPort;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import domain.exception.AccountNotFoundException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 읽기 모델 서비스 (CQRS 조회 측)
+ *
+ * 거래/상태 변경 이벤트를 Redis 읽기 모델에 반영하고, 계좌 조회를 읽기 모델에서 처리한다.
+ * 조회가 MySQL과 경쟁하지 않으므로 조회 처리량을 쓰기와 독립적으로 늘릴 수 있다.
+ * 읽기 모델에 없는 계좌는 한 번만 DB에서 읽어 채운다.
+ * 읽기 모델은 이벤트 반영 지연만큼 늦을 수 있으므로 응답에 반영 지연을 함께 돌려준다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountReadModelService {
+    private static final Logger log = LoggerFactory.getLogger(AccountReadModelService.class);
+
+    private final LoadAccountReadModelPort loadReadModelPort;
+    private final ProjectAccountReadModelPort projectReadModelPort;
+    private final LoadAccountPort loadAccountPort;
+    private final HotAccountService hotAccountService;
+    private final ReadModelProperties properties;
+    private final AccountMetadataCache accountMetadataCache;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 계좌 요약 조회
+     */
+    public ReadModelResult<AccountSummaryView> getSummary(AccountNumber accountNumber) {
+        if (!properties.isEnabled()) {
+            return new ReadModelResult<>(loadFromDatabase(accountNumber).summary(), 0);
+        }
+
+        Optional<AccountSummaryView> summary = loadReadModelPort.loadSummary(accountNumber);
+        if (summary.isPresent()) {
+            return new ReadModelResult<>(summary.get(), loadReadModelPort.loadProjectionLagMillis());
+        }
+
+        // 읽기 모델에 없으면 DB에서 채운다 (이후 조회는 읽기 모델에서 처리)
+        DatabaseSummary loaded = loadFromDatabase(accountNumber);
+        projectReadModelPort.seedSummary(loaded.summary(), loaded.asOf());
+        log.debug("읽기 모델 채움 - 계좌번호: {}", accountNumber);
+
+        // 채우는 사이 반영된 이벤트가 있을 수 있으므로 다시 읽는다
+        return new ReadModelResult<>(loadReadModelPort.loadSummary(accountNumber).orElse(loaded.summary()),
+                loadReadModelPort.loadProjectionLagMillis());
+    }
+
+    private DatabaseSummary loadFromDatabase(AccountNumber accountNumber) {
+        // 없는 계좌번호는 읽기 모델을 채우지 않고 바로 거절한다
+        accountMetadataCache.require(accountNumber);
+        Account account = loadAccountPort.loadAccount(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        Money balance = hotAccountService.isHotAccount(accountNumber)
+                ? hotAccountService.getBalance(account)
+                : account.getBalance();
+
+        AccountSummaryView summary = new AccountSummaryView(accountNumber.getValue(), balance.getAmount(),
+                account.getStatus(), account.getCreatedAt(), null);
+        return new DatabaseSummary(summary, account.getUpdatedAt() != null ? account.getUpdatedAt() : account.getCreatedAt());
+    }
+
+    /**
+     * 최근 거래 조회 (최신순, 읽기 모델이 켜져 있을 때만 가능)
+     */
+    public ReadModelResult<List<RecentTransactionView>> getRecentTransactions(AccountNumber accountNumber, int limit) {
+        if (!properties.isEnabled()) {
+            throw new IllegalStateException("읽기 모델이 비활성화되어 있어 최근 거래를 조회할 수 없습니다.");
+        }
+        int capped = Math.min(limit, properties.getRecentTransactionsCap());
+        return new ReadModelResult<>(loadReadModelPort.loadRecentTransactions(accountNumber, capped),
+                loadReadModelPort.loadProjectionLagMillis());
+    }
+
+    /**
+     * 이벤트 반영
+     */
+    public void project(List<ReadModelUpdate> updates, long projectionLagMillis) {
+        if (!updates.isEmpty()) {
+            projectReadModelPort.project(updates, projectionLagMillis);
+        }
+    }
+
+    private record DatabaseSummary(AccountSummaryView summary, LocalDateTime asOf) {
+    }
+}
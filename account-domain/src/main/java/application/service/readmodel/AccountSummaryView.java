@@ -0,0 +1,19 @@
+package application.service.readmodel;
+
+import domain.model.AccountStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 요약 읽기 모델
+ *
+ * @param accountNumber     계좌번호
+ * @param balance           잔액
+ * @param status            계좌 상태
+ * @param createdAt         개설 일시
+ * @param lastTransactionAt 마지막 거래 일시 (거래가 없으면 null)
+ */
+public record AccountSummaryView(String accountNumber, BigDecimal balance, AccountStatus status,
+                                 LocalDateTime createdAt, LocalDateTime lastTransactionAt) {
+}
@@ -0,0 +1,44 @@
+package application.service.readmodel;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 읽기 모델 설정 (fintech.account.read-model.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.read-model")
+public class ReadModelProperties {
+
+    /**
+     * 읽기 모델 사용 여부 (false면 계좌 조회는 DB에서, 최근 거래 조회는 사용 불가)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 계좌별 최근 거래 보관 건수
+     */
+    private int recentTransactionsCap = 100;
+
+    /**
+     * 읽기 모델 키 만료 시간 (갱신될 때마다 연장, 오래 거래가 없는 계좌는 다음 조회 때 DB에서 다시 채운다)
+     */
+    private Duration ttl = Duration.ofDays(30);
+
+    /**
+     * 반영 컨슈머의 동시 처리 배치 수
+     */
+    private int projectorConcurrency = 8;
+
+    /**
+     * 반영 배치당 최대 이벤트 수 (한 번의 파이프라인으로 반영)
+     */
+    private int projectorBatchSize = 200;
+}
@@ -0,0 +1,10 @@
+package application.service.readmodel;
+
+/**
+ * 읽기 모델 조회 결과
+ *
+ * @param value               조회 값
+ * @param projectionLagMillis 마지막으로 측정된 반영 지연 (이벤트 기록 ~ 읽기 모델 반영, 측정값이 없으면 -1)
+ */
+public record ReadModelResult<T>(T value, long projectionLagMillis) {
+}
@@ -0,0 +1,32 @@
+package application.service.readmodel;
+
+import domain.model.AccountStatus;
+import domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 모델 반영 단위
+ */
+public sealed interface ReadModelUpdate {
+
+    String accountNumber();
+
+    LocalDateTime occurredAt();
+
+    /**
+     * 거래 반영 - 요약 잔액/마지막 거래 일시 갱신, 최근 거래 추가
+     */
+    record TransactionApplied(String eventId, String accountNumber, TransactionType transactionType,
+                              BigDecimal amount, BigDecimal balanceAfter, LocalDateTime occurredAt)
+            implements ReadModelUpdate {
+    }
+
+    /**
+     * 계좌 상태 변경 반영
+     */
+    record StatusChanged(String accountNumber, AccountStatus status, LocalDateTime occurredAt)
+            implements ReadModelUpdate {
+    }
+}
@@ -0,0 +1,19 @@
+package application.service.readmodel;
+
+import domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 최근 거래 읽기 모델
+ *
+ * @param eventId         거래 이벤트 ID
+ * @param transactionType 거래 유형
+ * @param amount          거래 금액
+ * @param balanceAfter    거래 후 잔액
+ * @param transactionAt   거래 일시
+ */
+public record RecentTransactionView(String eventId, TransactionType transactionType, BigDecimal amount,
+                                    BigDecimal balanceAfter, LocalDateTime transactionAt) {
+}
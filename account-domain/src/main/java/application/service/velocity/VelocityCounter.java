@@ -0,0 +1,103 @@
+package application.service.velocity;
+
+import java.util.Arrays;
+
+/**
+ * 키(계좌/가맹점) 하나의 구간별 거래 건수/금액 링 버퍼
+ *
+ * 모든 구간을 long 배열 하나에 담는다. 구간마다 [최신 버킷 번호, 건수 버킷 x n, 금액 버킷 x n] 순서다.
+ * 최신 버킷보다 뒤의 시각이 들어오면 그 사이 버킷을 비우면서 앞으로 민다.
+ * 조회는 버퍼를 바꾸지 않고 현재 시각 기준 구간에 드는 버킷만 더한다.
+ * 기록/조회 모두 객체를 만들지 않는다.
+ */
+final class VelocityCounter {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int[] BASE = new int[VelocityWindow.count()];
+    private static final int SIZE;
+
+    static {
+        int offset = 0;
+        for (int w = 0; w < BASE.length; w++) {
+            BASE[w] = offset;
+            offset += 1 + VelocityWindow.of(w).getBuckets() * 2;
+        }
+        SIZE = offset;
+    }
+
+    private final long[] cells = new long[SIZE];
+
+    VelocityCounter() {
+        for (int base : BASE) {
+            cells[base] = EMPTY;
+        }
+    }
+
+    /**
+     * 거래 기록
+     * 가장 긴 구간보다 오래된 거래는 버린다. (다른 노드에서 늦게 도착한 거래는 아직 구간 안이면 반영된다)
+     */
+    synchronized void add(long epochMillis, long amountMinor) {
+        for (int w = 0; w < BASE.length; w++) {
+            VelocityWindow window = VelocityWindow.of(w);
+            int base = BASE[w];
+            int n = window.getBuckets();
+            long epoch = window.epoch(epochMillis);
+            long head = cells[base];
+
+            if (head == EMPTY || epoch - head >= n) {
+                Arrays.fill(cells, base + 1, base + 1 + 2 * n, 0L);
+                cells[base] = epoch;
+            } else if (epoch > head) {
+                for (long e = head + 1; e <= epoch; e++) {
+                    int slot = (int) Math.floorMod(e, (long) n);
+                    cells[base + 1 + slot] = 0L;
+                    cells[base + 1 + n + slot] = 0L;
+                }
+                cells[base] = epoch;
+            } else if (head - epoch >= n) {
+                continue;
+            }
+
+            int slot = (int) Math.floorMod(epoch, (long) n);
+            cells[base + 1 + slot]++;
+            cells[base + 1 + n + slot] += amountMinor;
+        }
+    }
+
+    /**
+     * 현재 시각 기준 구간별 건수/금액
+     * @param out    결과 배열 (out[offset + 2w] = 건수, out[offset + 2w + 1] = 금액)
+     */
+    synchronized void read(long nowMillis, long[] out, int offset) {
+        for (int w = 0; w < BASE.length; w++) {
+            VelocityWindow window = VelocityWindow.of(w);
+            int base = BASE[w];
+            int n = window.getBuckets();
+            long head = cells[base];
+            long count = 0;
+            long amount = 0;
+
+            if (head != EMPTY) {
+                long now = window.epoch(nowMillis);
+                // 버퍼가 담고 있는 [head-n+1, head]와 조회 구간 [now-n+1, now]의 교집합
+                long from = Math.max(head, now) - n + 1;
+                long to = Math.min(head, now);
+                for (long e = from; e <= to; e++) {
+                    int slot = (int) Math.floorMod(e, (long) n);
+                    count += cells[base + 1 + slot];
+                    amount += cells[base + 1 + n + slot];
+                }
+            }
+            out[offset + 2 * w] = count;
+            out[offset + 2 * w + 1] = amount;
+        }
+    }
+
+    /**
+     * read 결과 배열에서 키 하나가 차지하는 길이
+     */
+    static int snapshotLength() {
+        return BASE.length * 2;
+    }
+}
@@ -0,0 +1,21 @@
+package application.service.velocity;
+
+/**
+ * 이상거래 심사 결과
+ */
+public enum VelocityDecision {
+
+    APPROVE("승인"),
+    REVIEW("검토"),
+    BLOCK("차단");
+
+    private final String description;
+
+    VelocityDecision(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,17 @@
+package application.service.velocity;
+
+/**
+ * 거래 속도 집계 기준
+ */
+public enum VelocityDimension {
+
+    /**
+     * 지불(출금) 계좌
+     */
+    ACCOUNT,
+
+    /**
+     * 가맹점 (결제 승인만 해당)
+     */
+    MERCHANT
+}
@@ -0,0 +1,115 @@
+package application.service.velocity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 속도(이상거래) 심사 설정 (fintech.account.velocity.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.account.velocity")
+public class VelocityProperties {
+
+    /**
+     * 심사 사용 여부 (false면 모든 거래를 점수 0으로 승인하고 집계하지 않는다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 기준별 최대 집계 키 수 (키당 약 0.7KB, 넘으면 오래 쓰지 않은 키부터 버린다)
+     */
+    private long maximumKeys = 200_000;
+
+    /**
+     * 검토 점수 (이상이면 승인하되 경고 로그를 남긴다)
+     */
+    private int reviewScore = 50;
+
+    /**
+     * 차단 점수 (이상이면 거래를 거절한다)
+     */
+    private int blockScore = 100;
+
+    /**
+     * 노드 간 집계 동기화 여부 (거래 관찰 이벤트를 발행하고 다른 노드의 이벤트를 반영한다)
+     */
+    private boolean syncEnabled = false;
+
+    /**
+     * 동기화 컨슈머 그룹에 붙일 노드 식별자 (노드마다 다르고 재기동해도 같아야 한다, 비우면 호스트 이름)
+     * 쿠버네티스에서는 StatefulSet 파드 이름처럼 재배포 후에도 유지되는 값을 넣는다.
+     */
+    private String syncInstanceId;
+
+    /**
+     * 동기화 이벤트 반영 스레드 수
+     */
+    private int syncConcurrency = 4;
+
+    /**
+     * 동기화 이벤트 반영 배치 크기
+     */
+    private int syncBatchSize = 500;
+
+    /**
+     * 심사 규칙 (최대 64개, 일치한 규칙의 점수를 더한다)
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 규칙 이름 (심사 결과와 로그에 남는다)
+         */
+        private String name;
+
+        /**
+         * 집계 기준
+         */
+        private VelocityDimension dimension = VelocityDimension.ACCOUNT;
+
+        /**
+         * 집계 구간
+         */
+        private VelocityWindow window = VelocityWindow.HOUR;
+
+        /**
+         * 집계 항목
+         */
+        private Metric metric = Metric.COUNT;
+
+        /**
+         * 기준값 (이번 거래를 포함한 집계가 기준값을 넘으면 일치, 금액은 원 단위)
+         */
+        private BigDecimal threshold;
+
+        /**
+         * 일치 시 더할 점수
+         */
+        private int score;
+    }
+
+    public enum Metric {
+
+        /**
+         * 거래 건수
+         */
+        COUNT,
+
+        /**
+         * 거래 금액 합계
+         */
+        AMOUNT
+    }
+}
@@ -0,0 +1,97 @@
+package application.service.velocity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 심사 규칙 묶음
+ *
+ * 설정의 규칙을 기본형 배열로 풀어 두고, 집계 스냅샷(VelocityCounter.read 결과) 위에서 순서대로 비교한다.
+ * 평가 결과는 일치한 규칙의 비트 마스크이며, 평가 중에는 객체를 만들지 않는다.
+ */
+final class VelocityRuleSet {
+
+    static final int MAX_RULES = Long.SIZE;
+
+    private final String[] names;
+    private final int[] snapshotIndexes;
+    private final long[] thresholds;
+    private final int[] scores;
+
+    VelocityRuleSet(List<VelocityProperties.Rule> rules) {
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("심사 규칙은 최대 " + MAX_RULES + "개입니다: " + rules.size());
+        }
+        int size = rules.size();
+        this.names = new String[size];
+        this.snapshotIndexes = new int[size];
+        this.thresholds = new long[size];
+        this.scores = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            VelocityProperties.Rule rule = rules.get(i);
+            if (rule.getName() == null || rule.getName().isBlank() || rule.getThreshold() == null) {
+                throw new IllegalArgumentException("심사 규칙에는 이름과 기준값이 필요합니다. 순번: " + i);
+            }
+            boolean amount = rule.getMetric() == VelocityProperties.Metric.AMOUNT;
+            names[i] = rule.getName();
+            snapshotIndexes[i] = snapshotIndex(rule.getDimension(), rule.getWindow(), amount);
+            thresholds[i] = amount
+                    ? rule.getThreshold().movePointRight(2).longValueExact()
+                    : rule.getThreshold().longValueExact();
+            scores[i] = rule.getScore();
+        }
+    }
+
+    /**
+     * 스냅샷 배열 길이 (기준별 VelocityCounter.read 결과를 이어 붙인 길이)
+     */
+    static int snapshotLength() {
+        return VelocityDimension.values().length * VelocityCounter.snapshotLength();
+    }
+
+    /**
+     * 기준의 스냅샷 시작 위치
+     */
+    static int snapshotOffset(VelocityDimension dimension) {
+        return dimension.ordinal() * VelocityCounter.snapshotLength();
+    }
+
+    private static int snapshotIndex(VelocityDimension dimension, VelocityWindow window, boolean amount) {
+        return snapshotOffset(dimension) + 2 * window.ordinal() + (amount ? 1 : 0);
+    }
+
+    boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    /**
+     * @param snapshot 이번 거래를 포함한 기준별 집계
+     * @return 일치한 규칙 마스크 (i번째 비트 = i번째 규칙)
+     */
+    long evaluate(long[] snapshot) {
+        long matched = 0L;
+        for (int i = 0; i < thresholds.length; i++) {
+            if (snapshot[snapshotIndexes[i]] > thresholds[i]) {
+                matched |= 1L << i;
+            }
+        }
+        return matched;
+    }
+
+    int score(long matched) {
+        int score = 0;
+        for (long remaining = matched; remaining != 0; remaining &= remaining - 1) {
+            score += scores[Long.numberOfTrailingZeros(remaining)];
+        }
+        return score;
+    }
+
+    List<String> names(long matched) {
+        List<String> matchedNames = new ArrayList<>(Long.bitCount(matched));
+        for (long remaining = matched; remaining != 0; remaining &= remaining - 1) {
+            matchedNames.add(names[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return List.copyOf(matchedNames);
+    }
+}
@@ -0,0 +1,18 @@
+package application.service.velocity;
+
+import java.util.List;
+
+/**
+ * 이상거래 심사 점수
+ *
+ * @param score        일치한 규칙 점수 합계
+ * @param decision     심사 결과
+ * @param matchedRules 일치한 규칙 이름
+ */
+public record VelocityScore(int score, VelocityDecision decision, List<String> matchedRules) {
+
+    /**
+     * 일치한 규칙이 없는 경우 (심사가 꺼져 있을 때 포함)
+     */
+    public static final VelocityScore APPROVED = new VelocityScore(0, VelocityDecision.APPROVE, List.of());
+}
@@ -0,0 +1,222 @@
+package application.service.velocity;
+
+import application.port.out.PublishAccountEventPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import domain.exception.VelocityLimitExceededException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 속도(이상거래) 심사 서비스
+ *
+ * 출금과 결제 승인 직전에 계좌/가맹점별 최근 1분/1시간/24시간 거래 건수와 금액을 보고 규칙 점수를 매긴다.
+ * 외부 심사 서비스를 부르지 않고 메모리의 링 버퍼(VelocityCounter)만 읽으므로 심사는 수 마이크로초 안에 끝난다.
+ * - 심사: 이번 거래를 더한 집계를 규칙과 비교해 점수를 더하고, 점수에 따라 승인/검토/차단을 정한다.
+ * - 기록: 거래가 처리된 뒤 집계에 더한다. 차단되거나 실패한 거래는 집계하지 않는다.
+ * - 동기화: 기록한 거래를 이벤트로 발행하고, 다른 노드가 발행한 이벤트를 받아 같은 집계에 더한다.
+ *           자기 노드가 발행한 이벤트는 이미 기록했으므로 건너뛴다.
+ *
+ * 이벤트 발신 노드 ID는 기동 시 새로 만들므로, 재기동한 노드는 최근 24시간 이벤트를 다시 읽으면서 자기 거래도 복원한다.
+ * (컨슈머 그룹은 재기동해도 같은 노드 식별자를 쓴다 - VelocitySyncConfig)
+ *
+ * 지표:
+ * - account.velocity.evaluate               : 심사 소요 시간
+ * - account.velocity.decisions{decision=..}  : 심사 결과별 건수
+ * - account.velocity.keys{dimension=..}      : 집계 중인 키 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class VelocityService {
+    private static final Logger log = LoggerFactory.getLogger(VelocityService.class);
+
+    private static final ThreadLocal<long[]> SNAPSHOT =
+            ThreadLocal.withInitial(() -> new long[VelocityRuleSet.snapshotLength()]);
+
+    private final VelocityProperties properties;
+    private final PublishAccountEventPort publishAccountEventPort;
+    private final VelocityRuleSet ruleSet;
+    private final Cache<String, VelocityCounter> accountCounters;
+    private final Cache<String, VelocityCounter> merchantCounters;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Timer evaluateTimer;
+    private final Map<VelocityDecision, Counter> decisionCounters = new EnumMap<>(VelocityDecision.class);
+
+    public VelocityService(VelocityProperties properties, PublishAccountEventPort publishAccountEventPort,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.publishAccountEventPort = publishAccountEventPort;
+        this.ruleSet = new VelocityRuleSet(properties.getRules());
+        this.accountCounters = counters(properties);
+        this.merchantCounters = counters(properties);
+
+        this.evaluateTimer = Timer.builder("account.velocity.evaluate")
+                .description("이상거래 심사 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (VelocityDecision decision : VelocityDecision.values()) {
+            decisionCounters.put(decision, Counter.builder("account.velocity.decisions")
+                    .description("이상거래 심사 결과별 건수")
+                    .tag("decision", decision.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("account.velocity.keys", accountCounters, Cache::estimatedSize)
+                .description("집계 중인 키 수")
+                .tag("dimension", VelocityDimension.ACCOUNT.name())
+                .register(meterRegistry);
+        Gauge.builder("account.velocity.keys", merchantCounters, Cache::estimatedSize)
+                .description("집계 중인 키 수")
+                .tag("dimension", VelocityDimension.MERCHANT.name())
+                .register(meterRegistry);
+    }
+
+    private static Cache<String, VelocityCounter> counters(VelocityProperties properties) {
+        // 가장 긴 구간 동안 거래가 없으면 집계가 모두 0이므로 버린다
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(VelocityWindow.DAY.getLength().plus(Duration.ofHours(1)))
+                .build();
+    }
+
+    /**
+     * 심사 후 차단 대상이면 거절
+     * @param merchantId 가맹점 ID (출금이면 null)
+     * @throws VelocityLimitExceededException 점수가 차단 점수 이상인 경우
+     */
+    public VelocityScore screen(AccountNumber accountNumber, String merchantId, Money amount) {
+        VelocityScore score = score(accountNumber, merchantId, amount);
+        decisionCounters.get(score.decision()).increment();
+
+        if (score.decision() == VelocityDecision.BLOCK) {
+            log.warn("이상거래 차단 - 계좌번호: {}, 가맹점: {}, 금액: {}, 점수: {}, 규칙: {}",
+                    accountNumber, merchantId, amount, score.score(), score.matchedRules());
+            throw new VelocityLimitExceededException(String.format(
+                    "거래 속도 한도를 초과했습니다. 점수: %d, 규칙: %s", score.score(), score.matchedRules()));
+        }
+        if (score.decision() == VelocityDecision.REVIEW) {
+            log.warn("이상거래 검토 대상 - 계좌번호: {}, 가맹점: {}, 금액: {}, 점수: {}, 규칙: {}",
+                    accountNumber, merchantId, amount, score.score(), score.matchedRules());
+        }
+        return score;
+    }
+
+    /**
+     * 심사 (이번 거래를 포함한 집계 기준)
+     * @param merchantId 가맹점 ID (출금이면 null, 가맹점 규칙은 일치하지 않는다)
+     */
+    public VelocityScore score(AccountNumber accountNumber, String merchantId, Money amount) {
+        if (!properties.isEnabled() || ruleSet.isEmpty()) {
+            return VelocityScore.APPROVED;
+        }
+
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long amountMinor = toMinorUnits(amount);
+        long[] snapshot = SNAPSHOT.get();
+        read(accountCounters, accountNumber.getValue(), now, amountMinor, snapshot,
+                VelocityRuleSet.snapshotOffset(VelocityDimension.ACCOUNT));
+        read(merchantCounters, merchantId, now, amountMinor, snapshot,
+                VelocityRuleSet.snapshotOffset(VelocityDimension.MERCHANT));
+
+        long matched = ruleSet.evaluate(snapshot);
+        VelocityScore score = matched == 0L ? VelocityScore.APPROVED : toScore(matched);
+        evaluateTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return score;
+    }
+
+    /**
+     * 처리된 거래 기록 (동기화가 켜져 있으면 다른 노드에도 전달)
+     * @param merchantId 가맹점 ID (출금이면 null)
+     */
+    public void record(AccountNumber accountNumber, String merchantId, Money amount) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long amountMinor = toMinorUnits(amount);
+        apply(accountNumber.getValue(), merchantId, amountMinor, now);
+
+        if (properties.isSyncEnabled()) {
+            publishAccountEventPort.publishVelocityObserved(nodeId, accountNumber, merchantId, amountMinor, now);
+        }
+    }
+
+    /**
+     * 다른 노드가 기록한 거래 반영 (동기화 이벤트 반영기에서 호출)
+     * @return 반영했으면 true (자기 노드 이벤트이거나 가장 긴 구간보다 오래된 이벤트면 false)
+     */
+    public boolean applyRemote(String originNodeId, String accountNumber, String merchantId,
+                               long amountMinor, long observedAtMillis) {
+        if (!properties.isEnabled() || nodeId.equals(originNodeId)) {
+            return false;
+        }
+        if (observedAtMillis <= System.currentTimeMillis() - VelocityWindow.DAY.getLength().toMillis()) {
+            return false;
+        }
+        apply(accountNumber, merchantId, amountMinor, observedAtMillis);
+        return true;
+    }
+
+    private void apply(String accountNumber, String merchantId, long amountMinor, long epochMillis) {
+        accountCounters.get(accountNumber, key -> new VelocityCounter()).add(epochMillis, amountMinor);
+        if (merchantId != null && !merchantId.isEmpty()) {
+            merchantCounters.get(merchantId, key -> new VelocityCounter()).add(epochMillis, amountMinor);
+        }
+    }
+
+    /**
+     * 키의 현재 집계에 이번 거래를 더해 스냅샷에 채운다. (집계가 없는 키는 이번 거래만, 키가 없으면 0)
+     */
+    private static void read(Cache<String, VelocityCounter> counters, String key, long now, long amountMinor,
+                             long[] snapshot, int offset) {
+        int length = VelocityCounter.snapshotLength();
+        if (key == null || key.isEmpty()) {
+            for (int i = 0; i < length; i++) {
+                snapshot[offset + i] = 0L;
+            }
+            return;
+        }
+
+        VelocityCounter counter = counters.getIfPresent(key);
+        if (counter != null) {
+            counter.read(now, snapshot, offset);
+        } else {
+            for (int i = 0; i < length; i++) {
+                snapshot[offset + i] = 0L;
+            }
+        }
+        for (int i = 0; i < length; i += 2) {
+            snapshot[offset + i]++;
+            snapshot[offset + i + 1] += amountMinor;
+        }
+    }
+
+    private VelocityScore toScore(long matched) {
+        int score = ruleSet.score(matched);
+        VelocityDecision decision = score >= properties.getBlockScore() ? VelocityDecision.BLOCK
+                : score >= properties.getReviewScore() ? VelocityDecision.REVIEW
+                : VelocityDecision.APPROVE;
+        return new VelocityScore(score, decision, ruleSet.names(matched));
+    }
+
+    private static long toMinorUnits(Money amount) {
+        return amount.getAmount().movePointRight(2).longValue();
+    }
+}
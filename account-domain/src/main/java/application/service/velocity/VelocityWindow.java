@@ -0,0 +1,66 @@
+package application.service.velocity;
+
+import java.time.Duration;
+
+/**
+ * 거래 속도 집계 구간
+ *
+ * 각 구간은 고정 폭 버킷의 링 버퍼로 집계한다. 구간 합계는 최근 buckets개 버킷의 합이므로
+ * 버킷 폭만큼의 오차가 있다. (예: 1시간 구간은 5분 단위로 밀려난다)
+ */
+public enum VelocityWindow {
+
+    /**
+     * 1분 (10초 x 6)
+     */
+    MINUTE(Duration.ofMinutes(1), 6),
+
+    /**
+     * 1시간 (5분 x 12)
+     */
+    HOUR(Duration.ofHours(1), 12),
+
+    /**
+     * 24시간 (1시간 x 24)
+     */
+    DAY(Duration.ofDays(1), 24);
+
+    private static final VelocityWindow[] VALUES = values();
+
+    private final Duration length;
+    private final int buckets;
+    private final long bucketMillis;
+
+    VelocityWindow(Duration length, int buckets) {
+        this.length = length;
+        this.buckets = buckets;
+        this.bucketMillis = length.toMillis() / buckets;
+    }
+
+    public Duration getLength() {
+        return length;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    /**
+     * 시각이 속한 버킷 번호 (epoch 기준)
+     */
+    long epoch(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis);
+    }
+
+    static VelocityWindow of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
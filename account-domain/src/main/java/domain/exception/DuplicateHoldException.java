@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class DuplicateHoldException extends RuntimeException {
+    public DuplicateHoldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class VelocityLimitExceededException extends RuntimeException {
+    public VelocityLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -5,6 +5,7 @@ import domain.exception.InsufficientBalanceException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -115,6 +116,24 @@ public class Account {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // ============== 조회 메서드 ==============
+
+    public Long getAccountId() { return accountId; }
+    public AccountNumber getAccountNumber() { return accountNumber; }
+    public Money getBalance() { return balance; }
+    public AccountStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
+
+    /**
+     * 아직 저장되지 않은 거래 기록
+     * @return
+     */
+    public List<Transaction> getTransactions() {
+        return Collections.unmodifiableList(transactions);
+    }
+
     // ============== 검증 메서드 ==============
 
     private AccountNumber validateAccountNumber(AccountNumber accountNumber) {
@@ -0,0 +1,98 @@
+package domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 거래 집계 값 객체
+ * 거래 유형별 건수와 합계(최소 화폐 단위, 1/100원)를 보관한다.
+ */
+public class DailyAccountAggregate {
+    private static final int TYPE_COUNT = TransactionType.values().length;
+
+    private final String accountNumber;
+    private final LocalDate date;
+    private final long[] counts;
+    private final long[] sumsInMinorUnits;
+
+    public DailyAccountAggregate(String accountNumber, LocalDate date, long[] counts, long[] sumsInMinorUnits) {
+        if (counts.length != TYPE_COUNT || sumsInMinorUnits.length != TYPE_COUNT) {
+            throw new IllegalArgumentException("거래 유형 수와 집계 배열 크기가 일치하지 않습니다.");
+        }
+        this.accountNumber = accountNumber;
+        this.date = date;
+        this.counts = counts.clone();
+        this.sumsInMinorUnits = sumsInMinorUnits.clone();
+    }
+
+    public static DailyAccountAggregate empty(String accountNumber, LocalDate date) {
+        return new DailyAccountAggregate(accountNumber, date, new long[TYPE_COUNT], new long[TYPE_COUNT]);
+    }
+
+    /**
+     * 거래 한 건 반영
+     * @param type
+     * @param amount
+     * @return 새 집계
+     */
+    public DailyAccountAggregate add(TransactionType type, BigDecimal amount) {
+        long[] newCounts = counts.clone();
+        long[] newSums = sumsInMinorUnits.clone();
+        newCounts[type.ordinal()]++;
+        newSums[type.ordinal()] += toMinorUnits(amount);
+        return new DailyAccountAggregate(accountNumber, date, newCounts, newSums);
+    }
+
+    public long count(TransactionType type) {
+        return counts[type.ordinal()];
+    }
+
+    public long totalCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public BigDecimal sum(TransactionType type) {
+        return fromMinorUnits(sumsInMinorUnits[type.ordinal()]);
+    }
+
+    /**
+     * 입금 합계 (입금 + 이체입금)
+     */
+    public BigDecimal depositSum() {
+        return sumWhere(false);
+    }
+
+    /**
+     * 출금 합계 (출금 + 이체출금)
+     */
+    public BigDecimal withdrawalSum() {
+        return sumWhere(true);
+    }
+
+    private BigDecimal sumWhere(boolean withdrawal) {
+        long total = 0;
+        for (TransactionType type : TransactionType.values()) {
+            if (type.isWithdrawal() == withdrawal) {
+                total += sumsInMinorUnits[type.ordinal()];
+            }
+        }
+        return fromMinorUnits(total);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+
+    public String getAccountNumber() { return accountNumber; }
+    public LocalDate getDate() { return date; }
+    public long[] getCounts() { return counts.clone(); }
+    public long[] getSumsInMinorUnits() { return sumsInMinorUnits.clone(); }
+}
@@ -0,0 +1,62 @@
+package domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 보류(가승인) 값 객체
+ * 계좌 잔액 중 일부를 정해진 시각까지 묶어 두어 다른 출금에 쓰이지 않게 한다.
+ * 만료 시각은 노드 간에 같은 의미를 갖도록 시간대와 무관한 Instant로 보관한다.
+ */
+public class Hold {
+    private final String holdId;
+    private final AccountNumber accountNumber;
+    private final Money amount;
+    private final Instant expiresAt;
+
+    public Hold(String holdId, AccountNumber accountNumber, Money amount, Instant expiresAt) {
+        if (holdId == null || holdId.isBlank()) {
+            throw new IllegalArgumentException("보류 ID는 필수입니다.");
+        }
+        if (accountNumber == null) {
+            throw new IllegalArgumentException("계좌번호는 필수입니다.");
+        }
+        if (amount == null || amount.isZero()) {
+            throw new IllegalArgumentException("보류 금액은 0보다 커야 합니다.");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("보류 만료 시각은 필수입니다.");
+        }
+        this.holdId = holdId;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public String getHoldId() { return holdId; }
+    public AccountNumber getAccountNumber() { return accountNumber; }
+    public Money getAmount() { return amount; }
+    public Instant getExpiresAt() { return expiresAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Hold hold = (Hold) o;
+        return Objects.equals(holdId, hold.holdId) && Objects.equals(accountNumber, hold.accountNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(holdId, accountNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "Hold{" + holdId + ", " + accountNumber + ", " + amount + ", expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,73 @@
+package domain.model;
+
+import domain.exception.InsufficientBalanceException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 분할 잔액 값 객체 (핫 계좌용)
+ * 하나의 계좌 잔액을 N개의 슬롯에 나누어 보관한다.
+ * 각 슬롯은 음수가 될 수 없으므로 슬롯 합계인 계좌 잔액도 음수가 될 수 없다.
+ */
+public class ShardedBalance {
+    private final AccountNumber accountNumber;
+    private final Money[] slots;
+
+    public ShardedBalance(AccountNumber accountNumber, Money[] slots) {
+        if (accountNumber == null) {
+            throw new IllegalArgumentException("계좌번호는 필수입니다.");
+        }
+        if (slots == null || slots.length == 0) {
+            throw new IllegalArgumentException("잔액 슬롯은 1개 이상이어야 합니다.");
+        }
+        this.accountNumber = accountNumber;
+        this.slots = slots.clone();
+    }
+
+    /**
+     * 슬롯 합계 (계좌 잔액)
+     * @return
+     */
+    public Money total() {
+        Money total = new Money("0");
+        for (Money slot : slots) {
+            total = total.add(slot);
+        }
+        return total;
+    }
+
+    /**
+     * 출금 계획 수립 - startSlot부터 순서대로 슬롯 잔액을 빌려 요청 금액을 채운다.
+     * @param amount
+     * @param startSlot
+     * @return 슬롯 번호 -> 차감 금액
+     */
+    public Map<Integer, Money> planWithdrawal(Money amount, int startSlot) {
+        if (amount == null || amount.isZero()) {
+            throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다.");
+        }
+
+        Money total = total();
+        if (!total.isGreaterThanOrEqual(amount)) {
+            throw new InsufficientBalanceException(String.format("잔액이 부족합니다. 현재 잔액: %s, 출금 요청: %s", total, amount));
+        }
+
+        Map<Integer, Money> debits = new LinkedHashMap<>();
+        Money remaining = amount;
+        for (int i = 0; i < slots.length && !remaining.isZero(); i++) {
+            int slot = Math.floorMod(startSlot + i, slots.length);
+            if (slots[slot].isZero()) {
+                continue;
+            }
+            Money debit = slots[slot].isGreaterThanOrEqual(remaining) ? remaining : slots[slot];
+            debits.put(slot, debit);
+            remaining = remaining.subtract(debit);
+        }
+        return debits;
+    }
+
+    public AccountNumber getAccountNumber() { return accountNumber; }
+    public int getSlotCount() { return slots.length; }
+    public Money getSlot(int slot) { return slots[slot]; }
+}
@@ -0,0 +1,318 @@
+package adapter.command;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountTopics;
+import adapter.persistence.AccountMapper;
+import adapter.persistence.AccountPersistenceAdapter;
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.repository.AccountJpaRepository;
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.service.MoneyMovementCommand;
+import application.service.MoneyMovementProcessor;
+import application.service.commandlog.CommandLogProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.redisson.Redisson;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잠금 기반 출금 vs 명령 로그 출금 지연/처리량 비교 (MySQL, Redis 컨테이너 + 내장 Kafka 브로커)
+ *
+ * - 잠금 기반: Redis 계좌 락(@DistributedLock과 같은 키) -> DB 조회 -> DB 갱신 (요청별 트랜잭션)
+ * - 명령 로그: account.commands 기록 -> 파티션 소유 스트림 태스크가 메모리 상태에 적용 (exactly_once_v2) -> 결과 수신
+ *
+ * 같은 계좌 집합에 같은 수의 동시 출금을 보내 처리량과 요청 지연(p50/p99)을 출력한다.
+ * 명령 로그 경로의 지연은 exactly_once_v2 트랜잭션 커밋 주기(commit.interval.ms, 기본 100ms)에 크게 좌우된다.
+ * 실행: ./gradlew :account-domain:test -Pbenchmark --tests '*CommandLogLatencyBenchmarkTest'
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountPersistenceAdapter.class, AccountMapper.class, MoneyMovementProcessor.class})
+class CommandLogLatencyBenchmarkTest {
+    private static final int THREADS = 32;
+    private static final int ACCOUNTS = 64;
+    private static final int WITHDRAWALS_PER_THREAD = 200;
+    private static final Money AMOUNT = new Money(new BigDecimal("100"));
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("10000000");
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static EmbeddedKafkaBroker broker;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 8);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "adapter.persistence.entity")
+    @EnableJpaRepositories(basePackages = "adapter.persistence.repository")
+    static class Config {
+    }
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private AccountPersistenceAdapter accountPersistenceAdapter;
+
+    @Autowired
+    private MoneyMovementProcessor processor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path stateDir;
+
+    private List<AccountNumber> accounts;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 6, AccountTopics.COMMANDS, AccountTopics.COMMAND_RESULTS,
+                AccountTopics.TRANSACTIONS)
+                .brokerProperties(Map.of(
+                        "transaction.state.log.replication.factor", "1",
+                        "transaction.state.log.min.isr", "1"));
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = String.format("8%011d", i);
+            accountJpaRepository.save(AccountJpaEntity.builder()
+                    .accountNumber(accountNumber)
+                    .balance(INITIAL_BALANCE)
+                    .status(AccountStatus.ACTIVE)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            accounts.add(new AccountNumber(accountNumber));
+        }
+    }
+
+    @Test
+    void lockBasedWithdrawals() throws Exception {
+        org.redisson.config.Config redisConfig = new org.redisson.config.Config();
+        redisConfig.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getFirstMappedPort());
+        RedissonClient redisson = Redisson.create(redisConfig);
+
+        int failures;
+        try {
+            Withdrawal withdrawal = command -> {
+                RLock lock = redisson.getLock("lock:account:" + command.accountNumber().getValue());
+                try {
+                    if (!lock.tryLock(3000, 3000, TimeUnit.MILLISECONDS)) {
+                        throw new IllegalStateException("락 획득 대기 시간을 초과했습니다");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                try {
+                    transactionTemplate.execute(status -> processor.apply(List.of(command))).get(0).getOrThrow();
+                } finally {
+                    lock.unlock();
+                }
+            };
+            warmUp(withdrawal);
+            failures = run("잠금 기반", withdrawal);
+        } finally {
+            redisson.shutdown();
+        }
+
+        assertThat(failures).isZero();
+        BigDecimal total = accountJpaRepository.findAll().stream()
+                .map(AccountJpaEntity::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(total).isEqualByComparingTo(expectedTotal());
+    }
+
+    @Test
+    void commandLogWithdrawals() throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        CommandLogProperties properties = new CommandLogProperties();
+        properties.setEnabled(true);
+        properties.setReplyTimeout(Duration.ofSeconds(10));
+        AccountCommandStreamsConfig config = new AccountCommandStreamsConfig();
+
+        StreamsBuilder builder = new StreamsBuilder();
+        config.accountCommandStream(builder, properties, accountPersistenceAdapter, new AccountEventCodec(), objectMapper);
+        Properties streamsConfig = new Properties();
+        streamsConfig.put(StreamsConfig.APPLICATION_ID_CONFIG, "command-log-benchmark-" + System.nanoTime());
+        streamsConfig.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        streamsConfig.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        streamsConfig.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
+        KafkaStreams streams = new KafkaStreams(builder.build(), streamsConfig);
+
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of(broker.getBrokersAsString()));
+        ReplyingKafkaTemplate<String, AccountCommandMessage, AccountCommandReply> replyingTemplate =
+                config.accountCommandReplyingTemplate(kafkaProperties, properties, objectMapper, "command-log-benchmark");
+
+        int failures;
+        try {
+            streams.start();
+            awaitRunning(streams);
+            replyingTemplate.start();
+            assertThat(replyingTemplate.waitForAssignment(Duration.ofSeconds(30))).isTrue();
+
+            KafkaAccountCommandAdapter adapter = new KafkaAccountCommandAdapter(replyingTemplate, new SimpleMeterRegistry());
+            Withdrawal withdrawal = command -> adapter.submit(command).join();
+            // 첫 명령에서 계좌를 DB에서 읽어 저장소에 올린다
+            warmUp(withdrawal);
+            failures = run("명령 로그", withdrawal);
+        } finally {
+            replyingTemplate.stop();
+            streams.close(Duration.ofSeconds(30));
+        }
+
+        assertThat(failures).isZero();
+    }
+
+    private void warmUp(Withdrawal withdrawal) {
+        for (AccountNumber accountNumber : accounts) {
+            withdrawal.apply(MoneyMovementCommand.withdraw(accountNumber, AMOUNT, "예열 출금"));
+        }
+    }
+
+    /**
+     * 스레드마다 계좌를 돌아가며 출금하고 처리량/지연을 출력한다. 스레드보다 계좌가 많지만 스레드끼리 계좌가 겹친다.
+     * @return 예외로 끝난 출금 수
+     */
+    private int run(String name, Withdrawal withdrawal) throws Exception {
+        long[][] latencies = new long[THREADS][WITHDRAWALS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                int failures = 0;
+                for (int i = 0; i < WITHDRAWALS_PER_THREAD; i++) {
+                    AccountNumber accountNumber = accounts.get((thread + i * 7) % ACCOUNTS);
+                    long begin = System.nanoTime();
+                    try {
+                        withdrawal.apply(MoneyMovementCommand.withdraw(accountNumber, AMOUNT, "벤치마크 출금"));
+                    } catch (RuntimeException e) {
+                        failures++;
+                    }
+                    latencies[thread][i] = System.nanoTime() - begin;
+                }
+                return failures;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        int failures = 0;
+        for (Future<Integer> future : futures) {
+            failures += future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("[%s] %d건, 처리량: %.0f건/s, 지연 p50: %.2fms, p99: %.2fms, 최대: %.2fms, 실패: %d%n",
+                name, all.length, all.length / (elapsed / 1e9),
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6, failures);
+        return failures;
+    }
+
+    private BigDecimal expectedTotal() {
+        long withdrawals = ACCOUNTS + (long) THREADS * WITHDRAWALS_PER_THREAD;
+        return INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS))
+                .subtract(AMOUNT.getAmount().multiply(BigDecimal.valueOf(withdrawals)));
+    }
+
+    private static void awaitRunning(KafkaStreams streams) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (streams.state() != KafkaStreams.State.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(streams.state()).isEqualTo(KafkaStreams.State.RUNNING);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Withdrawal {
+        void apply(MoneyMovementCommand command);
+    }
+}
@@ -0,0 +1,171 @@
+package adapter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fintech.platform.infrastructure.kafka.codec.BinaryEventWriter;
+import domain.model.AccountStatus;
+import domain.model.TransactionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌 이벤트 이진 코덱 테스트
+ *
+ * Jackson 대비 크기/CPU 비교는 @Tag("benchmark") - 실행: ./gradlew :account-domain:test -Pbenchmark --tests '*AccountEventCodecTest'
+ */
+class AccountEventCodecTest {
+    private static final int TAG_TRANSACTION = 1;
+
+    private final AccountEventCodec codec = new AccountEventCodec();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void roundTripsTransactionEvent() {
+        TransactionEvent event = transactionEvent();
+
+        byte[] encoded = codec.encode(event);
+
+        assertThat(codec.decodeTransaction(encoded)).isEqualTo(event);
+        assertThat(codec.decode(encoded)).isEqualTo(event);
+    }
+
+    @Test
+    void roundTripsStatusChangedAndVelocityEvents() {
+        AccountStatusChangedEvent statusChanged = new AccountStatusChangedEvent(UUID.randomUUID().toString(),
+                "110000000001", AccountStatus.ACTIVE, AccountStatus.FROZEN, LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+        VelocityObservedEvent velocityObserved = new VelocityObservedEvent(UUID.randomUUID().toString(),
+                "110000000001", "가맹점-001", 1_234_500L, 1_792_000_000_000L);
+
+        assertThat(codec.decode(codec.encode(statusChanged))).isEqualTo(statusChanged);
+        assertThat(codec.decode(codec.encode(velocityObserved))).isEqualTo(velocityObserved);
+    }
+
+    @Test
+    void truncatesTimestampsToMicroseconds() {
+        TransactionEvent event = new TransactionEvent(UUID.randomUUID().toString(), "110000000001",
+                TransactionType.DEPOSIT, new BigDecimal("1.00"), new BigDecimal("1.00"),
+                LocalDateTime.of(2026, 3, 4, 5, 6, 7, 123_456_789));
+
+        assertThat(codec.decodeTransaction(codec.encode(event)).occurredAt())
+                .isEqualTo(LocalDateTime.of(2026, 3, 4, 5, 6, 7, 123_456_000));
+    }
+
+    @Test
+    void skipsFieldsAppendedByNewerSchemaVersion() {
+        TransactionEvent event = transactionEvent();
+        // 다음 버전이 본문 끝에 필드를 하나 덧붙였다고 가정
+        byte[] newer = new BinaryEventWriter(128)
+                .begin(AccountEventCodec.SCHEMA_VERSION + 1, TAG_TRANSACTION)
+                .writeUuid(UUID.fromString(event.eventId()))
+                .writeAscii(event.accountNumber())
+                .writeByte(1)
+                .writeVarLong(1_000_050L)
+                .writeVarLong(5_000_000L)
+                .writeZigZagLong(0L)
+                .writeUtf8("새 필드")
+                .finish();
+
+        TransactionEvent decoded = codec.decodeTransaction(newer);
+
+        assertThat(decoded.amount()).isEqualByComparingTo("10000.50");
+        assertThat(decoded.balanceAfter()).isEqualByComparingTo("50000.00");
+        assertThat(decoded.occurredAt()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+    }
+
+    @Test
+    void rejectsUnknownTypeCodes() {
+        byte[] unknownType = new BinaryEventWriter(128)
+                .begin(AccountEventCodec.SCHEMA_VERSION, TAG_TRANSACTION)
+                .writeUuid(UUID.randomUUID())
+                .writeAscii("110000000001")
+                .writeByte(99)
+                .writeVarLong(100L)
+                .writeVarLong(100L)
+                .writeZigZagLong(0L)
+                .finish();
+
+        assertThatThrownBy(() -> codec.decodeTransaction(unknownType))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void binaryEncodingIsSmallerThanJson() throws Exception {
+        TransactionEvent event = transactionEvent();
+
+        int binary = codec.encode(event).length;
+        int json = objectMapper.writeValueAsBytes(event).length;
+
+        assertThat(binary * 3).isLessThan(json);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareWithJackson() throws Exception {
+        int iterations = 500_000;
+        TransactionEvent[] events = new TransactionEvent[1024];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new TransactionEvent(UUID.randomUUID().toString(), String.valueOf(110000000000L + i),
+                    TransactionType.values()[i % 4], BigDecimal.valueOf(1000L + i * 37L, 2),
+                    BigDecimal.valueOf(5_000_000L + i * 101L, 2), LocalDateTime.of(2026, 10, 19, 9, 0).plusNanos(i * 1_000L));
+        }
+        byte[][] binary = new byte[events.length][];
+        byte[][] json = new byte[events.length][];
+        long binaryBytes = 0;
+        long jsonBytes = 0;
+        for (int i = 0; i < events.length; i++) {
+            binary[i] = codec.encode(events[i]);
+            json[i] = objectMapper.writeValueAsBytes(events[i]);
+            binaryBytes += binary[i].length;
+            jsonBytes += json[i].length;
+        }
+        System.out.printf("[크기] 이진: %.1f바이트, JSON: %.1f바이트 (%.1f%%)%n",
+                (double) binaryBytes / events.length, (double) jsonBytes / events.length, 100.0 * binaryBytes / jsonBytes);
+
+        // 두 번 돌려 두 번째 결과를 본다 (JIT 예열)
+        for (int round = 0; round < 2; round++) {
+            long sink = 0;
+            long begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += codec.encode(events[i & 1023]).length;
+            }
+            long binaryEncode = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += objectMapper.writeValueAsBytes(events[i & 1023]).length;
+            }
+            long jsonEncode = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += codec.decodeTransaction(binary[i & 1023]).amount().scale();
+            }
+            long binaryDecode = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += objectMapper.readValue(json[i & 1023], TransactionEvent.class).amount().scale();
+            }
+            long jsonDecode = System.nanoTime() - begin;
+
+            if (round == 1) {
+                System.out.printf("[인코딩] 이진: %.0fns/건, JSON: %.0fns/건%n",
+                        (double) binaryEncode / iterations, (double) jsonEncode / iterations);
+                System.out.printf("[디코딩] 이진: %.0fns/건, JSON: %.0fns/건 (sink %d)%n",
+                        (double) binaryDecode / iterations, (double) jsonDecode / iterations, sink);
+            }
+        }
+    }
+
+    private static TransactionEvent transactionEvent() {
+        return new TransactionEvent(UUID.randomUUID().toString(), "110000000001", TransactionType.WITHDRAW,
+                new BigDecimal("10000.50"), new BigDecimal("50000.00"), LocalDateTime.of(2026, 10, 19, 9, 30, 15, 250_000_000));
+    }
+}
@@ -0,0 +1,132 @@
+package adapter.stream;
+
+import adapter.event.AccountEventCodec;
+import adapter.event.AccountTopics;
+import adapter.event.TransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import domain.model.DailyAccountAggregate;
+import domain.model.TransactionType;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일일 집계 토폴로지 테스트 (TopologyTestDriver)
+ */
+class DailyAggregateTopologyTest {
+    private static final String ACCOUNT = "110000000001";
+    private static final String OTHER_ACCOUNT = "110000000002";
+
+    @TempDir
+    Path stateDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final DailyAggregateProperties properties = new DailyAggregateProperties();
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, TransactionEvent> transactions;
+    private KeyValueStore<String, DailyAccountAggregate> store;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        new AccountStreamsConfig().dailyAggregateStream(builder, properties, new AccountEventCodec(), objectMapper);
+
+        Properties config = new Properties();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "daily-aggregate-test");
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        config.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        driver = new TopologyTestDriver(builder.build(), config);
+
+        Serializer<TransactionEvent> serializer = new TransactionEventSerde(new AccountEventCodec(), objectMapper).serializer();
+        transactions = driver.createInputTopic(AccountTopics.TRANSACTIONS, Serdes.String().serializer(), serializer);
+        store = driver.getKeyValueStore(properties.getStoreName());
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    void aggregatesCountsAndSumsPerAccountAndDayByType() {
+        LocalDateTime today = LocalDate.now().atTime(10, 0);
+        send(ACCOUNT, TransactionType.DEPOSIT, "10000.50", today);
+        send(ACCOUNT, TransactionType.DEPOSIT, "2000", today.plusHours(1));
+        send(ACCOUNT, TransactionType.WITHDRAW, "3000.25", today.plusHours(2));
+        send(ACCOUNT, TransactionType.TRANSFER_OUT, "1000", today.plusHours(3));
+        send(ACCOUNT, TransactionType.WITHDRAW, "500", today.minusDays(1));
+        send(OTHER_ACCOUNT, TransactionType.WITHDRAW, "700", today);
+
+        DailyAccountAggregate aggregate = store.get(DailyAggregateKeys.of(today.toLocalDate(), ACCOUNT));
+        assertThat(aggregate.count(TransactionType.DEPOSIT)).isEqualTo(2);
+        assertThat(aggregate.count(TransactionType.WITHDRAW)).isEqualTo(1);
+        assertThat(aggregate.count(TransactionType.TRANSFER_OUT)).isEqualTo(1);
+        assertThat(aggregate.totalCount()).isEqualTo(4);
+        assertThat(aggregate.depositSum()).isEqualByComparingTo("12000.50");
+        assertThat(aggregate.withdrawalSum()).isEqualByComparingTo("4000.25");
+
+        DailyAccountAggregate yesterday = store.get(DailyAggregateKeys.of(today.toLocalDate().minusDays(1), ACCOUNT));
+        assertThat(yesterday.withdrawalSum()).isEqualByComparingTo("500");
+        assertThat(yesterday.totalCount()).isEqualTo(1);
+
+        DailyAccountAggregate other = store.get(DailyAggregateKeys.of(today.toLocalDate(), OTHER_ACCOUNT));
+        assertThat(other.withdrawalSum()).isEqualByComparingTo("700");
+        assertThat(other.depositSum()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void readsLegacyJsonEvents() throws Exception {
+        LocalDateTime now = LocalDate.now().atTime(9, 30);
+        TransactionEvent event = event(ACCOUNT, TransactionType.DEPOSIT, "1500", now);
+        driver.createInputTopic(AccountTopics.TRANSACTIONS, Serdes.String().serializer(), Serdes.ByteArray().serializer())
+                .pipeInput(ACCOUNT, objectMapper.writeValueAsBytes(event));
+        send(ACCOUNT, TransactionType.DEPOSIT, "500", now);
+
+        DailyAccountAggregate aggregate = store.get(DailyAggregateKeys.of(now.toLocalDate(), ACCOUNT));
+        assertThat(aggregate.count(TransactionType.DEPOSIT)).isEqualTo(2);
+        assertThat(aggregate.depositSum()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void purgesDaysOlderThanRetention() {
+        LocalDateTime expired = LocalDate.now().minusDays(properties.getRetentionDays() + 1L).atStartOfDay();
+        LocalDateTime kept = LocalDate.now().minusDays(properties.getRetentionDays() - 1L).atStartOfDay();
+        send(ACCOUNT, TransactionType.DEPOSIT, "100", expired);
+        send(ACCOUNT, TransactionType.DEPOSIT, "100", kept);
+
+        driver.advanceWallClockTime(Duration.ofHours(1));
+
+        assertThat(store.get(DailyAggregateKeys.of(expired.toLocalDate(), ACCOUNT))).isNull();
+        assertThat(store.get(DailyAggregateKeys.of(kept.toLocalDate(), ACCOUNT))).isNotNull();
+    }
+
+    private void send(String accountNumber, TransactionType type, String amount, LocalDateTime occurredAt) {
+        transactions.pipeInput(accountNumber, event(accountNumber, type, amount, occurredAt));
+    }
+
+    private static TransactionEvent event(String accountNumber, TransactionType type, String amount,
+                                          LocalDateTime occurredAt) {
+        return new TransactionEvent(UUID.randomUUID().toString(), accountNumber, type,
+                new BigDecimal(amount), BigDecimal.ZERO, occurredAt);
+    }
+}
@@ -0,0 +1,214 @@
+package application.service.groupcommit;
+
+import adapter.persistence.AccountMapper;
+import adapter.persistence.AccountPersistenceAdapter;
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.repository.AccountJpaRepository;
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.service.MoneyMovementCommand;
+import application.service.MoneyMovementOutcome;
+import application.service.MoneyMovementProcessor;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹 커밋 vs 요청별 트랜잭션 처리량/지연 비교 (MySQL 컨테이너)
+ *
+ * 같은 수의 동시 입금을 두 방식으로 처리해 초당 처리 건수와 요청 지연(p50/p99)을 출력한다.
+ * 스레드마다 자기 계좌에만 입금하므로 (실제 서비스의 계좌 락과 같이) 요청별 트랜잭션끼리 버전 충돌은 없다.
+ * 실행: ./gradlew :account-domain:test -Pbenchmark --tests '*GroupCommitBenchmarkTest'
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountPersistenceAdapter.class, AccountMapper.class, MoneyMovementProcessor.class})
+class GroupCommitBenchmarkTest {
+    private static final int THREADS = 32;
+    private static final int DEPOSITS_PER_THREAD = 300;
+    private static final Money AMOUNT = new Money(new BigDecimal("100"));
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 8);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "adapter.persistence.entity")
+    @EnableJpaRepositories(basePackages = "adapter.persistence.repository")
+    static class Config {
+    }
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private MoneyMovementProcessor processor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private List<AccountNumber> accounts;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        accounts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String accountNumber = String.format("9%011d", i);
+            accountJpaRepository.save(AccountJpaEntity.builder()
+                    .accountNumber(accountNumber)
+                    .balance(BigDecimal.ZERO)
+                    .status(AccountStatus.ACTIVE)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            accounts.add(new AccountNumber(accountNumber));
+        }
+    }
+
+    @Test
+    void perRequestTransactions() throws Exception {
+        Result result = run("요청별 트랜잭션", command -> {
+            List<MoneyMovementOutcome> outcomes = transactionTemplate.execute(status -> processor.apply(List.of(command)));
+            outcomes.get(0).getOrThrow();
+        });
+
+        assertBalances();
+        assertThat(result.failures()).isZero();
+    }
+
+    @Test
+    void groupCommit() throws Exception {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(64);
+        properties.setMaxWait(Duration.ofNanos(500_000));
+        properties.setLanes(4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GroupCommitExecutor executor = new GroupCommitExecutor(properties, processor, transactionTemplate, meterRegistry);
+        executor.start();
+
+        Result result;
+        try {
+            result = run("그룹 커밋", command -> executor.trySubmit(command).orElseThrow().join());
+        } finally {
+            executor.stop();
+        }
+
+        double meanBatchSize = meterRegistry.get("account.group_commit.batch_size").summary().mean();
+        System.out.printf("[그룹 커밋] 평균 배치 크기: %.1f%n", meanBatchSize);
+
+        assertBalances();
+        assertThat(result.failures()).isZero();
+        assertThat(meanBatchSize).isGreaterThan(1.0);
+    }
+
+    private Result run(String name, Deposit deposit) throws Exception {
+        long[][] latencies = new long[THREADS][DEPOSITS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            AccountNumber accountNumber = accounts.get(t);
+            long[] threadLatencies = latencies[t];
+            futures.add(pool.submit((Callable<Integer>) () -> {
+                start.await();
+                int failures = 0;
+                for (int i = 0; i < DEPOSITS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    try {
+                        deposit.apply(MoneyMovementCommand.deposit(accountNumber, AMOUNT, "벤치마크 입금"));
+                    } catch (RuntimeException e) {
+                        failures++;
+                    }
+                    threadLatencies[i] = System.nanoTime() - begin;
+                }
+                return failures;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        int failures = 0;
+        for (Future<Integer> future : futures) {
+            failures += future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = all.length / (elapsed / 1e9);
+        System.out.printf("[%s] %d건, 처리량: %.0f건/s, 지연 p50: %.2fms, p99: %.2fms, 최대: %.2fms%n",
+                name, all.length, throughput,
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        return new Result(throughput, failures);
+    }
+
+    private void assertBalances() {
+        BigDecimal expected = AMOUNT.getAmount().multiply(BigDecimal.valueOf(DEPOSITS_PER_THREAD));
+        for (AccountJpaEntity account : accountJpaRepository.findAll()) {
+            assertThat(account.getBalance()).isEqualByComparingTo(expected);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Deposit {
+        void apply(MoneyMovementCommand command);
+    }
+
+    private record Result(double throughput, int failures) {
+    }
+}
@@ -0,0 +1,146 @@
+package application.service.hold;
+
+import adapter.hold.InMemoryHoldStoreAdapter;
+import application.port.out.LoadAccountPort;
+import application.service.TransactionService;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.exception.HoldNotFoundException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Hold;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 보류 서비스 테스트 (메모리 보류 저장소)
+ */
+class HoldServiceTest {
+    private static final AccountNumber ACCOUNT = new AccountNumber("110000000001");
+
+    private final InMemoryHoldStoreAdapter holdStore = new InMemoryHoldStoreAdapter();
+    private final LoadAccountPort loadAccountPort = mock(LoadAccountPort.class);
+    private final HotAccountService hotAccountService = mock(HotAccountService.class);
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final AccountMetadataCache accountMetadataCache = mock(AccountMetadataCache.class);
+
+    private HoldService holdService;
+
+    @BeforeEach
+    void setUp() {
+        HoldProperties properties = new HoldProperties();
+        properties.setEnabled(true);
+        holdService = new HoldService(holdStore, loadAccountPort, hotAccountService, transactionService,
+                properties, accountMetadataCache);
+        when(loadAccountPort.loadAccount(ACCOUNT)).thenReturn(Optional.of(new Account(1L, ACCOUNT,
+                new Money(new BigDecimal("1000")), AccountStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now(), 0L)));
+    }
+
+    @Test
+    void rejectsHoldsBeyondBalance() {
+        holdService.place(ACCOUNT, "HOLD_1", new Money(new BigDecimal("700")), Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> holdService.place(ACCOUNT, "HOLD_2", new Money(new BigDecimal("400")), Duration.ofMinutes(5)))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(holdService.getHeldAmount(ACCOUNT).getAmount()).isEqualByComparingTo("700");
+    }
+
+    @Test
+    void keepsHoldUntilDebitCompletes() {
+        holdService.place(ACCOUNT, "HOLD_1", new Money(new BigDecimal("300")), Duration.ofMinutes(5));
+        BigDecimal[] heldDuringDebit = new BigDecimal[1];
+        when(transactionService.withdrawHeld(eq(ACCOUNT), any(), any())).thenAnswer(invocation -> {
+            heldDuringDebit[0] = holdStore.loadHeldAmount(ACCOUNT).getAmount();
+            return new Transaction(1L, TransactionType.WITHDRAW, invocation.getArgument(1),
+                    new Money(new BigDecimal("800")), LocalDateTime.now(), "매입");
+        });
+
+        holdService.capture(ACCOUNT, "HOLD_1", new Money(new BigDecimal("200")), "매입");
+
+        // 출금하는 동안에는 보류 금액이 묶여 있고, 출금 후에는 남은 금액까지 모두 풀린다
+        assertThat(heldDuringDebit[0]).isEqualByComparingTo("300");
+        assertThat(holdService.getHeldAmount(ACCOUNT).getAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void failedDebitLeavesHoldInPlace() {
+        Hold hold = holdService.place(ACCOUNT, "HOLD_1", new Money(new BigDecimal("300")), Duration.ofMinutes(5));
+        when(transactionService.withdrawHeld(eq(ACCOUNT), any(), any()))
+                .thenThrow(new InsufficientBalanceException("잔액 부족"));
+
+        assertThatThrownBy(() -> holdService.capture(ACCOUNT, "HOLD_1", null, "매입"))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(holdStore.find(ACCOUNT, "HOLD_1", Instant.now())).map(Hold::getAmount).contains(hold.getAmount());
+        assertThat(holdService.getHeldAmount(ACCOUNT).getAmount()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    void releaseFailureAfterDebitDoesNotFailCapture() {
+        InMemoryHoldStoreAdapter failingRelease = new InMemoryHoldStoreAdapter() {
+            @Override
+            public Optional<Hold> release(AccountNumber accountNumber, String holdId) {
+                throw new IllegalStateException("보류 저장소 연결 실패");
+            }
+        };
+        HoldProperties properties = new HoldProperties();
+        properties.setEnabled(true);
+        holdService = new HoldService(failingRelease, loadAccountPort, hotAccountService, transactionService,
+                properties, accountMetadataCache);
+        holdService.place(ACCOUNT, "HOLD_1", new Money(new BigDecimal("300")), Duration.ofMinutes(5));
+        Transaction debit = new Transaction(1L, TransactionType.WITHDRAW, new Money(new BigDecimal("300")),
+                new Money(new BigDecimal("700")), LocalDateTime.now(), "매입");
+        when(transactionService.withdrawHeld(eq(ACCOUNT), any(), any())).thenReturn(debit);
+
+        // 출금이 커밋되었으므로 호출자는 성공을 받아 재시도하지 않는다 (남은 보류는 만료 정리 대상)
+        assertThat(holdService.capture(ACCOUNT, "HOLD_1", null, "매입")).isSameAs(debit);
+        verify(transactionService).withdrawHeld(eq(ACCOUNT), any(), any());
+    }
+
+    @Test
+    void rejectsCaptureAboveHoldWithoutDebiting() {
+        holdService.place(ACCOUNT, "HOLD_1", new Money(new BigDecimal("300")), Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> holdService.capture(ACCOUNT, "HOLD_1", new Money(new BigDecimal("301")), "매입"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> holdService.capture(ACCOUNT, "HOLD_UNKNOWN", null, "매입"))
+                .isInstanceOf(HoldNotFoundException.class);
+        verify(transactionService, never()).withdrawHeld(any(), any(), any());
+        assertThat(holdService.getHeldAmount(ACCOUNT).getAmount()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    void placeAndCaptureRunUnderAccountLock() throws Exception {
+        DistributedLock place = HoldService.class.getMethod("place", AccountNumber.class, String.class, Money.class,
+                Duration.class).getAnnotation(DistributedLock.class);
+        DistributedLock capture = HoldService.class.getMethod("capture", AccountNumber.class, String.class, Money.class,
+                String.class).getAnnotation(DistributedLock.class);
+        DistributedLock withdraw = TransactionService.class.getMethod("withdraw", AccountNumber.class, Money.class,
+                String.class).getAnnotation(DistributedLock.class);
+
+        assertThat(place.name()).isEqualTo(withdraw.name());
+        assertThat(place.key()).isEqualTo(withdraw.key());
+        assertThat(capture.name()).isEqualTo(withdraw.name());
+        assertThat(capture.key()).isEqualTo(withdraw.key());
+    }
+}
@@ -0,0 +1,287 @@
+package application.service.hotaccount;
+
+import adapter.persistence.AccountMapper;
+import adapter.persistence.AccountPersistenceAdapter;
+import adapter.persistence.BalanceSlotPersistenceAdapter;
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.repository.AccountJpaRepository;
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.service.MoneyMovementCommand;
+import application.service.MoneyMovementProcessor;
+import domain.exception.InsufficientBalanceException;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 핫 계좌 잔액 슬롯 경합 테스트 (MySQL 컨테이너)
+ *
+ * - 입금 경합 벤치마크: 한 계좌에 동시 입금을 계좌 행 하나(계좌 락으로 직렬화)와 잔액 슬롯으로 각각 처리해
+ *   처리량과 지연을 출력한다. 실행: ./gradlew :account-domain:test -Pbenchmark --tests '*HotAccountContentionTest'
+ * - 입출금 혼합: 동시 입금/출금(슬롯 간 빌려오기 포함)이 교착 없이 끝나고 슬롯 합계가 맞는지 확인한다.
+ * - 슬롯 준비/해제: 두 노드가 동시에 기동해도 슬롯을 한 번만 만들고, 설정에서 빠진 계좌는 잔액을 되돌린다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountPersistenceAdapter.class, BalanceSlotPersistenceAdapter.class, AccountMapper.class,
+        MoneyMovementProcessor.class})
+class HotAccountContentionTest {
+    private static final String ACCOUNT_NUMBER = "900000000001";
+    private static final int THREADS = 32;
+    private static final int SLOTS = 16;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 8);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "adapter.persistence.entity")
+    @EnableJpaRepositories(basePackages = "adapter.persistence.repository")
+    static class Config {
+    }
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private AccountPersistenceAdapter accountPersistenceAdapter;
+
+    @Autowired
+    private BalanceSlotPersistenceAdapter balanceSlotPersistenceAdapter;
+
+    @Autowired
+    private MoneyMovementProcessor processor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AccountNumber accountNumber = new AccountNumber(ACCOUNT_NUMBER);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS account_balance_slots ("
+                + "account_id BIGINT NOT NULL, slot_no INT NOT NULL, balance DECIMAL(19,2) NOT NULL DEFAULT 0.00, "
+                + "PRIMARY KEY (account_id, slot_no), FOREIGN KEY (account_id) REFERENCES accounts(account_id), "
+                + "CONSTRAINT chk_slot_balance_non_negative CHECK (balance >= 0))");
+        jdbcTemplate.update("DELETE FROM account_balance_slots");
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        accountJpaRepository.save(AccountJpaEntity.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .balance(new BigDecimal("100000"))
+                .status(AccountStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void singleRowDeposits() throws Exception {
+        // 실제 서비스의 계좌 락과 같이 계좌 하나의 입금을 직렬화한다
+        ReentrantLock accountLock = new ReentrantLock();
+        run("계좌 행 하나", THREADS, 300, i -> {
+            accountLock.lock();
+            try {
+                transactionTemplate.execute(status -> processor.apply(List.of(
+                        MoneyMovementCommand.deposit(accountNumber, new Money("100"), "벤치마크 입금"))))
+                        .get(0).getOrThrow();
+            } finally {
+                accountLock.unlock();
+            }
+        });
+
+        assertThat(accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("100000").add(new BigDecimal("100").multiply(BigDecimal.valueOf(THREADS * 300L))));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void slottedDeposits() throws Exception {
+        HotAccountService hotAccountService = hotAccountService();
+
+        run("잔액 슬롯 " + SLOTS + "개", THREADS, 300,
+                i -> hotAccountService.deposit(accountNumber, new Money("100"), "벤치마크 입금"));
+
+        assertThat(slotTotal(hotAccountService))
+                .isEqualByComparingTo(new BigDecimal("100000").add(new BigDecimal("100").multiply(BigDecimal.valueOf(THREADS * 300L))));
+    }
+
+    @Test
+    void concurrentDepositsAndWithdrawalsDoNotDeadlock() throws Exception {
+        HotAccountService hotAccountService = hotAccountService();
+        AtomicInteger withdrawn = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // 짝수 스레드는 입금, 홀수 스레드는 슬롯 하나로는 모자라기 쉬운 금액을 출금한다
+        int failures = run("입출금 혼합", THREADS, 100, i -> {
+            if (i % 2 == 0) {
+                hotAccountService.deposit(accountNumber, new Money("100"), "혼합 입금");
+                return;
+            }
+            try {
+                hotAccountService.withdraw(accountNumber, new Money("700"), "혼합 출금");
+                withdrawn.incrementAndGet();
+            } catch (InsufficientBalanceException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        BigDecimal expected = new BigDecimal("100000")
+                .add(new BigDecimal("100").multiply(BigDecimal.valueOf(THREADS / 2 * 100L)))
+                .subtract(new BigDecimal("700").multiply(BigDecimal.valueOf(withdrawn.get())));
+        assertThat(failures).isZero();
+        assertThat(slotTotal(hotAccountService)).isEqualByComparingTo(expected);
+        assertThat(withdrawn.get() + rejected.get()).isEqualTo(THREADS / 2 * 100);
+    }
+
+    @Test
+    void concurrentStartupCreatesSlotsOnce() throws Exception {
+        HotAccountService first = newHotAccountService(List.of(ACCOUNT_NUMBER));
+        HotAccountService second = newHotAccountService(List.of(ACCOUNT_NUMBER));
+
+        int failures = run("슬롯 동시 준비", 2, 1, thread -> (thread == 0 ? first : second).initializeSlots());
+
+        Long accountId = accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getAccountId();
+        assertThat(failures).isZero();
+        assertThat(balanceSlotPersistenceAdapter.countSlots(accountId)).isEqualTo(SLOTS);
+        assertThat(slotTotal(first)).isEqualByComparingTo("100000");
+        assertThat(accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getBalance())
+                .isEqualByComparingTo("0");
+    }
+
+    @Test
+    void removedHotAccountMovesSlotsBackToAccountBalance() {
+        HotAccountService hotAccountService = hotAccountService();
+        hotAccountService.deposit(accountNumber, new Money("5000"), "입금");
+        hotAccountService.withdraw(accountNumber, new Money("2000"), "출금");
+
+        newHotAccountService(List.of()).initializeSlots();
+
+        Long accountId = accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getAccountId();
+        assertThat(balanceSlotPersistenceAdapter.countSlots(accountId)).isZero();
+        assertThat(accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getBalance())
+                .isEqualByComparingTo("103000");
+        // 슬롯 설정이 남은 노드의 입금은 기록되지 않고 실패한다
+        assertThat(catchThrowable(
+                () -> hotAccountService.deposit(accountNumber, new Money("100"), "입금")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(transactionJpaRepository.count()).isEqualTo(2);
+    }
+
+    private HotAccountService hotAccountService() {
+        HotAccountService hotAccountService = newHotAccountService(List.of(ACCOUNT_NUMBER));
+        hotAccountService.initializeSlots();
+        return hotAccountService;
+    }
+
+    private HotAccountService newHotAccountService(List<String> accounts) {
+        HotAccountProperties properties = new HotAccountProperties();
+        properties.setSlots(SLOTS);
+        properties.setAccounts(accounts);
+        return new HotAccountService(
+                properties, accountPersistenceAdapter, balanceSlotPersistenceAdapter, transactionTemplate);
+    }
+
+    private BigDecimal slotTotal(HotAccountService hotAccountService) {
+        Long accountId = accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getAccountId();
+        return hotAccountService.getBalance(accountId).getAmount();
+    }
+
+    /**
+     * 스레드마다 operations번 작업을 실행하고 처리량/지연을 출력한다.
+     * @return 예외로 끝난 작업 수
+     */
+    private int run(String name, int threads, int operations, Operation operation) throws Exception {
+        long[][] latencies = new long[threads][operations];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                int failures = 0;
+                for (int i = 0; i < operations; i++) {
+                    long begin = System.nanoTime();
+                    try {
+                        operation.run(thread);
+                    } catch (RuntimeException e) {
+                        failures++;
+                    }
+                    latencies[thread][i] = System.nanoTime() - begin;
+                }
+                return failures;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        int failures = 0;
+        for (Future<Integer> future : futures) {
+            failures += future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("[%s] %d건, 처리량: %.0f건/s, 지연 p50: %.2fms, p99: %.2fms, 실패: %d%n",
+                name, all.length, all.length / (elapsed / 1e9),
+                all[all.length / 2] / 1e6, all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6, failures);
+        return failures;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int thread);
+    }
+}
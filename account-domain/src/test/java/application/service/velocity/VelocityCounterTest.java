@@ -0,0 +1,111 @@
+package application.service.velocity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 속도 링 버퍼 테스트 - 구간 경계에서 버킷이 밀려나는 동작
+ *
+ * 시각은 24시간 구간 버킷(1시간) 경계에서 시작하므로 1분(10초)/1시간(5분) 버킷 경계와도 맞는다.
+ */
+class VelocityCounterTest {
+    private static final long T0 = 1_700_000_000_000L / 3_600_000L * 3_600_000L;
+    private static final int MINUTE = 2 * VelocityWindow.MINUTE.ordinal();
+    private static final int HOUR = 2 * VelocityWindow.HOUR.ordinal();
+    private static final int DAY = 2 * VelocityWindow.DAY.ordinal();
+
+    private final VelocityCounter counter = new VelocityCounter();
+
+    @Test
+    void dropsBucketsThatLeaveTheWindow() {
+        counter.add(T0, 100);
+        counter.add(T0 + 15_000, 200);
+
+        long[] justBefore = read(T0 + 59_999);
+        assertThat(justBefore[MINUTE]).isEqualTo(2);
+        assertThat(justBefore[MINUTE + 1]).isEqualTo(300);
+
+        // 1분이 지나면 첫 버킷(0~10초)만 빠진다
+        long[] rolled = read(T0 + 60_000);
+        assertThat(rolled[MINUTE]).isEqualTo(1);
+        assertThat(rolled[MINUTE + 1]).isEqualTo(200);
+        assertThat(read(T0 + 70_000)[MINUTE]).isZero();
+
+        // 긴 구간에는 남아 있다
+        long[] later = read(T0 + 70_000);
+        assertThat(later[HOUR]).isEqualTo(2);
+        assertThat(later[DAY + 1]).isEqualTo(300);
+        assertThat(read(T0 + 3_600_000)[HOUR]).isZero();
+        assertThat(read(T0 + 86_400_000)[DAY]).isZero();
+    }
+
+    @Test
+    void clearsStaleBucketsWhenWritingAfterLongGap() {
+        counter.add(T0, 100);
+        counter.add(T0 + 30_000, 100);
+
+        // 한 바퀴 넘게 지난 뒤 같은 슬롯에 쓰면 이전 값이 남지 않는다
+        counter.add(T0 + 2 * 86_400_000L, 500);
+
+        long[] snapshot = read(T0 + 2 * 86_400_000L);
+        assertThat(snapshot[MINUTE]).isEqualTo(1);
+        assertThat(snapshot[HOUR]).isEqualTo(1);
+        assertThat(snapshot[DAY]).isEqualTo(1);
+        assertThat(snapshot[DAY + 1]).isEqualTo(500);
+    }
+
+    @Test
+    void countsLateEventOnlyInWindowsItStillFallsInto() {
+        counter.add(T0 + 600_000, 100);
+        // 다른 노드에서 10분 늦게 도착한 거래 - 1분 구간은 이미 지났고 1시간/24시간 구간에는 든다
+        counter.add(T0 + 30_000, 700);
+
+        long[] snapshot = read(T0 + 600_000);
+        assertThat(snapshot[MINUTE]).isEqualTo(1);
+        assertThat(snapshot[MINUTE + 1]).isEqualTo(100);
+        assertThat(snapshot[HOUR]).isEqualTo(2);
+        assertThat(snapshot[DAY + 1]).isEqualTo(800);
+    }
+
+    @Test
+    void readDoesNotShiftBuffer() {
+        counter.add(T0, 100);
+
+        assertThat(read(T0 + 86_400_000)[DAY]).isZero();
+        // 미래 시각으로 조회한 뒤에도 현재 시각 집계는 그대로다
+        assertThat(read(T0)[DAY]).isEqualTo(1);
+        assertThat(read(T0)[MINUTE]).isEqualTo(1);
+    }
+
+    @Test
+    void ruleStopsMatchingOnceBurstRollsOut() {
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName("burst-1m");
+        rule.setDimension(VelocityDimension.ACCOUNT);
+        rule.setWindow(VelocityWindow.MINUTE);
+        rule.setMetric(VelocityProperties.Metric.COUNT);
+        rule.setThreshold(new BigDecimal("2"));
+        rule.setScore(100);
+        VelocityRuleSet ruleSet = new VelocityRuleSet(List.of(rule));
+        for (int i = 0; i < 3; i++) {
+            counter.add(T0 + i * 1_000L, 100);
+        }
+
+        long[] snapshot = new long[VelocityRuleSet.snapshotLength()];
+        counter.read(T0 + 5_000, snapshot, VelocityRuleSet.snapshotOffset(VelocityDimension.ACCOUNT));
+        assertThat(ruleSet.evaluate(snapshot)).isEqualTo(1L);
+
+        counter.read(T0 + 60_000, snapshot, VelocityRuleSet.snapshotOffset(VelocityDimension.ACCOUNT));
+        assertThat(ruleSet.evaluate(snapshot)).isZero();
+    }
+
+    private long[] read(long nowMillis) {
+        long[] out = new long[VelocityCounter.snapshotLength()];
+        counter.read(nowMillis, out, 0);
+        return out;
+    }
+}
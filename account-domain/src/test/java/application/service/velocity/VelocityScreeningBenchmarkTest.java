@@ -0,0 +1,124 @@
+package application.service.velocity;
+
+import application.port.out.PublishAccountEventPort;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 거래 속도 심사 지연 측정
+ *
+ * 기본 설정과 같은 규칙(계좌 1분/1시간/24시간, 가맹점 1분)으로 집계가 채워진 계좌/가맹점을 여러 스레드가 동시에 심사하고
+ * 심사 한 건의 지연(p50/p99)을 마이크로초로 출력한다. 출금/결제 승인 경로에 더해지는 비용이므로 p99가 100µs보다 충분히 작아야 한다.
+ * 실행: ./gradlew :account-domain:test -Pbenchmark --tests '*VelocityScreeningBenchmarkTest'
+ */
+@Tag("benchmark")
+class VelocityScreeningBenchmarkTest {
+    private static final int THREADS = 8;
+    private static final int ACCOUNTS = 50_000;
+    private static final int MERCHANTS = 1_000;
+    private static final int WARM_UP = 50_000;
+    private static final int SCORES_PER_THREAD = 200_000;
+    private static final Money AMOUNT = new Money(new BigDecimal("12000"));
+
+    @Test
+    void scoreLatency() throws Exception {
+        VelocityService velocityService = new VelocityService(properties(), mock(PublishAccountEventPort.class),
+                new SimpleMeterRegistry());
+        AccountNumber[] accounts = new AccountNumber[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts[i] = new AccountNumber(String.format("9%011d", i));
+            velocityService.record(accounts[i], merchant(i), AMOUNT);
+        }
+        for (int i = 0; i < WARM_UP; i++) {
+            velocityService.score(accounts[i % ACCOUNTS], merchant(i), AMOUNT);
+        }
+
+        long[][] latencies = new long[THREADS][SCORES_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long[] threadLatencies = latencies[t];
+            int seed = t;
+            futures.add(pool.submit((Callable<Integer>) () -> {
+                start.await();
+                int approved = 0;
+                for (int i = 0; i < SCORES_PER_THREAD; i++) {
+                    int index = (int) ((seed * 7_919L + i * 104_729L) % ACCOUNTS);
+                    long begin = System.nanoTime();
+                    VelocityScore score = velocityService.score(accounts[index], merchant(index), AMOUNT);
+                    threadLatencies[i] = System.nanoTime() - begin;
+                    if (score.decision() == VelocityDecision.APPROVE) {
+                        approved++;
+                    }
+                }
+                return approved;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        int approved = 0;
+        for (Future<Integer> future : futures) {
+            approved += future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("[거래 속도 심사] %d건, 처리량: %.0f건/s, 지연 p50: %.2fµs, p99: %.2fµs, 최대: %.2fµs%n",
+                all.length, all.length / (elapsed / 1e9),
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e3);
+
+        // 계좌마다 한 건씩만 기록했으므로 모두 승인된다
+        assertThat(approved).isEqualTo(all.length);
+        assertThat(percentile(all, 0.99)).isLessThan(100.0);
+    }
+
+    private static String merchant(int index) {
+        return "MERCHANT_" + (index % MERCHANTS);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e3;
+    }
+
+    private static VelocityProperties properties() {
+        VelocityProperties properties = new VelocityProperties();
+        properties.setEnabled(true);
+        properties.setRules(List.of(
+                rule("account-burst-1m", VelocityDimension.ACCOUNT, VelocityWindow.MINUTE, VelocityProperties.Metric.COUNT, "5", 60),
+                rule("account-count-1h", VelocityDimension.ACCOUNT, VelocityWindow.HOUR, VelocityProperties.Metric.COUNT, "30", 50),
+                rule("account-amount-24h", VelocityDimension.ACCOUNT, VelocityWindow.DAY, VelocityProperties.Metric.AMOUNT, "10000000", 100),
+                rule("merchant-burst-1m", VelocityDimension.MERCHANT, VelocityWindow.MINUTE, VelocityProperties.Metric.COUNT, "600", 50)));
+        return properties;
+    }
+
+    private static VelocityProperties.Rule rule(String name, VelocityDimension dimension, VelocityWindow window,
+                                                VelocityProperties.Metric metric, String threshold, int score) {
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName(name);
+        rule.setDimension(dimension);
+        rule.setWindow(window);
+        rule.setMetric(metric);
+        rule.setThreshold(new BigDecimal(threshold));
+        rule.setScore(score);
+        return rule;
+    }
+}
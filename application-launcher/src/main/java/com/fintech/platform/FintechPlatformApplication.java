@@ -5,8 +5,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 /**
  * 핀테크 플랫폼 메인 애플리케이션
+ * 도메인 모듈(adapter, application 패키지)도 함께 스캔한다.
  */
-@SpringBootApplication(scanBasePackages = "com.fintech.platform")
+@SpringBootApplication(scanBasePackages = {"com.fintech.platform", "adapter", "application"})
 public class FintechPlatformApplication {
 
     public static void main(String[] args) {
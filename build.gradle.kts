@@ -20,6 +20,8 @@ subprojects {
         sourceCompatibility = "21"
         targetCompatibility = "21"
         options.encoding = "UTF-8"
+        // 파라미터 이름 보존 (@PathVariable 이름 생략, @DistributedLock 키 SpEL에서 #파라미터명 참조)
+        options.compilerArgs.add("-parameters")
     }
     
     dependencies {
@@ -39,7 +41,15 @@ subprojects {
     }
     
     tasks.withType<Test> {
-        useJUnitPlatform()
+        useJUnitPlatform {
+            // 성능 측정 테스트(@Tag("benchmark"))는 -Pbenchmark 를 줄 때만 실행
+            if (!project.hasProperty("benchmark")) {
+                excludeTags("benchmark")
+            }
+        }
+        testLogging {
+            showStandardStreams = project.hasProperty("benchmark")
+        }
     }
 }
 
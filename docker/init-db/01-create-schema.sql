@@ -35,6 +35,135 @@ CREATE TABLE transactions (
     INDEX idx_account_transaction_at (account_id, transaction_at DESC)
 ) ENGINE=InnoDB COMMENT='거래내역';
 
+-- 핫 계좌 잔액 슬롯 테이블 (입금이 몰리는 계좌의 잔액 분할)
+CREATE TABLE account_balance_slots (
+    account_id BIGINT NOT NULL COMMENT '계좌ID',
+    slot_no INT NOT NULL COMMENT '슬롯번호',
+    balance DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '슬롯잔액',
+    PRIMARY KEY (account_id, slot_no),
+    FOREIGN KEY (account_id) REFERENCES accounts(account_id),
+    CONSTRAINT chk_slot_balance_non_negative CHECK (balance >= 0)
+) ENGINE=InnoDB COMMENT='핫 계좌 잔액 슬롯';
+
+-- 결제 테이블 (승인 → 매입/취소/만료 → 환불)
+CREATE TABLE payments (
+    payment_id VARCHAR(64) PRIMARY KEY COMMENT '결제ID',
+    merchant_id VARCHAR(64) NOT NULL COMMENT '가맹점ID',
+    payer_account_number VARCHAR(20) NOT NULL COMMENT '지불계좌번호',
+    currency CHAR(3) NOT NULL DEFAULT 'KRW' COMMENT '통화',
+    authorized_amount DECIMAL(19,2) NOT NULL COMMENT '승인금액',
+    captured_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '매입금액',
+    refunded_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '환불누계',
+    payment_status ENUM('AUTHORIZED', 'CAPTURED', 'PARTIALLY_REFUNDED', 'REFUNDED', 'VOIDED', 'EXPIRED') NOT NULL COMMENT '결제상태',
+    authorized_at TIMESTAMP(3) NOT NULL COMMENT '승인일시',
+    expires_at TIMESTAMP(3) NOT NULL COMMENT '승인만료일시',
+    captured_at TIMESTAMP(3) NULL COMMENT '매입일시',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '상태 전이 버전',
+    risk_score INT NOT NULL DEFAULT 0 COMMENT '승인 시 이상거래 심사 점수',
+    INDEX idx_payment_status_expires (payment_status, expires_at),
+    INDEX idx_payer_account_number (payer_account_number),
+    INDEX idx_merchant_captured_at (merchant_id, captured_at),
+    INDEX idx_captured_at_payment_id (captured_at, payment_id)
+) ENGINE=InnoDB COMMENT='결제';
+
+-- PG 결과 통지 테이블 (PG + PG 거래 ID 기준 중복 제거)
+CREATE TABLE pg_webhook_events (
+    provider VARCHAR(32) NOT NULL COMMENT 'PG',
+    pg_transaction_id VARCHAR(64) NOT NULL COMMENT 'PG거래ID',
+    payment_id VARCHAR(64) NULL COMMENT '결제ID',
+    result_status ENUM('APPROVED', 'DECLINED', 'PENDING', 'NOT_FOUND', 'UNKNOWN') NOT NULL COMMENT '결과상태',
+    amount DECIMAL(19,2) NULL COMMENT '처리금액',
+    result_code VARCHAR(32) NULL COMMENT 'PG결과코드',
+    result_message VARCHAR(255) NULL COMMENT 'PG결과메시지',
+    processed_at TIMESTAMP(3) NULL COMMENT 'PG처리일시',
+    received_at TIMESTAMP(3) NOT NULL COMMENT '수신일시',
+    payload JSON NOT NULL COMMENT '통지원문',
+    PRIMARY KEY (provider, pg_transaction_id),
+    INDEX idx_received_at (received_at),
+    INDEX idx_payment_id (payment_id)
+) ENGINE=InnoDB COMMENT='PG 결과 통지';
+
+-- 정산 실행 테이블 (정산일별 진행 상태와 체크포인트)
+CREATE TABLE settlement_runs (
+    settlement_date DATE PRIMARY KEY COMMENT '정산일',
+    run_status ENUM('RUNNING', 'COMPLETED') NOT NULL COMMENT '정산상태',
+    last_captured_at TIMESTAMP(3) NULL COMMENT '체크포인트 매입일시',
+    last_payment_id VARCHAR(64) NULL COMMENT '체크포인트 결제ID',
+    processed_count BIGINT NOT NULL DEFAULT 0 COMMENT '처리건수',
+    started_at TIMESTAMP(3) NOT NULL COMMENT '시작일시',
+    completed_at TIMESTAMP(3) NULL COMMENT '완료일시'
+) ENGINE=InnoDB COMMENT='정산 실행';
+
+-- 정산 결과 테이블 (정산일 + 가맹점 + 통화 단위 집계)
+CREATE TABLE settlements (
+    settlement_date DATE NOT NULL COMMENT '정산일',
+    merchant_id VARCHAR(64) NOT NULL COMMENT '가맹점ID',
+    currency CHAR(3) NOT NULL COMMENT '통화',
+    fee_tier VARCHAR(32) NOT NULL COMMENT '수수료등급',
+    payment_count BIGINT NOT NULL DEFAULT 0 COMMENT '매입건수',
+    gross_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '매입합계',
+    refunded_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '환불합계',
+    fee_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '수수료합계',
+    net_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '지급액',
+    PRIMARY KEY (settlement_date, merchant_id, currency),
+    FOREIGN KEY (settlement_date) REFERENCES settlement_runs(settlement_date)
+) ENGINE=InnoDB COMMENT='정산 결과';
+
+-- 대사 실행 테이블 (대사일별 PG 정산 파일 ↔ 내부 원장 대사 결과 건수)
+CREATE TABLE reconciliation_runs (
+    reconciliation_date DATE PRIMARY KEY COMMENT '대사일',
+    run_status ENUM('RUNNING', 'COMPLETED', 'FAILED') NOT NULL COMMENT '대사상태',
+    pg_rows BIGINT NOT NULL DEFAULT 0 COMMENT 'PG 정산 파일 행수',
+    internal_rows BIGINT NOT NULL DEFAULT 0 COMMENT '내부 원장 결제수',
+    matched_count BIGINT NOT NULL DEFAULT 0 COMMENT '일치건수',
+    missing_in_pg_count BIGINT NOT NULL DEFAULT 0 COMMENT 'PG 누락건수',
+    missing_internal_count BIGINT NOT NULL DEFAULT 0 COMMENT '내부 누락건수',
+    amount_mismatch_count BIGINT NOT NULL DEFAULT 0 COMMENT '금액 불일치건수',
+    started_at TIMESTAMP(3) NOT NULL COMMENT '시작일시',
+    completed_at TIMESTAMP(3) NULL COMMENT '완료일시'
+) ENGINE=InnoDB COMMENT='대사 실행';
+
+-- 대사 불일치 테이블 (결제 ID 단위)
+CREATE TABLE reconciliation_breaks (
+    reconciliation_date DATE NOT NULL COMMENT '대사일',
+    payment_id VARCHAR(255) NOT NULL COMMENT '결제ID',
+    break_type ENUM('MISSING_IN_PG', 'MISSING_INTERNAL', 'AMOUNT_MISMATCH') NOT NULL COMMENT '불일치유형',
+    internal_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT '내부 매입금액',
+    pg_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00 COMMENT 'PG 정산금액',
+    PRIMARY KEY (reconciliation_date, payment_id),
+    INDEX idx_reconciliation_date_type (reconciliation_date, break_type),
+    FOREIGN KEY (reconciliation_date) REFERENCES reconciliation_runs(reconciliation_date)
+) ENGINE=InnoDB COMMENT='대사 불일치';
+
+-- 이체 테이블 (이체 사가 현재 상태, 상태는 한 바이트 코드 - TransferState)
+CREATE TABLE transfers (
+    transfer_id VARCHAR(64) PRIMARY KEY COMMENT '이체ID',
+    source_account_number VARCHAR(20) NOT NULL COMMENT '출금계좌번호',
+    destination_bank_code CHAR(3) NULL COMMENT '입금은행코드 (당행이면 NULL)',
+    destination_account_number VARCHAR(20) NOT NULL COMMENT '입금계좌번호',
+    amount DECIMAL(19,2) NOT NULL COMMENT '이체금액',
+    description VARCHAR(255) COMMENT '이체메모',
+    transfer_state TINYINT NOT NULL COMMENT '이체상태 (0 요청, 1 출금보류, 2 입금요청, 3 입금완료, 4 완료, 5 보상중, 6 보상완료, 7 실패)',
+    credit_attempts INT NOT NULL DEFAULT 0 COMMENT '입금시도횟수',
+    failure_reason VARCHAR(255) NULL COMMENT '실패/보상사유',
+    requested_at TIMESTAMP(3) NOT NULL COMMENT '요청일시',
+    updated_at TIMESTAMP(3) NOT NULL COMMENT '상태변경일시',
+    deadline_at TIMESTAMP(3) NULL COMMENT '처리기한 (종료 상태면 NULL)',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전',
+    INDEX idx_deadline_at (deadline_at),
+    INDEX idx_source_requested_at (source_account_number, requested_at)
+) ENGINE=InnoDB COMMENT='이체';
+
+-- 이체 상태 전이 기록 테이블 (전이마다 한 행)
+CREATE TABLE transfer_saga_steps (
+    transfer_id VARCHAR(64) NOT NULL COMMENT '이체ID',
+    version BIGINT NOT NULL COMMENT '전이후버전',
+    transfer_state TINYINT NOT NULL COMMENT '전이후상태',
+    occurred_at TIMESTAMP(3) NOT NULL COMMENT '전이일시',
+    detail VARCHAR(255) NULL COMMENT '전이사유',
+    PRIMARY KEY (transfer_id, version)
+) ENGINE=InnoDB COMMENT='이체 상태 전이 기록';
+
 -- 분산락 테이블 (Redis 백업용)
 CREATE TABLE distributed_locks (
     lock_key VARCHAR(255) PRIMARY KEY,
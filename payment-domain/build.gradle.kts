@@ -13,6 +13,10 @@ dependencies {
     
     // Security (결제 보안)
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.security:spring-security-oauth2-jose")
+    
+    // 캐시 (검증된 토큰)
+    implementation("com.github.ben-manes.caffeine:caffeine")
     
     // HTTP Client (외부 PG사 API 연동용)
     implementation("org.springframework.boot:spring-boot-starter-webflux")
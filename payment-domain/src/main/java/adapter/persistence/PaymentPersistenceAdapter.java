@@ -0,0 +1,107 @@
+package adapter.persistence;
+
+import application.port.out.LoadPaymentPort;
+import application.port.out.SavePaymentPort;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Payment;
+import domain.model.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 영속성 어댑터 (payments 테이블)
+ * 상태 전이는 버전을 조건으로 한 UPDATE 한 문장으로 처리해 노드 간 동시 전이 중 하나만 반영한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentPersistenceAdapter implements LoadPaymentPort, SavePaymentPort {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT payment_id, merchant_id, payer_account_number, authorized_amount, captured_amount, " +
+                    "refunded_amount, payment_status, authorized_at, expires_at, captured_at, version, risk_score FROM payments ";
+
+    private static final RowMapper<Payment> ROW_MAPPER = (rs, rowNum) -> new Payment(
+            rs.getString("payment_id"),
+            rs.getString("merchant_id"),
+            new AccountNumber(rs.getString("payer_account_number")),
+            new Money(rs.getBigDecimal("authorized_amount")),
+            new Money(rs.getBigDecimal("captured_amount")),
+            new Money(rs.getBigDecimal("refunded_amount")),
+            PaymentStatus.valueOf(rs.getString("payment_status")),
+            toInstant(rs.getTimestamp("authorized_at")),
+            toInstant(rs.getTimestamp("expires_at")),
+            toInstant(rs.getTimestamp("captured_at")),
+            rs.getLong("version"),
+            rs.getInt("risk_score"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Payment> loadPayment(String paymentId) {
+        List<Payment> rows = jdbcTemplate.query(SELECT_COLUMNS + "WHERE payment_id = :paymentId",
+                new MapSqlParameterSource("paymentId", paymentId), ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public List<Payment> loadActiveAuthorizations() {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE payment_status = 'AUTHORIZED'",
+                new MapSqlParameterSource(), ROW_MAPPER);
+    }
+
+    @Override
+    public void insert(Payment payment) {
+        jdbcTemplate.update(
+                "INSERT INTO payments (payment_id, merchant_id, payer_account_number, authorized_amount, " +
+                        "captured_amount, refunded_amount, payment_status, authorized_at, expires_at, captured_at, version, " +
+                        "risk_score) VALUES (:paymentId, :merchantId, :payer, :authorized, :captured, :refunded, " +
+                        ":status, :authorizedAt, :expiresAt, :capturedAt, :version, :riskScore)",
+                params(payment));
+    }
+
+    @Override
+    public boolean update(Payment payment, long expectedVersion) {
+        int updated = jdbcTemplate.update(
+                "UPDATE payments SET captured_amount = :captured, refunded_amount = :refunded, " +
+                        "payment_status = :status, captured_at = :capturedAt, version = :version " +
+                        "WHERE payment_id = :paymentId AND version = :expectedVersion",
+                params(payment).addValue("expectedVersion", expectedVersion));
+        return updated == 1;
+    }
+
+    private MapSqlParameterSource params(Payment payment) {
+        return new MapSqlParameterSource()
+                .addValue("paymentId", payment.getPaymentId())
+                .addValue("merchantId", payment.getMerchantId())
+                .addValue("payer", payment.getPayerAccountNumber().getValue())
+                .addValue("authorized", payment.getAuthorizedAmount().getAmount())
+                .addValue("captured", payment.getCapturedAmount().getAmount())
+                .addValue("refunded", payment.getRefundedAmount().getAmount())
+                .addValue("status", payment.getStatus().name())
+                .addValue("authorizedAt", toTimestamp(payment.getAuthorizedAt()))
+                .addValue("expiresAt", toTimestamp(payment.getExpiresAt()))
+                .addValue("capturedAt", toTimestamp(payment.getCapturedAt()))
+                .addValue("version", payment.getVersion())
+                .addValue("riskScore", payment.getRiskScore());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,92 @@
+package adapter.persistence;
+
+import application.port.out.PgWebhookEventPort;
+import application.service.webhook.PgWebhookEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * PG 결과 통지 영속성 어댑터 (pg_webhook_events)
+ *
+ * (provider, pg_transaction_id) PK가 정확 중복 판단 기준이다.
+ * 저장은 INSERT IGNORE 배치로 하므로 이미 있는 통지는 건너뛰고 건별 결과(1/0)로 새 통지 수를 센다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PgWebhookPersistenceAdapter implements PgWebhookEventPort {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO pg_webhook_events (provider, pg_transaction_id, payment_id, result_status, amount, " +
+                    "result_code, result_message, processed_at, received_at, payload) " +
+                    "VALUES (:provider, :pgTransactionId, :paymentId, :status, :amount, :resultCode, :message, " +
+                    ":processedAt, :receivedAt, :payload)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIfAbsent(List<PgWebhookEvent> events) {
+        SqlParameterSource[] batch = new SqlParameterSource[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            PgWebhookEvent event = events.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("provider", event.provider())
+                    .addValue("pgTransactionId", event.pgTransactionId())
+                    .addValue("paymentId", event.paymentId())
+                    .addValue("status", event.status().name())
+                    .addValue("amount", event.amount())
+                    .addValue("resultCode", event.resultCode())
+                    .addValue("message", event.message())
+                    .addValue("processedAt", event.processedAt() != null ? Timestamp.from(event.processedAt().toInstant()) : null)
+                    .addValue("receivedAt", Timestamp.from(event.receivedAt()))
+                    .addValue("payload", event.payload());
+        }
+
+        int stored = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_SQL, batch)) {
+            // 드라이버가 건별 결과를 주지 않으면 저장된 것으로 센다
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                stored++;
+            }
+        }
+        return stored;
+    }
+
+    @Override
+    public boolean exists(String provider, String pgTransactionId) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT 1 FROM pg_webhook_events WHERE provider = :provider AND pg_transaction_id = :pgTransactionId",
+                new MapSqlParameterSource()
+                        .addValue("provider", provider)
+                        .addValue("pgTransactionId", pgTransactionId),
+                Integer.class);
+        return !rows.isEmpty();
+    }
+
+    @Override
+    public void streamReceivedSince(Instant since, BiConsumer<String, String> consumer) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT provider, pg_transaction_id FROM pg_webhook_events WHERE received_at >= ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // 한 행씩 받아 온다 (MySQL Connector/J 스트리밍)
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setTimestamp(1, Timestamp.from(since));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1), rs.getString(2)));
+    }
+}
@@ -0,0 +1,135 @@
+package adapter.persistence;
+
+import application.port.out.ReconciliationRunPort;
+import domain.model.ReconciliationBreak;
+import domain.model.ReconciliationRun;
+import domain.model.ReconciliationRunStatus;
+import domain.model.ReconciliationSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대사 영속성 어댑터 (reconciliation_runs / reconciliation_breaks)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconciliationPersistenceAdapter implements ReconciliationRunPort {
+
+    private static final RowMapper<ReconciliationRun> RUN_MAPPER = (rs, rowNum) -> {
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        return new ReconciliationRun(
+                rs.getDate("reconciliation_date").toLocalDate(),
+                ReconciliationRunStatus.valueOf(rs.getString("run_status")),
+                new ReconciliationSummary(
+                        rs.getLong("pg_rows"),
+                        rs.getLong("internal_rows"),
+                        rs.getLong("matched_count"),
+                        rs.getLong("missing_in_pg_count"),
+                        rs.getLong("missing_internal_count"),
+                        rs.getLong("amount_mismatch_count")),
+                rs.getTimestamp("started_at").toInstant(),
+                completedAt != null ? completedAt.toInstant() : null);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Optional<ReconciliationRun> loadRun(LocalDate reconciliationDate) {
+        List<ReconciliationRun> rows = jdbcTemplate.query(
+                "SELECT reconciliation_date, run_status, pg_rows, internal_rows, matched_count, missing_in_pg_count, " +
+                        "missing_internal_count, amount_mismatch_count, started_at, completed_at " +
+                        "FROM reconciliation_runs WHERE reconciliation_date = :reconciliationDate",
+                new MapSqlParameterSource("reconciliationDate", Date.valueOf(reconciliationDate)), RUN_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public ReconciliationRun startRun(LocalDate reconciliationDate) {
+        Date date = Date.valueOf(reconciliationDate);
+        transactionTemplate.executeWithoutResult(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("reconciliationDate", date)
+                    .addValue("startedAt", Timestamp.from(Instant.now()));
+            jdbcTemplate.update(
+                    "DELETE FROM reconciliation_breaks WHERE reconciliation_date = :reconciliationDate", params);
+            jdbcTemplate.update(
+                    "INSERT INTO reconciliation_runs (reconciliation_date, run_status, started_at) " +
+                            "VALUES (:reconciliationDate, 'RUNNING', :startedAt) " +
+                            "ON DUPLICATE KEY UPDATE run_status = 'RUNNING', pg_rows = 0, internal_rows = 0, " +
+                            "matched_count = 0, missing_in_pg_count = 0, missing_internal_count = 0, " +
+                            "amount_mismatch_count = 0, started_at = VALUES(started_at), completed_at = NULL",
+                    params);
+        });
+        return loadRun(reconciliationDate)
+                .orElseThrow(() -> new IllegalStateException("대사 실행을 만들 수 없습니다: " + reconciliationDate));
+    }
+
+    @Override
+    public void saveBreaks(LocalDate reconciliationDate, List<ReconciliationBreak> breaks) {
+        Date date = Date.valueOf(reconciliationDate);
+        SqlParameterSource[] rows = new SqlParameterSource[breaks.size()];
+        for (int i = 0; i < breaks.size(); i++) {
+            ReconciliationBreak reconciliationBreak = breaks.get(i);
+            rows[i] = new MapSqlParameterSource()
+                    .addValue("reconciliationDate", date)
+                    .addValue("paymentId", reconciliationBreak.paymentId())
+                    .addValue("breakType", reconciliationBreak.type().name())
+                    .addValue("internalAmount", fromMinorUnits(reconciliationBreak.internalMinor()))
+                    .addValue("pgAmount", fromMinorUnits(reconciliationBreak.pgMinor()));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reconciliation_breaks (reconciliation_date, payment_id, break_type, internal_amount, pg_amount) " +
+                        "VALUES (:reconciliationDate, :paymentId, :breakType, :internalAmount, :pgAmount)",
+                rows);
+    }
+
+    @Override
+    public void completeRun(LocalDate reconciliationDate, ReconciliationSummary summary) {
+        jdbcTemplate.update(
+                "UPDATE reconciliation_runs SET run_status = 'COMPLETED', pg_rows = :pgRows, internal_rows = :internalRows, " +
+                        "matched_count = :matched, missing_in_pg_count = :missingInPg, " +
+                        "missing_internal_count = :missingInternal, amount_mismatch_count = :amountMismatch, " +
+                        "completed_at = :completedAt " +
+                        "WHERE reconciliation_date = :reconciliationDate AND run_status = 'RUNNING'",
+                new MapSqlParameterSource()
+                        .addValue("reconciliationDate", Date.valueOf(reconciliationDate))
+                        .addValue("pgRows", summary.pgRows())
+                        .addValue("internalRows", summary.internalRows())
+                        .addValue("matched", summary.matched())
+                        .addValue("missingInPg", summary.missingInPg())
+                        .addValue("missingInternal", summary.missingInternal())
+                        .addValue("amountMismatch", summary.amountMismatch())
+                        .addValue("completedAt", Timestamp.from(Instant.now())));
+    }
+
+    @Override
+    public void failRun(LocalDate reconciliationDate) {
+        jdbcTemplate.update(
+                "UPDATE reconciliation_runs SET run_status = 'FAILED', completed_at = :completedAt " +
+                        "WHERE reconciliation_date = :reconciliationDate AND run_status = 'RUNNING'",
+                new MapSqlParameterSource()
+                        .addValue("reconciliationDate", Date.valueOf(reconciliationDate))
+                        .addValue("completedAt", Timestamp.from(Instant.now())));
+    }
+
+    private static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+}
@@ -0,0 +1,186 @@
+package adapter.persistence;
+
+import application.port.out.LoadSettlementSourcePort;
+import application.port.out.SettlementRunPort;
+import application.service.settlement.SettlementProperties;
+import domain.model.SettlementCursor;
+import domain.model.SettlementLine;
+import domain.model.SettlementRun;
+import domain.model.SettlementRunStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정산 영속성 어댑터 (payments 읽기, settlement_runs / settlements 쓰기)
+ *
+ * 정산 대상은 전진 전용/읽기 전용 커서로 스트리밍한다.
+ * (MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 받아 온다)
+ * 스트리밍 중에는 해당 연결에서 다른 문장을 실행할 수 없으므로, 구간 반영은 별도 연결의 트랜잭션으로 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementPersistenceAdapter implements LoadSettlementSourcePort, SettlementRunPort {
+
+    private static final String STREAM_SQL =
+            "SELECT payment_id, merchant_id, currency, captured_amount, refunded_amount, captured_at FROM payments " +
+                    "WHERE captured_at >= ? AND captured_at < ? ";
+
+    private static final String STREAM_AFTER_SQL =
+            "AND (captured_at > ? OR (captured_at = ? AND payment_id > ?)) ";
+
+    private static final String STREAM_ORDER_SQL = "ORDER BY captured_at, payment_id";
+
+    private static final RowMapper<SettlementRun> RUN_MAPPER = (rs, rowNum) -> {
+        Timestamp lastCapturedAt = rs.getTimestamp("last_captured_at");
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        return new SettlementRun(
+                rs.getDate("settlement_date").toLocalDate(),
+                SettlementRunStatus.valueOf(rs.getString("run_status")),
+                lastCapturedAt != null ? new SettlementCursor(lastCapturedAt.toInstant(), rs.getString("last_payment_id")) : null,
+                rs.getLong("processed_count"),
+                rs.getTimestamp("started_at").toInstant(),
+                completedAt != null ? completedAt.toInstant() : null);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SettlementProperties properties;
+
+    @Override
+    public void streamCapturedPayments(Instant from, Instant to, SettlementCursor after, CapturedPaymentHandler handler) {
+        String sql = STREAM_SQL + (after != null ? STREAM_AFTER_SQL : "") + STREAM_ORDER_SQL;
+
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            statement.setTimestamp(1, Timestamp.from(from));
+            statement.setTimestamp(2, Timestamp.from(to));
+            if (after != null) {
+                Timestamp afterCapturedAt = Timestamp.from(after.capturedAt());
+                statement.setTimestamp(3, afterCapturedAt);
+                statement.setTimestamp(4, afterCapturedAt);
+                statement.setString(5, after.paymentId());
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.onPayment(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                toMinorUnits(rs.getBigDecimal(4)),
+                toMinorUnits(rs.getBigDecimal(5)),
+                rs.getTimestamp(6).toInstant()));
+    }
+
+    @Override
+    public Optional<SettlementRun> loadRun(LocalDate settlementDate) {
+        List<SettlementRun> rows = jdbcTemplate.query(
+                "SELECT settlement_date, run_status, last_captured_at, last_payment_id, processed_count, " +
+                        "started_at, completed_at FROM settlement_runs WHERE settlement_date = :settlementDate",
+                new MapSqlParameterSource("settlementDate", Date.valueOf(settlementDate)), RUN_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public SettlementRun startRun(LocalDate settlementDate) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO settlement_runs (settlement_date, run_status, processed_count, started_at) " +
+                        "VALUES (:settlementDate, 'RUNNING', 0, :startedAt)",
+                new MapSqlParameterSource()
+                        .addValue("settlementDate", Date.valueOf(settlementDate))
+                        .addValue("startedAt", Timestamp.from(Instant.now())));
+        return loadRun(settlementDate)
+                .orElseThrow(() -> new IllegalStateException("정산 실행을 만들 수 없습니다: " + settlementDate));
+    }
+
+    @Override
+    public void saveSegment(LocalDate settlementDate, List<SettlementLine> lines, SettlementCursor checkpoint,
+                            long processedCount) {
+        Date date = Date.valueOf(settlementDate);
+        transactionTemplate.executeWithoutResult(status -> {
+            int batchSize = properties.getWriteBatchSize();
+            for (int start = 0; start < lines.size(); start += batchSize) {
+                List<SettlementLine> chunk = lines.subList(start, Math.min(start + batchSize, lines.size()));
+                SqlParameterSource[] rows = new SqlParameterSource[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    rows[i] = lineParams(date, chunk.get(i));
+                }
+                // 이전 구간에서 만든 행에는 더한다
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO settlements (settlement_date, merchant_id, currency, fee_tier, payment_count, " +
+                                "gross_amount, refunded_amount, fee_amount, net_amount) " +
+                                "VALUES (:settlementDate, :merchantId, :currency, :feeTier, :paymentCount, " +
+                                ":gross, :refunded, :fee, :net) " +
+                                "ON DUPLICATE KEY UPDATE payment_count = payment_count + VALUES(payment_count), " +
+                                "gross_amount = gross_amount + VALUES(gross_amount), " +
+                                "refunded_amount = refunded_amount + VALUES(refunded_amount), " +
+                                "fee_amount = fee_amount + VALUES(fee_amount), " +
+                                "net_amount = net_amount + VALUES(net_amount)",
+                        rows);
+            }
+
+            int updated = jdbcTemplate.update(
+                    "UPDATE settlement_runs SET last_captured_at = :lastCapturedAt, last_payment_id = :lastPaymentId, " +
+                            "processed_count = :processedCount " +
+                            "WHERE settlement_date = :settlementDate AND run_status = 'RUNNING'",
+                    new MapSqlParameterSource()
+                            .addValue("settlementDate", date)
+                            .addValue("lastCapturedAt", Timestamp.from(checkpoint.capturedAt()))
+                            .addValue("lastPaymentId", checkpoint.paymentId())
+                            .addValue("processedCount", processedCount));
+            if (updated != 1) {
+                throw new IllegalStateException("진행 중인 정산 실행이 없습니다: " + settlementDate);
+            }
+        });
+    }
+
+    @Override
+    public void completeRun(LocalDate settlementDate) {
+        jdbcTemplate.update(
+                "UPDATE settlement_runs SET run_status = 'COMPLETED', completed_at = :completedAt " +
+                        "WHERE settlement_date = :settlementDate AND run_status = 'RUNNING'",
+                new MapSqlParameterSource()
+                        .addValue("settlementDate", Date.valueOf(settlementDate))
+                        .addValue("completedAt", Timestamp.from(Instant.now())));
+    }
+
+    private static MapSqlParameterSource lineParams(Date settlementDate, SettlementLine line) {
+        return new MapSqlParameterSource()
+                .addValue("settlementDate", settlementDate)
+                .addValue("merchantId", line.merchantId())
+                .addValue("currency", line.currency())
+                .addValue("feeTier", line.feeTier())
+                .addValue("paymentCount", line.paymentCount())
+                .addValue("gross", fromMinorUnits(line.grossMinor()))
+                .addValue("refunded", fromMinorUnits(line.refundedMinor()))
+                .addValue("fee", fromMinorUnits(line.feeMinor()))
+                .addValue("net", fromMinorUnits(line.netMinor()));
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+}
@@ -0,0 +1,133 @@
+package adapter.pg;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG별 회로 차단기
+ *
+ * - CLOSED: 최근 slidingWindowSize 건의 실패율이 기준을 넘으면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 PG로 보내지 않고 바로 거절
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출을 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+class PgCircuitBreaker {
+
+    enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    PgCircuitBreaker(PgGatewayProperties.CircuitBreaker properties) {
+        this.window = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+        this.minimumCalls = Math.min(properties.getMinimumCalls(), window.length);
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, properties.getHalfOpenCalls());
+    }
+
+    /**
+     * 호출 허용 여부 (허용하면 호출 결과를 반드시 onSuccess/onFailure로 알려야 한다)
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && windowCount >= minimumCalls
+                && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 모르는 호출 (취소됨) - 반열림 시험 호출 자리만 돌려준다
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized State state() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    long openRemainingMillis() {
+        synchronized (this) {
+            return state == State.OPEN
+                    ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAt)))
+                    : 0;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,25 @@
+package adapter.pg;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * PG 연동 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PgGatewayProperties.class)
+public class PgGatewayConfig {
+
+    @Bean
+    public WebClientPgGatewayAdapter pgGatewayAdapter(PgGatewayProperties properties,
+                                                      WebClient.Builder webClientBuilder,
+                                                      MeterRegistry meterRegistry) {
+        return new WebClientPgGatewayAdapter(properties, webClientBuilder, meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package adapter.pg;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PG 연동 설정 (fintech.payment.pg.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.pg")
+public class PgGatewayProperties {
+
+    /**
+     * PG별 설정 (키: PG 이름)
+     */
+    private Map<String, Provider> providers = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Provider {
+
+        /**
+         * PG API 기본 URL
+         */
+        private String baseUrl;
+
+        /**
+         * API 인증 키 (Authorization 헤더)
+         */
+        private String secretKey;
+
+        /**
+         * 결과 통지(웹훅) 서명 키 (HMAC-SHA256, 비우면 이 PG의 통지는 받지 않는다)
+         */
+        private String webhookSecret;
+
+        /**
+         * 최대 연결 수 (PG가 허용하는 동시 연결 수에 맞춘다)
+         */
+        private int maxConnections = 100;
+
+        /**
+         * 연결 대기열 최대 길이 (초과하면 바로 실패)
+         */
+        private int pendingAcquireMaxCount = 200;
+
+        /**
+         * 연결 대기 최대 시간
+         */
+        private Duration pendingAcquireTimeout = Duration.ofMillis(500);
+
+        /**
+         * 유휴 연결 유지 시간 (PG 측 keep-alive보다 짧게)
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(20);
+
+        /**
+         * 연결 수립 시한
+         */
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 승인/매입/취소 호출 시한 (연결 대기부터 응답 수신까지)
+         */
+        private Duration deadline = Duration.ofSeconds(5);
+
+        /**
+         * 조회 호출 시한
+         */
+        private Duration inquiryDeadline = Duration.ofSeconds(2);
+
+        /**
+         * 조회 중복 요청 지연 (첫 요청이 이 시간 안에 끝나지 않으면 두 번째 요청을 보내 먼저 온 응답을 쓴다, 0이면 사용 안 함)
+         * PG 조회 응답 시간의 p95 정도로 잡는다.
+         */
+        private Duration hedgeDelay = Duration.ofMillis(300);
+
+        /**
+         * 회로 차단 설정
+         */
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * 판단에 사용할 최근 호출 수
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * 판단을 시작할 최소 호출 수
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * 회로를 여는 실패율 (%) - 서버 오류, 연결 실패, 시한 초과를 실패로 본다
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 회로를 연 뒤 시험 호출을 허용하기까지의 시간
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * 반열림 상태에서 허용할 시험 호출 수
+         */
+        private int halfOpenCalls = 5;
+    }
+}
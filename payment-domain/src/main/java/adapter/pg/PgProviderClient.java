@@ -0,0 +1,211 @@
+package adapter.pg;
+
+import application.service.pg.PgGatewayException;
+import application.service.pg.PgResult;
+import application.service.pg.PgResultStatus;
+import application.service.pg.PgTimeoutException;
+import application.service.pg.PgUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * PG 한 곳에 대한 비동기 HTTP 클라이언트
+ *
+ * - 전용 연결 풀: PG마다 연결 수/대기열/유휴 시간을 따로 두어 느린 PG 하나가 다른 PG의 연결을 빼앗지 않는다.
+ *   대기열이 가득 차면 기다리지 않고 바로 실패한다.
+ * - 호출 시한: 연결 대기부터 응답 수신까지 전체에 시한을 건다.
+ * - 회로 차단: 실패율이 높으면 일정 시간 PG를 호출하지 않고 바로 실패한다.
+ * - 조회 중복 요청: 조회는 멱등이므로 hedgeDelay 안에 응답이 없으면 한 번 더 보내 먼저 온 응답을 쓴다.
+ *
+ * 지표 (provider 태그: PG 이름)
+ * - pg.client.calls{operation, outcome} : 호출 시간과 결과 (success, timeout, error, rejected, cancelled)
+ * - pg.client.hedged                    : 조회 중복 요청 수
+ * - pg.client.circuit_state             : 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+ * - reactor.netty.connection.provider.* : 연결 풀 상태 (pool 태그: pg-{PG 이름})
+ */
+@Slf4j
+class PgProviderClient {
+    private static final Logger log = LoggerFactory.getLogger(PgProviderClient.class);
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final String name;
+    private final PgGatewayProperties.Provider properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final PgCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter hedgedCounter;
+
+    PgProviderClient(String name, PgGatewayProperties.Provider properties,
+                     WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new PgCircuitBreaker(properties.getCircuitBreaker());
+
+        this.connectionProvider = ConnectionProvider.builder("pg-" + name)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+        // 응답 시한은 호출마다 call()에서 건다 (연결 단위 responseTimeout은 조회 시한보다 짧을 수 있다)
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis());
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (properties.getSecretKey() != null) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getSecretKey());
+        }
+        this.webClient = builder.build();
+
+        this.hedgedCounter = Counter.builder("pg.client.hedged")
+                .description("조회 중복 요청 수")
+                .tag("provider", name)
+                .register(meterRegistry);
+        Gauge.builder("pg.client.circuit_state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("회로 상태 (0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN)")
+                .tag("provider", name)
+                .register(meterRegistry);
+    }
+
+    Mono<PgResult> post(String operation, String path, Object body, String idempotencyKey) {
+        return call(operation, properties.getDeadline(), () -> webClient.post()
+                .uri(path)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(body)
+                .exchangeToMono(this::readResult));
+    }
+
+    /**
+     * 결제 ID로 조회 (중복 요청 포함, 회로가 열려 있으면 UNKNOWN)
+     */
+    Mono<PgResult> inquire(String paymentId) {
+        if (circuitBreaker.state() == PgCircuitBreaker.State.OPEN) {
+            return Mono.just(PgResult.unknown("PG 호출 차단 중: " + name));
+        }
+
+        Mono<PgResult> attempt = call("inquiry", properties.getInquiryDeadline(), () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/payments").queryParam("payment_id", paymentId).build())
+                .exchangeToMono(response -> response.statusCode().value() == HttpStatus.NOT_FOUND.value()
+                        ? response.releaseBody().thenReturn(new PgResult(PgResultStatus.NOT_FOUND, null, null, null, null, null))
+                        : readResult(response)));
+
+        Duration hedgeDelay = properties.getHedgeDelay();
+        Mono<PgResult> result = attempt;
+        if (hedgeDelay != null && !hedgeDelay.isZero()) {
+            // 두 번째 요청은 회로가 닫혀 있을 때만 보낸다 (장애 중인 PG에 부하를 더하지 않도록)
+            Mono<PgResult> hedge = Mono.delay(hedgeDelay)
+                    .then(Mono.defer(() -> {
+                        if (circuitBreaker.state() != PgCircuitBreaker.State.CLOSED) {
+                            return Mono.<PgResult>empty();
+                        }
+                        hedgedCounter.increment();
+                        return attempt;
+                    }));
+            // 먼저 온 응답을 쓰고 나머지 요청은 취소한다. 둘 다 실패하면 첫 요청의 오류를 돌려준다.
+            result = Mono.firstWithValue(attempt, hedge)
+                    .onErrorMap(NoSuchElementException.class,
+                            e -> e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e);
+        }
+        return result.onErrorResume(PgUnavailableException.class, e -> Mono.just(PgResult.unknown(e.getMessage())));
+    }
+
+    private Mono<PgResult> call(String operation, Duration deadline, Supplier<Mono<PgResult>> request) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                record(operation, "rejected", System.nanoTime());
+                return Mono.error(new PgUnavailableException(name, String.format(
+                        "PG 호출 차단 중입니다. PG: %s, 남은 시간: %dms", name, circuitBreaker.openRemainingMillis())));
+            }
+
+            long started = System.nanoTime();
+            return request.get()
+                    .timeout(deadline)
+                    .onErrorMap(e -> translate(operation, deadline, e))
+                    .doOnSuccess(result -> {
+                        circuitBreaker.onSuccess();
+                        record(operation, "success", started);
+                    })
+                    .doOnError(e -> {
+                        circuitBreaker.onFailure();
+                        record(operation, e instanceof PgTimeoutException ? "timeout" : "error", started);
+                        log.warn("PG 호출 실패 - PG: {}, 작업: {}, 오류: {}", name, operation, e.getMessage());
+                    })
+                    .doOnCancel(() -> {
+                        // 중복 요청에서 진 요청 등 결과를 모르는 호출
+                        circuitBreaker.onIgnored();
+                        record(operation, "cancelled", started);
+                    });
+        });
+    }
+
+    private Mono<PgResult> readResult(ClientResponse response) {
+        if (response.statusCode().is5xxServerError()) {
+            return response.createError();
+        }
+        // 2xx는 처리 결과, 4xx는 거절 사유를 같은 형식으로 돌려준다
+        return response.bodyToMono(PgResult.class)
+                .switchIfEmpty(Mono.error(() -> new PgGatewayException(name,
+                        "PG 응답 본문이 없습니다. 상태 코드: " + response.statusCode().value())));
+    }
+
+    private Throwable translate(String operation, Duration deadline, Throwable e) {
+        if (e instanceof PgGatewayException) {
+            return e;
+        }
+        if (e instanceof TimeoutException) {
+            return new PgTimeoutException(name, String.format("PG 호출 시한 초과 - PG: %s, 작업: %s, 시한: %s", name, operation, deadline));
+        }
+        // 연결 풀 대기열 포화/대기 시간 초과는 요청을 보내기 전 실패이므로 미전송으로 본다
+        // (reactor-netty 내부 풀 예외는 패키지가 바뀔 수 있어 이름으로 구분)
+        if (e.getClass().getSimpleName().startsWith("PoolAcquire")) {
+            return new PgUnavailableException(name, "PG 연결 대기열이 가득 찼습니다. PG: " + name);
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return new PgGatewayException(name, String.format("PG 서버 오류 - PG: %s, 작업: %s, 상태 코드: %d",
+                    name, operation, responseException.getStatusCode().value()), e);
+        }
+        return new PgGatewayException(name, String.format("PG 호출 오류 - PG: %s, 작업: %s, 오류: %s",
+                name, operation, e.getMessage()), e);
+    }
+
+    private void record(String operation, String outcome, long started) {
+        Timer.builder("pg.client.calls")
+                .tag("provider", name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    void dispose() {
+        connectionProvider.dispose();
+    }
+}
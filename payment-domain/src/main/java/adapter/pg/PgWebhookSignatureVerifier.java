@@ -0,0 +1,82 @@
+package adapter.pg;
+
+import application.service.webhook.PgWebhookProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * PG 결과 통지 서명 검증기
+ *
+ * 서명 = hex(HMAC-SHA256(PG별 웹훅 서명 키, "{타임스탬프}.{본문}"))
+ * 타임스탬프(epoch 초)가 허용 오차를 벗어나면 서명이 맞아도 거절해 오래된 통지의 재전송 공격을 막는다.
+ * 서명 키는 기동 시 PG별로 한 번만 만들고, 비교는 고정 시간으로 한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "fintech.payment.webhook", name = "enabled", havingValue = "true")
+public class PgWebhookSignatureVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    private final long toleranceSeconds;
+
+    public PgWebhookSignatureVerifier(PgGatewayProperties gatewayProperties, PgWebhookProperties webhookProperties) {
+        gatewayProperties.getProviders().forEach((name, provider) -> {
+            if (provider.getWebhookSecret() != null && !provider.getWebhookSecret().isBlank()) {
+                keys.put(name, new SecretKeySpec(provider.getWebhookSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            }
+        });
+        this.toleranceSeconds = webhookProperties.getSignatureTolerance().toSeconds();
+    }
+
+    /**
+     * @param timestamp 서명 타임스탬프 헤더 (epoch 초)
+     * @param signature 서명 헤더 (hex)
+     * @return 서명 키가 있는 PG이고, 시각이 허용 오차 안이며, 서명이 맞으면 true
+     */
+    public boolean verify(String provider, String timestamp, String signature, byte[] body) {
+        SecretKeySpec key = keys.get(provider);
+        if (key == null || timestamp == null || signature == null) {
+            return false;
+        }
+
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - signedAt) > toleranceSeconds) {
+            return false;
+        }
+
+        byte[] expected;
+        byte[] actual;
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(timestamp.getBytes(StandardCharsets.US_ASCII));
+            mac.update((byte) '.');
+            expected = mac.doFinal(body);
+            actual = HexFormat.of().parseHex(signature.trim().toLowerCase());
+        } catch (IllegalArgumentException e) {
+            return false;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("HMAC-SHA256을 사용할 수 없습니다.", e);
+        }
+        return MessageDigest.isEqual(expected, actual);
+    }
+}
@@ -0,0 +1,98 @@
+package adapter.pg;
+
+import application.port.out.PgGatewayPort;
+import application.service.pg.PgAuthorizeRequest;
+import application.service.pg.PgCancelRequest;
+import application.service.pg.PgCaptureRequest;
+import application.service.pg.PgResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebClient 기반 PG 연동 어댑터
+ *
+ * 요청은 Netty 이벤트 루프에서 처리되고 호출자는 Future만 받으므로, 느린 PG가 서블릿 스레드를 붙잡지 않는다.
+ * (컨트롤러는 CompletableFuture를 그대로 반환해 비동기 서블릿으로 응답한다)
+ *
+ * PG 공통 API
+ * - POST /payments/authorize                      승인
+ * - POST /payments/{pgTransactionId}/capture      매입
+ * - POST /payments/{pgTransactionId}/cancel       취소
+ * - GET  /payments?payment_id={paymentId}         조회
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+public class WebClientPgGatewayAdapter implements PgGatewayPort, DisposableBean {
+
+    private final Map<String, PgProviderClient> clients = new LinkedHashMap<>();
+
+    public WebClientPgGatewayAdapter(PgGatewayProperties properties,
+                                     WebClient.Builder webClientBuilder,
+                                     MeterRegistry meterRegistry) {
+        properties.getProviders().forEach((name, provider) ->
+                clients.put(name, new PgProviderClient(name, provider, webClientBuilder, meterRegistry)));
+    }
+
+    @Override
+    public CompletableFuture<PgResult> authorize(PgAuthorizeRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("payment_id", request.paymentId());
+        body.put("merchant_id", request.merchantId());
+        body.put("amount", request.amount());
+        body.put("currency", request.currency());
+        body.put("card_token", request.cardToken());
+        return client(request.provider())
+                .flatMap(client -> client.post("authorize", "/payments/authorize", body, request.paymentId()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<PgResult> capture(PgCaptureRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("payment_id", request.paymentId());
+        body.put("amount", request.amount());
+        return client(request.provider())
+                .flatMap(client -> client.post("capture", "/payments/" + request.pgTransactionId() + "/capture",
+                        body, request.requestId()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<PgResult> cancel(PgCancelRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("payment_id", request.paymentId());
+        body.put("amount", request.amount());
+        body.put("reason", request.reason());
+        return client(request.provider())
+                .flatMap(client -> client.post("cancel", "/payments/" + request.pgTransactionId() + "/cancel",
+                        body, request.requestId()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<PgResult> inquire(String provider, String paymentId) {
+        return client(provider)
+                .flatMap(client -> client.inquire(paymentId))
+                .toFuture();
+    }
+
+    private Mono<PgProviderClient> client(String provider) {
+        PgProviderClient client = clients.get(provider);
+        return client != null
+                ? Mono.just(client)
+                : Mono.error(new IllegalArgumentException("등록되지 않은 PG입니다: " + provider));
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(PgProviderClient::dispose);
+    }
+}
@@ -0,0 +1,286 @@
+package adapter.web.controller;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.request.AuthorizePaymentRequest;
+import adapter.web.model.request.CapturePaymentRequest;
+import adapter.web.model.request.RefundPaymentRequest;
+import adapter.web.model.response.PaymentResponse;
+import application.service.payment.PaymentService;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Payment;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+/**
+ * 결제 API Controller
+ * 승인(보류) → 매입(출금) 또는 승인취소(보류 해제) → 환불(입금) 흐름을 제공한다.
+ * 도메인 예외(잔액 부족, 결제 없음, 상태 오류 등)는 예외 처리기에서 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/payments")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Payment Management", description = "결제 승인/매입/취소/환불 API")
+public class PaymentController {
+    private static final Logger log = LoggerFactory.getLogger(PaymentController.class);
+
+    private final PaymentService paymentService;
+
+    @Operation(
+            summary = "결제 승인",
+            description = "지불 계좌의 사용 가능 잔액 범위에서 승인 금액을 보류합니다. 만료 시각까지 매입하지 않으면 자동으로 만료됩니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "승인 성공",
+                    content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "사용 가능 잔액 부족, 비활성 계좌 또는 중복 결제 ID",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "422",
+                    description = "거래 속도 심사에서 차단",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<PaymentResponse>> authorize(
+            @Parameter(description = "결제 승인 요청 데이터", required = true)
+            @Valid @RequestBody
+            AuthorizePaymentRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "PAY_" + System.currentTimeMillis();
+        }
+
+        if (!paymentService.isEnabled()) {
+            return paymentDisabled(requestId, "/api/v1/payments", "POST");
+        }
+
+        log.info("[{}] 결제 승인 요청 - 가맹점: {}, 계좌번호: {}, 금액: {}, 결제ID: {}",
+                requestId, request.getMerchantId(), request.getPayerAccountNumber(), request.getAmount(), request.getPaymentId());
+
+        Payment payment = paymentService.authorize(
+                request.getPaymentId(),
+                request.getMerchantId(),
+                new AccountNumber(request.getPayerAccountNumber()),
+                new Money(request.getAmount()),
+                request.getTtlSeconds() != null ? Duration.ofSeconds(request.getTtlSeconds()) : null);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(PaymentResponse.from(payment), "결제가 승인되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "결제 매입",
+            description = "승인을 실제 출금으로 확정합니다. 승인 금액 이하로 한 번 매입할 수 있으며, 남은 금액은 해제됩니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "매입 성공",
+                    content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "승인 상태가 아닌 결제 또는 만료된 승인",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{paymentId}/capture")
+    public ResponseEntity<ApiResponse<PaymentResponse>> capture(
+            @Parameter(description = "결제 ID", example = "PAY_20250712_0001", required = true)
+            @PathVariable
+            String paymentId,
+
+            @Parameter(description = "결제 매입 요청 데이터", required = true)
+            @Valid @RequestBody
+            CapturePaymentRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "PCP_" + System.currentTimeMillis();
+        }
+
+        if (!paymentService.isEnabled()) {
+            return paymentDisabled(requestId, "/api/v1/payments/" + paymentId + "/capture", "POST");
+        }
+
+        log.info("[{}] 결제 매입 요청 - 결제ID: {}, 금액: {}", requestId, paymentId, request.getAmount());
+
+        Payment payment = paymentService.capture(
+                paymentId,
+                request.getAmount() != null ? new Money(request.getAmount()) : null,
+                request.getDescription());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(PaymentResponse.from(payment), "결제가 매입되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "결제 승인취소",
+            description = "매입 전 승인을 취소하고 보류를 해제합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "승인취소 성공",
+                    content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "승인 상태가 아닌 결제",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{paymentId}/void")
+    public ResponseEntity<ApiResponse<PaymentResponse>> voidAuthorization(
+            @Parameter(description = "결제 ID", example = "PAY_20250712_0001", required = true)
+            @PathVariable
+            String paymentId,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "PVD_" + System.currentTimeMillis();
+        }
+
+        if (!paymentService.isEnabled()) {
+            return paymentDisabled(requestId, "/api/v1/payments/" + paymentId + "/void", "POST");
+        }
+
+        log.info("[{}] 결제 승인취소 요청 - 결제ID: {}", requestId, paymentId);
+
+        Payment payment = paymentService.voidAuthorization(paymentId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(PaymentResponse.from(payment), "결제 승인이 취소되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "결제 환불",
+            description = "매입 금액에서 이미 환불한 금액을 뺀 범위에서 지불 계좌로 환불합니다. 여러 번 나누어 환불할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "환불 성공",
+                    content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "매입되지 않은 결제",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{paymentId}/refunds")
+    public ResponseEntity<ApiResponse<PaymentResponse>> refund(
+            @Parameter(description = "결제 ID", example = "PAY_20250712_0001", required = true)
+            @PathVariable
+            String paymentId,
+
+            @Parameter(description = "결제 환불 요청 데이터", required = true)
+            @Valid @RequestBody
+            RefundPaymentRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "PRF_" + System.currentTimeMillis();
+        }
+
+        if (!paymentService.isEnabled()) {
+            return paymentDisabled(requestId, "/api/v1/payments/" + paymentId + "/refunds", "POST");
+        }
+
+        log.info("[{}] 결제 환불 요청 - 결제ID: {}, 금액: {}", requestId, paymentId, request.getAmount());
+
+        Payment payment = paymentService.refund(paymentId, new Money(request.getAmount()), request.getDescription());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(PaymentResponse.from(payment), "결제가 환불되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "결제 조회",
+            description = "결제 상태와 승인/매입/환불 금액을 조회합니다."
+    )
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<ApiResponse<PaymentResponse>> getPayment(
+            @Parameter(description = "결제 ID", example = "PAY_20250712_0001", required = true)
+            @PathVariable
+            String paymentId,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "PGT_" + System.currentTimeMillis();
+        }
+
+        Payment payment = paymentService.getPayment(paymentId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(PaymentResponse.from(payment), "결제 조회가 완료되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> paymentDisabled(String requestId, String path, String method) {
+        ErrorResponse errorResponse = ErrorResponse.businessError("PAYMENT_DISABLED", "결제 기능을 사용할 수 없습니다.")
+                .withRequestId(requestId)
+                .withPath(path, method);
+
+        return ResponseEntity.status(503)
+                .body(ApiResponse.error("PAYMENT_DISABLED", errorResponse.getErrorMessage()));
+    }
+}
@@ -0,0 +1,133 @@
+package adapter.web.controller;
+
+import adapter.pg.PgWebhookSignatureVerifier;
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.request.PgWebhookRequest;
+import application.service.webhook.PgWebhookEvent;
+import application.service.webhook.PgWebhookIngestionService;
+import application.service.webhook.PgWebhookOutcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * PG 결과 통지(웹훅) 수신 Controller
+ *
+ * 서명을 확인한 뒤 처리 대기열에 넣고 바로 응답한다. 저장은 백그라운드에서 배치로 처리된다.
+ * - 200: 접수 또는 이미 받은 통지 (PG는 재전송을 멈춘다)
+ * - 401/400: 서명 또는 본문 오류 (PG 설정 확인 필요)
+ * - 503: 처리 대기열이 가득 참 (Retry-After 이후 PG가 다시 보낸다)
+ * 통지량이 많으므로 요청별 로그는 debug로 남긴다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/pg/webhooks")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "fintech.payment.webhook", name = "enabled", havingValue = "true")
+@Tag(name = "PG Webhook", description = "PG 결과 통지 수신 API")
+public class PgWebhookController {
+    private static final Logger log = LoggerFactory.getLogger(PgWebhookController.class);
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final PgWebhookIngestionService ingestionService;
+    private final PgWebhookSignatureVerifier signatureVerifier;
+    private final ObjectMapper objectMapper;
+
+    @Operation(
+            summary = "PG 결과 통지 수신",
+            description = "서명(X-PG-Signature = hex(HMAC-SHA256(키, \"{X-PG-Timestamp}.{본문}\")))을 확인하고 처리 대기열에 넣습니다. " +
+                    "같은 PG 거래 ID의 재전송은 저장하지 않고 성공으로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "접수 또는 중복 통지"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "본문 형식 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "서명 검증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "처리 대기열 포화 (Retry-After 후 재전송)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{provider}")
+    public ResponseEntity<ApiResponse<Void>> receive(
+            @Parameter(description = "PG 이름", example = "default", required = true)
+            @PathVariable
+            String provider,
+
+            @Parameter(description = "서명 시각 (epoch 초)", example = "1752297930", required = true)
+            @RequestHeader(value = "X-PG-Timestamp", required = false)
+            String timestamp,
+
+            @Parameter(description = "서명 (hex)", required = true)
+            @RequestHeader(value = "X-PG-Signature", required = false)
+            String signature,
+
+            @RequestBody
+            byte[] body) {
+
+        if (!signatureVerifier.verify(provider, timestamp, signature, body)) {
+            log.warn("PG 결과 통지 서명 검증 실패 - PG: {}, 타임스탬프: {}", provider, timestamp);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("INVALID_SIGNATURE", "서명 검증에 실패했습니다."));
+        }
+
+        PgWebhookRequest request;
+        try {
+            request = objectMapper.readValue(body, PgWebhookRequest.class);
+        } catch (IOException e) {
+            request = null;
+        }
+        if (request == null || !request.isComplete()) {
+            log.warn("PG 결과 통지 형식 오류 - PG: {}", provider);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("INVALID_WEBHOOK", "PG 거래 ID와 결과 상태는 필수입니다."));
+        }
+
+        PgWebhookOutcome outcome = ingestionService.accept(new PgWebhookEvent(
+                provider, request.getPgTransactionId(), request.getPaymentId(), request.getStatus(),
+                request.getAmount(), request.getResultCode(), request.getMessage(), request.getProcessedAt(),
+                Instant.now(), new String(body, StandardCharsets.UTF_8)));
+        log.debug("PG 결과 통지 - PG: {}, PG 거래 ID: {}, 결과: {}", provider, request.getPgTransactionId(), outcome);
+
+        return switch (outcome) {
+            case ACCEPTED -> ResponseEntity.ok(ApiResponse.<Void>success(null, "통지를 접수했습니다."));
+            case DUPLICATE -> ResponseEntity.ok(ApiResponse.<Void>success(null, "이미 접수된 통지입니다."));
+            case QUEUE_FULL -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(ApiResponse.error("WEBHOOK_BACKLOG", "처리 대기 중인 통지가 많습니다. 잠시 후 다시 보내주세요."));
+        };
+    }
+}
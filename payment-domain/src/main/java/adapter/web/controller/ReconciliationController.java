@@ -0,0 +1,111 @@
+package adapter.web.controller;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.response.ReconciliationRunResponse;
+import application.service.reconciliation.ReconciliationService;
+import domain.exception.ReconciliationRunNotFoundException;
+import domain.model.ReconciliationRun;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * PG 정산 대사 API Controller
+ * 대사는 백그라운드에서 실행되므로 실행 요청은 바로 돌려주고, 결과 건수는 조회 API로 확인한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/reconciliations")
+@RequiredArgsConstructor
+@Tag(name = "Reconciliation Management", description = "PG 정산 대사 API")
+public class ReconciliationController {
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationController.class);
+
+    private final ReconciliationService reconciliationService;
+
+    @Operation(
+            summary = "대사 실행",
+            description = "대사일에 받은 PG 정산 파일과 같은 날 매입된 결제를 결제 ID로 대사합니다. 다시 실행하면 처음부터 대사합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "대사 실행 요청 접수"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "끝나지 않은 날짜",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{reconciliationDate}/run")
+    public ResponseEntity<ApiResponse<Void>> runReconciliation(
+            @Parameter(description = "대사일 (yyyy-MM-dd)", example = "2025-07-12", required = true)
+            @PathVariable
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate reconciliationDate,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "RCN_" + System.currentTimeMillis();
+        }
+
+        boolean submitted = reconciliationService.submit(reconciliationDate);
+        log.info("[{}] 대사 실행 요청 - 대사일: {}, 접수: {}", requestId, reconciliationDate, submitted);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.<Void>success(null, submitted ? "대사를 시작했습니다." : "이미 진행 중인 대사입니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "대사 실행 조회",
+            description = "대사 상태와 일치/누락/금액 불일치 건수를 조회합니다."
+    )
+    @GetMapping("/{reconciliationDate}")
+    public ResponseEntity<ApiResponse<ReconciliationRunResponse>> getReconciliationRun(
+            @Parameter(description = "대사일 (yyyy-MM-dd)", example = "2025-07-12", required = true)
+            @PathVariable
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate reconciliationDate,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "RCQ_" + System.currentTimeMillis();
+        }
+
+        ReconciliationRun run = reconciliationService.getRun(reconciliationDate)
+                .orElseThrow(() -> new ReconciliationRunNotFoundException("대사 실행이 없습니다: " + reconciliationDate));
+
+        return ResponseEntity.ok(
+                ApiResponse.success(ReconciliationRunResponse.from(run), "대사 실행 조회가 완료되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package adapter.web.controller;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.response.SettlementRunResponse;
+import application.service.settlement.SettlementService;
+import domain.exception.SettlementRunNotFoundException;
+import domain.model.SettlementRun;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 정산 API Controller
+ * 정산은 백그라운드에서 실행되므로 실행 요청은 바로 돌려주고, 진행 상황은 조회 API로 확인한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/settlements")
+@RequiredArgsConstructor
+@Tag(name = "Settlement Management", description = "일일 정산 API")
+public class SettlementController {
+    private static final Logger log = LoggerFactory.getLogger(SettlementController.class);
+
+    private final SettlementService settlementService;
+
+    @Operation(
+            summary = "정산 실행",
+            description = "정산일에 매입된 결제를 가맹점/통화별로 집계합니다. 중단된 정산은 마지막 체크포인트부터 이어서 처리합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "정산 실행 요청 접수"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "끝나지 않은 날짜",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{settlementDate}/run")
+    public ResponseEntity<ApiResponse<Void>> runSettlement(
+            @Parameter(description = "정산일 (yyyy-MM-dd)", example = "2025-07-12", required = true)
+            @PathVariable
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate settlementDate,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "STL_" + System.currentTimeMillis();
+        }
+
+        boolean submitted = settlementService.submit(settlementDate);
+        log.info("[{}] 정산 실행 요청 - 정산일: {}, 접수: {}", requestId, settlementDate, submitted);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.<Void>success(null, submitted ? "정산을 시작했습니다." : "이미 진행 중인 정산입니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "정산 실행 조회",
+            description = "정산 상태와 처리 건수를 조회합니다."
+    )
+    @GetMapping("/{settlementDate}")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> getSettlementRun(
+            @Parameter(description = "정산일 (yyyy-MM-dd)", example = "2025-07-12", required = true)
+            @PathVariable
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate settlementDate,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "STQ_" + System.currentTimeMillis();
+        }
+
+        SettlementRun run = settlementService.getRun(settlementDate)
+                .orElseThrow(() -> new SettlementRunNotFoundException("정산 실행이 없습니다: " + settlementDate));
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SettlementRunResponse.from(run), "정산 실행 조회가 완료되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package adapter.web.exception;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import domain.exception.InvalidPaymentStateException;
+import domain.exception.PaymentNotFoundException;
+import domain.exception.ReconciliationRunNotFoundException;
+import domain.exception.SettlementRunNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 결제 예외 처리기
+ * 결제/정산/대사 도메인 예외만 처리하고, 그 외 예외는 GlobalExceptionHandler가 처리한다.
+ * (GlobalExceptionHandler의 Exception 처리보다 먼저 적용되도록 우선순위를 높인다)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PaymentExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentExceptionHandler.class);
+
+    @ExceptionHandler(PaymentNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePaymentNotFound(
+            PaymentNotFoundException ex, HttpServletRequest request) {
+        return businessError(HttpStatus.NOT_FOUND, "PAYMENT_NOT_FOUND", ex, request);
+    }
+
+    @ExceptionHandler(SettlementRunNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSettlementRunNotFound(
+            SettlementRunNotFoundException ex, HttpServletRequest request) {
+        return businessError(HttpStatus.NOT_FOUND, "SETTLEMENT_RUN_NOT_FOUND", ex, request);
+    }
+
+    @ExceptionHandler(ReconciliationRunNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleReconciliationRunNotFound(
+            ReconciliationRunNotFoundException ex, HttpServletRequest request) {
+        return businessError(HttpStatus.NOT_FOUND, "RECONCILIATION_RUN_NOT_FOUND", ex, request);
+    }
+
+    @ExceptionHandler(InvalidPaymentStateException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidPaymentState(
+            InvalidPaymentStateException ex, HttpServletRequest request) {
+        return businessError(HttpStatus.CONFLICT, "INVALID_PAYMENT_STATE", ex, request);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> businessError(HttpStatus status, String errorCode,
+                                                            RuntimeException ex, HttpServletRequest request) {
+        String requestId = request.getHeader("X-Request-ID");
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "ERR_" + System.currentTimeMillis();
+        }
+        log.warn("[{}] 결제 오류 - 경로: {}, 오류: {}", requestId, request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.businessError(errorCode, ex.getMessage())
+                .withRequestId(requestId)
+                .withPath(request.getRequestURI(), request.getMethod());
+
+        return ResponseEntity.status(status)
+                .body(ApiResponse.error(errorCode, errorResponse.getErrorMessage()));
+    }
+}
@@ -0,0 +1,60 @@
+package adapter.web.model.request;
+
+import application.service.pg.PgResultStatus;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * PG 결과 통지 본문 DTO
+ * 서명 검증을 위해 본문을 원문 그대로 받은 뒤 이 형식으로 읽는다. (모르는 필드는 무시)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "PG 결과 통지")
+public class PgWebhookRequest {
+
+    @Schema(description = "PG 거래 ID (중복 판단 기준)", example = "T2025071214253000001", requiredMode = Schema.RequiredMode.REQUIRED)
+    @JsonProperty("pg_transaction_id")
+    private String pgTransactionId;
+
+    @Schema(description = "결제 ID", example = "PAY_20250712_0001")
+    @JsonProperty("payment_id")
+    private String paymentId;
+
+    @Schema(description = "결과 상태", example = "APPROVED", requiredMode = Schema.RequiredMode.REQUIRED,
+            allowableValues = {"APPROVED", "DECLINED", "PENDING", "NOT_FOUND", "UNKNOWN"})
+    @JsonProperty("status")
+    private PgResultStatus status;
+
+    @Schema(description = "처리 금액", example = "50000.00")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "PG 결과 코드", example = "0000")
+    @JsonProperty("result_code")
+    private String resultCode;
+
+    @Schema(description = "PG 결과 메시지", example = "정상 승인")
+    @JsonProperty("message")
+    private String message;
+
+    @Schema(description = "PG 처리 시각", example = "2025-07-12T14:25:30+09:00")
+    @JsonProperty("processed_at")
+    private OffsetDateTime processedAt;
+
+    public boolean isComplete() {
+        return pgTransactionId != null && !pgTransactionId.isBlank() && pgTransactionId.length() <= 64 && status != null;
+    }
+}
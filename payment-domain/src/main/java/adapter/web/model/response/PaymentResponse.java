@@ -0,0 +1,94 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.Payment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 결제 응답 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "결제 정보")
+public class PaymentResponse {
+
+    @Schema(description = "결제 ID", example = "PAY_20250712_0001")
+    @JsonProperty("payment_id")
+    private String paymentId;
+
+    @Schema(description = "가맹점 ID", example = "MERCHANT_0001")
+    @JsonProperty("merchant_id")
+    private String merchantId;
+
+    @Schema(description = "지불 계좌번호", example = "1001234567890")
+    @JsonProperty("payer_account_number")
+    private String payerAccountNumber;
+
+    @Schema(description = "승인 금액", example = "50000.00")
+    @JsonProperty("authorized_amount")
+    private BigDecimal authorizedAmount;
+
+    @Schema(description = "매입 금액", example = "45000.00")
+    @JsonProperty("captured_amount")
+    private BigDecimal capturedAmount;
+
+    @Schema(description = "환불 누계", example = "0.00")
+    @JsonProperty("refunded_amount")
+    private BigDecimal refundedAmount;
+
+    @Schema(description = "결제 상태", example = "AUTHORIZED",
+            allowableValues = {"AUTHORIZED", "CAPTURED", "PARTIALLY_REFUNDED", "REFUNDED", "VOIDED", "EXPIRED"})
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "승인 시각 (UTC)", example = "2025-07-12T05:25:30.123Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("authorized_at")
+    private Instant authorizedAt;
+
+    @Schema(description = "승인 만료 시각 (UTC)", example = "2025-07-19T05:25:30.123Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+
+    @Schema(description = "매입 시각 (UTC)", example = "2025-07-12T06:00:00.000Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("captured_at")
+    private Instant capturedAt;
+
+    @Schema(description = "승인 시점의 이상거래 심사 점수 (0이면 일치한 규칙 없음)", example = "0")
+    @JsonProperty("risk_score")
+    private Integer riskScore;
+
+    /**
+     * 팩토리 메서드 - 결제 변환
+     */
+    public static PaymentResponse from(Payment payment) {
+        return PaymentResponse.builder()
+                .paymentId(payment.getPaymentId())
+                .merchantId(payment.getMerchantId())
+                .payerAccountNumber(payment.getPayerAccountNumber().getValue())
+                .authorizedAmount(payment.getAuthorizedAmount().getAmount())
+                .capturedAmount(payment.getCapturedAmount().getAmount())
+                .refundedAmount(payment.getRefundedAmount().getAmount())
+                .status(payment.getStatus().name())
+                .authorizedAt(payment.getAuthorizedAt())
+                .expiresAt(payment.getExpiresAt())
+                .capturedAt(payment.getCapturedAt())
+                .riskScore(payment.getRiskScore())
+                .build();
+    }
+}
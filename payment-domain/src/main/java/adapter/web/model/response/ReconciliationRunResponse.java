@@ -0,0 +1,89 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.ReconciliationRun;
+import domain.model.ReconciliationSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 대사 실행 응답 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대사 실행 정보")
+public class ReconciliationRunResponse {
+
+    @Schema(description = "대사일", example = "2025-07-12")
+    @JsonProperty("reconciliation_date")
+    private LocalDate reconciliationDate;
+
+    @Schema(description = "대사 상태", example = "COMPLETED", allowableValues = {"RUNNING", "COMPLETED", "FAILED"})
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "PG 정산 파일 행 수", example = "1250003")
+    @JsonProperty("pg_rows")
+    private long pgRows;
+
+    @Schema(description = "내부 원장 결제 수", example = "1250001")
+    @JsonProperty("internal_rows")
+    private long internalRows;
+
+    @Schema(description = "일치 건수", example = "1249998")
+    @JsonProperty("matched_count")
+    private long matchedCount;
+
+    @Schema(description = "PG 정산 파일에 없는 결제 수", example = "1")
+    @JsonProperty("missing_in_pg_count")
+    private long missingInPgCount;
+
+    @Schema(description = "내부 원장에 없는 결제 수", example = "3")
+    @JsonProperty("missing_internal_count")
+    private long missingInternalCount;
+
+    @Schema(description = "금액 불일치 건수", example = "2")
+    @JsonProperty("amount_mismatch_count")
+    private long amountMismatchCount;
+
+    @Schema(description = "시작 시각 (UTC)", example = "2025-07-13T01:00:00.000Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("started_at")
+    private Instant startedAt;
+
+    @Schema(description = "완료 시각 (UTC)", example = "2025-07-13T01:02:10.000Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("completed_at")
+    private Instant completedAt;
+
+    /**
+     * 팩토리 메서드 - 대사 실행 변환
+     */
+    public static ReconciliationRunResponse from(ReconciliationRun run) {
+        ReconciliationSummary summary = run.getSummary();
+        return ReconciliationRunResponse.builder()
+                .reconciliationDate(run.getReconciliationDate())
+                .status(run.getStatus().name())
+                .pgRows(summary.pgRows())
+                .internalRows(summary.internalRows())
+                .matchedCount(summary.matched())
+                .missingInPgCount(summary.missingInPg())
+                .missingInternalCount(summary.missingInternal())
+                .amountMismatchCount(summary.amountMismatch())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+}
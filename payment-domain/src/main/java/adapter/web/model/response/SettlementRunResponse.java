@@ -0,0 +1,62 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.SettlementRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 정산 실행 응답 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "정산 실행 정보")
+public class SettlementRunResponse {
+
+    @Schema(description = "정산일", example = "2025-07-12")
+    @JsonProperty("settlement_date")
+    private LocalDate settlementDate;
+
+    @Schema(description = "정산 상태", example = "RUNNING", allowableValues = {"RUNNING", "COMPLETED"})
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "처리 건수", example = "1250000")
+    @JsonProperty("processed_count")
+    private long processedCount;
+
+    @Schema(description = "시작 시각 (UTC)", example = "2025-07-13T00:10:00.000Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("started_at")
+    private Instant startedAt;
+
+    @Schema(description = "완료 시각 (UTC)", example = "2025-07-13T00:14:30.000Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("completed_at")
+    private Instant completedAt;
+
+    /**
+     * 팩토리 메서드 - 정산 실행 변환
+     */
+    public static SettlementRunResponse from(SettlementRun run) {
+        return SettlementRunResponse.builder()
+                .settlementDate(run.getSettlementDate())
+                .status(run.getStatus().name())
+                .processedCount(run.getProcessedCount())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package adapter.web.security;
+
+import adapter.web.model.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 가맹점 토큰 인증 필터 (Authorization: Bearer ...)
+ *
+ * 토큰을 검증해 요청 스레드의 보안 컨텍스트에만 인증 정보를 둔다. 세션에는 저장하지 않는다.
+ * 토큰이 없으면 그대로 넘기고(인가 단계에서 401), 검증에 실패하면 바로 401을 돌려준다.
+ * 보안 필터 체인 안에서만 쓰므로 빈으로 등록하지 않는다. (서블릿 필터로 중복 등록 방지)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class MerchantAuthenticationFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(MerchantAuthenticationFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final MerchantTokenVerifier tokenVerifier;
+    private final ObjectMapper objectMapper;
+
+    public MerchantAuthenticationFilter(MerchantTokenVerifier tokenVerifier, ObjectMapper objectMapper) {
+        this.tokenVerifier = tokenVerifier;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MerchantContext merchant;
+        try {
+            merchant = tokenVerifier.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        } catch (JwtException e) {
+            log.debug("가맹점 토큰 검증 실패 - 경로: {}, 오류: {}", request.getRequestURI(), e.getMessage());
+            writeUnauthorized(response);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new MerchantAuthenticationToken(merchant));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeUnauthorized(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("INVALID_TOKEN", "유효하지 않은 토큰입니다."));
+    }
+}
@@ -0,0 +1,32 @@
+package adapter.web.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+/**
+ * 가맹점 토큰 인증 결과
+ * 토큰 원문은 보관하지 않는다.
+ */
+public class MerchantAuthenticationToken extends AbstractAuthenticationToken {
+    private final MerchantContext merchant;
+
+    public MerchantAuthenticationToken(MerchantContext merchant) {
+        super(merchant.authorities());
+        this.merchant = merchant;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public MerchantContext getPrincipal() {
+        return merchant;
+    }
+
+    @Override
+    public String getName() {
+        return merchant.merchantId();
+    }
+}
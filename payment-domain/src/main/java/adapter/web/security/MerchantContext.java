@@ -0,0 +1,18 @@
+package adapter.web.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 인증된 가맹점 정보 (검증된 토큰에서 만든다)
+ *
+ * @param merchantId  가맹점 ID
+ * @param subject     토큰 주체 (sub)
+ * @param authorities 토큰 scope에서 만든 권한 (SCOPE_xxx)
+ * @param expiresAt   토큰 만료 시각
+ */
+public record MerchantContext(String merchantId, String subject, List<GrantedAuthority> authorities,
+                              Instant expiresAt) {
+}
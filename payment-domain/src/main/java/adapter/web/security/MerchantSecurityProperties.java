@@ -0,0 +1,81 @@
+package adapter.web.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가맹점 토큰 인증 설정 (fintech.payment.security.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.security")
+public class MerchantSecurityProperties {
+
+    /**
+     * 결제 API 토큰 인증 사용 여부 (false면 결제 API도 기본 보안 설정을 따른다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 서명 키 목록(JWKS) 주소
+     */
+    private String jwkSetUri;
+
+    /**
+     * 허용 발급자 (iss)
+     */
+    private String issuer;
+
+    /**
+     * 허용 대상 (aud, 비어 있으면 검사하지 않음)
+     */
+    private String audience;
+
+    /**
+     * 허용 서명 알고리즘
+     */
+    private List<String> algorithms = new ArrayList<>(List.of("RS256"));
+
+    /**
+     * 가맹점 ID 클레임 (없으면 sub를 가맹점 ID로 사용)
+     */
+    private String merchantIdClaim = "merchant_id";
+
+    /**
+     * 만료 시각 검사 허용 오차
+     */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    /**
+     * 서명 키 목록 주기 갱신 간격
+     */
+    private Duration keyRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * 모르는 키 ID가 들어왔을 때 즉시 갱신하는 최소 간격 (위조 토큰으로 JWKS 조회가 몰리지 않게 한다)
+     */
+    private Duration keyRefreshMinInterval = Duration.ofSeconds(30);
+
+    /**
+     * JWKS 조회 시간 제한
+     */
+    private Duration keyFetchTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 검증된 토큰 캐시 최대 건수
+     */
+    private long cacheMaximumSize = 100_000;
+
+    /**
+     * 검증된 토큰 최대 캐시 시간 (토큰 만료가 더 이르면 만료 시각까지)
+     */
+    private Duration cacheMaxTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,182 @@
+package adapter.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 가맹점 토큰 검증기
+ *
+ * 서명/발급자/대상/만료를 검사한 토큰은 토큰의 SHA-256 다이제스트를 키로 가맹점 정보와 함께 캐시한다.
+ * 같은 토큰의 다음 요청은 다이제스트 계산과 캐시 조회만으로 끝나므로 서명 검증을 반복하지 않는다.
+ * - 캐시 기간: 토큰 만료 시각까지, 최대 cacheMaxTtl (가맹점 상태 변경이 반영되는 최대 지연)
+ * - 서명 키가 목록에서 빠지면 캐시를 비워 그 키로 서명된 토큰을 다시 검증하게 한다.
+ * - 토큰 원문은 캐시에 남기지 않는다.
+ *
+ * 지표:
+ * - cache.*{cache=merchantTokens}   : 검증 캐시 적중률 등
+ * - payment.auth.verify              : 캐시에 없는 토큰의 검증 소요 시간
+ * - payment.auth.rejected            : 검증 실패 토큰 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+public class MerchantTokenVerifier {
+
+    private final NimbusJwtDecoder jwtDecoder;
+    private final MerchantSecurityProperties properties;
+    private final Cache<String, MerchantContext> verifiedTokens;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public MerchantTokenVerifier(MerchantSecurityProperties properties, SigningKeyProvider signingKeyProvider,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        Set<JWSAlgorithm> algorithms = properties.getAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, signingKeyProvider));
+        // 클레임 검사는 아래 검증기에서 한다
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        this.jwtDecoder = new NimbusJwtDecoder(processor);
+        this.jwtDecoder.setJwtValidator(validator(properties));
+
+        Duration maxTtl = properties.getCacheMaxTtl();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfter(new Expiry<String, MerchantContext>() {
+                    @Override
+                    public long expireAfterCreate(String key, MerchantContext value, long currentTime) {
+                        Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt());
+                        return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, MerchantContext value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, MerchantContext value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "merchantTokens");
+        signingKeyProvider.addKeyRemovalListener(verifiedTokens::invalidateAll);
+
+        this.verifyTimer = Timer.builder("payment.auth.verify")
+                .description("캐시에 없는 토큰의 검증 소요 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("payment.auth.rejected")
+                .description("검증 실패 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증
+     * @throws JwtException 서명/클레임 검증 실패
+     */
+    public MerchantContext verify(String token) {
+        try {
+            // 같은 토큰이 동시에 들어와도 서명 검증은 한 번만 한다
+            return verifiedTokens.get(digest(token), key -> verifyTimer.record(() -> toMerchantContext(jwtDecoder.decode(token))));
+        } catch (JwtException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+
+    private MerchantContext toMerchantContext(Jwt jwt) {
+        String merchantId = jwt.getClaimAsString(properties.getMerchantIdClaim());
+        if (merchantId == null || merchantId.isBlank()) {
+            merchantId = jwt.getSubject();
+        }
+        if (merchantId == null || merchantId.isBlank()) {
+            throw new BadJwtException("가맹점 ID가 없는 토큰입니다.");
+        }
+        if (jwt.getExpiresAt() == null) {
+            throw new BadJwtException("만료 시각이 없는 토큰입니다.");
+        }
+        return new MerchantContext(merchantId, jwt.getSubject(), authorities(jwt), jwt.getExpiresAt());
+    }
+
+    /**
+     * scope(공백 구분 문자열) 또는 scp(목록) 클레임 → SCOPE_xxx 권한
+     */
+    private static List<GrantedAuthority> authorities(Jwt jwt) {
+        Object scope = jwt.getClaims().getOrDefault("scope", jwt.getClaims().get("scp"));
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (scope instanceof String scopes) {
+            for (String value : scopes.split(" ")) {
+                if (!value.isBlank()) {
+                    authorities.add(new SimpleGrantedAuthority("SCOPE_" + value));
+                }
+            }
+        } else if (scope instanceof Collection<?> scopes) {
+            for (Object value : scopes) {
+                authorities.add(new SimpleGrantedAuthority("SCOPE_" + value));
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static OAuth2TokenValidator<Jwt> validator(MerchantSecurityProperties properties) {
+        List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+        validators.add(new JwtTimestampValidator(properties.getClockSkew()));
+        if (properties.getIssuer() != null && !properties.getIssuer().isBlank()) {
+            validators.add(new JwtIssuerValidator(properties.getIssuer()));
+        }
+        if (properties.getAudience() != null && !properties.getAudience().isBlank()) {
+            String audience = properties.getAudience();
+            validators.add(new JwtClaimValidator<List<String>>("aud", aud -> aud != null && aud.contains(audience)));
+        }
+        return new DelegatingOAuth2TokenValidator<>(validators);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
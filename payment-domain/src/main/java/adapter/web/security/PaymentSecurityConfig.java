@@ -0,0 +1,73 @@
+package adapter.web.security;
+
+import adapter.web.model.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * 결제 API 보안 설정
+ *
+ * 결제 API(/api/v1/payments/**)는 가맹점 토큰으로 인증하는 무상태 체인으로 처리한다.
+ * - 세션을 만들거나 읽지 않고, 요청 캐시/CSRF/기본 로그인도 쓰지 않는다.
+ * - 토큰 검증 결과는 MerchantTokenVerifier가 캐시하므로 같은 토큰은 서명 검증을 반복하지 않는다.
+ *
+ * 나머지 경로는 PlatformSecurityConfig의 기본 체인이 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(MerchantSecurityProperties.class)
+@ConditionalOnProperty(prefix = "fintech.payment.security", name = "enabled", havingValue = "true")
+public class PaymentSecurityConfig {
+
+    @Bean
+    public SigningKeyProvider signingKeyProvider(MerchantSecurityProperties properties, MeterRegistry meterRegistry) {
+        return new SigningKeyProvider(properties, meterRegistry);
+    }
+
+    @Bean
+    public MerchantTokenVerifier merchantTokenVerifier(MerchantSecurityProperties properties,
+                                                       SigningKeyProvider signingKeyProvider,
+                                                       MeterRegistry meterRegistry) {
+        return new MerchantTokenVerifier(properties, signingKeyProvider, meterRegistry);
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain paymentSecurityFilterChain(HttpSecurity http, MerchantTokenVerifier merchantTokenVerifier,
+                                                          ObjectMapper objectMapper) throws Exception {
+        http.securityMatcher("/api/v1/payments/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint((request, response, e) -> {
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    objectMapper.writeValue(response.getOutputStream(),
+                            ApiResponse.error("UNAUTHORIZED", "가맹점 인증이 필요합니다."));
+                }))
+                .addFilterBefore(new MerchantAuthenticationFilter(merchantTokenVerifier, objectMapper),
+                        UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+}
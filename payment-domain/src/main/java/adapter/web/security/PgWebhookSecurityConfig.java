@@ -0,0 +1,39 @@
+package adapter.web.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * PG 웹훅 보안 설정
+ *
+ * PG 결과 통지(/api/v1/pg/webhooks/**)는 PG별 서명으로 인증하므로(PgWebhookSignatureVerifier)
+ * 보안 체인에서는 인증을 요구하지 않고, 세션/요청 캐시/CSRF/기본 로그인도 쓰지 않는다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.payment.webhook", name = "enabled", havingValue = "true")
+public class PgWebhookSecurityConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public SecurityFilterChain pgWebhookSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/api/v1/pg/webhooks/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll());
+        return http.build();
+    }
+}
@@ -0,0 +1,36 @@
+package adapter.web.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 기본 보안 체인
+ *
+ * 보안 필터 체인을 하나라도 등록하면 Spring Boot 기본 체인이 빠진다.
+ * 결제 API 체인이나 PG 웹훅 체인을 쓸 때는 나머지 경로에 기본 체인과 같은 설정(인증 필요, 폼 로그인, HTTP Basic)을 등록한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnExpression("${fintech.payment.security.enabled:false} or ${fintech.payment.webhook.enabled:false}")
+public class PlatformSecurityConfig {
+
+    /**
+     * 결제 API / PG 웹훅 외 경로 - Spring Boot 기본 체인과 같은 설정
+     */
+    @Bean
+    @Order(SecurityProperties.BASIC_AUTH_ORDER)
+    public SecurityFilterChain platformSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                .formLogin(Customizer.withDefaults())
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+}
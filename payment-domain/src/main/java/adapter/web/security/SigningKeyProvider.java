@@ -0,0 +1,168 @@
+package adapter.web.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 키 제공자 (JWKS)
+ *
+ * 기동 시 서명 키 목록을 미리 읽고, 이후 백그라운드에서 주기적으로 갱신한다.
+ * 요청 처리 중에는 메모리의 키 목록만 보므로 JWKS 조회가 요청 지연에 더해지지 않는다.
+ * 키 교체 직후 처음 보는 키 ID가 들어오면 최소 간격 안에서 한 번만 즉시 갱신한다.
+ * 갱신 결과에서 사라진 키가 있으면 키 제거 리스너(검증 캐시 비우기)를 호출한다.
+ *
+ * 지표:
+ * - payment.auth.jwks.refresh{outcome=success|failure} : 키 목록 갱신 결과
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class SigningKeyProvider implements JWKSource<SecurityContext>, SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyProvider.class);
+
+    private final MerchantSecurityProperties properties;
+    private final RestClient restClient;
+    private final List<Runnable> keyRemovalListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastOnDemandRefresh = new AtomicLong();
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    private volatile JWKSet keys = new JWKSet();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public SigningKeyProvider(MerchantSecurityProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getKeyFetchTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getKeyFetchTimeout().toMillis());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.refreshSuccess = Counter.builder("payment.auth.jwks.refresh")
+                .description("서명 키 목록 갱신 결과")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("payment.auth.jwks.refresh")
+                .description("서명 키 목록 갱신 결과")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    public void addKeyRemovalListener(Runnable listener) {
+        keyRemovalListeners.add(listener);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> selected = jwkSelector.select(keys);
+        if (selected.isEmpty() && tryOnDemandRefresh()) {
+            selected = jwkSelector.select(keys);
+        }
+        return selected;
+    }
+
+    /**
+     * 처음 보는 키 ID - 최소 간격이 지났으면 한 스레드만 즉시 갱신한다.
+     */
+    private boolean tryOnDemandRefresh() {
+        long now = System.currentTimeMillis();
+        long last = lastOnDemandRefresh.get();
+        if (now - last < properties.getKeyRefreshMinInterval().toMillis()
+                || !lastOnDemandRefresh.compareAndSet(last, now)) {
+            return false;
+        }
+        return refresh();
+    }
+
+    /**
+     * 키 목록 갱신
+     * @return 갱신했으면 true (실패하면 기존 키 목록을 유지한다)
+     */
+    boolean refresh() {
+        try {
+            String body = restClient.get().uri(properties.getJwkSetUri()).retrieve().body(String.class);
+            JWKSet refreshed = JWKSet.parse(body);
+            JWKSet previous = keys;
+            keys = refreshed;
+            refreshSuccess.increment();
+
+            if (hasRemovedKeys(previous, refreshed)) {
+                log.info("서명 키 교체 - 이전 키: {}개, 새 키: {}개", previous.getKeys().size(), refreshed.getKeys().size());
+                keyRemovalListeners.forEach(Runnable::run);
+            }
+            return true;
+        } catch (ParseException | RuntimeException e) {
+            refreshFailure.increment();
+            log.warn("서명 키 목록 갱신 실패 - 주소: {}, 오류: {}", properties.getJwkSetUri(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean hasRemovedKeys(JWKSet previous, JWKSet refreshed) {
+        Set<String> refreshedIds = new HashSet<>();
+        for (JWK key : refreshed.getKeys()) {
+            refreshedIds.add(key.getKeyID());
+        }
+        for (JWK key : previous.getKeys()) {
+            if (!refreshedIds.contains(key.getKeyID())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        // 첫 요청 전에 키를 읽어 둔다 (실패하면 주기 갱신 또는 요청 시 즉시 갱신으로 다시 시도)
+        refresh();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getKeyRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("서명 키 갱신 시작 - 주소: {}, 주기: {}, 키: {}개",
+                properties.getJwkSetUri(), properties.getKeyRefreshInterval(), keys.getKeys().size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
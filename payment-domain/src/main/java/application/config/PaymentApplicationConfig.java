@@ -0,0 +1,21 @@
+package application.config;
+
+import application.service.payment.PaymentProperties;
+import application.service.reconciliation.ReconciliationProperties;
+import application.service.settlement.SettlementProperties;
+import application.service.webhook.PgWebhookProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결제 애플리케이션 계층 설정
+ */
+@Configuration
+@EnableConfigurationProperties({
+        PaymentProperties.class,
+        SettlementProperties.class,
+        PgWebhookProperties.class,
+        ReconciliationProperties.class
+})
+public class PaymentApplicationConfig {
+}
@@ -0,0 +1,19 @@
+package application.port.out;
+
+import domain.model.Payment;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 조회 포트
+ */
+public interface LoadPaymentPort {
+
+    Optional<Payment> loadPayment(String paymentId);
+
+    /**
+     * 승인 상태(매입/취소/만료 전)인 결제 전체 - 기동 시 승인 인덱스를 채울 때 사용
+     */
+    List<Payment> loadActiveAuthorizations();
+}
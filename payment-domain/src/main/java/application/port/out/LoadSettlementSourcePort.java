@@ -0,0 +1,27 @@
+package application.port.out;
+
+import domain.model.SettlementCursor;
+
+import java.time.Instant;
+
+/**
+ * 정산 대상 결제 조회 포트
+ * 결과 전체를 메모리에 올리지 않고 전진 전용 커서로 한 건씩 넘긴다.
+ */
+public interface LoadSettlementSourcePort {
+
+    /**
+     * 매입 시각이 [from, to) 인 결제를 (매입 시각, 결제 ID) 순으로 읽는다.
+     * @param after 이 위치 다음부터 읽는다 (없으면 처음부터)
+     */
+    void streamCapturedPayments(Instant from, Instant to, SettlementCursor after, CapturedPaymentHandler handler);
+
+    /**
+     * 결제 한 건 처리 (금액은 최소 화폐 단위)
+     */
+    @FunctionalInterface
+    interface CapturedPaymentHandler {
+        void onPayment(String paymentId, String merchantId, String currency,
+                       long capturedMinor, long refundedMinor, Instant capturedAt);
+    }
+}
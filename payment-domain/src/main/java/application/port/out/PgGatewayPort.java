@@ -0,0 +1,28 @@
+package application.port.out;
+
+import application.service.pg.PgAuthorizeRequest;
+import application.service.pg.PgCancelRequest;
+import application.service.pg.PgCaptureRequest;
+import application.service.pg.PgResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 PG 연동 포트
+ * 모든 호출은 비동기이며 호출 스레드를 붙잡지 않는다.
+ * 실패 시 Future는 PgUnavailableException(요청 미전송), PgTimeoutException/PgGatewayException(처리 여부 불명)으로 끝난다.
+ */
+public interface PgGatewayPort {
+
+    CompletableFuture<PgResult> authorize(PgAuthorizeRequest request);
+
+    CompletableFuture<PgResult> capture(PgCaptureRequest request);
+
+    CompletableFuture<PgResult> cancel(PgCancelRequest request);
+
+    /**
+     * 결제 ID로 PG 처리 결과 조회 (멱등, 지연 시 중복 요청을 보낸다)
+     * 회로가 열려 있으면 PG를 호출하지 않고 UNKNOWN을 돌려준다.
+     */
+    CompletableFuture<PgResult> inquire(String provider, String paymentId);
+}
@@ -0,0 +1,26 @@
+package application.port.out;
+
+import application.service.webhook.PgWebhookEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * PG 결과 통지 저장 포트 (PG + PG 거래 ID 기준 정확 중복 판단 저장소)
+ */
+public interface PgWebhookEventPort {
+
+    /**
+     * 처음 보는 통지만 저장한다. (이미 있는 PG 거래 ID는 건너뛴다)
+     * @return 새로 저장한 통지 수
+     */
+    int insertIfAbsent(List<PgWebhookEvent> events);
+
+    boolean exists(String provider, String pgTransactionId);
+
+    /**
+     * 수신 시각이 since 이후인 통지의 (PG, PG 거래 ID)를 차례로 넘긴다.
+     */
+    void streamReceivedSince(Instant since, BiConsumer<String, String> consumer);
+}
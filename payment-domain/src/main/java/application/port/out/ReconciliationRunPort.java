@@ -0,0 +1,31 @@
+package application.port.out;
+
+import domain.model.ReconciliationBreak;
+import domain.model.ReconciliationRun;
+import domain.model.ReconciliationSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대사 실행/불일치 저장 포트
+ */
+public interface ReconciliationRunPort {
+
+    Optional<ReconciliationRun> loadRun(LocalDate reconciliationDate);
+
+    /**
+     * 대사 실행을 RUNNING으로 만들고 이전 실행의 불일치를 지운다.
+     */
+    ReconciliationRun startRun(LocalDate reconciliationDate);
+
+    /**
+     * 불일치 저장 (여러 분할 작업에서 동시에 호출한다)
+     */
+    void saveBreaks(LocalDate reconciliationDate, List<ReconciliationBreak> breaks);
+
+    void completeRun(LocalDate reconciliationDate, ReconciliationSummary summary);
+
+    void failRun(LocalDate reconciliationDate);
+}
@@ -0,0 +1,17 @@
+package application.port.out;
+
+import domain.model.Payment;
+
+/**
+ * 결제 저장 포트
+ */
+public interface SavePaymentPort {
+
+    void insert(Payment payment);
+
+    /**
+     * 저장된 버전이 기대 버전과 같을 때만 갱신 (조건부 UPDATE)
+     * @return 갱신했으면 true, 다른 요청/노드가 먼저 전이시켰으면 false
+     */
+    boolean update(Payment payment, long expectedVersion);
+}
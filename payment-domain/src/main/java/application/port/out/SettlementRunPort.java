@@ -0,0 +1,30 @@
+package application.port.out;
+
+import domain.model.SettlementCursor;
+import domain.model.SettlementLine;
+import domain.model.SettlementRun;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정산 실행/결과 저장 포트
+ */
+public interface SettlementRunPort {
+
+    Optional<SettlementRun> loadRun(LocalDate settlementDate);
+
+    /**
+     * 정산 실행이 없으면 RUNNING으로 만들고, 있으면 그대로 돌려준다.
+     */
+    SettlementRun startRun(LocalDate settlementDate);
+
+    /**
+     * 구간 집계를 정산 결과에 더하고 체크포인트를 한 트랜잭션으로 갱신한다.
+     * 중단 후 재실행해도 같은 결제가 두 번 더해지지 않는다.
+     */
+    void saveSegment(LocalDate settlementDate, List<SettlementLine> lines, SettlementCursor checkpoint, long processedCount);
+
+    void completeRun(LocalDate settlementDate);
+}
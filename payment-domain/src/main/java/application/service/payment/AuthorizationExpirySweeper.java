@@ -0,0 +1,134 @@
+package application.service.payment;
+
+import application.port.out.LoadPaymentPort;
+import domain.model.Payment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 승인 정리기
+ *
+ * 기동 시 DB의 승인 상태 결제로 승인 인덱스를 채우고,
+ * 이후 주기마다 인덱스의 만료 버킷에서 만료된 승인을 배치 단위로 꺼내 만료 처리한다.
+ * 배치가 가득 차면 남은 만료 건이 있다고 보고 다음 주기를 기다리지 않고 이어서 처리한다.
+ * 모든 노드에서 실행되지만 만료 전이가 버전 조건 UPDATE이므로 같은 결제를 두 번 만료 처리하지 않는다.
+ *
+ * 지표:
+ * - payment.authorization.expired : 만료 처리된 승인 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuthorizationExpirySweeper implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationExpirySweeper.class);
+
+    private final PaymentService paymentService;
+    private final AuthorizationIndex authorizationIndex;
+    private final LoadPaymentPort loadPaymentPort;
+    private final PaymentProperties properties;
+    private final Counter expiredCounter;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public AuthorizationExpirySweeper(PaymentService paymentService, AuthorizationIndex authorizationIndex,
+                                      LoadPaymentPort loadPaymentPort, PaymentProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.authorizationIndex = authorizationIndex;
+        this.loadPaymentPort = loadPaymentPort;
+        this.properties = properties;
+        this.expiredCounter = Counter.builder("payment.authorization.expired")
+                .description("만료 처리된 승인 수")
+                .register(meterRegistry);
+    }
+
+    private void sweep() {
+        try {
+            List<Payment> expired;
+            do {
+                Instant now = Instant.now();
+                expired = authorizationIndex.pollExpired(now, properties.getSweepBatchSize());
+                for (Payment payment : expired) {
+                    expire(payment, now);
+                }
+            } while (running && expired.size() >= properties.getSweepBatchSize());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다
+            log.warn("만료 승인 정리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private void expire(Payment payment, Instant now) {
+        try {
+            if (paymentService.expire(payment, now)) {
+                expiredCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            // DB 오류 등 - 인덱스에 되돌려 다음 주기에 다시 시도한다
+            authorizationIndex.restore(payment);
+            log.warn("승인 만료 처리 실패 - 결제ID: {}, 오류: {}", payment.getPaymentId(), e.getMessage());
+        }
+    }
+
+    private void warmUp() {
+        try {
+            List<Payment> authorizations = loadPaymentPort.loadActiveAuthorizations();
+            authorizations.forEach(authorizationIndex::add);
+            log.info("승인 인덱스 적재 - 건수: {}", authorizations.size());
+        } catch (RuntimeException e) {
+            // 적재하지 못한 승인은 매입/취소 시 DB에서 읽어 처리된다
+            log.warn("승인 인덱스 적재 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!paymentService.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-authorization-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (properties.isWarmUp()) {
+            scheduler.execute(this::warmUp);
+        }
+        long intervalMillis = properties.getSweepInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("만료 승인 정리 시작 - 주기: {}, 배치: {}", properties.getSweepInterval(), properties.getSweepBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,148 @@
+package application.service.payment;
+
+import domain.model.Payment;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 승인 인덱스 (메모리)
+ *
+ * 승인 상태인 결제를 결제 ID로 찾는 맵과, 만료 시각을 버킷 폭 단위로 묶은 만료 버킷으로 구성한다.
+ * - 매입/취소는 결제를 인덱스에서 꺼내(claim) 처리하므로 DB 조회 없이 승인 내용을 알 수 있고,
+ *   같은 노드 안에서 같은 결제를 동시에 처리하지 않는다.
+ * - 만료 정리는 현재 시각까지의 버킷만 보므로 전체 승인 수가 아니라 만료 대상 수에 비례한다.
+ *
+ * 인덱스는 노드별 캐시일 뿐이고 상태의 기준은 DB다.
+ * 다른 노드가 먼저 전이시킨 결제가 남아 있을 수 있으나, 버전 조건 UPDATE가 실패하므로 잘못 반영되지 않는다.
+ *
+ * 지표:
+ * - payment.authorization.index.size : 인덱스의 승인 건수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+public class AuthorizationIndex {
+
+    private final Map<String, Payment> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+    private final long bucketMillis;
+
+    public AuthorizationIndex(PaymentProperties properties, MeterRegistry meterRegistry) {
+        this.bucketMillis = Math.max(1, properties.getBucketWidth().toMillis());
+        Gauge.builder("payment.authorization.index.size", byId, Map::size)
+                .description("인덱스의 승인 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 승인 등록 (같은 결제 ID가 있으면 교체)
+     */
+    public void add(Payment payment) {
+        Payment previous = byId.put(payment.getPaymentId(), payment);
+        if (previous != null && bucketOf(previous.getExpiresAt()) != bucketOf(payment.getExpiresAt())) {
+            removeFromBucket(previous);
+        }
+
+        insert(bucketOf(payment.getExpiresAt()), payment.getPaymentId());
+    }
+
+    /**
+     * 매입/취소를 위해 승인을 꺼낸다. 처리가 실패하면 restore로 되돌린다.
+     * @return 인덱스에 없으면 empty (다른 요청이 처리 중이거나 다른 노드에서 승인된 결제)
+     */
+    public Optional<Payment> claim(String paymentId) {
+        Payment payment = byId.remove(paymentId);
+        if (payment == null) {
+            return Optional.empty();
+        }
+        removeFromBucket(payment);
+        return Optional.of(payment);
+    }
+
+    public void restore(Payment payment) {
+        add(payment);
+    }
+
+    public Optional<Payment> peek(String paymentId) {
+        return Optional.ofNullable(byId.get(paymentId));
+    }
+
+    /**
+     * 만료된 승인을 최대 limit 건 꺼낸다.
+     * 현재 시각이 속한 버킷까지만 보며, 마지막 버킷에서 아직 만료되지 않은 승인은 남겨 둔다.
+     */
+    public List<Payment> pollExpired(Instant now, int limit) {
+        List<Payment> expired = new ArrayList<>();
+        ConcurrentNavigableMap<Long, Set<String>> due = expiryBuckets.headMap(bucketOf(now), true);
+
+        for (Map.Entry<Long, Set<String>> bucket : due.entrySet()) {
+            Iterator<String> ids = bucket.getValue().iterator();
+            while (ids.hasNext()) {
+                if (expired.size() >= limit) {
+                    return expired;
+                }
+                String paymentId = ids.next();
+                Payment payment = byId.get(paymentId);
+                if (payment == null) {
+                    ids.remove();
+                } else if (payment.isExpired(now) && byId.remove(paymentId, payment)) {
+                    ids.remove();
+                    expired.add(payment);
+                }
+            }
+            dropIfEmpty(bucket.getKey(), bucket.getValue());
+        }
+        return expired;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void removeFromBucket(Payment payment) {
+        long bucket = bucketOf(payment.getExpiresAt());
+        Set<String> ids = expiryBuckets.get(bucket);
+        if (ids != null) {
+            ids.remove(payment.getPaymentId());
+            dropIfEmpty(bucket, ids);
+        }
+    }
+
+    private void insert(long bucket, String paymentId) {
+        while (true) {
+            Set<String> ids = expiryBuckets.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet());
+            ids.add(paymentId);
+            // 빈 버킷이 지워지는 사이에 넣었으면 새 버킷에 다시 넣는다
+            if (expiryBuckets.get(bucket) == ids) {
+                return;
+            }
+            ids.remove(paymentId);
+        }
+    }
+
+    private void dropIfEmpty(long bucket, Set<String> ids) {
+        if (ids.isEmpty() && expiryBuckets.remove(bucket, ids)) {
+            // 비었는지 확인한 뒤 지우기 전에 들어온 승인은 새 버킷으로 옮긴다
+            for (String paymentId : ids) {
+                insert(bucket, paymentId);
+            }
+        }
+    }
+
+    private long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), bucketMillis);
+    }
+}
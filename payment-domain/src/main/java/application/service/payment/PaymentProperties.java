@@ -0,0 +1,44 @@
+package application.service.payment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 승인 설정 (fintech.payment.authorization.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.authorization")
+public class PaymentProperties {
+
+    /**
+     * 만료 시간을 지정하지 않은 승인의 만료 시간 (보류 최대 만료 시간으로 제한된다)
+     */
+    private Duration defaultTtl = Duration.ofDays(7);
+
+    /**
+     * 승인 인덱스 만료 버킷 폭 (같은 버킷의 승인은 한 번에 만료 검사한다)
+     */
+    private Duration bucketWidth = Duration.ofSeconds(1);
+
+    /**
+     * 만료 승인 정리 주기
+     */
+    private Duration sweepInterval = Duration.ofSeconds(1);
+
+    /**
+     * 정리 1회당 최대 만료 처리 건수 (남은 건은 다음 주기를 기다리지 않고 이어서 처리)
+     */
+    private int sweepBatchSize = 500;
+
+    /**
+     * 기동 시 DB의 승인 상태 결제로 승인 인덱스를 채울지 여부
+     */
+    private boolean warmUp = true;
+}
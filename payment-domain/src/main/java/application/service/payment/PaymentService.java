@@ -0,0 +1,233 @@
+package application.service.payment;
+
+import application.port.out.LoadPaymentPort;
+import application.port.out.SavePaymentPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.velocity.VelocityScore;
+import application.service.velocity.VelocityService;
+import domain.exception.AccountNotFoundException;
+import domain.exception.HoldNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.InvalidPaymentStateException;
+import domain.exception.PaymentNotFoundException;
+import domain.model.AccountNumber;
+import domain.model.Hold;
+import domain.model.Money;
+import domain.model.Payment;
+import domain.model.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 결제 서비스 (승인 / 매입 / 승인취소 / 환불)
+ *
+ * - 승인: 거래 속도 심사(지불 계좌/가맹점)를 통과하면 결제 ID를 보류 ID로 써서 지불 계좌에 보류를 건 뒤
+ *         결제를 심사 점수와 함께 저장하고 승인 인덱스에 넣는다. 승인된 결제는 심사 집계에 더한다.
+ * - 매입: 승인 인덱스에서 결제를 꺼내 DB 조회 없이 상태를 전이하고 보류를 출금으로 확정한다.
+ *         출금 전에 거절되면(잔액 부족, 보류 없음 등) 결제를 승인 상태로 되돌리고,
+ *         출금 여부를 알 수 없는 실패는 매입 상태로 두고 대사 대상으로 남긴다.
+ * - 승인취소: 승인 인덱스에서 꺼내 상태를 전이하고 보류를 해제한다.
+ * - 환불: 매입 금액 범위에서 지불 계좌로 입금한다. (매입 이후라 승인 인덱스에 없으므로 DB에서 읽는다)
+ *
+ * 상태 전이는 모두 버전 조건 UPDATE로 반영하므로 노드 간 동시 요청 중 하나만 성공한다.
+ * 승인 인덱스에 없는 결제(다른 노드에서 승인된 결제)는 DB에서 읽어 같은 방식으로 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+
+    private final LoadPaymentPort loadPaymentPort;
+    private final SavePaymentPort savePaymentPort;
+    private final AuthorizationIndex authorizationIndex;
+    private final HoldService holdService;
+    private final TransactionService transactionService;
+    private final VelocityService velocityService;
+    private final PaymentProperties properties;
+
+    /**
+     * 결제는 보류 위에서 동작하므로 보류가 꺼져 있으면 사용할 수 없다.
+     */
+    public boolean isEnabled() {
+        return holdService.isEnabled();
+    }
+
+    /**
+     * 승인
+     * @param paymentId 결제 ID (없으면 생성)
+     * @param ttl       승인 만료 시간 (없으면 기본값)
+     * @throws domain.exception.VelocityLimitExceededException 심사 점수가 차단 점수 이상인 경우
+     */
+    public Payment authorize(String paymentId, String merchantId, AccountNumber payerAccountNumber,
+                             Money amount, Duration ttl) {
+        String id = paymentId != null ? paymentId : "PAY_" + UUID.randomUUID();
+        VelocityScore score = velocityService.screen(payerAccountNumber, merchantId, amount);
+        Hold hold = holdService.place(payerAccountNumber, id, amount, ttl != null ? ttl : properties.getDefaultTtl());
+
+        Payment payment = Payment.authorize(id, merchantId, payerAccountNumber, amount, Instant.now(),
+                hold.getExpiresAt(), score.score());
+        try {
+            savePaymentPort.insert(payment);
+        } catch (RuntimeException e) {
+            releaseHold(payment);
+            throw e;
+        }
+
+        authorizationIndex.add(payment);
+        velocityService.record(payerAccountNumber, merchantId, amount);
+        log.info("결제 승인 - 결제ID: {}, 가맹점: {}, 계좌번호: {}, 금액: {}, 만료: {}, 심사 점수: {}",
+                id, merchantId, payerAccountNumber, amount, payment.getExpiresAt(), score.score());
+        return payment;
+    }
+
+    /**
+     * 매입 (승인 금액 이하로 한 번, 남은 금액은 해제)
+     * @param amount 매입 금액 (없으면 승인 금액 전체)
+     */
+    public Payment capture(String paymentId, Money amount, String description) {
+        Payment authorized = claimAuthorization(paymentId);
+
+        Payment captured;
+        try {
+            captured = authorized.capture(amount, Instant.now());
+        } catch (RuntimeException e) {
+            authorizationIndex.restore(authorized);
+            throw e;
+        }
+        transition(authorized, captured);
+
+        try {
+            holdService.capture(authorized.getPayerAccountNumber(), paymentId, captured.getCapturedAmount(),
+                    description != null ? description : "결제 매입: " + paymentId);
+        } catch (InsufficientBalanceException | HoldNotFoundException | IllegalArgumentException
+                 | InactiveAccountException | AccountNotFoundException e) {
+            // 출금 전에 거절됨 - 승인 상태로 되돌려 다시 매입하거나 취소할 수 있게 한다
+            Payment reverted = authorized.withVersion(captured.getVersion() + 1);
+            if (savePaymentPort.update(reverted, captured.getVersion())) {
+                authorizationIndex.restore(reverted);
+            } else {
+                log.error("결제 매입 되돌리기 실패 - 결제ID: {}, 버전: {}", paymentId, captured.getVersion());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            // 출금 여부를 알 수 없음 - 되돌리면 다시 매입(이중 출금)하거나 출금된 채 취소될 수 있으므로 매입 상태로 둔다
+            log.error("결제 매입 중 출금 결과 불명, 매입 상태 유지 - 대사 필요 - 결제ID: {}, 계좌번호: {}, 매입 금액: {}",
+                    paymentId, authorized.getPayerAccountNumber(), captured.getCapturedAmount(), e);
+            throw e;
+        }
+
+        log.info("결제 매입 - 결제ID: {}, 승인 금액: {}, 매입 금액: {}",
+                paymentId, authorized.getAuthorizedAmount(), captured.getCapturedAmount());
+        return captured;
+    }
+
+    /**
+     * 승인취소 (보류 해제)
+     */
+    public Payment voidAuthorization(String paymentId) {
+        Payment authorized = claimAuthorization(paymentId);
+
+        Payment voided;
+        try {
+            voided = authorized.voidAuthorization();
+        } catch (RuntimeException e) {
+            authorizationIndex.restore(authorized);
+            throw e;
+        }
+        transition(authorized, voided);
+        releaseHold(voided);
+
+        log.info("결제 승인취소 - 결제ID: {}, 금액: {}", paymentId, authorized.getAuthorizedAmount());
+        return voided;
+    }
+
+    /**
+     * 환불 (매입 금액 - 환불 누계 범위에서 지불 계좌로 입금)
+     */
+    public Payment refund(String paymentId, Money amount, String description) {
+        Payment payment = getPayment(paymentId);
+        Payment refunded = payment.refund(amount);
+        transition(payment, refunded);
+
+        try {
+            transactionService.deposit(payment.getPayerAccountNumber(), amount,
+                    description != null ? description : "결제 환불: " + paymentId);
+        } catch (RuntimeException e) {
+            // 입금 실패 - 환불 누계를 되돌린다
+            if (!savePaymentPort.update(payment.withVersion(refunded.getVersion() + 1), refunded.getVersion())) {
+                log.error("결제 환불 되돌리기 실패 - 결제ID: {}, 버전: {}", paymentId, refunded.getVersion());
+            }
+            throw e;
+        }
+
+        log.info("결제 환불 - 결제ID: {}, 환불 금액: {}, 환불 누계: {}",
+                paymentId, amount, refunded.getRefundedAmount());
+        return refunded;
+    }
+
+    /**
+     * 만료 처리 (AuthorizationExpirySweeper에서 호출)
+     * @return 이 호출로 만료 처리했으면 true (다른 노드가 먼저 전이시켰으면 false)
+     */
+    public boolean expire(Payment authorized, Instant now) {
+        Payment expired = authorized.expire(now);
+        if (!savePaymentPort.update(expired, authorized.getVersion())) {
+            return false;
+        }
+        releaseHold(expired);
+        log.info("결제 승인만료 - 결제ID: {}, 금액: {}", authorized.getPaymentId(), authorized.getAuthorizedAmount());
+        return true;
+    }
+
+    /**
+     * 결제 조회 - 승인 상태면 인덱스에서, 아니면 DB에서 읽는다.
+     */
+    public Payment getPayment(String paymentId) {
+        return authorizationIndex.peek(paymentId)
+                .or(() -> loadPaymentPort.loadPayment(paymentId))
+                .orElseThrow(() -> new PaymentNotFoundException("결제를 찾을 수 없습니다: " + paymentId));
+    }
+
+    /**
+     * 승인 인덱스에서 결제를 꺼낸다. 인덱스에 없으면 DB에서 읽는다.
+     */
+    private Payment claimAuthorization(String paymentId) {
+        return authorizationIndex.claim(paymentId).orElseGet(() -> {
+            Payment payment = loadPaymentPort.loadPayment(paymentId)
+                    .orElseThrow(() -> new PaymentNotFoundException("결제를 찾을 수 없습니다: " + paymentId));
+            if (payment.getStatus() != PaymentStatus.AUTHORIZED) {
+                throw new InvalidPaymentStateException(String.format(
+                        "%s 상태의 결제입니다: %s", payment.getStatus().getDescription(), paymentId));
+            }
+            return payment;
+        });
+    }
+
+    private void transition(Payment current, Payment next) {
+        if (!savePaymentPort.update(next, current.getVersion())) {
+            throw new InvalidPaymentStateException("다른 요청이 먼저 처리한 결제입니다: " + current.getPaymentId());
+        }
+    }
+
+    private void releaseHold(Payment payment) {
+        try {
+            holdService.release(payment.getPayerAccountNumber(), payment.getPaymentId());
+        } catch (HoldNotFoundException e) {
+            // 보류 만료 정리기가 먼저 해제한 경우
+            log.debug("이미 해제된 보류 - 결제ID: {}", payment.getPaymentId());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package application.service.pg;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 승인 요청
+ *
+ * @param provider  PG 이름 (fintech.payment.pg.providers 키)
+ * @param paymentId 결제 ID (PG 멱등 키로도 사용)
+ * @param merchantId 가맹점 ID
+ * @param amount    승인 금액
+ * @param currency  통화 (ISO 4217)
+ * @param cardToken 카드 토큰
+ */
+public record PgAuthorizeRequest(String provider,
+                                 String paymentId,
+                                 String merchantId,
+                                 BigDecimal amount,
+                                 String currency,
+                                 String cardToken) {
+}
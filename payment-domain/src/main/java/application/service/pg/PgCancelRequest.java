@@ -0,0 +1,21 @@
+package application.service.pg;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 취소 요청 (승인 취소 또는 매입 후 환불, 부분 취소 가능)
+ *
+ * @param provider        PG 이름
+ * @param paymentId       결제 ID
+ * @param pgTransactionId PG 거래 ID
+ * @param amount          취소 금액
+ * @param reason          취소 사유
+ * @param requestId       요청 ID (멱등 키)
+ */
+public record PgCancelRequest(String provider,
+                              String paymentId,
+                              String pgTransactionId,
+                              BigDecimal amount,
+                              String reason,
+                              String requestId) {
+}
@@ -0,0 +1,19 @@
+package application.service.pg;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 매입 요청 (승인 금액 이하 부분 매입 가능)
+ *
+ * @param provider        PG 이름
+ * @param paymentId       결제 ID
+ * @param pgTransactionId PG 거래 ID (승인 응답 값)
+ * @param amount          매입 금액
+ * @param requestId       요청 ID (같은 결제의 여러 번 부분 매입을 구분하는 멱등 키)
+ */
+public record PgCaptureRequest(String provider,
+                               String paymentId,
+                               String pgTransactionId,
+                               BigDecimal amount,
+                               String requestId) {
+}
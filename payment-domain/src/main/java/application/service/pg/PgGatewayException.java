@@ -0,0 +1,23 @@
+package application.service.pg;
+
+/**
+ * PG 호출 실패 (PG 서버 오류, 연결 실패)
+ * 승인/매입/취소 요청이 이 예외로 끝나면 PG 측 처리 여부를 알 수 없으므로 조회로 확인해야 한다.
+ */
+public class PgGatewayException extends RuntimeException {
+    private final String provider;
+
+    public PgGatewayException(String provider, String message) {
+        super(message);
+        this.provider = provider;
+    }
+
+    public PgGatewayException(String provider, String message, Throwable cause) {
+        super(message, cause);
+        this.provider = provider;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+}
@@ -0,0 +1,34 @@
+package application.service.pg;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * PG 처리 결과
+ *
+ * @param status          결과 상태
+ * @param pgTransactionId PG 거래 ID
+ * @param amount          처리 금액
+ * @param resultCode      PG 결과 코드
+ * @param message         PG 결과 메시지
+ * @param processedAt     PG 처리 시각
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PgResult(@JsonProperty("status") PgResultStatus status,
+                       @JsonProperty("pg_transaction_id") String pgTransactionId,
+                       @JsonProperty("amount") BigDecimal amount,
+                       @JsonProperty("result_code") String resultCode,
+                       @JsonProperty("message") String message,
+                       @JsonProperty("processed_at") OffsetDateTime processedAt) {
+
+    public static PgResult unknown(String message) {
+        return new PgResult(PgResultStatus.UNKNOWN, null, null, null, message, null);
+    }
+
+    public boolean isApproved() {
+        return status == PgResultStatus.APPROVED;
+    }
+}
@@ -0,0 +1,17 @@
+package application.service.pg;
+
+/**
+ * PG 처리 결과 상태
+ */
+public enum PgResultStatus {
+    /** 승인/매입/취소 완료 */
+    APPROVED,
+    /** PG 또는 카드사 거절 */
+    DECLINED,
+    /** PG가 아직 처리 중 (조회로 다시 확인) */
+    PENDING,
+    /** PG에서 해당 결제를 찾을 수 없음 (조회 결과) */
+    NOT_FOUND,
+    /** 결과를 알 수 없음 (회로 차단 등으로 조회하지 못함) */
+    UNKNOWN
+}
@@ -0,0 +1,10 @@
+package application.service.pg;
+
+/**
+ * PG 호출 시한 초과 (PG 측 처리 여부를 알 수 없음)
+ */
+public class PgTimeoutException extends PgGatewayException {
+    public PgTimeoutException(String provider, String message) {
+        super(provider, message);
+    }
+}
@@ -0,0 +1,11 @@
+package application.service.pg;
+
+/**
+ * PG 호출 차단 (회로 열림, 연결 대기열 포화)
+ * PG로 요청을 보내지 않았으므로 PG 측에서 처리되지 않았음이 보장된다.
+ */
+public class PgUnavailableException extends PgGatewayException {
+    public PgUnavailableException(String provider, String message) {
+        super(provider, message);
+    }
+}
@@ -0,0 +1,213 @@
+package application.service.reconciliation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PG 정산 파일(CSV) 스캐너
+ *
+ * 파일을 청크 단위로 메모리 매핑하고 매핑된 바이트를 직접 훑어 필드 경계를 찾는다.
+ * 행/필드마다 문자열을 만들지 않고, 결제 ID는 매핑 버퍼 안의 위치로 넘기며 금액은 바이트에서 바로 최소 화폐 단위로 바꾼다.
+ * 청크 경계는 미리 줄 끝에 맞춰 두므로 청크끼리는 서로 다른 스레드에서 읽을 수 있다.
+ *
+ * 따옴표는 필드 양 끝의 것만 벗기며, 따옴표 안의 구분자/줄바꿈은 지원하지 않는다.
+ */
+final class PgSettlementFileScanner {
+    private static final int BOUNDARY_WINDOW = 8 * 1024;
+
+    private final byte delimiter;
+    private final int paymentIdColumn;
+    private final int amountColumn;
+    private final int lastColumn;
+
+    PgSettlementFileScanner(ReconciliationProperties properties) {
+        if (properties.getDelimiter() > 0x7F) {
+            throw new IllegalArgumentException("구분자는 한 바이트 문자여야 합니다: " + properties.getDelimiter());
+        }
+        if (properties.getPaymentIdColumn() < 0 || properties.getAmountColumn() < 0
+                || properties.getPaymentIdColumn() == properties.getAmountColumn()) {
+            throw new IllegalArgumentException("결제 ID/금액 필드 위치가 올바르지 않습니다.");
+        }
+        this.delimiter = (byte) properties.getDelimiter();
+        this.paymentIdColumn = properties.getPaymentIdColumn();
+        this.amountColumn = properties.getAmountColumn();
+        this.lastColumn = Math.max(paymentIdColumn, amountColumn);
+    }
+
+    /**
+     * 파일 청크 [start, end) - 줄 시작에서 시작해 줄 끝 다음에서 끝난다.
+     */
+    record Chunk(Path file, long start, long end) {
+    }
+
+    /**
+     * 행 한 건 처리
+     * buffer는 매핑 버퍼이므로 핸들러가 반환된 뒤에는 참조하지 않는다.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        void onRow(ByteBuffer buffer, int keyOffset, int keyLength, long amountMinor);
+    }
+
+    /**
+     * 파일을 약 chunkSize 크기의 청크로 나눈다. (헤더 행은 첫 청크에서 뺀다)
+     */
+    static List<Chunk> split(Path file, int chunkSize, boolean header) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = header ? nextLineStart(channel, 0, size) : 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+                chunks.add(new Chunk(file, start, end));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * position 이후 첫 줄바꿈 다음 위치 (없으면 size)
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_WINDOW);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * 청크를 매핑해 행마다 핸들러를 호출한다.
+     * @return 읽은 행 수 (빈 줄 제외)
+     * @throws IllegalArgumentException 필드가 모자라거나 금액 형식이 잘못된 행
+     */
+    long scan(Chunk chunk, RowHandler handler) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(chunk.file(), StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+        }
+
+        int limit = buffer.limit();
+        int position = 0;
+        long rows = 0;
+        while (position < limit) {
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > position && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > position) {
+                scanLine(buffer, position, contentEnd, chunk, handler);
+                rows++;
+            }
+            position = lineEnd + 1;
+        }
+        return rows;
+    }
+
+    private void scanLine(ByteBuffer buffer, int start, int end, Chunk chunk, RowHandler handler) {
+        int keyStart = -1;
+        int keyEnd = -1;
+        int amountStart = -1;
+        int amountEnd = -1;
+        int column = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end && column <= lastColumn; i++) {
+            if (i == end || buffer.get(i) == delimiter) {
+                if (column == paymentIdColumn) {
+                    keyStart = fieldStart;
+                    keyEnd = i;
+                } else if (column == amountColumn) {
+                    amountStart = fieldStart;
+                    amountEnd = i;
+                }
+                column++;
+                fieldStart = i + 1;
+            }
+        }
+        if (column <= lastColumn) {
+            throw malformed(chunk, start, "필드가 모자랍니다");
+        }
+
+        // 필드 양 끝의 공백/따옴표를 벗긴다
+        while (keyStart < keyEnd && isPadding(buffer.get(keyStart))) {
+            keyStart++;
+        }
+        while (keyEnd > keyStart && isPadding(buffer.get(keyEnd - 1))) {
+            keyEnd--;
+        }
+        if (keyStart == keyEnd) {
+            throw malformed(chunk, start, "결제 ID가 비어 있습니다");
+        }
+        handler.onRow(buffer, keyStart, keyEnd - keyStart, parseAmount(buffer, amountStart, amountEnd, chunk, start));
+    }
+
+    /**
+     * [-]정수[.소수 최대 2자리] → 최소 화폐 단위 (천 단위 구분자는 지원하지 않는다)
+     */
+    private static long parseAmount(ByteBuffer buffer, int start, int end, Chunk chunk, int lineStart) {
+        while (start < end && isPadding(buffer.get(start))) {
+            start++;
+        }
+        while (end > start && isPadding(buffer.get(end - 1))) {
+            end--;
+        }
+        boolean negative = start < end && buffer.get(start) == '-';
+        if (negative) {
+            start++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (b < '0' || b > '9' || fractionDigits >= 2 || digits >= 17) {
+                throw malformed(chunk, lineStart, "금액 형식이 잘못되었습니다");
+            }
+            value = value * 10 + (b - '0');
+            digits++;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            throw malformed(chunk, lineStart, "금액이 비어 있습니다");
+        }
+        for (int i = Math.max(0, fractionDigits); i < 2; i++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isPadding(byte b) {
+        return b == ' ' || b == '\t' || b == '"';
+    }
+
+    private static IllegalArgumentException malformed(Chunk chunk, int lineStart, String reason) {
+        return new IllegalArgumentException(String.format(
+                "PG 정산 파일 형식 오류 - 파일: %s, 위치: %d, 사유: %s", chunk.file(), chunk.start() + lineStart, reason));
+    }
+}
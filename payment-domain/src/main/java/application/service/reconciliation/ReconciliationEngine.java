@@ -0,0 +1,330 @@
+package application.service.reconciliation;
+
+import application.port.out.LoadSettlementSourcePort;
+import application.port.out.ReconciliationRunPort;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.model.ReconciliationBreak;
+import domain.model.ReconciliationBreakType;
+import domain.model.ReconciliationRun;
+import domain.model.ReconciliationSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG 정산 대사 엔진
+ *
+ * 대사일에 받은 PG 정산 파일과 같은 날 매입된 내부 결제를 결제 ID로 맞춰 보고 불일치를 남긴다.
+ * 파일은 수 GB가 될 수 있으므로 어느 쪽도 통째로 메모리에 올리지 않고 분할 해시 조인으로 처리한다.
+ * - 분할: PG 정산 파일은 청크별로 메모리 매핑해 병렬로 훑고, 내부 결제는 (매입 시각, 결제 ID) 순 커서로 읽는다.
+ *         양쪽 모두 결제 ID 해시로 나누어 분할 임시 파일에 쓴다.
+ * - 조인: 분할마다 양쪽 분할 파일을 매핑해 해시 테이블 하나에 더한 뒤 일치/누락/금액 불일치를 센다.
+ *         분할끼리는 독립이므로 병렬도만큼 동시에 처리하고, 메모리에는 그만큼의 분할만 올라간다.
+ *
+ * 금액은 매입 금액 기준으로 비교한다. (PG 정산 파일에 같은 결제 ID가 여러 행이면 더한다)
+ * 다시 실행하면 이전 결과를 지우고 처음부터 대사한다. 같은 대사일은 분산 락으로 한 노드에서만 실행된다.
+ *
+ * 지표:
+ * - payment.reconciliation.rows{side=..}   : 읽은 행 수 (PG 정산 파일 / 내부 원장)
+ * - payment.reconciliation.breaks{type=..} : 불일치 유형별 건수
+ * - payment.reconciliation.run             : 대사 소요 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ReconciliationEngine implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationEngine.class);
+
+    private static final String FILE_GLOB = "*.csv";
+    private static final int SPILL_RECORD_ESTIMATE = 40;
+
+    private final LoadSettlementSourcePort loadSettlementSourcePort;
+    private final ReconciliationRunPort reconciliationRunPort;
+    private final ReconciliationProperties properties;
+    private final ExecutorService workers;
+    private final Counter pgRowCounter;
+    private final Counter internalRowCounter;
+    private final Map<ReconciliationBreakType, Counter> breakCounters = new EnumMap<>(ReconciliationBreakType.class);
+    private final Timer runTimer;
+
+    public ReconciliationEngine(LoadSettlementSourcePort loadSettlementSourcePort,
+                                ReconciliationRunPort reconciliationRunPort,
+                                ReconciliationProperties properties, MeterRegistry meterRegistry) {
+        this.loadSettlementSourcePort = loadSettlementSourcePort;
+        this.reconciliationRunPort = reconciliationRunPort;
+        this.properties = properties;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "reconciliation-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.pgRowCounter = Counter.builder("payment.reconciliation.rows")
+                .description("대사에서 읽은 행 수")
+                .tag("side", "pg")
+                .register(meterRegistry);
+        this.internalRowCounter = Counter.builder("payment.reconciliation.rows")
+                .description("대사에서 읽은 행 수")
+                .tag("side", "internal")
+                .register(meterRegistry);
+        for (ReconciliationBreakType type : ReconciliationBreakType.values()) {
+            breakCounters.put(type, Counter.builder("payment.reconciliation.breaks")
+                    .description("대사 불일치 유형별 건수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        this.runTimer = Timer.builder("payment.reconciliation.run")
+                .description("대사 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대사 실행 (이전 결과는 지우고 처음부터)
+     * @return 대사 실행 결과
+     * @throws IllegalStateException 대사일의 PG 정산 파일이 없는 경우
+     * @throws IllegalArgumentException PG 정산 파일 형식이 잘못된 경우
+     */
+    @DistributedLock(name = "reconciliation", key = "#reconciliationDate.toString()", waitTime = 0, leaseTime = -1)
+    public ReconciliationRun run(LocalDate reconciliationDate) {
+        List<Path> files = settlementFiles(reconciliationDate);
+        reconciliationRunPort.startRun(reconciliationDate);
+
+        ZoneId zone = ZoneId.of(properties.getZoneId());
+        Instant from = reconciliationDate.atStartOfDay(zone).toInstant();
+        Instant to = reconciliationDate.plusDays(1).atStartOfDay(zone).toInstant();
+        log.info("대사 시작 - 대사일: {}, 파일: {}개, 매입 구간: [{}, {})", reconciliationDate, files.size(), from, to);
+
+        long startedAt = System.nanoTime();
+        ReconciliationSummary summary;
+        try {
+            Path workDirectory = Files.createTempDirectory(Paths.get(properties.getWorkDirectory()),
+                    "reconciliation-" + reconciliationDate + "-");
+            try (ReconciliationSpill spill = new ReconciliationSpill(workDirectory, Math.max(1, properties.getPartitions()))) {
+                long[] rows = partition(files, from, to, spill);
+                log.info("대사 분할 완료 - 대사일: {}, PG 행: {}, 내부 결제: {}, 소요: {}",
+                        reconciliationDate, rows[0], rows[1], Duration.ofNanos(System.nanoTime() - startedAt));
+                summary = join(reconciliationDate, spill).plus(new ReconciliationSummary(rows[0], rows[1], 0, 0, 0, 0));
+            }
+        } catch (IOException e) {
+            reconciliationRunPort.failRun(reconciliationDate);
+            log.error("대사 중단 - 대사일: {}, 오류: {}", reconciliationDate, e.getMessage());
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            reconciliationRunPort.failRun(reconciliationDate);
+            log.error("대사 중단 - 대사일: {}, 오류: {}", reconciliationDate, e.getMessage());
+            throw e;
+        }
+
+        reconciliationRunPort.completeRun(reconciliationDate, summary);
+        long elapsed = System.nanoTime() - startedAt;
+        runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("대사 완료 - 대사일: {}, 일치: {}, PG 누락: {}, 내부 누락: {}, 금액 불일치: {}, 소요: {}",
+                reconciliationDate, summary.matched(), summary.missingInPg(), summary.missingInternal(),
+                summary.amountMismatch(), Duration.ofNanos(elapsed));
+        return reconciliationRunPort.loadRun(reconciliationDate).orElseThrow();
+    }
+
+    /**
+     * 양쪽을 분할 임시 파일로 나눈다. 파일 청크는 작업 스레드에서, 내부 원장은 호출 스레드에서 동시에 읽는다.
+     * @return {PG 행 수, 내부 결제 수}
+     */
+    private long[] partition(List<Path> files, Instant from, Instant to, ReconciliationSpill spill) throws IOException {
+        PgSettlementFileScanner scanner = new PgSettlementFileScanner(properties);
+        List<Callable<Long>> scans = new ArrayList<>();
+        for (Path file : files) {
+            for (PgSettlementFileScanner.Chunk chunk
+                    : PgSettlementFileScanner.split(file, properties.getMapChunkSize(), properties.isHeader())) {
+                scans.add(() -> {
+                    ReconciliationSpill.Writer writer =
+                            spill.writer(ReconciliationSpill.Side.PG, properties.getSpillBufferSize());
+                    long rows = scanner.scan(chunk, writer::append);
+                    writer.flush();
+                    pgRowCounter.increment(rows);
+                    return rows;
+                });
+            }
+        }
+        List<Future<Long>> pending = scans.stream().map(workers::submit).toList();
+
+        long internalRows;
+        try {
+            ReconciliationSpill.Writer writer =
+                    spill.writer(ReconciliationSpill.Side.INTERNAL, properties.getSpillBufferSize());
+            long[] count = new long[1];
+            loadSettlementSourcePort.streamCapturedPayments(from, to, null,
+                    (paymentId, merchantId, currency, capturedMinor, refundedMinor, capturedAt) -> {
+                        writer.append(paymentId.getBytes(StandardCharsets.UTF_8), capturedMinor);
+                        count[0]++;
+                    });
+            writer.flush();
+            internalRows = count[0];
+            internalRowCounter.increment(internalRows);
+        } catch (RuntimeException e) {
+            pending.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        long pgRows = 0;
+        for (long rows : await(pending)) {
+            pgRows += rows;
+        }
+        return new long[]{pgRows, internalRows};
+    }
+
+    /**
+     * 분할별로 조인해 결과를 합친다.
+     */
+    private ReconciliationSummary join(LocalDate reconciliationDate, ReconciliationSpill spill) {
+        AtomicLong recorded = new AtomicLong();
+        List<Callable<ReconciliationSummary>> joins = new ArrayList<>(spill.partitions());
+        for (int partition = 0; partition < spill.partitions(); partition++) {
+            int target = partition;
+            joins.add(() -> joinPartition(reconciliationDate, spill, target, recorded));
+        }
+
+        ReconciliationSummary summary = ReconciliationSummary.EMPTY;
+        for (ReconciliationSummary partial : await(joins.stream().map(workers::submit).toList())) {
+            summary = summary.plus(partial);
+        }
+        if (recorded.get() > properties.getMaxRecordedBreaks()) {
+            log.warn("대사 불일치가 저장 한도를 넘었습니다 - 대사일: {}, 불일치: {}, 저장: {}",
+                    reconciliationDate, summary.breaks(), properties.getMaxRecordedBreaks());
+        }
+        return summary;
+    }
+
+    private ReconciliationSummary joinPartition(LocalDate reconciliationDate, ReconciliationSpill spill, int partition,
+                                                AtomicLong recorded) throws IOException {
+        MappedByteBuffer internal = spill.map(ReconciliationSpill.Side.INTERNAL, partition);
+        MappedByteBuffer pg = spill.map(ReconciliationSpill.Side.PG, partition);
+
+        // 분할 파일 크기로 결제 ID 수를 어림해 테이블을 한 번에 잡는다
+        int expectedKeys = (int) Math.min(Integer.MAX_VALUE / 4,
+                Math.max(internal.limit(), pg.limit()) / SPILL_RECORD_ESTIMATE);
+        ReconciliationTable table = new ReconciliationTable(expectedKeys);
+        table.addAll(internal, ReconciliationTable.INTERNAL);
+        table.addAll(pg, ReconciliationTable.PG);
+
+        long[] counts = new long[ReconciliationBreakType.values().length];
+        long[] matched = new long[1];
+        List<ReconciliationBreak> breaks = new ArrayList<>();
+        table.forEach((entry, sides, internalMinor, pgMinor) -> {
+            ReconciliationBreakType type;
+            if (sides == ReconciliationTable.INTERNAL) {
+                type = ReconciliationBreakType.MISSING_IN_PG;
+            } else if (sides == ReconciliationTable.PG) {
+                type = ReconciliationBreakType.MISSING_INTERNAL;
+            } else if (internalMinor != pgMinor) {
+                type = ReconciliationBreakType.AMOUNT_MISMATCH;
+            } else {
+                matched[0]++;
+                return;
+            }
+            counts[type.ordinal()]++;
+            if (recorded.getAndIncrement() < properties.getMaxRecordedBreaks()) {
+                breaks.add(new ReconciliationBreak(table.key(entry), type, internalMinor, pgMinor));
+                if (breaks.size() >= properties.getWriteBatchSize()) {
+                    reconciliationRunPort.saveBreaks(reconciliationDate, List.copyOf(breaks));
+                    breaks.clear();
+                }
+            }
+        });
+        if (!breaks.isEmpty()) {
+            reconciliationRunPort.saveBreaks(reconciliationDate, breaks);
+        }
+
+        for (ReconciliationBreakType type : ReconciliationBreakType.values()) {
+            breakCounters.get(type).increment(counts[type.ordinal()]);
+        }
+        log.debug("대사 분할 완료 - 대사일: {}, 분할: {}, 결제 ID: {}개", reconciliationDate, partition, table.size());
+        return new ReconciliationSummary(0, 0, matched[0],
+                counts[ReconciliationBreakType.MISSING_IN_PG.ordinal()],
+                counts[ReconciliationBreakType.MISSING_INTERNAL.ordinal()],
+                counts[ReconciliationBreakType.AMOUNT_MISMATCH.ordinal()]);
+    }
+
+    /**
+     * 대사일 디렉터리의 PG 정산 파일 (이름순)
+     */
+    private List<Path> settlementFiles(LocalDate reconciliationDate) {
+        Path directory = Paths.get(properties.getInboxDirectory(), reconciliationDate.toString());
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_GLOB)) {
+                stream.forEach(files::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException("PG 정산 파일이 없습니다: " + directory);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    /**
+     * 작업 결과를 모두 기다린다. 하나라도 실패하면 나머지를 취소하고 그 예외를 던진다.
+     */
+    private static <T> List<T> await(List<Future<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대사가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+}
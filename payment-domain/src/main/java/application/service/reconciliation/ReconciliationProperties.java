@@ -0,0 +1,83 @@
+package application.service.reconciliation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PG 정산 대사 설정 (fintech.payment.reconciliation.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * 대사일 경계를 정하는 시간대 (정산 시간대와 같게 둔다)
+     */
+    private String zoneId = "Asia/Seoul";
+
+    /**
+     * PG 정산 파일 수신 디렉터리 - 대사일별 하위 디렉터리(yyyy-MM-dd)의 *.csv 파일을 모두 읽는다.
+     */
+    private String inboxDirectory = "/var/lib/fintech/reconciliation/inbox";
+
+    /**
+     * 분할 임시 파일 디렉터리 (실행마다 하위 디렉터리를 만들고 끝나면 지운다)
+     */
+    private String workDirectory = System.getProperty("java.io.tmpdir");
+
+    /**
+     * PG 정산 파일 첫 행이 헤더인지 여부
+     */
+    private boolean header = true;
+
+    /**
+     * 필드 구분자 (한 바이트 문자)
+     */
+    private char delimiter = ',';
+
+    /**
+     * 결제 ID 필드 위치 (0부터)
+     */
+    private int paymentIdColumn = 0;
+
+    /**
+     * 금액 필드 위치 (0부터, 소수점 이하 최대 2자리)
+     */
+    private int amountColumn = 1;
+
+    /**
+     * 해시 분할 수 - 한 분할의 해시 테이블만 메모리에 올리므로 힙 사용량은 (전체 건수 / 분할 수 x 병렬도)에 비례한다.
+     * 분할마다 쪽(PG/내부)별 임시 파일을 하나씩 열어 두므로 파일 핸들은 분할 수의 두 배가 필요하다.
+     */
+    private int partitions = 128;
+
+    /**
+     * 파일 읽기/분할 대사 병렬도
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 파일을 한 번에 메모리 매핑하는 크기 - 파일은 이 크기 단위로 나누어 병렬로 읽는다.
+     */
+    private int mapChunkSize = 64 * 1024 * 1024;
+
+    /**
+     * 분할 임시 파일 쓰기 버퍼 크기 (분할별, 읽기 작업별)
+     */
+    private int spillBufferSize = 16 * 1024;
+
+    /**
+     * 불일치 JDBC 배치 크기
+     */
+    private int writeBatchSize = 1000;
+
+    /**
+     * 저장할 불일치 최대 건수 - 넘으면 건수만 세고 저장하지 않는다. (파일이 통째로 잘못 온 경우 대비)
+     */
+    private long maxRecordedBreaks = 100_000;
+}
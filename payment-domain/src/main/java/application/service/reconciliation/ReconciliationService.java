@@ -0,0 +1,83 @@
+package application.service.reconciliation;
+
+import application.port.out.ReconciliationRunPort;
+import domain.model.ReconciliationRun;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * PG 정산 대사 서비스
+ *
+ * 대사는 파일 크기에 따라 수 분이 걸리므로 요청 스레드에서 실행하지 않고 대사 실행 스레드에 맡긴 뒤 바로 돌려준다.
+ * 결과(건수)는 대사 실행으로 조회한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ReconciliationService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private final ReconciliationEngine reconciliationEngine;
+    private final ReconciliationRunPort reconciliationRunPort;
+    private final ReconciliationProperties properties;
+    private final Set<LocalDate> submitted = ConcurrentHashMap.newKeySet();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reconciliation-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReconciliationService(ReconciliationEngine reconciliationEngine, ReconciliationRunPort reconciliationRunPort,
+                                 ReconciliationProperties properties) {
+        this.reconciliationEngine = reconciliationEngine;
+        this.reconciliationRunPort = reconciliationRunPort;
+        this.properties = properties;
+    }
+
+    /**
+     * 대사 실행 요청 (이미 이 노드에서 실행 중이거나 대기 중이면 무시)
+     * @return 새로 요청했으면 true
+     */
+    public boolean submit(LocalDate reconciliationDate) {
+        if (!reconciliationDate.isBefore(LocalDate.now(ZoneId.of(properties.getZoneId())))) {
+            throw new IllegalArgumentException("끝나지 않은 날짜는 대사할 수 없습니다: " + reconciliationDate);
+        }
+        if (!submitted.add(reconciliationDate)) {
+            return false;
+        }
+
+        runner.execute(() -> {
+            try {
+                reconciliationEngine.run(reconciliationDate);
+            } catch (RuntimeException e) {
+                // 파일을 바로잡은 뒤 다시 요청하면 처음부터 대사한다
+                log.error("대사 실패 - 대사일: {}, 오류: {}", reconciliationDate, e.getMessage());
+            } finally {
+                submitted.remove(reconciliationDate);
+            }
+        });
+        return true;
+    }
+
+    public Optional<ReconciliationRun> getRun(LocalDate reconciliationDate) {
+        return reconciliationRunPort.loadRun(reconciliationDate);
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+    }
+}
@@ -0,0 +1,205 @@
+package application.service.reconciliation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 대사 분할 임시 파일
+ *
+ * PG 정산 파일 행과 내부 원장 결제를 결제 ID 해시로 나누어 쪽(PG/내부)별, 분할별 파일에 쓴다.
+ * 같은 결제 ID는 양쪽 모두 같은 번호의 분할로 가므로 분할마다 따로 대사할 수 있다.
+ * - 레코드: [해시 int][결제 ID 길이 short][결제 ID 바이트][금액 long]
+ * - 쓰기: 읽기 작업마다 Writer를 하나씩 쓰고, Writer는 분할별 버퍼가 차면 레코드 단위로 통째로 덧붙인다.
+ * - 읽기: 분할 파일을 읽기 전용으로 매핑한다.
+ */
+final class ReconciliationSpill implements Closeable {
+
+    enum Side {
+        PG, INTERNAL
+    }
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int RECORD_OVERHEAD = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    private final Path directory;
+    private final int partitions;
+    private final FileChannel[][] channels;
+
+    ReconciliationSpill(Path directory, int partitions) throws IOException {
+        this.directory = directory;
+        this.partitions = partitions;
+        this.channels = new FileChannel[Side.values().length][partitions];
+        try {
+            for (Side side : Side.values()) {
+                for (int partition = 0; partition < partitions; partition++) {
+                    channels[side.ordinal()][partition] = FileChannel.open(file(side, partition),
+                            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    int partitions() {
+        return partitions;
+    }
+
+    int partitionOf(int hash) {
+        return (hash & Integer.MAX_VALUE) % partitions;
+    }
+
+    Writer writer(Side side, int bufferSize) {
+        return new Writer(side, bufferSize);
+    }
+
+    /**
+     * 분할 파일을 매핑한다. (쓰기가 모두 끝난 뒤 호출)
+     * @throws IllegalStateException 분할 파일이 한 번에 매핑할 수 있는 크기를 넘는 경우
+     */
+    MappedByteBuffer map(Side side, int partition) throws IOException {
+        FileChannel channel = channels[side.ordinal()][partition];
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException(String.format(
+                    "대사 분할이 너무 큽니다 (분할 수를 늘려야 합니다) - 쪽: %s, 분할: %d, 크기: %d", side, partition, size));
+        }
+        try (FileChannel reader = FileChannel.open(file(side, partition), StandardOpenOption.READ)) {
+            return reader.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private Path file(Side side, int partition) {
+        return directory.resolve(String.format("%s-%05d.bin", side.name().toLowerCase(), partition));
+    }
+
+    /**
+     * 분할 파일과 디렉터리를 지운다.
+     */
+    @Override
+    public void close() {
+        for (Side side : Side.values()) {
+            for (int partition = 0; partition < partitions; partition++) {
+                FileChannel channel = channels[side.ordinal()][partition];
+                try {
+                    if (channel != null) {
+                        channel.close();
+                    }
+                    Files.deleteIfExists(file(side, partition));
+                } catch (IOException ignored) {
+                    // 임시 디렉터리 정리 실패는 대사 결과에 영향이 없다
+                }
+            }
+        }
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException ignored) {
+            // 위와 같다
+        }
+    }
+
+    /**
+     * 결제 ID 바이트 해시 (FNV-1a + 마무리 섞기)
+     * PG 쪽은 매핑 버퍼의 바이트로, 내부 쪽은 UTF-8 바이트로 계산하므로 같은 결제 ID는 같은 해시가 된다.
+     */
+    static int hash(ByteBuffer buffer, int offset, int length) {
+        int h = 0x811C9DC5;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ (buffer.get(i) & 0xFF)) * 0x01000193;
+        }
+        return mix(h);
+    }
+
+    static int hash(byte[] bytes, int offset, int length) {
+        int h = 0x811C9DC5;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 분할 파일 쓰기 (한 스레드 전용, 다 쓴 뒤 flush 호출)
+     */
+    final class Writer {
+        private final Side side;
+        private final int bufferSize;
+        private final ByteBuffer[] buffers = new ByteBuffer[partitions];
+
+        private Writer(Side side, int bufferSize) {
+            this.side = side;
+            this.bufferSize = Math.max(bufferSize, RECORD_OVERHEAD + MAX_KEY_LENGTH);
+        }
+
+        void append(ByteBuffer source, int offset, int length, long amountMinor) {
+            int hash = hash(source, offset, length);
+            ByteBuffer buffer = reserve(hash, length);
+            buffer.putInt(hash).putShort((short) length);
+            buffer.put(buffer.position(), source, offset, length);
+            buffer.position(buffer.position() + length);
+            buffer.putLong(amountMinor);
+        }
+
+        void append(byte[] key, long amountMinor) {
+            int hash = hash(key, 0, key.length);
+            ByteBuffer buffer = reserve(hash, key.length);
+            buffer.putInt(hash).putShort((short) key.length).put(key).putLong(amountMinor);
+        }
+
+        void flush() {
+            for (int partition = 0; partition < partitions; partition++) {
+                if (buffers[partition] != null) {
+                    write(partition, buffers[partition]);
+                }
+            }
+        }
+
+        private ByteBuffer reserve(int hash, int keyLength) {
+            if (keyLength > MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException("결제 ID가 너무 깁니다: " + keyLength + " bytes");
+            }
+            int partition = partitionOf(hash);
+            ByteBuffer buffer = buffers[partition];
+            if (buffer == null) {
+                // 분할별 버퍼는 처음 쓸 때 잡는다
+                buffer = ByteBuffer.allocate(bufferSize);
+                buffers[partition] = buffer;
+            } else if (buffer.remaining() < RECORD_OVERHEAD + keyLength) {
+                write(partition, buffer);
+            }
+            return buffer;
+        }
+
+        private void write(int partition, ByteBuffer buffer) {
+            buffer.flip();
+            FileChannel channel = channels[side.ordinal()][partition];
+            try {
+                // 다른 Writer와 레코드가 섞이지 않도록 버퍼를 통째로 쓴다
+                synchronized (channel) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.clear();
+        }
+    }
+}
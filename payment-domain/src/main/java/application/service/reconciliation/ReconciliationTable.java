@@ -0,0 +1,174 @@
+package application.service.reconciliation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 분할 하나의 대사 해시 테이블 (결제 ID → 내부 금액 / PG 금액 합계)
+ *
+ * 결제 ID마다 객체를 만들지 않도록 결제 ID 바이트는 한 배열에 이어 붙이고, 나머지는 기본형 배열로 보관하는
+ * 열린 주소법 테이블이다. 한 인스턴스는 한 스레드에서만 쓴다.
+ */
+final class ReconciliationTable {
+    static final byte INTERNAL = 1;
+    static final byte PG = 2;
+
+    private int[] slots;
+    private int mask;
+    private int shift;
+
+    private int[] hashes;
+    private int[] keyOffsets;
+    private int[] keyLengths;
+    private long[] internalAmounts;
+    private long[] pgAmounts;
+    private byte[] sides;
+    private int size;
+
+    private byte[] keys;
+    private int keysLength;
+
+    ReconciliationTable(int expectedKeys) {
+        int capacity = Math.max(16, expectedKeys);
+        hashes = new int[capacity];
+        keyOffsets = new int[capacity];
+        keyLengths = new int[capacity];
+        internalAmounts = new long[capacity];
+        pgAmounts = new long[capacity];
+        sides = new byte[capacity];
+        keys = new byte[capacity * 24];
+        int slotCapacity = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        resizeSlots(slotCapacity);
+    }
+
+    /**
+     * 분할 파일의 레코드를 모두 더한다.
+     * @return 읽은 레코드 수
+     */
+    long addAll(ByteBuffer records, byte side) {
+        long count = 0;
+        int position = 0;
+        int limit = records.limit();
+        while (position < limit) {
+            int hash = records.getInt(position);
+            int keyLength = records.getShort(position + Integer.BYTES);
+            int keyOffset = position + Integer.BYTES + Short.BYTES;
+            long amountMinor = records.getLong(keyOffset + keyLength);
+            add(hash, records, keyOffset, keyLength, side, amountMinor);
+            position = keyOffset + keyLength + Long.BYTES;
+            count++;
+        }
+        return count;
+    }
+
+    void add(int hash, ByteBuffer source, int keyOffset, int keyLength, byte side, long amountMinor) {
+        int entry = findOrInsert(hash, source, keyOffset, keyLength);
+        if (side == INTERNAL) {
+            internalAmounts[entry] += amountMinor;
+        } else {
+            pgAmounts[entry] += amountMinor;
+        }
+        sides[entry] |= side;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int entry = 0; entry < size; entry++) {
+            consumer.accept(entry, sides[entry], internalAmounts[entry], pgAmounts[entry]);
+        }
+    }
+
+    /**
+     * 결제 ID 문자열 (불일치로 보고할 때만 만든다)
+     */
+    String key(int entry) {
+        return new String(keys, keyOffsets[entry], keyLengths[entry], StandardCharsets.UTF_8);
+    }
+
+    private int findOrInsert(int hash, ByteBuffer source, int keyOffset, int keyLength) {
+        int slot = slotOf(hash);
+        while (true) {
+            int stored = slots[slot];
+            if (stored == 0) {
+                break;
+            }
+            int entry = stored - 1;
+            if (hashes[entry] == hash && keyLengths[entry] == keyLength
+                    && sameKey(source, keyOffset, keyOffsets[entry], keyLength)) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == hashes.length) {
+            growEntries();
+        }
+        if (keysLength + keyLength > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keys.length * 2, keysLength + keyLength));
+        }
+        source.get(keyOffset, keys, keysLength, keyLength);
+
+        int entry = size++;
+        hashes[entry] = hash;
+        keyOffsets[entry] = keysLength;
+        keyLengths[entry] = keyLength;
+        keysLength += keyLength;
+        slots[slot] = entry + 1;
+        if (size * 2 > slots.length) {
+            growSlots();
+        }
+        return entry;
+    }
+
+    private boolean sameKey(ByteBuffer source, int sourceOffset, int storedOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (source.get(sourceOffset + i) != keys[storedOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 분할의 해시는 하위 비트가 겹치므로 섞은 값의 상위 비트로 자리를 정한다.
+     */
+    private int slotOf(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    private void resizeSlots(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private void growEntries() {
+        int capacity = hashes.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+        keyLengths = Arrays.copyOf(keyLengths, capacity);
+        internalAmounts = Arrays.copyOf(internalAmounts, capacity);
+        pgAmounts = Arrays.copyOf(pgAmounts, capacity);
+        sides = Arrays.copyOf(sides, capacity);
+    }
+
+    private void growSlots() {
+        resizeSlots(slots.length * 2);
+        for (int entry = 0; entry < size; entry++) {
+            int slot = slotOf(hashes[entry]);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry + 1;
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int entry, byte sides, long internalMinor, long pgMinor);
+    }
+}
@@ -0,0 +1,113 @@
+package application.service.settlement;
+
+import java.util.Arrays;
+
+/**
+ * 정산 누적기 (long 키 → 건수/매입/환불/수수료 합계)
+ *
+ * 키마다 객체를 만들지 않도록 열린 주소법 해시 테이블을 기본형 배열로 구현한다.
+ * 한 인스턴스는 한 스레드에서만 쓰고, 병렬 집계 결과는 merge로 합친다.
+ */
+final class SettlementAccumulator {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] counts;
+    private long[] gross;
+    private long[] refunded;
+    private long[] fees;
+    private int size;
+    private int mask;
+
+    SettlementAccumulator(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    void add(long key, long count, long grossMinor, long refundedMinor, long feeMinor) {
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                grow();
+                slot = slotOf(key);
+            }
+        }
+        counts[slot] += count;
+        gross[slot] += grossMinor;
+        refunded[slot] += refundedMinor;
+        fees[slot] += feeMinor;
+    }
+
+    /**
+     * 다른 누적기의 합계를 더한다.
+     */
+    void merge(SettlementAccumulator other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                add(other.keys[slot], other.counts[slot], other.gross[slot], other.refunded[slot], other.fees[slot]);
+            }
+        }
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], counts[slot], gross[slot], refunded[slot], fees[slot]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slotOf(long key) {
+        // 찾는 키 또는 빈 자리
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldGross = gross;
+        long[] oldRefunded = refunded;
+        long[] oldFees = fees;
+
+        allocate(oldKeys.length << 1);
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] != EMPTY) {
+                int slot = slotOf(oldKeys[old]);
+                keys[slot] = oldKeys[old];
+                counts[slot] = oldCounts[old];
+                gross[slot] = oldGross[old];
+                refunded[slot] = oldRefunded[old];
+                fees[slot] = oldFees[old];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new long[capacity];
+        gross = new long[capacity];
+        refunded = new long[capacity];
+        fees = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long count, long grossMinor, long refundedMinor, long feeMinor);
+    }
+}
@@ -0,0 +1,106 @@
+package application.service.settlement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 정산 사전 (가맹점 ID/통화 ↔ 정수 코드)
+ *
+ * 구간 버퍼와 누적기가 문자열 대신 정수 코드를 쓰도록 한 번의 정산 실행 동안 코드를 배정한다.
+ * 가맹점 수만큼만 커지므로 결제 건수와 무관하게 메모리가 제한된다.
+ *
+ * 코드 배정은 읽기 스레드에서만 한다. 반영 스레드는 구간을 넘겨받을 때의 스냅숏으로 코드를 이름으로 바꾼다.
+ * (넘겨받기 전에 배정된 코드의 배열 원소는 이후 배열이 커지거나 새 코드가 배정되어도 바뀌지 않는다)
+ */
+final class SettlementDictionary {
+    private static final int MAX_CURRENCIES = 1 << 16;
+
+    private final Map<String, Integer> merchantCodes = new HashMap<>();
+    private final Map<String, Integer> currencyCodes = new HashMap<>();
+    private final SettlementProperties properties;
+
+    private String[] merchantIds = new String[1024];
+    private String[] merchantTiers = new String[1024];
+    private int[] merchantFeeBps = new int[1024];
+    private String[] currencies = new String[16];
+
+    SettlementDictionary(SettlementProperties properties) {
+        this.properties = properties;
+    }
+
+    int merchantCode(String merchantId) {
+        Integer code = merchantCodes.get(merchantId);
+        if (code != null) {
+            return code;
+        }
+
+        int newCode = merchantCodes.size();
+        if (newCode == merchantIds.length) {
+            merchantIds = Arrays.copyOf(merchantIds, newCode << 1);
+            merchantTiers = Arrays.copyOf(merchantTiers, newCode << 1);
+            merchantFeeBps = Arrays.copyOf(merchantFeeBps, newCode << 1);
+        }
+        String tier = properties.getMerchantFeeTiers().getOrDefault(merchantId, properties.getDefaultFeeTier());
+        Integer bps = properties.getFeeTiers().get(tier);
+        if (bps == null) {
+            throw new IllegalStateException("수수료율이 없는 수수료 등급입니다: " + tier + " (가맹점: " + merchantId + ")");
+        }
+        merchantIds[newCode] = merchantId;
+        merchantTiers[newCode] = tier;
+        merchantFeeBps[newCode] = bps;
+        merchantCodes.put(merchantId, newCode);
+        return newCode;
+    }
+
+    int currencyCode(String currency) {
+        Integer code = currencyCodes.get(currency);
+        if (code != null) {
+            return code;
+        }
+
+        int newCode = currencyCodes.size();
+        if (newCode == MAX_CURRENCIES) {
+            throw new IllegalStateException("통화 종류가 너무 많습니다: " + newCode);
+        }
+        if (newCode == currencies.length) {
+            currencies = Arrays.copyOf(currencies, newCode << 1);
+        }
+        currencies[newCode] = currency;
+        currencyCodes.put(currency, newCode);
+        return newCode;
+    }
+
+    int feeBps(int merchantCode) {
+        return merchantFeeBps[merchantCode];
+    }
+
+    /**
+     * 누적기 키 (가맹점 코드, 통화 코드)
+     */
+    static long key(int merchantCode, int currencyCode) {
+        return ((long) merchantCode << 16) | currencyCode;
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(merchantIds, merchantTiers, currencies);
+    }
+
+    /**
+     * 코드 → 이름 변환용 스냅숏
+     */
+    record Snapshot(String[] merchantIds, String[] merchantTiers, String[] currencies) {
+
+        String merchantId(long key) {
+            return merchantIds[(int) (key >>> 16)];
+        }
+
+        String feeTier(long key) {
+            return merchantTiers[(int) (key >>> 16)];
+        }
+
+        String currency(long key) {
+            return currencies[(int) (key & 0xFFFF)];
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package application.service.settlement;
+
+import application.port.out.LoadSettlementSourcePort;
+import application.port.out.SettlementRunPort;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.model.SettlementLine;
+import domain.model.SettlementRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일일 정산 엔진
+ *
+ * 정산일에 매입된 결제를 가맹점 + 통화 단위로 집계해 정산 결과(매입/환불/수수료/지급액)를 만든다.
+ * - 읽기: 전진 전용 커서로 한 건씩 받아 구간 버퍼(기본형 배열)에 담는다. 가맹점/통화는 정수 코드로 바꾼다.
+ * - 집계: 구간이 차면 fork-join으로 나누어 기본형 키 누적기에 모은 뒤 합친다.
+ * - 반영: 구간 집계를 JDBC 배치로 정산 결과에 더하고 체크포인트를 같은 트랜잭션으로 남긴다.
+ * 구간 버퍼는 두 개를 번갈아 쓰므로 한 구간을 반영하는 동안 다음 구간을 읽는다.
+ *
+ * 중단된 정산은 다시 실행하면 마지막 체크포인트 다음 결제부터 이어서 처리하고,
+ * 완료된 정산은 다시 집계하지 않는다. 같은 정산일은 분산 락으로 한 노드에서만 실행된다.
+ *
+ * 지표:
+ * - payment.settlement.payments : 정산에 반영된 결제 수
+ * - payment.settlement.segment  : 구간 집계/반영 소요 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class SettlementEngine implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SettlementEngine.class);
+
+    private static final int LEAF_EXPECTED_KEYS = 1024;
+
+    private final LoadSettlementSourcePort loadSettlementSourcePort;
+    private final SettlementRunPort settlementRunPort;
+    private final SettlementProperties properties;
+    private final ForkJoinPool aggregationPool;
+    private final ExecutorService flushExecutor;
+    private final Counter paymentCounter;
+    private final Timer segmentTimer;
+
+    public SettlementEngine(LoadSettlementSourcePort loadSettlementSourcePort, SettlementRunPort settlementRunPort,
+                            SettlementProperties properties, MeterRegistry meterRegistry) {
+        this.loadSettlementSourcePort = loadSettlementSourcePort;
+        this.settlementRunPort = settlementRunPort;
+        this.properties = properties;
+        this.aggregationPool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.paymentCounter = Counter.builder("payment.settlement.payments")
+                .description("정산에 반영된 결제 수")
+                .register(meterRegistry);
+        this.segmentTimer = Timer.builder("payment.settlement.segment")
+                .description("구간 집계/반영 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정산 실행 (중단된 정산은 체크포인트부터 이어서 처리)
+     * @return 정산 실행 결과
+     */
+    @DistributedLock(name = "settlement", key = "#settlementDate.toString()", waitTime = 0, leaseTime = -1)
+    public SettlementRun run(LocalDate settlementDate) {
+        SettlementRun run = settlementRunPort.startRun(settlementDate);
+        if (run.isCompleted()) {
+            log.info("이미 완료된 정산 - 정산일: {}, 처리 건수: {}", settlementDate, run.getProcessedCount());
+            return run;
+        }
+
+        ZoneId zone = ZoneId.of(properties.getZoneId());
+        Instant from = settlementDate.atStartOfDay(zone).toInstant();
+        Instant to = settlementDate.plusDays(1).atStartOfDay(zone).toInstant();
+        if (run.getCheckpoint() != null) {
+            log.info("정산 재개 - 정산일: {}, 처리 건수: {}, 체크포인트: {}",
+                    settlementDate, run.getProcessedCount(), run.getCheckpoint());
+        } else {
+            log.info("정산 시작 - 정산일: {}, 구간: [{}, {})", settlementDate, from, to);
+        }
+
+        long startedAt = System.nanoTime();
+        SegmentPipeline pipeline = new SegmentPipeline(settlementDate, run.getProcessedCount());
+        long processed;
+        try {
+            loadSettlementSourcePort.streamCapturedPayments(from, to, run.getCheckpoint(), pipeline::accept);
+            processed = pipeline.finish();
+        } catch (RuntimeException e) {
+            // 반영 중인 구간이 끝날 때까지 기다린 뒤 중단한다 (다음 실행은 마지막 체크포인트부터)
+            pipeline.abort();
+            log.error("정산 중단 - 정산일: {}, 오류: {}", settlementDate, e.getMessage());
+            throw e;
+        }
+
+        settlementRunPort.completeRun(settlementDate);
+        log.info("정산 완료 - 정산일: {}, 처리 건수: {}, 이번 실행: {}건, 소요: {}",
+                settlementDate, processed, processed - run.getProcessedCount(),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        return settlementRunPort.loadRun(settlementDate).orElseThrow();
+    }
+
+    /**
+     * 구간 집계 후 반영 (반영 스레드에서 실행)
+     */
+    private void flush(LocalDate settlementDate, SettlementSegment segment, SettlementDictionary.Snapshot dictionary,
+                       long processedCount) {
+        int lineCount = segmentTimer.record(() -> {
+            SettlementAccumulator accumulator = aggregationPool.invoke(
+                    new AggregationTask(segment, 0, segment.size(), Math.max(1, properties.getPartitionThreshold())));
+
+            List<SettlementLine> lines = new ArrayList<>(accumulator.size());
+            accumulator.forEach((key, count, gross, refunded, fee) -> lines.add(new SettlementLine(
+                    dictionary.merchantId(key), dictionary.currency(key), dictionary.feeTier(key),
+                    count, gross, refunded, fee)));
+
+            settlementRunPort.saveSegment(settlementDate, lines, segment.lastCursor(), processedCount);
+            return lines.size();
+        });
+        paymentCounter.increment(segment.size());
+        log.debug("정산 구간 반영 - 정산일: {}, 구간 건수: {}, 집계 행: {}, 누적 건수: {}",
+                settlementDate, segment.size(), lineCount, processedCount);
+    }
+
+    /**
+     * 결제별 수수료 (매입 금액 x 수수료율, 반올림)
+     */
+    private static long fee(long capturedMinor, int feeBps) {
+        return (capturedMinor * feeBps + 5_000) / 10_000;
+    }
+
+    @Override
+    public void destroy() {
+        flushExecutor.shutdown();
+        aggregationPool.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 정산 실행 1회의 읽기 → 집계/반영 파이프라인
+     * accept/finish/abort는 읽기 스레드에서만 호출한다.
+     */
+    private final class SegmentPipeline {
+        private final LocalDate settlementDate;
+        private final SettlementDictionary dictionary = new SettlementDictionary(properties);
+        private SettlementSegment reading = new SettlementSegment(properties.getSegmentSize());
+        private SettlementSegment flushing = new SettlementSegment(properties.getSegmentSize());
+        private CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+        private long processed;
+
+        private SegmentPipeline(LocalDate settlementDate, long alreadyProcessed) {
+            this.settlementDate = settlementDate;
+            this.processed = alreadyProcessed;
+        }
+
+        void accept(String paymentId, String merchantId, String currency,
+                    long capturedMinor, long refundedMinor, Instant capturedAt) {
+            int merchantCode = dictionary.merchantCode(merchantId);
+            long key = SettlementDictionary.key(merchantCode, dictionary.currencyCode(currency));
+            reading.append(key, capturedMinor, refundedMinor, fee(capturedMinor, dictionary.feeBps(merchantCode)),
+                    paymentId, capturedAt);
+            if (reading.isFull()) {
+                handOff();
+            }
+        }
+
+        long finish() {
+            if (!reading.isEmpty()) {
+                handOff();
+            }
+            awaitInFlight();
+            return processed;
+        }
+
+        void abort() {
+            try {
+                inFlight.join();
+            } catch (CompletionException ignored) {
+                // 원래 예외를 던진다
+            }
+        }
+
+        private void handOff() {
+            // 이전 구간 반영이 끝나야 그 버퍼를 다음 읽기에 쓸 수 있다
+            awaitInFlight();
+
+            SettlementSegment full = reading;
+            reading = flushing;
+            reading.clear();
+            flushing = full;
+
+            processed += full.size();
+            long processedCount = processed;
+            SettlementDictionary.Snapshot snapshot = dictionary.snapshot();
+            inFlight = CompletableFuture.runAsync(
+                    () -> flush(settlementDate, full, snapshot, processedCount), flushExecutor);
+        }
+
+        private void awaitInFlight() {
+            try {
+                inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 구간 [from, to)를 나누어 집계한 뒤 합친다.
+     */
+    private static final class AggregationTask extends RecursiveTask<SettlementAccumulator> {
+        private final SettlementSegment segment;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private AggregationTask(SettlementSegment segment, int from, int to, int threshold) {
+            this.segment = segment;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected SettlementAccumulator compute() {
+            if (to - from <= threshold) {
+                SettlementAccumulator accumulator = new SettlementAccumulator(LEAF_EXPECTED_KEYS);
+                for (int i = from; i < to; i++) {
+                    accumulator.add(segment.keys[i], 1, segment.captured[i], segment.refunded[i], segment.fees[i]);
+                }
+                return accumulator;
+            }
+
+            int mid = (from + to) >>> 1;
+            AggregationTask left = new AggregationTask(segment, from, mid, threshold);
+            left.fork();
+            SettlementAccumulator right = new AggregationTask(segment, mid, to, threshold).compute();
+            SettlementAccumulator merged = left.join();
+            // 큰 쪽에 작은 쪽을 합친다
+            if (merged.size() < right.size()) {
+                right.merge(merged);
+                return right;
+            }
+            merged.merge(right);
+            return merged;
+        }
+    }
+}
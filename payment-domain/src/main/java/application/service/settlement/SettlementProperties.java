@@ -0,0 +1,66 @@
+package application.service.settlement;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 정산 설정 (fintech.payment.settlement.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.settlement")
+public class SettlementProperties {
+
+    /**
+     * 정산일 경계를 정하는 시간대
+     */
+    private String zoneId = "Asia/Seoul";
+
+    /**
+     * 정산 대상 조회 fetch size (MySQL은 Integer.MIN_VALUE일 때 한 행씩 스트리밍한다)
+     */
+    private int fetchSize = Integer.MIN_VALUE;
+
+    /**
+     * 구간 크기 - 이 건수마다 집계를 반영하고 체크포인트를 남긴다.
+     * 구간 버퍼 두 개(읽기용, 반영용)를 미리 잡아 두므로 힙 사용량은 이 값에 비례한다.
+     */
+    private int segmentSize = 500_000;
+
+    /**
+     * 집계 병렬도 (fork-join 워커 수)
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * fork-join 분할 기준 - 이 건수 이하면 더 나누지 않고 한 워커가 집계한다.
+     */
+    private int partitionThreshold = 32_768;
+
+    /**
+     * 정산 결과 JDBC 배치 크기 (MySQL은 rewriteBatchedStatements=true일 때 다중 행 INSERT로 보낸다)
+     */
+    private int writeBatchSize = 1000;
+
+    /**
+     * 수수료 등급을 지정하지 않은 가맹점의 등급
+     */
+    private String defaultFeeTier = "standard";
+
+    /**
+     * 수수료 등급별 수수료율 (bp, 1bp = 0.01%, 결제별 매입 금액 기준)
+     */
+    private Map<String, Integer> feeTiers = new HashMap<>(Map.of("standard", 250));
+
+    /**
+     * 가맹점별 수수료 등급 (가맹점 ID → 등급)
+     */
+    private Map<String, String> merchantFeeTiers = new HashMap<>();
+}
@@ -0,0 +1,65 @@
+package application.service.settlement;
+
+import domain.model.SettlementCursor;
+
+import java.time.Instant;
+
+/**
+ * 정산 구간 버퍼
+ *
+ * 결제 한 건을 객체로 만들지 않고 열(column)별 기본형 배열에 담는다.
+ * 한 번 할당한 배열을 구간마다 재사용하므로 정산 건수와 무관하게 힙 사용량이 일정하다.
+ */
+final class SettlementSegment {
+    final long[] keys;
+    final long[] captured;
+    final long[] refunded;
+    final long[] fees;
+    private int size;
+
+    private Instant lastCapturedAt;
+    private String lastPaymentId;
+
+    SettlementSegment(int capacity) {
+        this.keys = new long[capacity];
+        this.captured = new long[capacity];
+        this.refunded = new long[capacity];
+        this.fees = new long[capacity];
+    }
+
+    void append(long key, long capturedMinor, long refundedMinor, long feeMinor,
+                String paymentId, Instant capturedAt) {
+        keys[size] = key;
+        captured[size] = capturedMinor;
+        refunded[size] = refundedMinor;
+        fees[size] = feeMinor;
+        size++;
+        lastPaymentId = paymentId;
+        lastCapturedAt = capturedAt;
+    }
+
+    boolean isFull() {
+        return size == keys.length;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 이 구간의 마지막 결제 위치 (구간 반영 후 체크포인트)
+     */
+    SettlementCursor lastCursor() {
+        return new SettlementCursor(lastCapturedAt, lastPaymentId);
+    }
+
+    void clear() {
+        size = 0;
+        lastCapturedAt = null;
+        lastPaymentId = null;
+    }
+}
@@ -0,0 +1,83 @@
+package application.service.settlement;
+
+import application.port.out.SettlementRunPort;
+import domain.model.SettlementRun;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 정산 서비스
+ *
+ * 정산은 수 분이 걸리므로 요청 스레드에서 실행하지 않고 정산 실행 스레드에 맡긴 뒤 바로 돌려준다.
+ * 진행 상황은 정산 실행(처리 건수, 체크포인트)으로 조회한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class SettlementService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SettlementService.class);
+
+    private final SettlementEngine settlementEngine;
+    private final SettlementRunPort settlementRunPort;
+    private final SettlementProperties properties;
+    private final Set<LocalDate> submitted = ConcurrentHashMap.newKeySet();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "settlement-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SettlementService(SettlementEngine settlementEngine, SettlementRunPort settlementRunPort,
+                             SettlementProperties properties) {
+        this.settlementEngine = settlementEngine;
+        this.settlementRunPort = settlementRunPort;
+        this.properties = properties;
+    }
+
+    /**
+     * 정산 실행 요청 (이미 이 노드에서 실행 중이거나 대기 중이면 무시)
+     * @return 새로 요청했으면 true
+     */
+    public boolean submit(LocalDate settlementDate) {
+        if (!settlementDate.isBefore(LocalDate.now(ZoneId.of(properties.getZoneId())))) {
+            throw new IllegalArgumentException("끝나지 않은 날짜는 정산할 수 없습니다: " + settlementDate);
+        }
+        if (!submitted.add(settlementDate)) {
+            return false;
+        }
+
+        runner.execute(() -> {
+            try {
+                settlementEngine.run(settlementDate);
+            } catch (RuntimeException e) {
+                // 다시 요청하면 체크포인트부터 이어서 처리한다
+                log.error("정산 실패 - 정산일: {}, 오류: {}", settlementDate, e.getMessage());
+            } finally {
+                submitted.remove(settlementDate);
+            }
+        });
+        return true;
+    }
+
+    public Optional<SettlementRun> getRun(LocalDate settlementDate) {
+        return settlementRunPort.loadRun(settlementDate);
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package application.service.webhook;
+
+import application.service.pg.PgResultStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * PG 결과 통지
+ *
+ * @param provider        PG 이름
+ * @param pgTransactionId PG 거래 ID (중복 판단 기준)
+ * @param paymentId       결제 ID
+ * @param status          결과 상태
+ * @param amount          처리 금액
+ * @param resultCode      PG 결과 코드
+ * @param message         PG 결과 메시지
+ * @param processedAt     PG 처리 시각
+ * @param receivedAt      수신 시각
+ * @param payload         통지 원문 (서명 검증을 마친 본문)
+ */
+public record PgWebhookEvent(String provider, String pgTransactionId, String paymentId, PgResultStatus status,
+                             BigDecimal amount, String resultCode, String message, OffsetDateTime processedAt,
+                             Instant receivedAt, String payload) {
+}
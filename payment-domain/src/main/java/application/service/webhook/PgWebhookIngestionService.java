@@ -0,0 +1,287 @@
+package application.service.webhook;
+
+import application.port.out.PgWebhookEventPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG 결과 통지 수신 서비스
+ *
+ * PG는 최대 처리량으로 결과를 통지하고 응답이 늦으면 같은 통지를 거듭 보낸다.
+ * 수신 스레드는 중복 확인과 대기열 투입만 하고 바로 응답하며, 저장은 처리 스레드가 배치로 한다.
+ * - 중복 확인: 세대 교체형 블룸 필터에 없으면 새 통지다. 있다고 하면 정확 저장소(PK 조회)로 확인한다.
+ *              이미 저장된 재전송은 블룸 필터 조회와 PK 조회 한 번으로 끝나고 대기열에 들어가지 않는다.
+ * - 대기열: 크기가 고정된 대기열에 기다리지 않고 넣는다. 가득 차면 503으로 거절해 PG가 나중에 다시 보내게 하므로,
+ *           처리가 밀려도 수신 스레드는 막히지 않는다.
+ * - 저장: 처리 스레드가 대기열에서 배치로 꺼내 INSERT IGNORE로 저장한다. 아직 저장되지 않은 통지의 재전송이
+ *         함께 들어와도 PK가 한 번만 저장되게 한다. 저장이 실패하면 같은 배치를 간격을 늘려 가며 다시 시도한다.
+ *
+ * 접수 응답 뒤 저장 전에 노드가 죽으면 대기열의 통지는 사라진다. (PG 조회/대사로 보완)
+ * 종료 시에는 대기열을 비울 때까지 처리한다.
+ *
+ * 지표:
+ * - payment.pg.webhook.received{outcome=..} : 접수 결과별 통지 수
+ * - payment.pg.webhook.stored               : 새로 저장한 통지 수
+ * - payment.pg.webhook.queue                : 처리 대기 통지 수
+ * - payment.pg.webhook.batch                : 배치 저장 소요 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "fintech.payment.webhook", name = "enabled", havingValue = "true")
+public class PgWebhookIngestionService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(PgWebhookIngestionService.class);
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 10_000;
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PgWebhookEventPort pgWebhookEventPort;
+    private final PgWebhookProperties properties;
+    private final RotatingBloomFilter seen;
+    private final BlockingQueue<PgWebhookEvent> queue;
+    private final Map<PgWebhookOutcome, Counter> receivedCounters = new EnumMap<>(PgWebhookOutcome.class);
+    private final Counter storedCounter;
+    private final Timer batchTimer;
+
+    private ExecutorService workers;
+    private ScheduledExecutorService rotator;
+    private volatile boolean running;
+
+    public PgWebhookIngestionService(PgWebhookEventPort pgWebhookEventPort, PgWebhookProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.pgWebhookEventPort = pgWebhookEventPort;
+        this.properties = properties;
+        this.seen = new RotatingBloomFilter(properties.getBloomGenerations(),
+                properties.getBloomExpectedInsertions(), properties.getBloomFalsePositiveRate());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        for (PgWebhookOutcome outcome : PgWebhookOutcome.values()) {
+            receivedCounters.put(outcome, Counter.builder("payment.pg.webhook.received")
+                    .description("접수 결과별 PG 결과 통지 수")
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.storedCounter = Counter.builder("payment.pg.webhook.stored")
+                .description("새로 저장한 PG 결과 통지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("payment.pg.webhook.batch")
+                .description("PG 결과 통지 배치 저장 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("payment.pg.webhook.queue", queue, BlockingQueue::size)
+                .description("처리 대기 PG 결과 통지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 통지 접수 (서명 검증을 마친 통지, 기다리지 않는다)
+     */
+    public PgWebhookOutcome accept(PgWebhookEvent event) {
+        String key = key(event.provider(), event.pgTransactionId());
+        PgWebhookOutcome outcome;
+        if (seen.mightContain(key) && isStored(event)) {
+            outcome = PgWebhookOutcome.DUPLICATE;
+        } else if (queue.offer(event)) {
+            // 거절한 통지는 다시 받아야 하므로 대기열에 넣은 뒤에 기록한다
+            seen.put(key);
+            outcome = PgWebhookOutcome.ACCEPTED;
+        } else {
+            outcome = PgWebhookOutcome.QUEUE_FULL;
+        }
+        receivedCounters.get(outcome).increment();
+        return outcome;
+    }
+
+    /**
+     * 정확 저장소 확인 - 조회에 실패하면 새 통지로 보고 대기열에 넣는다. (저장 시 INSERT IGNORE로 다시 걸러진다)
+     */
+    private boolean isStored(PgWebhookEvent event) {
+        try {
+            return pgWebhookEventPort.exists(event.provider(), event.pgTransactionId());
+        } catch (DataAccessException e) {
+            log.debug("PG 결과 통지 중복 조회 실패 - PG: {}, PG 거래 ID: {}, 오류: {}",
+                    event.provider(), event.pgTransactionId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String key(String provider, String pgTransactionId) {
+        return provider + ':' + pgTransactionId;
+    }
+
+    // ============== 처리 스레드 ==============
+
+    private void runWorker() {
+        List<PgWebhookEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                if (fill(batch)) {
+                    store(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 채우기 - 첫 통지를 받은 뒤 batchMaxWait까지 batchSize만큼 모은다.
+     * @return 통지를 하나 이상 받았으면 true
+     */
+    private boolean fill(List<PgWebhookEvent> batch) throws InterruptedException {
+        PgWebhookEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + properties.getBatchMaxWait().toNanos();
+        while (batch.size() < properties.getBatchSize()) {
+            queue.drainTo(batch, properties.getBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                break;
+            }
+            PgWebhookEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    /**
+     * 배치 저장 - 성공할 때까지 재시도한다. (이미 접수 응답을 보낸 통지이므로 버리지 않는다)
+     */
+    private void store(List<PgWebhookEvent> batch) throws InterruptedException {
+        long backoff = properties.getRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int stored = batchTimer.record(() -> pgWebhookEventPort.insertIfAbsent(batch));
+                storedCounter.increment(stored);
+                log.debug("PG 결과 통지 저장 - 배치: {}건, 새 통지: {}건, 대기: {}건", batch.size(), stored, queue.size());
+                return;
+            } catch (DataAccessException e) {
+                log.warn("PG 결과 통지 저장 실패 - 배치: {}건, 시도: {}, 오류: {}", batch.size(), attempt, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 최근 통지로 블룸 필터 채우기 (재기동 직후 재전송도 대기열 없이 걸러지도록)
+     */
+    private void warmUp() {
+        Instant since = Instant.now().minus(
+                properties.getBloomRotationInterval().multipliedBy(properties.getBloomGenerations()));
+        AtomicInteger loaded = new AtomicInteger();
+        try {
+            pgWebhookEventPort.streamReceivedSince(since, (provider, pgTransactionId) -> {
+                seen.put(key(provider, pgTransactionId));
+                loaded.incrementAndGet();
+            });
+            log.info("PG 결과 통지 블룸 필터 적재 - 기준: {}, 통지: {}건", since, loaded.get());
+        } catch (DataAccessException e) {
+            // 필터가 비어 있어도 재전송은 저장 시 INSERT IGNORE로 걸러진다
+            log.warn("PG 결과 통지 블룸 필터 적재 실패 - 적재: {}건, 오류: {}", loaded.get(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        if (properties.isWarmUp()) {
+            warmUp();
+        }
+        running = true;
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "pg-webhook-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::runWorker);
+        }
+
+        rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pg-webhook-bloom-rotator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long rotationMillis = properties.getBloomRotationInterval().toMillis();
+        rotator.scheduleAtFixedRate(seen::rotate, rotationMillis, rotationMillis, TimeUnit.MILLISECONDS);
+
+        log.info("PG 결과 통지 수신 시작 - 대기열: {}, 처리 스레드: {}, 블룸 필터: {}MB x {}세대 (교체 주기 {})",
+                properties.getQueueCapacity(), properties.getWorkers(),
+                seen.memoryBytes() / properties.getBloomGenerations() / (1024 * 1024),
+                properties.getBloomGenerations(), properties.getBloomRotationInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (rotator != null) {
+            rotator.shutdownNow();
+        }
+        if (workers != null) {
+            // 처리 스레드는 대기열을 비운 뒤 끝난다
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.error("PG 결과 통지 처리 종료 시간 초과 - 저장하지 못한 통지: {}건", queue.size());
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+        log.info("PG 결과 통지 수신 종료 - 남은 통지: {}건", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 멈춘다.
+     * 요청 수신이 멈춘 뒤에 대기열을 비우므로 종료 중 접수한 통지도 저장된다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,22 @@
+package application.service.webhook;
+
+/**
+ * PG 결과 통지 접수 결과
+ */
+public enum PgWebhookOutcome {
+
+    /**
+     * 처리 대기열에 넣음
+     */
+    ACCEPTED,
+
+    /**
+     * 이미 받은 통지 (대기열에 넣지 않음)
+     */
+    DUPLICATE,
+
+    /**
+     * 처리 대기열이 가득 참 (PG가 다시 보내도록 거절)
+     */
+    QUEUE_FULL
+}
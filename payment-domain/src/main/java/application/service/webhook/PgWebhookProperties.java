@@ -0,0 +1,79 @@
+package application.service.webhook;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PG 결과 통지(웹훅) 수신 설정 (fintech.payment.webhook.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.payment.webhook")
+public class PgWebhookProperties {
+
+    /**
+     * 웹훅 수신 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 처리 대기열 크기 (가득 차면 새 통지는 503으로 거절해 PG가 다시 보내게 한다)
+     */
+    private int queueCapacity = 100_000;
+
+    /**
+     * 처리 스레드 수
+     */
+    private int workers = 2;
+
+    /**
+     * 배치당 최대 통지 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치를 채우기 위해 기다리는 최대 시간
+     */
+    private Duration batchMaxWait = Duration.ofMillis(20);
+
+    /**
+     * 배치 저장 실패 시 재시도 간격 (실패가 이어지면 두 배씩, 최대 10초)
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 서명 시각 허용 오차 (이보다 오래되었거나 앞선 통지는 서명이 맞아도 거절)
+     */
+    private Duration signatureTolerance = Duration.ofMinutes(5);
+
+    /**
+     * 블룸 필터 세대당 예상 통지 수
+     */
+    private int bloomExpectedInsertions = 5_000_000;
+
+    /**
+     * 블룸 필터 오탐률 (오탐은 정확 저장소 조회로 걸러진다)
+     */
+    private double bloomFalsePositiveRate = 0.001;
+
+    /**
+     * 블룸 필터 세대 교체 주기 (세대 수 x 주기 동안의 통지를 기억한다)
+     */
+    private Duration bloomRotationInterval = Duration.ofHours(12);
+
+    /**
+     * 블룸 필터 세대 수
+     */
+    private int bloomGenerations = 2;
+
+    /**
+     * 기동 시 블룸 필터를 정확 저장소의 최근 통지로 채울지 여부
+     */
+    private boolean warmUp = true;
+}
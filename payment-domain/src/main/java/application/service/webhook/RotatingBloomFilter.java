@@ -0,0 +1,125 @@
+package application.service.webhook;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 세대 교체형 블룸 필터 (문자열 키)
+ *
+ * 최근 몇 세대에 넣은 키만 기억한다. 조회는 모든 세대를, 추가는 최신 세대만 본다.
+ * rotate()는 가장 오래된 세대를 버리고 빈 세대를 최신으로 올리므로 메모리는 세대 수 x 세대 크기로 고정된다.
+ * - 없다고 하면 확실히 없다. 있다고 하면 오탐일 수 있으므로 정확 저장소로 확인한다.
+ * - 비트는 CAS로 세우므로 여러 스레드가 잠금 없이 동시에 추가/조회할 수 있다.
+ * - 해시는 키 하나당 64비트 한 번 계산하고 이중 해싱으로 k개 위치를 만든다. (객체 생성 없음)
+ */
+final class RotatingBloomFilter {
+
+    private final int generationCount;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile AtomicLongArray[] generations;
+
+    /**
+     * @param expectedInsertions 세대당 예상 키 수
+     * @param falsePositiveRate  세대당 오탐률
+     */
+    RotatingBloomFilter(int generationCount, int expectedInsertions, double falsePositiveRate) {
+        if (generationCount < 1 || expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정이 올바르지 않습니다.");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.generationCount = generationCount;
+        this.bitCount = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * ln2));
+
+        AtomicLongArray[] initial = new AtomicLongArray[generationCount];
+        for (int i = 0; i < generationCount; i++) {
+            initial[i] = newGeneration();
+        }
+        this.generations = initial;
+    }
+
+    /**
+     * @return 없으면 false (확실), 있으면 true (오탐 가능)
+     */
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (AtomicLongArray generation : generations) {
+            if (contains(generation, hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 최신 세대에 추가
+     */
+    void put(String key) {
+        long hash = hash(key);
+        AtomicLongArray generation = generations[0];
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = generation.get(index);
+            while ((current & mask) == 0L && !generation.compareAndSet(index, current, current | mask)) {
+                current = generation.get(index);
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 세대를 버리고 빈 세대를 최신으로 올린다.
+     */
+    synchronized void rotate() {
+        AtomicLongArray[] current = generations;
+        AtomicLongArray[] rotated = new AtomicLongArray[generationCount];
+        rotated[0] = newGeneration();
+        System.arraycopy(current, 0, rotated, 1, generationCount - 1);
+        generations = rotated;
+    }
+
+    long memoryBytes() {
+        return bitCount / Byte.SIZE * generationCount;
+    }
+
+    private boolean contains(AtomicLongArray generation, long hash) {
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((generation.get((int) (bit >>> 6)) & (1L << bit)) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AtomicLongArray newGeneration() {
+        return new AtomicLongArray((int) (bitCount / Long.SIZE));
+    }
+
+    /**
+     * FNV-1a 64비트 후 비트 섞기
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class InvalidPaymentStateException extends RuntimeException {
+    public InvalidPaymentStateException(String message) {
+        super(message);
+    }
+}
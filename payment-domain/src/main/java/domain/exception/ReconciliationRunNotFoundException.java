@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class ReconciliationRunNotFoundException extends RuntimeException {
+    public ReconciliationRunNotFoundException(String message) {
+        super(message);
+    }
+}
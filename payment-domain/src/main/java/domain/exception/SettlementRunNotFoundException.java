@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class SettlementRunNotFoundException extends RuntimeException {
+    public SettlementRunNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,192 @@
+package domain.model;
+
+import domain.exception.InvalidPaymentStateException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 결제 (승인 → 매입/취소/만료 → 환불)
+ *
+ * 승인 금액만큼 지불 계좌에 보류를 걸어 두고, 매입 시 보류를 실제 출금으로 확정한다.
+ * 매입은 한 번만 가능하며 승인 금액 이하로 부분 매입하면 남은 금액은 해제된다.
+ * 환불은 매입 금액 범위에서 여러 번 나누어 할 수 있다.
+ *
+ * 승인 시점의 이상거래 심사 점수를 함께 남긴다.
+ *
+ * 상태 전이마다 새 인스턴스를 돌려주고 버전을 1 올린다.
+ * 저장소는 이전 버전을 조건으로 갱신하므로 같은 결제에 대한 동시 전이 중 하나만 반영된다.
+ */
+public class Payment {
+    private static final Money ZERO = new Money(BigDecimal.ZERO);
+
+    private final String paymentId;
+    private final String merchantId;
+    private final AccountNumber payerAccountNumber;
+    private final Money authorizedAmount;
+    private final Money capturedAmount;
+    private final Money refundedAmount;
+    private final PaymentStatus status;
+    private final Instant authorizedAt;
+    private final Instant expiresAt;
+    private final Instant capturedAt;
+    private final long version;
+    private final int riskScore;
+
+    public Payment(String paymentId, String merchantId, AccountNumber payerAccountNumber,
+                   Money authorizedAmount, Money capturedAmount, Money refundedAmount, PaymentStatus status,
+                   Instant authorizedAt, Instant expiresAt, Instant capturedAt, long version, int riskScore) {
+        if (paymentId == null || paymentId.isBlank()) {
+            throw new IllegalArgumentException("결제 ID는 필수입니다.");
+        }
+        if (merchantId == null || merchantId.isBlank()) {
+            throw new IllegalArgumentException("가맹점 ID는 필수입니다.");
+        }
+        if (payerAccountNumber == null) {
+            throw new IllegalArgumentException("지불 계좌번호는 필수입니다.");
+        }
+        if (authorizedAmount == null || authorizedAmount.isZero()) {
+            throw new IllegalArgumentException("승인 금액은 0보다 커야 합니다.");
+        }
+        if (status == null || authorizedAt == null || expiresAt == null) {
+            throw new IllegalArgumentException("결제 상태와 승인/만료 시각은 필수입니다.");
+        }
+        this.paymentId = paymentId;
+        this.merchantId = merchantId;
+        this.payerAccountNumber = payerAccountNumber;
+        this.authorizedAmount = authorizedAmount;
+        this.capturedAmount = capturedAmount != null ? capturedAmount : ZERO;
+        this.refundedAmount = refundedAmount != null ? refundedAmount : ZERO;
+        this.status = status;
+        this.authorizedAt = authorizedAt;
+        this.expiresAt = expiresAt;
+        this.capturedAt = capturedAt;
+        this.version = version;
+        this.riskScore = riskScore;
+    }
+
+    /**
+     * 승인된 결제 생성
+     * @param riskScore 승인 시점의 이상거래 심사 점수
+     */
+    public static Payment authorize(String paymentId, String merchantId, AccountNumber payerAccountNumber,
+                                    Money amount, Instant authorizedAt, Instant expiresAt, int riskScore) {
+        return new Payment(paymentId, merchantId, payerAccountNumber, amount, ZERO, ZERO,
+                PaymentStatus.AUTHORIZED, authorizedAt, expiresAt, null, 0L, riskScore);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 매입 (승인 금액 이하, 남은 금액은 해제)
+     * @param amount 매입 금액 (없으면 승인 금액 전체)
+     */
+    public Payment capture(Money amount, Instant now) {
+        requireAuthorized("매입");
+        if (isExpired(now)) {
+            throw new InvalidPaymentStateException("승인이 만료된 결제는 매입할 수 없습니다: " + paymentId);
+        }
+        Money captureAmount = amount != null ? amount : authorizedAmount;
+        if (captureAmount.isZero() || !authorizedAmount.isGreaterThanOrEqual(captureAmount)) {
+            throw new IllegalArgumentException(String.format(
+                    "매입 금액이 올바르지 않습니다. 승인 금액: %s, 매입 요청: %s", authorizedAmount, captureAmount));
+        }
+        return transition(PaymentStatus.CAPTURED, captureAmount, refundedAmount, now);
+    }
+
+    /**
+     * 승인 취소
+     */
+    public Payment voidAuthorization() {
+        requireAuthorized("취소");
+        return transition(PaymentStatus.VOIDED, capturedAmount, refundedAmount, capturedAt);
+    }
+
+    /**
+     * 승인 만료
+     */
+    public Payment expire(Instant now) {
+        requireAuthorized("만료 처리");
+        if (!isExpired(now)) {
+            throw new InvalidPaymentStateException("아직 만료되지 않은 승인입니다: " + paymentId);
+        }
+        return transition(PaymentStatus.EXPIRED, capturedAmount, refundedAmount, capturedAt);
+    }
+
+    /**
+     * 환불 (매입 금액 - 환불 누계 범위에서 여러 번 가능)
+     */
+    public Payment refund(Money amount) {
+        if (!status.isRefundable()) {
+            throw new InvalidPaymentStateException(String.format(
+                    "%s 상태의 결제는 환불할 수 없습니다: %s", status.getDescription(), paymentId));
+        }
+        Money refundable = getRefundableAmount();
+        if (amount == null || amount.isZero() || !refundable.isGreaterThanOrEqual(amount)) {
+            throw new IllegalArgumentException(String.format(
+                    "환불 금액이 환불 가능 금액을 초과합니다. 환불 가능: %s, 환불 요청: %s", refundable, amount));
+        }
+        Money newRefunded = refundedAmount.add(amount);
+        PaymentStatus next = newRefunded.equals(capturedAmount) ? PaymentStatus.REFUNDED : PaymentStatus.PARTIALLY_REFUNDED;
+        return transition(next, capturedAmount, newRefunded, capturedAt);
+    }
+
+    /**
+     * 같은 상태를 다른 버전으로 다시 쓰기 위한 사본 (후속 처리 실패 시 이전 상태로 되돌릴 때 사용)
+     */
+    public Payment withVersion(long newVersion) {
+        return new Payment(paymentId, merchantId, payerAccountNumber, authorizedAmount, capturedAmount,
+                refundedAmount, status, authorizedAt, expiresAt, capturedAt, newVersion, riskScore);
+    }
+
+    private void requireAuthorized(String action) {
+        if (status != PaymentStatus.AUTHORIZED) {
+            throw new InvalidPaymentStateException(String.format(
+                    "%s 상태의 결제는 %s할 수 없습니다: %s", status.getDescription(), action, paymentId));
+        }
+    }
+
+    private Payment transition(PaymentStatus next, Money captured, Money refunded, Instant newCapturedAt) {
+        return new Payment(paymentId, merchantId, payerAccountNumber, authorizedAmount, captured, refunded,
+                next, authorizedAt, expiresAt, newCapturedAt, version + 1, riskScore);
+    }
+
+    public Money getRefundableAmount() {
+        return capturedAmount.subtract(refundedAmount);
+    }
+
+    public String getPaymentId() { return paymentId; }
+    public String getMerchantId() { return merchantId; }
+    public AccountNumber getPayerAccountNumber() { return payerAccountNumber; }
+    public Money getAuthorizedAmount() { return authorizedAmount; }
+    public Money getCapturedAmount() { return capturedAmount; }
+    public Money getRefundedAmount() { return refundedAmount; }
+    public PaymentStatus getStatus() { return status; }
+    public Instant getAuthorizedAt() { return authorizedAt; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Instant getCapturedAt() { return capturedAt; }
+    public long getVersion() { return version; }
+    public int getRiskScore() { return riskScore; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Payment payment = (Payment) o;
+        return Objects.equals(paymentId, payment.paymentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(paymentId);
+    }
+
+    @Override
+    public String toString() {
+        return "Payment{" + paymentId + ", " + status + ", authorized=" + authorizedAmount
+                + ", captured=" + capturedAmount + ", refunded=" + refundedAmount + ", v" + version + "}";
+    }
+}
@@ -0,0 +1,29 @@
+package domain.model;
+
+/**
+ * 결제 상태
+ *
+ * AUTHORIZED 에서만 매입/취소/만료로 넘어갈 수 있고, 환불은 매입 이후에만 가능하다.
+ */
+public enum PaymentStatus {
+    AUTHORIZED("승인"),
+    CAPTURED("매입"),
+    PARTIALLY_REFUNDED("부분환불"),
+    REFUNDED("환불"),
+    VOIDED("승인취소"),
+    EXPIRED("승인만료");
+
+    private final String description;
+
+    PaymentStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isRefundable() {
+        return this == CAPTURED || this == PARTIALLY_REFUNDED;
+    }
+}
@@ -0,0 +1,12 @@
+package domain.model;
+
+/**
+ * 대사 불일치 한 건 (결제 ID 단위)
+ * 금액은 최소 화폐 단위(1/100)로 보관하고, 한쪽에 없으면 그쪽 금액은 0이다.
+ *
+ * @param internalMinor 내부 원장 매입 금액
+ * @param pgMinor       PG 정산 파일 금액 합계 (같은 결제 ID의 행은 더한다)
+ */
+public record ReconciliationBreak(String paymentId, ReconciliationBreakType type,
+                                  long internalMinor, long pgMinor) {
+}
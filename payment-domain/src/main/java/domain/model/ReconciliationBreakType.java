@@ -0,0 +1,20 @@
+package domain.model;
+
+/**
+ * 대사 불일치 유형
+ */
+public enum ReconciliationBreakType {
+    MISSING_IN_PG("PG 정산 파일에 없음"),
+    MISSING_INTERNAL("내부 원장에 없음"),
+    AMOUNT_MISMATCH("금액 불일치");
+
+    private final String description;
+
+    ReconciliationBreakType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
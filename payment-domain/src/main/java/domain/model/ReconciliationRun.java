@@ -0,0 +1,43 @@
+package domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 대사 실행 (대사일별 1건)
+ * 다시 실행하면 결과를 지우고 처음부터 다시 대사한다.
+ */
+public class ReconciliationRun {
+    private final LocalDate reconciliationDate;
+    private final ReconciliationRunStatus status;
+    private final ReconciliationSummary summary;
+    private final Instant startedAt;
+    private final Instant completedAt;
+
+    public ReconciliationRun(LocalDate reconciliationDate, ReconciliationRunStatus status,
+                             ReconciliationSummary summary, Instant startedAt, Instant completedAt) {
+        if (reconciliationDate == null || status == null) {
+            throw new IllegalArgumentException("대사일과 대사 상태는 필수입니다.");
+        }
+        this.reconciliationDate = reconciliationDate;
+        this.status = status;
+        this.summary = summary != null ? summary : ReconciliationSummary.EMPTY;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return status == ReconciliationRunStatus.COMPLETED;
+    }
+
+    public LocalDate getReconciliationDate() { return reconciliationDate; }
+    public ReconciliationRunStatus getStatus() { return status; }
+    public ReconciliationSummary getSummary() { return summary; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getCompletedAt() { return completedAt; }
+
+    @Override
+    public String toString() {
+        return "ReconciliationRun{" + reconciliationDate + ", " + status + ", " + summary + "}";
+    }
+}
@@ -0,0 +1,20 @@
+package domain.model;
+
+/**
+ * 대사 실행 상태
+ */
+public enum ReconciliationRunStatus {
+    RUNNING("진행중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    ReconciliationRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,28 @@
+package domain.model;
+
+/**
+ * 대사 결과 건수 (결제 ID 단위)
+ *
+ * @param pgRows          읽은 PG 정산 파일 행 수
+ * @param internalRows    읽은 내부 원장 결제 수
+ * @param matched         양쪽 금액이 같은 결제 수
+ * @param missingInPg     내부 원장에만 있는 결제 수
+ * @param missingInternal PG 정산 파일에만 있는 결제 수
+ * @param amountMismatch  양쪽에 있지만 금액이 다른 결제 수
+ */
+public record ReconciliationSummary(long pgRows, long internalRows, long matched,
+                                    long missingInPg, long missingInternal, long amountMismatch) {
+
+    public static final ReconciliationSummary EMPTY = new ReconciliationSummary(0, 0, 0, 0, 0, 0);
+
+    public ReconciliationSummary plus(ReconciliationSummary other) {
+        return new ReconciliationSummary(
+                pgRows + other.pgRows, internalRows + other.internalRows, matched + other.matched,
+                missingInPg + other.missingInPg, missingInternal + other.missingInternal,
+                amountMismatch + other.amountMismatch);
+    }
+
+    public long breaks() {
+        return missingInPg + missingInternal + amountMismatch;
+    }
+}
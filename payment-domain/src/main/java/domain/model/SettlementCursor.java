@@ -0,0 +1,10 @@
+package domain.model;
+
+import java.time.Instant;
+
+/**
+ * 정산 체크포인트 (매입 시각, 결제 ID 순으로 마지막으로 반영한 결제)
+ * 중단된 정산은 이 위치 다음 결제부터 이어서 읽는다.
+ */
+public record SettlementCursor(Instant capturedAt, String paymentId) {
+}
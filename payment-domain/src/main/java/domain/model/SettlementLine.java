@@ -0,0 +1,21 @@
+package domain.model;
+
+/**
+ * 정산 집계 한 줄 (정산일 + 가맹점 + 통화 단위)
+ * 금액은 최소 화폐 단위(1/100)로 보관한다.
+ *
+ * @param paymentCount  매입 건수
+ * @param grossMinor    매입 합계
+ * @param refundedMinor 환불 합계
+ * @param feeMinor      수수료 합계 (결제별 매입 금액 x 수수료율, 결제마다 반올림)
+ */
+public record SettlementLine(String merchantId, String currency, String feeTier,
+                             long paymentCount, long grossMinor, long refundedMinor, long feeMinor) {
+
+    /**
+     * 지급액 = 매입 합계 - 환불 합계 - 수수료 합계 (음수면 가맹점에서 회수)
+     */
+    public long netMinor() {
+        return grossMinor - refundedMinor - feeMinor;
+    }
+}
@@ -0,0 +1,47 @@
+package domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 정산 실행 (정산일별 1건)
+ * 구간 단위로 집계를 반영할 때마다 체크포인트와 처리 건수를 함께 갱신한다.
+ */
+public class SettlementRun {
+    private final LocalDate settlementDate;
+    private final SettlementRunStatus status;
+    private final SettlementCursor checkpoint;
+    private final long processedCount;
+    private final Instant startedAt;
+    private final Instant completedAt;
+
+    public SettlementRun(LocalDate settlementDate, SettlementRunStatus status, SettlementCursor checkpoint,
+                         long processedCount, Instant startedAt, Instant completedAt) {
+        if (settlementDate == null || status == null) {
+            throw new IllegalArgumentException("정산일과 정산 상태는 필수입니다.");
+        }
+        this.settlementDate = settlementDate;
+        this.status = status;
+        this.checkpoint = checkpoint;
+        this.processedCount = processedCount;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return status == SettlementRunStatus.COMPLETED;
+    }
+
+    public LocalDate getSettlementDate() { return settlementDate; }
+    public SettlementRunStatus getStatus() { return status; }
+    public SettlementCursor getCheckpoint() { return checkpoint; }
+    public long getProcessedCount() { return processedCount; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getCompletedAt() { return completedAt; }
+
+    @Override
+    public String toString() {
+        return "SettlementRun{" + settlementDate + ", " + status + ", processed=" + processedCount
+                + ", checkpoint=" + checkpoint + "}";
+    }
+}
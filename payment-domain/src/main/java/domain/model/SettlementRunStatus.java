@@ -0,0 +1,19 @@
+package domain.model;
+
+/**
+ * 정산 실행 상태
+ */
+public enum SettlementRunStatus {
+    RUNNING("진행중"),
+    COMPLETED("완료");
+
+    private final String description;
+
+    SettlementRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
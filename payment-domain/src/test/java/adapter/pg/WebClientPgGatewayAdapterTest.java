@@ -0,0 +1,242 @@
+package adapter.pg;
+
+import application.service.pg.PgAuthorizeRequest;
+import application.service.pg.PgResult;
+import application.service.pg.PgResultStatus;
+import application.service.pg.PgTimeoutException;
+import application.service.pg.PgUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PG 연동 어댑터 테스트 (지연을 주입하는 모의 PG)
+ *
+ * 모의 PG는 요청 순번마다 응답 지연과 상태 코드를 정할 수 있다.
+ * 조회 지연 분포 비교는 @Tag("benchmark") - 실행: ./gradlew :payment-domain:test -Pbenchmark --tests '*WebClientPgGatewayAdapterTest'
+ */
+class WebClientPgGatewayAdapterTest {
+    private static final String PROVIDER = "mock";
+    private static final String APPROVED = "{\"status\":\"APPROVED\",\"pg_transaction_id\":\"PG_TX_1\",\"amount\":10000}";
+
+    private final MockPg mockPg = new MockPg();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PgGatewayProperties.Provider provider = new PgGatewayProperties.Provider();
+
+    private WebClientPgGatewayAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        mockPg.start();
+        provider.setBaseUrl("http://localhost:" + mockPg.port());
+        provider.setDeadline(Duration.ofMillis(500));
+        provider.setInquiryDeadline(Duration.ofSeconds(2));
+        provider.setHedgeDelay(Duration.ofMillis(100));
+        provider.getCircuitBreaker().setSlidingWindowSize(10);
+        provider.getCircuitBreaker().setMinimumCalls(4);
+        provider.getCircuitBreaker().setOpenDuration(Duration.ofMillis(300));
+        provider.getCircuitBreaker().setHalfOpenCalls(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.destroy();
+        }
+        mockPg.stop();
+    }
+
+    @Test
+    void returnsBeforeSlowPgAnswers() throws Exception {
+        mockPg.latency = n -> Duration.ofMillis(300);
+        adapter = adapter();
+
+        long begin = System.nanoTime();
+        CompletableFuture<PgResult> future = adapter.authorize(authorizeRequest("PAY_1"));
+        long returnedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        assertThat(returnedMillis).isLessThan(100);
+        assertThat(future).isNotDone();
+        assertThat(future.get(5, TimeUnit.SECONDS).status()).isEqualTo(PgResultStatus.APPROVED);
+    }
+
+    @Test
+    void surfacesDeadlineAsTimeout() {
+        mockPg.latency = n -> Duration.ofSeconds(2);
+        adapter = adapter();
+
+        long begin = System.nanoTime();
+        assertThatThrownBy(() -> adapter.authorize(authorizeRequest("PAY_1")).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PgTimeoutException.class);
+
+        // 모의 PG가 응답하기 전에 시한(500ms)으로 끝난다
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin)).isLessThan(1_500);
+        assertThat(meterRegistry.get("pg.client.calls").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesSlowInquiryAndUsesFirstAnswer() throws Exception {
+        // 첫 요청만 느리게 응답한다
+        mockPg.latency = n -> n == 1 ? Duration.ofMillis(1_500) : Duration.ofMillis(10);
+        adapter = adapter();
+
+        long begin = System.nanoTime();
+        PgResult result = adapter.inquire(PROVIDER, "PAY_1").get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        assertThat(result.status()).isEqualTo(PgResultStatus.APPROVED);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(mockPg.requests.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("pg.client.hedged").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void opensCircuitAndRejectsWithoutCallingPg() throws Exception {
+        mockPg.status = 500;
+        adapter = adapter();
+
+        for (int i = 0; i < 4; i++) {
+            int attempt = i;
+            assertThatThrownBy(() -> adapter.authorize(authorizeRequest("PAY_" + attempt)).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class);
+        }
+        int sent = mockPg.requests.get();
+
+        assertThatThrownBy(() -> adapter.authorize(authorizeRequest("PAY_REJECTED")).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(PgUnavailableException.class);
+        assertThat(adapter.inquire(PROVIDER, "PAY_REJECTED").get(5, TimeUnit.SECONDS).status())
+                .isEqualTo(PgResultStatus.UNKNOWN);
+        assertThat(mockPg.requests.get()).isEqualTo(sent);
+        assertThat(meterRegistry.get("pg.client.circuit_state").gauge().value())
+                .isEqualTo(PgCircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    void closesCircuitAfterHalfOpenTrialsSucceed() throws Exception {
+        mockPg.status = 500;
+        adapter = adapter();
+        for (int i = 0; i < 4; i++) {
+            adapter.authorize(authorizeRequest("PAY_" + i)).exceptionally(e -> null).get(5, TimeUnit.SECONDS);
+        }
+
+        mockPg.status = 200;
+        Thread.sleep(400);
+        for (int i = 0; i < 2; i++) {
+            assertThat(adapter.authorize(authorizeRequest("PAY_TRIAL_" + i)).get(5, TimeUnit.SECONDS).isApproved()).isTrue();
+        }
+
+        assertThat(meterRegistry.get("pg.client.circuit_state").gauge().value())
+                .isEqualTo(PgCircuitBreaker.State.CLOSED.ordinal());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void inquiryTailLatencyWithAndWithoutHedging() throws Exception {
+        // 20건 중 1건이 800ms 걸리는 PG (나머지는 20ms)
+        IntFunction<Duration> latency = n -> n % 20 == 0 ? Duration.ofMillis(800) : Duration.ofMillis(20);
+        int calls = 400;
+        int concurrency = 8;
+
+        for (Duration hedgeDelay : new Duration[]{Duration.ZERO, Duration.ofMillis(60)}) {
+            mockPg.requests.set(0);
+            mockPg.latency = latency;
+            provider.setHedgeDelay(hedgeDelay);
+            adapter = adapter();
+
+            long[] latencies = new long[calls];
+            AtomicInteger next = new AtomicInteger();
+            long begin = System.nanoTime();
+            CompletableFuture<?>[] lanes = new CompletableFuture<?>[concurrency];
+            for (int lane = 0; lane < concurrency; lane++) {
+                lanes[lane] = CompletableFuture.runAsync(() -> {
+                    for (int i = next.getAndIncrement(); i < calls; i = next.getAndIncrement()) {
+                        long started = System.nanoTime();
+                        adapter.inquire(PROVIDER, "PAY_" + i).join();
+                        latencies[i] = System.nanoTime() - started;
+                    }
+                });
+            }
+            CompletableFuture.allOf(lanes).get(2, TimeUnit.MINUTES);
+            long elapsed = System.nanoTime() - begin;
+
+            Arrays.sort(latencies);
+            System.out.printf("[조회 %s] %d건, 처리량: %.0f건/s, 지연 p50: %.2fms, p99: %.2fms, PG 요청: %d건%n",
+                    hedgeDelay.isZero() ? "중복 요청 없음" : "중복 요청 " + hedgeDelay.toMillis() + "ms",
+                    calls, calls / (elapsed / 1_000_000_000.0),
+                    latencies[calls / 2] / 1_000_000.0, latencies[calls * 99 / 100] / 1_000_000.0,
+                    mockPg.requests.get());
+
+            adapter.destroy();
+            adapter = null;
+        }
+    }
+
+    private WebClientPgGatewayAdapter adapter() {
+        PgGatewayProperties properties = new PgGatewayProperties();
+        properties.getProviders().put(PROVIDER, provider);
+        return new WebClientPgGatewayAdapter(properties, WebClient.builder(), meterRegistry);
+    }
+
+    private static PgAuthorizeRequest authorizeRequest(String paymentId) {
+        return new PgAuthorizeRequest(PROVIDER, paymentId, "MERCHANT_1", new BigDecimal("10000"), "KRW", "CARD_TOKEN");
+    }
+
+    /**
+     * 모의 PG (요청 순번별 응답 지연, 상태 코드 지정)
+     */
+    private static final class MockPg {
+        final AtomicInteger requests = new AtomicInteger();
+        volatile IntFunction<Duration> latency = n -> Duration.ZERO;
+        volatile int status = 200;
+
+        private DisposableServer server;
+
+        void start() {
+            server = HttpServer.create()
+                    .port(0)
+                    .route(routes -> routes
+                            .post("/payments/authorize", this::respond)
+                            .get("/payments", this::respond))
+                    .bindNow();
+        }
+
+        int port() {
+            return server.port();
+        }
+
+        private Mono<Void> respond(HttpServerRequest request, HttpServerResponse response) {
+            Duration delay = latency.apply(requests.incrementAndGet());
+            int currentStatus = status;
+            return request.receive().then()
+                    .then(Mono.delay(delay))
+                    .then(Mono.defer(() -> currentStatus == 200
+                            ? response.header("Content-Type", "application/json").sendString(Mono.just(APPROVED)).then()
+                            : response.status(currentStatus).send().then()));
+        }
+
+        void stop() {
+            server.disposeNow();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package adapter.web.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가맹점 토큰 검증기 테스트 (모의 JWKS 서버)
+ *
+ * 캐시 적중/미적중 요청당 인증 비용 비교는 @Tag("benchmark") - 실행: ./gradlew :payment-domain:test -Pbenchmark --tests '*MerchantTokenVerifierTest'
+ */
+class MerchantTokenVerifierTest {
+    private static final String ISSUER = "https://auth.fintech.test";
+    private static final String AUDIENCE = "payment-api";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MerchantSecurityProperties properties = new MerchantSecurityProperties();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    private volatile String jwks;
+    private HttpServer jwksServer;
+    private RSAKey signingKey;
+    private SigningKeyProvider signingKeyProvider;
+    private MerchantTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        jwks = new JWKSet(signingKey.toPublicJWK()).toString();
+
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwks.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        jwksServer.start();
+
+        properties.setEnabled(true);
+        properties.setJwkSetUri("http://localhost:" + jwksServer.getAddress().getPort() + "/jwks");
+        properties.setIssuer(ISSUER);
+        properties.setAudience(AUDIENCE);
+        properties.setKeyRefreshMinInterval(Duration.ZERO);
+
+        signingKeyProvider = new SigningKeyProvider(properties, meterRegistry);
+        assertThat(signingKeyProvider.refresh()).isTrue();
+        verifier = new MerchantTokenVerifier(properties, signingKeyProvider, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Test
+    void verifiesTokenOnceAndServesRepeatsFromCache() throws Exception {
+        String token = token(signingKey, "MERCHANT_1", AUDIENCE, Instant.now().plusSeconds(600));
+
+        for (int i = 0; i < 100; i++) {
+            MerchantContext merchant = verifier.verify(token);
+            assertThat(merchant.merchantId()).isEqualTo("MERCHANT_1");
+            assertThat(merchant.authorities()).extracting(Object::toString)
+                    .containsExactly("SCOPE_payment:write", "SCOPE_payment:read");
+        }
+
+        assertThat(meterRegistry.get("payment.auth.verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWrongAudienceExpiredAndUnknownKeys() throws Exception {
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("key-unknown").generate();
+
+        assertThatThrownBy(() -> verifier.verify(token(signingKey, "MERCHANT_1", "other-api", Instant.now().plusSeconds(600))))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(token(signingKey, "MERCHANT_1", AUDIENCE, Instant.now().minusSeconds(120))))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(token(otherKey, "MERCHANT_1", AUDIENCE, Instant.now().plusSeconds(600))))
+                .isInstanceOf(JwtException.class);
+
+        assertThat(meterRegistry.get("payment.auth.rejected").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void picksUpRotatedKeyOnDemand() throws Exception {
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwks = new JWKSet(List.of(signingKey.toPublicJWK(), rotatedKey.toPublicJWK())).toString();
+        int requestsBefore = jwksRequests.get();
+
+        MerchantContext merchant = verifier.verify(token(rotatedKey, "MERCHANT_2", AUDIENCE, Instant.now().plusSeconds(600)));
+
+        assertThat(merchant.merchantId()).isEqualTo("MERCHANT_2");
+        assertThat(jwksRequests.get()).isEqualTo(requestsBefore + 1);
+    }
+
+    @Test
+    void dropsCachedTokensWhenSigningKeyIsRemoved() throws Exception {
+        String token = token(signingKey, "MERCHANT_1", AUDIENCE, Instant.now().plusSeconds(600));
+        verifier.verify(token);
+
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwks = new JWKSet(rotatedKey.toPublicJWK()).toString();
+        assertThat(signingKeyProvider.refresh()).isTrue();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void authenticationOverheadCachedVersusFullVerification() throws Exception {
+        int requests = 20_000;
+        int distinctTokens = 2_000;
+        String[] tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = token(signingKey, "MERCHANT_" + i, AUDIENCE, Instant.now().plusSeconds(3600));
+        }
+
+        // 예열 후 측정: 처음 보는 토큰(서명 검증) / 캐시된 토큰(다이제스트 + 캐시 조회)
+        for (String token : tokens) {
+            verifier.verify(token);
+        }
+        verifier = new MerchantTokenVerifier(properties, signingKeyProvider, new SimpleMeterRegistry());
+
+        long[] cold = new long[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            long started = System.nanoTime();
+            verifier.verify(tokens[i]);
+            cold[i] = System.nanoTime() - started;
+        }
+
+        long[] cached = new long[requests];
+        long begin = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long started = System.nanoTime();
+            verifier.verify(tokens[i % distinctTokens]);
+            cached[i] = System.nanoTime() - started;
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        Arrays.sort(cold);
+        Arrays.sort(cached);
+        System.out.printf("[인증 - 서명 검증] %d건, 지연 p50: %.3fms, p99: %.3fms%n",
+                distinctTokens, cold[distinctTokens / 2] / 1_000_000.0, cold[distinctTokens * 99 / 100] / 1_000_000.0);
+        System.out.printf("[인증 - 캐시] %d건, 처리량: %.0f건/s, 지연 p50: %.3fms, p99: %.3fms%n",
+                requests, requests / (elapsed / 1_000_000_000.0),
+                cached[requests / 2] / 1_000_000.0, cached[requests * 99 / 100] / 1_000_000.0);
+    }
+
+    private static String token(RSAKey key, String merchantId, String audience, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("client-" + merchantId)
+                .audience(audience)
+                .claim("merchant_id", merchantId)
+                .claim("scope", "payment:write payment:read")
+                .issueTime(new Date())
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,88 @@
+package application.service.payment;
+
+import application.port.out.LoadPaymentPort;
+import application.port.out.SavePaymentPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.velocity.VelocityService;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.InvalidPaymentStateException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Payment;
+import domain.model.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 서비스 테스트 - 매입 중 출금 실패 시 상태 되돌리기
+ */
+class PaymentServiceTest {
+    private static final AccountNumber PAYER = new AccountNumber("110000000001");
+    private static final Money AMOUNT = new Money(new BigDecimal("10000"));
+
+    private final LoadPaymentPort loadPaymentPort = mock(LoadPaymentPort.class);
+    private final SavePaymentPort savePaymentPort = mock(SavePaymentPort.class);
+    private final HoldService holdService = mock(HoldService.class);
+    private final PaymentProperties properties = new PaymentProperties();
+    private final AuthorizationIndex authorizationIndex = new AuthorizationIndex(properties, new SimpleMeterRegistry());
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(loadPaymentPort, savePaymentPort, authorizationIndex, holdService,
+                mock(TransactionService.class), mock(VelocityService.class), properties);
+        authorizationIndex.add(Payment.authorize("PAY_1", "MERCHANT_1", PAYER, AMOUNT, Instant.now(),
+                Instant.now().plusSeconds(600), 0));
+        when(savePaymentPort.update(any(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void revertsToAuthorizedWhenDebitIsRejected() {
+        when(holdService.capture(eq(PAYER), eq("PAY_1"), any(), any()))
+                .thenThrow(new InsufficientBalanceException("잔액 부족"));
+
+        assertThatThrownBy(() -> paymentService.capture("PAY_1", null, null))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        verify(savePaymentPort).update(argThat(p -> p.getStatus() == PaymentStatus.AUTHORIZED), eq(1L));
+        assertThat(authorizationIndex.peek("PAY_1")).map(Payment::getStatus).contains(PaymentStatus.AUTHORIZED);
+    }
+
+    @Test
+    void staysCapturedWhenDebitOutcomeIsUnknown() {
+        when(holdService.capture(eq(PAYER), eq("PAY_1"), any(), any()))
+                .thenThrow(new IllegalStateException("락 해제 중 연결 끊김"));
+        when(loadPaymentPort.loadPayment("PAY_1")).thenReturn(Optional.of(
+                Payment.authorize("PAY_1", "MERCHANT_1", PAYER, AMOUNT, Instant.now(),
+                        Instant.now().plusSeconds(600), 0).capture(null, Instant.now())));
+
+        assertThatThrownBy(() -> paymentService.capture("PAY_1", null, null))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 되돌리지 않으므로 다시 매입하거나 취소할 수 없다
+        verify(savePaymentPort, never()).update(argThat(p -> p.getStatus() == PaymentStatus.AUTHORIZED), anyLong());
+        assertThat(authorizationIndex.peek("PAY_1")).isEmpty();
+        assertThatThrownBy(() -> paymentService.capture("PAY_1", null, null))
+                .isInstanceOf(InvalidPaymentStateException.class);
+        assertThatThrownBy(() -> paymentService.voidAuthorization("PAY_1"))
+                .isInstanceOf(InvalidPaymentStateException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package application.service.reconciliation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PG 정산 파일 스캐너 테스트 - 따옴표/CRLF/빈 줄/마지막 줄바꿈 없음, 청크 경계
+ */
+class PgSettlementFileScannerTest {
+    private static final String CONTENT = "payment_id,amount,merchant\r\n"
+            + "\"PAY_1\",1000,M1\r\n"
+            + " PAY_2 , 25.5 ,M2\r\n"
+            + "\r\n"
+            + "\"PAY_3\",\"-300.05\",M3\n"
+            + "PAY_4,12.,M4";
+    private static final List<String> EXPECTED = List.of("PAY_1=100000", "PAY_2=2550", "PAY_3=-30005", "PAY_4=1200");
+
+    @TempDir
+    Path directory;
+
+    private final PgSettlementFileScanner scanner = new PgSettlementFileScanner(new ReconciliationProperties());
+
+    @Test
+    void readsSameRowsForEveryChunkSize() throws IOException {
+        Path file = write("settlement.csv", CONTENT);
+        byte[] bytes = Files.readAllBytes(file);
+
+        for (int chunkSize = 1; chunkSize <= bytes.length + 1; chunkSize++) {
+            List<PgSettlementFileScanner.Chunk> chunks = PgSettlementFileScanner.split(file, chunkSize, true);
+            List<String> rows = new ArrayList<>();
+            long counted = 0;
+            long expectedStart = chunks.get(0).start();
+            for (PgSettlementFileScanner.Chunk chunk : chunks) {
+                // 청크는 빈틈없이 이어지고 줄 시작에서 시작한다
+                assertThat(chunk.start()).isEqualTo(expectedStart);
+                assertThat(bytes[(int) chunk.start() - 1]).isEqualTo((byte) '\n');
+                expectedStart = chunk.end();
+                counted += scanner.scan(chunk, (buffer, keyOffset, keyLength, amountMinor) ->
+                        rows.add(key(buffer, keyOffset, keyLength) + "=" + amountMinor));
+            }
+            assertThat(expectedStart).isEqualTo(bytes.length);
+            assertThat(rows).as("청크 크기 %d", chunkSize).isEqualTo(EXPECTED);
+            assertThat(counted).isEqualTo(EXPECTED.size());
+        }
+    }
+
+    @Test
+    void headerOnlyFileHasNoChunks() throws IOException {
+        assertThat(PgSettlementFileScanner.split(write("empty.csv", "payment_id,amount\r\n"), 16, true)).isEmpty();
+        assertThat(PgSettlementFileScanner.split(write("no-newline.csv", "payment_id,amount"), 16, true)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedRowsWithPosition() throws IOException {
+        Path missingField = write("missing.csv", "payment_id,amount\nPAY_1,100\nPAY_2\n");
+        PgSettlementFileScanner.Chunk chunk = PgSettlementFileScanner.split(missingField, 1024, true).get(0);
+        assertThatThrownBy(() -> scanner.scan(chunk, (buffer, keyOffset, keyLength, amountMinor) -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("위치: 28")
+                .hasMessageContaining("필드가 모자랍니다");
+
+        Path tooPrecise = write("precise.csv", "PAY_1,1.234\n");
+        PgSettlementFileScanner.Chunk preciseChunk = PgSettlementFileScanner.split(tooPrecise, 1024, false).get(0);
+        assertThatThrownBy(() -> scanner.scan(preciseChunk, (buffer, keyOffset, keyLength, amountMinor) -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("금액 형식이 잘못되었습니다");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String key(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
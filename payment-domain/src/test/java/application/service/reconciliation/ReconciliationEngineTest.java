@@ -0,0 +1,107 @@
+package application.service.reconciliation;
+
+import application.port.out.LoadSettlementSourcePort;
+import application.port.out.ReconciliationRunPort;
+import domain.model.ReconciliationBreak;
+import domain.model.ReconciliationBreakType;
+import domain.model.ReconciliationRun;
+import domain.model.ReconciliationRunStatus;
+import domain.model.ReconciliationSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PG 정산 대사 엔진 테스트 - 작은 파일로 분할 해시 조인 결과 건수 확인
+ */
+class ReconciliationEngineTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+
+    @TempDir
+    Path directory;
+
+    private final LoadSettlementSourcePort loadSettlementSourcePort = mock(LoadSettlementSourcePort.class);
+    private final ReconciliationRunPort reconciliationRunPort = mock(ReconciliationRunPort.class);
+    private final List<ReconciliationBreak> savedBreaks = Collections.synchronizedList(new ArrayList<>());
+
+    private ReconciliationEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path inbox = Files.createDirectories(directory.resolve("inbox").resolve(DATE.toString()));
+        // 같은 결제 ID가 두 파일/두 행에 나뉘어 있으면 더한다
+        Files.write(inbox.resolve("a.csv"), ("payment_id,amount\r\n"
+                + "PAY_1,100.00\r\n"
+                + "\"PAY_2\",20\r\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(inbox.resolve("b.csv"), ("payment_id,amount\n"
+                + "PAY_2,30.00\n"
+                + "PAY_3,70.01\n"
+                + "PAY_5,5\n"
+                + "PAY_5,5").getBytes(StandardCharsets.UTF_8));
+
+        doAnswer(invocation -> {
+            LoadSettlementSourcePort.CapturedPaymentHandler handler = invocation.getArgument(3);
+            Instant capturedAt = Instant.parse("2024-05-01T03:00:00Z");
+            handler.onPayment("PAY_1", "MERCHANT_1", "KRW", 10_000, 0, capturedAt);
+            handler.onPayment("PAY_2", "MERCHANT_1", "KRW", 5_000, 0, capturedAt);
+            handler.onPayment("PAY_3", "MERCHANT_2", "KRW", 7_000, 0, capturedAt);
+            handler.onPayment("PAY_4", "MERCHANT_2", "KRW", 1_000, 0, capturedAt);
+            return null;
+        }).when(loadSettlementSourcePort).streamCapturedPayments(any(), any(), any(), any());
+        doAnswer(invocation -> savedBreaks.addAll(invocation.getArgument(1)))
+                .when(reconciliationRunPort).saveBreaks(eq(DATE), any());
+        when(reconciliationRunPort.loadRun(DATE)).thenReturn(Optional.of(
+                new ReconciliationRun(DATE, ReconciliationRunStatus.COMPLETED, null, null, null)));
+
+        ReconciliationProperties properties = new ReconciliationProperties();
+        properties.setInboxDirectory(directory.resolve("inbox").toString());
+        properties.setWorkDirectory(directory.toString());
+        properties.setPartitions(4);
+        properties.setParallelism(2);
+        // 행마다 청크가 나뉘도록 작게 잡는다
+        properties.setMapChunkSize(8);
+        engine = new ReconciliationEngine(loadSettlementSourcePort, reconciliationRunPort, properties,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+    }
+
+    @Test
+    void countsMatchedMissingAndMismatchedPayments() throws IOException {
+        engine.run(DATE);
+
+        verify(reconciliationRunPort).completeRun(DATE, new ReconciliationSummary(6, 4, 2, 1, 1, 1));
+        assertThat(savedBreaks).containsExactlyInAnyOrder(
+                new ReconciliationBreak("PAY_3", ReconciliationBreakType.AMOUNT_MISMATCH, 7_000, 7_001),
+                new ReconciliationBreak("PAY_4", ReconciliationBreakType.MISSING_IN_PG, 1_000, 0),
+                new ReconciliationBreak("PAY_5", ReconciliationBreakType.MISSING_INTERNAL, 0, 1_000));
+        // 작업 디렉터리의 분할 파일은 정리된다
+        try (var remaining = Files.list(directory)) {
+            assertThat(remaining).containsExactly(directory.resolve("inbox"));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package application.service.reconciliation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대사 해시 테이블 테스트 - 해시 충돌과 확장
+ */
+class ReconciliationTableTest {
+
+    @Test
+    void keepsCollidingKeysApartWhileGrowing() {
+        ReconciliationTable table = new ReconciliationTable(1);
+        Map<String, long[]> reference = new HashMap<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            String key = "PAY_" + i;
+            // 같은 분할 안의 해시는 일부러 여러 키가 같은 값을 갖게 한다
+            int hash = i % 7;
+            add(table, key, hash, ReconciliationTable.INTERNAL, i);
+            add(reference, key, ReconciliationTable.INTERNAL, i);
+            if (i % 5 != 0) {
+                add(table, key, hash, ReconciliationTable.PG, i);
+                add(reference, key, ReconciliationTable.PG, i);
+            }
+            if (i % 11 == 0) {
+                add(table, key, hash, ReconciliationTable.PG, 1);
+                add(reference, key, ReconciliationTable.PG, 1);
+            }
+        }
+
+        Map<String, long[]> entries = new HashMap<>();
+        table.forEach((entry, sides, internalMinor, pgMinor) ->
+                entries.put(table.key(entry), new long[]{sides, internalMinor, pgMinor}));
+        assertThat(table.size()).isEqualTo(reference.size());
+        assertThat(entries).containsExactlyInAnyOrderEntriesOf(reference);
+    }
+
+    @Test
+    void readsSpillRecords() {
+        ByteBuffer records = ByteBuffer.allocate(256);
+        record(records, "PAY_1", 1000);
+        record(records, "PAY_2", 500);
+        record(records, "PAY_1", 250);
+        records.flip();
+
+        ReconciliationTable table = new ReconciliationTable(16);
+        assertThat(table.addAll(records, ReconciliationTable.PG)).isEqualTo(3);
+
+        Map<String, Long> amounts = new HashMap<>();
+        table.forEach((entry, sides, internalMinor, pgMinor) -> amounts.put(table.key(entry), pgMinor));
+        assertThat(amounts).containsExactlyInAnyOrderEntriesOf(Map.of("PAY_1", 1250L, "PAY_2", 500L));
+    }
+
+    private static void add(ReconciliationTable table, String key, int hash, byte side, long amountMinor) {
+        ByteBuffer source = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+        table.add(hash, source, 0, source.limit(), side, amountMinor);
+    }
+
+    private static void add(Map<String, long[]> reference, String key, byte side, long amountMinor) {
+        long[] entry = reference.computeIfAbsent(key, k -> new long[3]);
+        entry[0] |= side;
+        entry[side == ReconciliationTable.INTERNAL ? 1 : 2] += amountMinor;
+    }
+
+    /**
+     * 분할 파일 레코드 형식: 해시(int) + 길이(short) + 결제 ID + 금액(long)
+     */
+    private static void record(ByteBuffer buffer, String key, long amountMinor) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(ReconciliationSpill.hash(bytes, 0, bytes.length))
+                .putShort((short) bytes.length)
+                .put(bytes)
+                .putLong(amountMinor);
+    }
+}
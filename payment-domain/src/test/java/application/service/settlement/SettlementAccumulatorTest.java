@@ -0,0 +1,88 @@
+package application.service.settlement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 누적기 테스트 - HashMap으로 더한 결과와 비교
+ */
+class SettlementAccumulatorTest {
+
+    @Test
+    void matchesHashMapWhileGrowingFromSmallCapacity() {
+        SplittableRandom random = new SplittableRandom(44);
+        SettlementAccumulator accumulator = new SettlementAccumulator(1);
+        Map<Long, long[]> reference = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = key(random, i);
+            long gross = random.nextLong(1, 1_000_000);
+            long refunded = random.nextInt(4) == 0 ? random.nextLong(gross) : 0;
+            long fee = gross / 100;
+            accumulator.add(key, 1, gross, refunded, fee);
+            add(reference, key, 1, gross, refunded, fee);
+        }
+
+        assertThat(accumulator.size()).isEqualTo(reference.size());
+        assertThat(entries(accumulator)).containsExactlyInAnyOrderEntriesOf(reference);
+    }
+
+    @Test
+    void mergedPartialsMatchSingleAccumulator() {
+        SplittableRandom random = new SplittableRandom(4_400);
+        List<SettlementAccumulator> partials = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            partials.add(new SettlementAccumulator(64));
+        }
+        Map<Long, long[]> reference = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = key(random, i);
+            long gross = random.nextLong(1, 100_000);
+            partials.get(i % partials.size()).add(key, 1, gross, 0, 0);
+            add(reference, key, 1, gross, 0, 0);
+        }
+        SettlementAccumulator merged = partials.get(0);
+        for (int p = 1; p < partials.size(); p++) {
+            merged.merge(partials.get(p));
+        }
+
+        assertThat(merged.size()).isEqualTo(reference.size());
+        assertThat(entries(merged)).containsExactlyInAnyOrderEntriesOf(reference);
+    }
+
+    /**
+     * 가맹점 수천 개 + 같은 하위 비트를 가진 키 + 음수 키 (EMPTY 표시값 제외)
+     */
+    private static long key(SplittableRandom random, int i) {
+        return switch (i % 3) {
+            case 0 -> random.nextLong(5_000);
+            case 1 -> random.nextLong(64) << 32;
+            default -> -random.nextLong(1, 1_000);
+        };
+    }
+
+    private static void add(Map<Long, long[]> reference, long key, long count, long gross, long refunded, long fee) {
+        long[] sums = reference.computeIfAbsent(key, k -> new long[4]);
+        sums[0] += count;
+        sums[1] += gross;
+        sums[2] += refunded;
+        sums[3] += fee;
+    }
+
+    private static Map<Long, long[]> entries(SettlementAccumulator accumulator) {
+        Map<Long, long[]> entries = new HashMap<>();
+        accumulator.forEach((key, count, gross, refunded, fee) -> {
+            long[] previous = entries.put(key, new long[]{count, gross, refunded, fee});
+            assertThat(previous).as("키는 한 번만 나온다: %d", key).isNull();
+        });
+        return entries;
+    }
+}
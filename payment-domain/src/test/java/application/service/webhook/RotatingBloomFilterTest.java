@@ -0,0 +1,117 @@
+package application.service.webhook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세대 교체형 블룸 필터 테스트
+ */
+class RotatingBloomFilterTest {
+    private static final int GENERATIONS = 3;
+    private static final int PER_GENERATION = 10_000;
+
+    @Test
+    void remembersKeysUntilTheirGenerationIsDropped() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(GENERATIONS, PER_GENERATION, 0.01);
+
+        for (int generation = 0; generation < 6; generation++) {
+            for (int i = 0; i < PER_GENERATION; i++) {
+                filter.put(key(generation, i));
+            }
+            // 지금까지 남아 있어야 하는 세대는 거짓 음성이 없다
+            for (int kept = Math.max(0, generation - GENERATIONS + 1); kept <= generation; kept++) {
+                for (int i = 0; i < PER_GENERATION; i++) {
+                    assertThat(filter.mightContain(key(kept, i))).as("세대 %d 키 %d", kept, i).isTrue();
+                }
+            }
+            filter.rotate();
+        }
+
+        // 버린 세대의 키는 오탐률 수준으로만 남는다 (세대 3개 조회이므로 약 3%)
+        int stillReported = 0;
+        for (int i = 0; i < PER_GENERATION; i++) {
+            if (filter.mightContain(key(0, i))) {
+                stillReported++;
+            }
+        }
+        assertThat(stillReported).isLessThan(PER_GENERATION * 6 / 100);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRate() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1, PER_GENERATION, 0.01);
+        for (int i = 0; i < PER_GENERATION; i++) {
+            filter.put(key(0, i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(key(1, i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void concurrentPutsSurviveRotation() throws Exception {
+        RotatingBloomFilter filter = new RotatingBloomFilter(GENERATIONS, PER_GENERATION, 0.01);
+        int threads = 4;
+        int perThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rotations = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        filter.put(key(thread, i));
+                        assertThat(filter.mightContain(key(thread, i))).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            // 추가 도중 보존 세대 수보다 적게 교체하면 추가한 키는 모두 남는다
+            Future<?> rotator = pool.submit(() -> {
+                start.await();
+                for (int r = 0; r < GENERATIONS - 1; r++) {
+                    Thread.sleep(1);
+                    filter.rotate();
+                    rotations.incrementAndGet();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            rotator.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(rotations.get()).isEqualTo(GENERATIONS - 1);
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assertThat(filter.mightContain(key(t, i))).isTrue();
+            }
+        }
+    }
+
+    private static String key(int generation, int i) {
+        return "PG_EVT_" + generation + "_" + i;
+    }
+}
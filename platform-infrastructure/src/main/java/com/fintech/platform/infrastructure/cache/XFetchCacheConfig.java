@@ -0,0 +1,66 @@
+package com.fintech.platform.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.StringUtils;
+
+/**
+ * 조기 갱신 Redis 캐시 설정
+ *
+ * 캐시 관리자를 직접 등록하면 Spring Boot의 캐시 자동 설정이 빠지므로,
+ * 기존 로컬 캐시(spring.cache.*)를 같은 설정으로 다시 만들어 복합 캐시 관리자로 묶는다.
+ * fintech.cache.xfetch.caches에 등록한 이름은 Redis 조기 갱신 캐시로, 나머지는 로컬 캐시로 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.cache.xfetch", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({XFetchCacheProperties.class, CacheProperties.class})
+public class XFetchCacheConfig {
+
+    @Bean
+    public XFetchCacheManager xfetchCacheManager(XFetchCacheProperties properties,
+                                                 StringRedisTemplate redisTemplate,
+                                                 MeterRegistry meterRegistry) {
+        // Spring Redis 캐시 기본값과 같은 JDK 직렬화 (캐시 값은 Serializable이어야 한다)
+        RedisSerializer<Object> serializer = RedisSerializer.java(getClass().getClassLoader());
+        return new XFetchCacheManager(properties, redisTemplate, serializer, meterRegistry);
+    }
+
+    /**
+     * 기존 로컬 캐시 (spring.cache.caffeine.spec, spring.cache.cache-names)
+     * 빈으로 등록해 캐시 지표도 그대로 수집되게 한다.
+     */
+    @Bean
+    public CaffeineCacheManager localCacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            localCacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            localCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return localCacheManager;
+    }
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(XFetchCacheManager xfetchCacheManager, CaffeineCacheManager localCacheManager) {
+        CompositeCacheManager cacheManager = new CompositeCacheManager(xfetchCacheManager, localCacheManager);
+        cacheManager.setFallbackToNoOpCache(false);
+        return cacheManager;
+    }
+}
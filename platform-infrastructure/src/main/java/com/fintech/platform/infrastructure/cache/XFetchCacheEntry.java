@@ -0,0 +1,46 @@
+package com.fintech.platform.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 조기 갱신 캐시 항목 (Redis 저장 형식)
+ * [버전 1바이트][논리적 만료 시각 8바이트][재계산 시간 8바이트][값]
+ *
+ * @param expiresAtMillis  논리적 만료 시각 (epoch millis)
+ * @param recomputeMillis  마지막 재계산에 걸린 시간 (XFetch의 delta)
+ * @param payload          직렬화된 값
+ */
+record XFetchCacheEntry(long expiresAtMillis, long recomputeMillis, byte[] payload) {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 1 + Long.BYTES + Long.BYTES;
+
+    byte[] encode() {
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(FORMAT_VERSION)
+                .putLong(expiresAtMillis)
+                .putLong(recomputeMillis)
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null (다른 형식으로 저장된 값은 없는 값으로 취급)
+     */
+    static XFetchCacheEntry decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        long expiresAtMillis = buffer.getLong();
+        long recomputeMillis = buffer.getLong();
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        return new XFetchCacheEntry(expiresAtMillis, recomputeMillis, payload);
+    }
+
+    boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
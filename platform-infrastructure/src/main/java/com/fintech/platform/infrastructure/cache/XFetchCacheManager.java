@@ -0,0 +1,45 @@
+package com.fintech.platform.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 조기 갱신 Redis 캐시 관리자
+ * 설정(fintech.cache.xfetch.caches)에 등록한 캐시만 만들고, 그 외 이름은 null을 돌려준다.
+ * (복합 캐시 관리자에서 다음 관리자로 넘어가도록)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+public class XFetchCacheManager extends AbstractCacheManager {
+
+    private final XFetchCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final MeterRegistry meterRegistry;
+
+    public XFetchCacheManager(XFetchCacheProperties properties,
+                              StringRedisTemplate redisTemplate,
+                              RedisSerializer<Object> serializer,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        properties.getCaches().forEach((name, spec) ->
+                caches.add(new XFetchRedisCache(name, properties, spec, redisTemplate, serializer, meterRegistry)));
+        return caches;
+    }
+}
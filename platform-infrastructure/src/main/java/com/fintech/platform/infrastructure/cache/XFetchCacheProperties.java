@@ -0,0 +1,78 @@
+package com.fintech.platform.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조기 갱신 Redis 캐시 설정 (fintech.cache.xfetch.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.cache.xfetch")
+public class XFetchCacheProperties {
+
+    /**
+     * 사용 여부 (true면 caches에 등록한 캐시는 Redis 조기 갱신 캐시로, 나머지는 로컬 캐시로 처리)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Redis 키 접두어 (실제 키: {접두어}{캐시 이름}::{키})
+     */
+    private String keyPrefix = "cache:";
+
+    /**
+     * 기본 만료 시간 (논리적 만료, 이 시간이 지나면 값은 오래된 값이 된다)
+     */
+    private Duration defaultTtl = Duration.ofMinutes(1);
+
+    /**
+     * 기본 조기 갱신 계수 (1.0이 기본, 클수록 만료보다 일찍 다시 계산한다)
+     */
+    private double defaultBeta = 1.0;
+
+    /**
+     * 오래된 값 보관 시간 (논리적 만료 후에도 이 시간 동안은 다시 계산하는 동안 오래된 값을 돌려준다)
+     */
+    private Duration staleGrace = Duration.ofSeconds(30);
+
+    /**
+     * 재계산 임대 시간 (한 호출자만 다시 계산하도록 잡는 Redis 키의 만료 시간, 재계산 시간보다 넉넉하게)
+     */
+    private Duration leaseTime = Duration.ofSeconds(5);
+
+    /**
+     * 값이 아예 없을 때 다른 호출자의 재계산을 기다리는 최대 시간 (지나면 직접 계산)
+     */
+    private Duration missWait = Duration.ofMillis(200);
+
+    /**
+     * 재계산 시간을 측정할 수 없을 때(@Cacheable(sync = false) 경로에서 임대 없이 저장) 사용할 값
+     */
+    private Duration defaultRecomputeTime = Duration.ofMillis(50);
+
+    /**
+     * null 값 캐시 여부
+     */
+    private boolean cacheNullValues = true;
+
+    /**
+     * 캐시별 설정 (여기 등록한 캐시만 Redis 조기 갱신 캐시로 만든다)
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration ttl;
+        private Double beta;
+    }
+}
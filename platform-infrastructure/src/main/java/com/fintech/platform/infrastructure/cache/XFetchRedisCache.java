@@ -0,0 +1,375 @@
+package com.fintech.platform.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 확률적 조기 갱신(XFetch) Redis 캐시
+ *
+ * 고정 TTL 캐시는 인기 키가 만료되는 순간 모든 노드가 동시에 값을 다시 계산한다 (캐시 스탬피드).
+ * 이 캐시는 다음 두 가지로 재계산을 한 호출자에게 모은다.
+ *
+ * - 확률적 조기 갱신: 조회할 때마다 now - delta * beta * ln(rand) >= 만료 시각이면 만료 전에 다시 계산한다.
+ *   delta는 마지막 재계산에 걸린 시간으로, 오래 걸리는 값일수록, 만료가 가까울수록 일찍 갱신될 확률이 높다.
+ *   조회가 많은 키일수록 만료 전에 한 호출자가 먼저 갱신하게 된다.
+ * - 재계산 임대: 다시 계산하려는 호출자는 Redis에 임대 키(SET NX PX)를 잡아야 한다.
+ *   임대를 잡지 못한 호출자는 다시 계산하지 않고, 논리적 만료가 지났더라도 staleGrace 동안은 오래된 값을 돌려준다.
+ *   값이 아예 없으면 missWait 동안 임대 보유자의 결과를 기다린 뒤, 그래도 없으면 직접 계산한다.
+ *
+ * Spring 캐시 추상화에서의 동작
+ * - @Cacheable(sync = true): get(key, valueLoader)로 재계산과 재계산 시간 측정까지 이 캐시가 처리한다.
+ * - @Cacheable(sync = false): 다시 계산해야 하는 호출자 한 명에게만 캐시 미스(null)를 돌려주고,
+ *   이어지는 put()에서 재계산 시간을 측정해 저장한 뒤 임대를 해제한다.
+ *
+ * 지표 (cache 태그: 캐시 이름)
+ * - cache.xfetch.early_recompute : 만료 전에 다시 계산한 횟수
+ * - cache.xfetch.stale_served    : 다른 호출자가 다시 계산하는 동안 오래된 값을 돌려준 횟수
+ * - cache.xfetch.lease_contended : 값이 없는데 임대를 잡지 못해 기다린 횟수
+ * - cache.xfetch.recompute       : 재계산 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class XFetchRedisCache extends AbstractValueAdaptingCache {
+    private static final Logger log = LoggerFactory.getLogger(XFetchRedisCache.class);
+
+    private static final String LEASE_SUFFIX = ":lease";
+    private static final long MISS_POLL_MILLIS = 20;
+    private static final int MAX_PENDING_LEASES = 10_000;
+    private static final int CLEAR_BATCH_SIZE = 500;
+
+    // 임대 보유자인 경우에만 해제 (임대가 만료되어 다른 호출자가 잡았을 수 있으므로)
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final String name;
+    private final String keyPrefix;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final long ttlMillis;
+    private final double beta;
+    private final long staleGraceMillis;
+    private final Duration leaseTime;
+    private final long missWaitMillis;
+    private final long defaultRecomputeMillis;
+
+    /**
+     * sync = false 경로에서 lookup()이 잡은 임대 (Redis 키 -> 임대)
+     * put()에서 재계산 시간을 계산하고 임대를 해제한다.
+     */
+    private final Map<String, PendingLease> pendingLeases = new ConcurrentHashMap<>();
+
+    private final Counter earlyRecomputeCounter;
+    private final Counter staleServedCounter;
+    private final Counter leaseContendedCounter;
+    private final Timer recomputeTimer;
+
+    public XFetchRedisCache(String name,
+                            XFetchCacheProperties properties,
+                            XFetchCacheProperties.Spec spec,
+                            StringRedisTemplate redisTemplate,
+                            RedisSerializer<Object> serializer,
+                            MeterRegistry meterRegistry) {
+        super(properties.isCacheNullValues());
+        this.name = name;
+        this.keyPrefix = properties.getKeyPrefix() + name + "::";
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.ttlMillis = (spec != null && spec.getTtl() != null ? spec.getTtl() : properties.getDefaultTtl()).toMillis();
+        this.beta = spec != null && spec.getBeta() != null ? spec.getBeta() : properties.getDefaultBeta();
+        this.staleGraceMillis = properties.getStaleGrace().toMillis();
+        this.leaseTime = properties.getLeaseTime();
+        this.missWaitMillis = properties.getMissWait().toMillis();
+        this.defaultRecomputeMillis = properties.getDefaultRecomputeTime().toMillis();
+
+        this.earlyRecomputeCounter = Counter.builder("cache.xfetch.early_recompute")
+                .description("만료 전에 다시 계산한 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleServedCounter = Counter.builder("cache.xfetch.stale_served")
+                .description("다른 호출자가 다시 계산하는 동안 오래된 값을 돌려준 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.leaseContendedCounter = Counter.builder("cache.xfetch.lease_contended")
+                .description("값이 없는데 재계산 임대를 잡지 못해 기다린 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.recomputeTimer = Timer.builder("cache.xfetch.recompute")
+                .description("캐시 값 재계산 시간")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisTemplate;
+    }
+
+    // ============== 조회 ==============
+
+    /**
+     * sync = false 경로의 조회
+     * 다시 계산해야 하고 임대를 잡은 호출자에게만 null(캐시 미스)을 돌려준다.
+     */
+    @Override
+    protected Object lookup(Object key) {
+        String redisKey = redisKey(key);
+        XFetchCacheEntry entry = read(redisKey);
+        long now = System.currentTimeMillis();
+
+        if (entry != null && !shouldRecompute(entry, now)) {
+            return deserialize(redisKey, entry);
+        }
+
+        String token = tryAcquireLease(redisKey);
+        if (token != null) {
+            if (entry != null) {
+                earlyRecomputeCounter.increment();
+            }
+            rememberLease(redisKey, token);
+            return null;
+        }
+
+        if (entry != null) {
+            return serveStale(redisKey, entry, now);
+        }
+        entry = awaitRebuild(redisKey);
+        return entry != null ? deserialize(redisKey, entry) : null;
+    }
+
+    /**
+     * sync = true 경로의 조회 (재계산까지 이 캐시가 처리)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String redisKey = redisKey(key);
+        XFetchCacheEntry entry = read(redisKey);
+        long now = System.currentTimeMillis();
+
+        if (entry != null && !shouldRecompute(entry, now)) {
+            Object stored = deserialize(redisKey, entry);
+            if (stored != null) {
+                return (T) fromStoreValue(stored);
+            }
+            entry = null;
+        }
+
+        String token = tryAcquireLease(redisKey);
+        if (token == null) {
+            if (entry != null) {
+                Object stale = serveStale(redisKey, entry, now);
+                if (stale != null) {
+                    return (T) fromStoreValue(stale);
+                }
+            } else {
+                XFetchCacheEntry rebuilt = awaitRebuild(redisKey);
+                Object stored = rebuilt != null ? deserialize(redisKey, rebuilt) : null;
+                if (stored != null) {
+                    return (T) fromStoreValue(stored);
+                }
+            }
+            // 임대 보유자가 늦거나 실패하면 직접 계산한다
+        } else if (entry != null) {
+            earlyRecomputeCounter.increment();
+        }
+
+        try {
+            return recompute(redisKey, key, valueLoader);
+        } finally {
+            if (token != null) {
+                releaseLease(redisKey, token);
+            }
+        }
+    }
+
+    private <T> T recompute(String redisKey, Object key, Callable<T> valueLoader) {
+        long started = System.nanoTime();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        recomputeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        write(redisKey, toStoreValue(value), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return value;
+    }
+
+    /**
+     * XFetch 조기 갱신 판단: now - delta * beta * ln(rand) >= expiry
+     */
+    private boolean shouldRecompute(XFetchCacheEntry entry, long now) {
+        if (entry.isExpired(now)) {
+            return true;
+        }
+        // (0, 1] 구간의 난수 (ln(0) 방지)
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = entry.recomputeMillis() * beta * -Math.log(random);
+        return now + gap >= entry.expiresAtMillis();
+    }
+
+    private Object serveStale(String redisKey, XFetchCacheEntry entry, long now) {
+        if (entry.isExpired(now)) {
+            staleServedCounter.increment();
+        }
+        return deserialize(redisKey, entry);
+    }
+
+    private XFetchCacheEntry awaitRebuild(String redisKey) {
+        leaseContendedCounter.increment();
+        long deadline = System.currentTimeMillis() + missWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(MISS_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            XFetchCacheEntry entry = read(redisKey);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // ============== 저장/삭제 ==============
+
+    @Override
+    public void put(Object key, Object value) {
+        String redisKey = redisKey(key);
+        PendingLease lease = pendingLeases.remove(redisKey);
+        long recomputeMillis = lease != null
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lease.acquiredAt())
+                : defaultRecomputeMillis;
+        try {
+            write(redisKey, toStoreValue(value), recomputeMillis);
+        } finally {
+            if (lease != null) {
+                releaseLease(redisKey, lease.token());
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisTemplate.delete(redisKey(key));
+    }
+
+    @Override
+    public void clear() {
+        List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(CLEAR_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= CLEAR_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.delete(batch);
+        }
+    }
+
+    private void write(String redisKey, Object storeValue, long recomputeMillis) {
+        long now = System.currentTimeMillis();
+        byte[] payload = serializer.serialize(storeValue);
+        byte[] encoded = new XFetchCacheEntry(now + ttlMillis, recomputeMillis, payload != null ? payload : new byte[0]).encode();
+        byte[] keyBytes = redisKey.getBytes(StandardCharsets.UTF_8);
+
+        // 논리적 만료 후에도 staleGrace 동안은 오래된 값을 돌려줄 수 있도록 물리적 만료를 늘린다
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(keyBytes, encoded, Expiration.milliseconds(ttlMillis + staleGraceMillis), SetOption.upsert()));
+    }
+
+    private XFetchCacheEntry read(String redisKey) {
+        byte[] keyBytes = redisKey.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(keyBytes));
+        return XFetchCacheEntry.decode(bytes);
+    }
+
+    private Object deserialize(String redisKey, XFetchCacheEntry entry) {
+        try {
+            return serializer.deserialize(entry.payload());
+        } catch (SerializationException e) {
+            // 클래스 구조가 바뀐 값 등 읽을 수 없는 값은 없는 값으로 취급하고 지운다
+            log.warn("캐시 값 역직렬화 실패, 삭제 - 키: {}, 오류: {}", redisKey, e.getMessage());
+            redisTemplate.delete(redisKey);
+            return null;
+        }
+    }
+
+    // ============== 재계산 임대 ==============
+
+    private String tryAcquireLease(String redisKey) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey + LEASE_SUFFIX, token, leaseTime);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void releaseLease(String redisKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(redisKey + LEASE_SUFFIX), token);
+        } catch (RuntimeException e) {
+            // 해제하지 못한 임대는 leaseTime 후 만료된다
+            log.warn("재계산 임대 해제 실패 - 키: {}, 오류: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private void rememberLease(String redisKey, String token) {
+        if (pendingLeases.size() >= MAX_PENDING_LEASES) {
+            // 메서드가 예외로 끝나 put()이 호출되지 않은 임대는 이미 Redis에서 만료되었으므로 정리한다
+            long expiredBefore = System.nanoTime() - leaseTime.toNanos();
+            pendingLeases.values().removeIf(lease -> lease.acquiredAt() < expiredBefore);
+        }
+        pendingLeases.put(redisKey, new PendingLease(token, System.nanoTime()));
+    }
+
+    private String redisKey(Object key) {
+        return keyPrefix + key;
+    }
+
+    private record PendingLease(String token, long acquiredAt) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.fintech.platform.infrastructure.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 이진 이벤트 디코더
+ *
+ * 입력 배열을 복사하지 않고 커서만 옮기며 읽는다. reset()으로 다른 입력에 재사용할 수 있으며,
+ * 스레드 안전하지 않으므로 스레드마다 하나씩 사용한다.
+ *
+ * 호환성 규칙:
+ * - 하위 호환: 이전 버전이 쓴 이벤트는 본문이 일찍 끝난다. hasMore()가 false이면 이후 필드는 기본값을 사용한다.
+ * - 상위 호환: 새 버전이 뒤에 덧붙인 필드는 본문 길이를 기준으로 건너뛴다.
+ */
+public final class BinaryEventReader {
+
+    private byte[] data;
+    private int position;
+    private int bodyEnd;
+    private int schemaVersion;
+    private int eventTag;
+
+    /**
+     * 새 입력으로 헤더를 읽는다.
+     * @param data
+     * @return this
+     */
+    public BinaryEventReader reset(byte[] data) {
+        if (!isBinaryEvent(data)) {
+            throw new IllegalArgumentException("이진 이벤트 형식이 아닙니다.");
+        }
+        this.data = data;
+        this.position = 1;
+        this.bodyEnd = 0;
+        this.schemaVersion = data[position++] & 0xFF;
+        this.eventTag = data[position++] & 0xFF;
+        long bodyLength = readVarLong();
+        if (bodyLength > data.length - position) {
+            throw new IllegalArgumentException(String.format(
+                    "이벤트 본문 길이가 올바르지 않습니다. 선언: %d, 실제: %d", bodyLength, data.length - position));
+        }
+        this.bodyEnd = position + (int) bodyLength;
+        return this;
+    }
+
+    /**
+     * 첫 바이트로 이진 이벤트 여부 판별 (JSON은 '{'로 시작)
+     */
+    public static boolean isBinaryEvent(byte[] data) {
+        return data != null && data.length >= 4 && data[0] == BinaryEventWriter.MAGIC;
+    }
+
+    public int schemaVersion() {
+        return schemaVersion;
+    }
+
+    public int eventTag() {
+        return eventTag;
+    }
+
+    /**
+     * 아직 읽지 않은 필드가 남아 있는지 여부
+     */
+    public boolean hasMore() {
+        return position < bodyEnd;
+    }
+
+    public int readByte() {
+        checkAvailable(1);
+        return data[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            checkAvailable(1);
+            byte b = data[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("varint 형식이 올바르지 않습니다.");
+    }
+
+    public long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public UUID readUuid() {
+        checkAvailable(16);
+        return new UUID(getLong(), getLong());
+    }
+
+    public String readAscii() {
+        int length = readLength();
+        String value = new String(data, position, length, StandardCharsets.US_ASCII);
+        position += length;
+        return value;
+    }
+
+    public String readUtf8() {
+        int length = readLength();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private int readLength() {
+        long length = readVarLong();
+        if (length > bodyEnd - position) {
+            throw new IllegalArgumentException("문자열 길이가 본문 범위를 벗어납니다: " + length);
+        }
+        return (int) length;
+    }
+
+    private long getLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkAvailable(int size) {
+        // 헤더를 읽는 중에는 bodyEnd가 아직 정해지지 않았으므로 배열 끝을 기준으로 한다
+        int limit = bodyEnd > 0 ? bodyEnd : data.length;
+        if (position + size > limit) {
+            throw new IllegalArgumentException("이벤트 본문이 예상보다 짧습니다.");
+        }
+    }
+}
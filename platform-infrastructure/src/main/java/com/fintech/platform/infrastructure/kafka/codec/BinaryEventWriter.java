@@ -0,0 +1,152 @@
+package com.fintech.platform.infrastructure.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 이진 이벤트 인코더
+ *
+ * 하나의 내부 버퍼를 계속 재사용하며, 스레드 안전하지 않으므로 스레드마다 하나씩 사용한다.
+ * 정수는 varint(LEB128), 부호 있는 정수는 zigzag varint로 기록한다.
+ *
+ * 헤더 구조: [magic(1)][스키마 버전(1)][이벤트 태그(1)][본문 길이(varint)][본문]
+ * 본문 길이는 본문을 다 쓴 뒤에 채운다.
+ */
+public final class BinaryEventWriter {
+
+    public static final byte MAGIC = (byte) 0xAE;
+
+    /**
+     * 헤더의 본문 길이 자리 (varint 최대 5바이트)
+     */
+    private static final int LENGTH_RESERVED = 5;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private byte[] buffer;
+    private int position;
+    private int bodyStart;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * 새 이벤트 기록 시작
+     * @param schemaVersion
+     * @param eventTag
+     * @return this
+     */
+    public BinaryEventWriter begin(int schemaVersion, int eventTag) {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            // 큰 이벤트 한 번 때문에 늘어난 버퍼를 계속 들고 있지 않는다
+            buffer = new byte[MAX_RETAINED_CAPACITY];
+        }
+        position = 0;
+        writeByte(MAGIC);
+        writeByte(schemaVersion);
+        writeByte(eventTag);
+        position += LENGTH_RESERVED;
+        bodyStart = position;
+        return this;
+    }
+
+    /**
+     * 본문 길이를 채우고 인코딩 결과를 복사해 반환한다.
+     * @return 인코딩된 이벤트
+     */
+    public byte[] finish() {
+        int bodyLength = position - bodyStart;
+        int lengthSize = varintSize(bodyLength);
+        int headerEnd = 3 + lengthSize;
+
+        byte[] result = new byte[headerEnd + bodyLength];
+        System.arraycopy(buffer, 0, result, 0, 3);
+        int offset = 3;
+        int value = bodyLength;
+        while ((value & ~0x7F) != 0) {
+            result[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        result[offset] = (byte) value;
+        System.arraycopy(buffer, bodyStart, result, headerEnd, bodyLength);
+        return result;
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeZigZagLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEventWriter writeUuid(UUID uuid) {
+        ensureCapacity(16);
+        putLong(uuid.getMostSignificantBits());
+        putLong(uuid.getLeastSignificantBits());
+        return this;
+    }
+
+    /**
+     * ASCII 문자열 (길이 varint + 바이트)
+     */
+    public BinaryEventWriter writeAscii(String value) {
+        int length = value.length();
+        writeVarLong(length);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("ASCII 문자열이 아닙니다: " + value);
+            }
+            buffer[position++] = (byte) c;
+        }
+        return this;
+    }
+
+    /**
+     * UTF-8 문자열 (길이 varint + 바이트)
+     */
+    public BinaryEventWriter writeUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    private void putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
+
+/**
+ * 키 순서 보장 배치 처리기
+ *
+ * 한 배치에는 여러 키의 레코드가 섞여 있을 수 있으며, 같은 키의 레코드는 오프셋 순서대로 들어 있다.
+ * 배치가 끝날 때까지 같은 키의 다음 레코드는 다른 배치로 나가지 않는다.
+ * 예외를 던지면 배치 전체를 재시도한다.
+ */
+@FunctionalInterface
+public interface KeyOrderedBatchHandler<V> {
+
+    void handle(List<ConsumerRecord<String, V>> records) throws Exception;
+}
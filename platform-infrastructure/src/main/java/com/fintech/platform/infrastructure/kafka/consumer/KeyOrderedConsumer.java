@@ -0,0 +1,550 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키 순서 보장 병렬 컨슈머
+ *
+ * 일반 리스너는 파티션당 한 번에 한 레코드만 처리하므로 병렬도가 파티션 수에 묶이고,
+ * 느린 레코드 하나가 같은 파티션의 뒤 레코드를 모두 막는다.
+ * 이 컨슈머는 레코드를 키(계좌번호)별 대기열로 나누어 서로 다른 키는 병렬로, 같은 키는 오프셋 순서대로 처리한다.
+ *
+ * - poll 스레드 하나가 수신, 배치 배분, 완료 처리, 오프셋 커밋을 모두 맡는다. (KafkaConsumer는 단일 스레드 전용)
+ * - 처리 스레드는 배치 처리만 하고 완료 결과를 대기열로 돌려준다.
+ * - 파티션별로 앞에서부터 연속으로 완료된 오프셋까지만 커밋한다. 재시작 시 미완료 레코드부터 다시 받으므로
+ *   처리기는 멱등이어야 한다.
+ * - 처리 대기 레코드가 상한을 넘으면 파티션을 일시 정지해 메모리 사용량을 제한한다.
+ * - 처리 시각(notBefore)이 지정된 레코드는 그 시각까지 해당 파티션만 일시 정지하고 위치를 되돌려 두었다가 다시 받는다.
+ * - 파티션이 회수되면 처리 중인 배치를 기다려 커밋한 뒤, 해당 파티션의 대기 레코드를 버린다. (새 소유자가 다시 받는다)
+ * - 키가 없는 레코드는 파티션 단위로 순서를 보장한다.
+ * - replayOnStart가 지정되면 기동 후 처음 할당받은 파티션을 그 기간 전 위치로 되감는다. (메모리 상태 복원용)
+ *
+ * 지표 (consumer 태그):
+ * - kafka.key_ordered.buffered   : 처리 대기 + 처리 중 레코드 수
+ * - kafka.key_ordered.batch_size : 배치당 레코드 수
+ * - kafka.key_ordered.handle     : 배치 처리 시간
+ * - kafka.key_ordered.failed     : 재시도를 모두 소진한 배치 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class KeyOrderedConsumer<V> implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedConsumer.class);
+
+    private final Map<String, Object> consumerConfig;
+    private final Collection<String> topics;
+    private final Deserializer<V> valueDeserializer;
+    private final KeyOrderedBatchHandler<V> handler;
+    private final KeyOrderedFailureHandler<V> failureHandler;
+    private final KeyOrderedConsumerOptions options;
+
+    // ============== poll 스레드 전용 상태 ==============
+    private final Map<String, ArrayDeque<ConsumerRecord<String, V>>> pendingByKey = new HashMap<>();
+    private final ArrayDeque<String> readyKeys = new ArrayDeque<>();
+    private final Set<String> busyKeys = new HashSet<>();
+    private final Map<TopicPartition, PartitionOffsetTracker> trackers = new HashMap<>();
+    private final Map<TopicPartition, Long> delayedUntil = new HashMap<>();
+    private final Set<TopicPartition> replayed = new HashSet<>();
+    private int inFlightBatches;
+    private boolean paused;
+    private long lastCommitAt;
+    private KafkaConsumer<String, V> consumer;
+
+    private final BlockingQueue<Completion<V>> completions = new LinkedBlockingQueue<>();
+    private final AtomicInteger bufferedRecords = new AtomicInteger();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer handleTimer;
+    private final Counter failedCounter;
+
+    private ExecutorService workers;
+    private Thread pollThread;
+    private volatile boolean running;
+
+    public KeyOrderedConsumer(Map<String, Object> consumerConfig,
+                              Collection<String> topics,
+                              Deserializer<V> valueDeserializer,
+                              KeyOrderedBatchHandler<V> handler,
+                              KeyOrderedFailureHandler<V> failureHandler,
+                              KeyOrderedConsumerOptions options,
+                              MeterRegistry meterRegistry) {
+        this.consumerConfig = Map.copyOf(consumerConfig);
+        this.topics = List.copyOf(topics);
+        this.valueDeserializer = valueDeserializer;
+        this.handler = handler;
+        this.failureHandler = failureHandler;
+        this.options = options;
+
+        Gauge.builder("kafka.key_ordered.buffered", bufferedRecords, AtomicInteger::get)
+                .tag("consumer", options.getName())
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("kafka.key_ordered.batch_size")
+                .tag("consumer", options.getName())
+                .register(meterRegistry);
+        this.handleTimer = Timer.builder("kafka.key_ordered.handle")
+                .tag("consumer", options.getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("kafka.key_ordered.failed")
+                .tag("consumer", options.getName())
+                .register(meterRegistry);
+    }
+
+    // ============== poll 루프 ==============
+
+    private void runLoop() {
+        try (KafkaConsumer<String, V> kafkaConsumer =
+                     new KafkaConsumer<>(consumerConfig, new StringDeserializer(), valueDeserializer)) {
+            this.consumer = kafkaConsumer;
+            kafkaConsumer.subscribe(topics, new RebalanceListener());
+            lastCommitAt = System.nanoTime();
+
+            while (running) {
+                resumeDelayed();
+                poll();
+                drainCompletions();
+                dispatch();
+                applyBackpressure();
+                if (System.nanoTime() - lastCommitAt >= options.getCommitInterval().toNanos()) {
+                    commit(false, trackers.keySet());
+                    lastCommitAt = System.nanoTime();
+                }
+            }
+
+            // 종료: 처리 중인 배치를 기다린 뒤 완료된 지점까지 커밋
+            awaitInFlight();
+            commit(true, trackers.keySet());
+        } catch (RuntimeException e) {
+            log.error("[{}] 컨슈머가 예상치 못한 오류로 종료되었습니다.", options.getName(), e);
+        } finally {
+            running = false;
+            workers.shutdownNow();
+        }
+    }
+
+    private void poll() {
+        try {
+            ConsumerRecords<String, V> records = consumer.poll(options.getPollTimeout());
+            for (ConsumerRecord<String, V> record : records) {
+                accept(record);
+            }
+        } catch (WakeupException e) {
+            // stop()에서 깨운 경우 - 루프 조건에서 종료
+        } catch (RecordDeserializationException e) {
+            // 읽을 수 없는 레코드는 건너뛴다. 추적하지 않은 오프셋이므로 다음 커밋에 함께 지나간다.
+            log.error("[{}] 역직렬화 실패 레코드 건너뜀 - 파티션: {}, 오프셋: {}",
+                    options.getName(), e.topicPartition(), e.offset(), e);
+            failedCounter.increment();
+            consumer.seek(e.topicPartition(), e.offset() + 1);
+        }
+    }
+
+    private void accept(ConsumerRecord<String, V> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        if (delayedUntil.containsKey(partition)) {
+            // 같은 poll 결과에 함께 온 뒤 레코드 - 위치를 되돌려 두었으므로 재개 후 다시 받는다
+            return;
+        }
+        if (options.getNotBefore() != null) {
+            long dueAt = options.getNotBefore().applyAsLong(record.headers());
+            if (dueAt > System.currentTimeMillis()) {
+                delay(partition, record.offset(), dueAt);
+                return;
+            }
+        }
+
+        trackers.computeIfAbsent(partition, tp -> new PartitionOffsetTracker()).received(record.offset());
+
+        String key = keyOf(record);
+        ArrayDeque<ConsumerRecord<String, V>> queue = pendingByKey.computeIfAbsent(key, k -> new ArrayDeque<>());
+        boolean wasEmpty = queue.isEmpty();
+        queue.addLast(record);
+        bufferedRecords.incrementAndGet();
+
+        // 처리 중인 키는 완료 시점에 다시 준비 목록에 오른다
+        if (wasEmpty && !busyKeys.contains(key)) {
+            readyKeys.addLast(key);
+        }
+    }
+
+    private String keyOf(ConsumerRecord<String, V> record) {
+        return record.key() != null ? record.key() : "\u0000" + record.topic() + "-" + record.partition();
+    }
+
+    private void dispatch() {
+        int maxBatchSize = options.getMaxBatchSize();
+        while (inFlightBatches < options.getConcurrency() && !readyKeys.isEmpty()) {
+            List<ConsumerRecord<String, V>> batch = new ArrayList<>(maxBatchSize);
+            Set<String> keys = new HashSet<>();
+
+            while (batch.size() < maxBatchSize && !readyKeys.isEmpty()) {
+                String key = readyKeys.pollFirst();
+                ArrayDeque<ConsumerRecord<String, V>> queue = pendingByKey.get(key);
+                while (!queue.isEmpty() && batch.size() < maxBatchSize) {
+                    batch.add(queue.pollFirst());
+                }
+                if (queue.isEmpty()) {
+                    pendingByKey.remove(key);
+                }
+                busyKeys.add(key);
+                keys.add(key);
+            }
+
+            inFlightBatches++;
+            batchSizeSummary.record(batch.size());
+            workers.execute(() -> process(batch, keys));
+        }
+    }
+
+    private void drainCompletions() {
+        Completion<V> completion;
+        while ((completion = completions.poll()) != null) {
+            complete(completion);
+        }
+    }
+
+    private void complete(Completion<V> completion) {
+        inFlightBatches--;
+        bufferedRecords.addAndGet(-completion.records().size());
+
+        if (completion.processed()) {
+            for (ConsumerRecord<String, V> record : completion.records()) {
+                PartitionOffsetTracker tracker = trackers.get(new TopicPartition(record.topic(), record.partition()));
+                // 이미 회수된 파티션이면 추적기가 없다
+                if (tracker != null) {
+                    tracker.completed(record.offset());
+                }
+            }
+        }
+
+        for (String key : completion.keys()) {
+            busyKeys.remove(key);
+            if (pendingByKey.containsKey(key)) {
+                readyKeys.addLast(key);
+            }
+        }
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + options.getDrainTimeout().toNanos();
+        try {
+            while (inFlightBatches > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    log.warn("[{}] 처리 중인 배치 대기 시간 초과 - 남은 배치: {}", options.getName(), inFlightBatches);
+                    return;
+                }
+                Completion<V> completion = completions.poll(remaining, TimeUnit.NANOSECONDS);
+                if (completion != null) {
+                    complete(completion);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 처리 시각이 되지 않은 레코드의 파티션을 그 레코드 위치로 되돌리고 처리 시각까지 멈춘다.
+     * 처리 스레드에서 기다리지 않으므로 다른 파티션과 다른 키의 처리는 계속된다.
+     */
+    private void delay(TopicPartition partition, long offset, long dueAt) {
+        consumer.seek(partition, offset);
+        consumer.pause(List.of(partition));
+        delayedUntil.put(partition, dueAt);
+    }
+
+    private void resumeDelayed() {
+        if (delayedUntil.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<TopicPartition> due = new ArrayList<>();
+        delayedUntil.entrySet().removeIf(entry -> {
+            if (entry.getValue() <= now) {
+                due.add(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+        // 메모리 상한으로 전체가 멈춘 동안에는 그쪽 재개 시점에 함께 재개한다
+        if (!due.isEmpty() && !paused) {
+            consumer.resume(due);
+        }
+    }
+
+    private void applyBackpressure() {
+        int buffered = bufferedRecords.get();
+        if (buffered >= options.getMaxBufferedRecords()) {
+            // 리밸런싱으로 새로 할당된 파티션도 함께 멈추도록 매번 전체 할당에 적용
+            consumer.pause(consumer.assignment());
+            paused = true;
+        } else if (paused && buffered <= options.getMaxBufferedRecords() / 2) {
+            List<TopicPartition> resumable = new ArrayList<>(consumer.paused());
+            resumable.removeAll(delayedUntil.keySet());
+            consumer.resume(resumable);
+            paused = false;
+        }
+    }
+
+    private void commit(boolean sync, Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            PartitionOffsetTracker tracker = trackers.get(partition);
+            if (tracker != null && tracker.hasNewCommittable()) {
+                offsets.put(partition, new OffsetAndMetadata(tracker.committableOffset()));
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        if (sync) {
+            try {
+                consumer.commitSync(offsets);
+                markCommitted(offsets);
+            } catch (RuntimeException e) {
+                log.warn("[{}] 오프셋 커밋 실패 - 오류: {}", options.getName(), e.getMessage());
+            }
+            return;
+        }
+
+        // 콜백은 poll 스레드에서 실행된다
+        consumer.commitAsync(offsets, (committed, ex) -> {
+            if (ex != null) {
+                log.warn("[{}] 오프셋 비동기 커밋 실패 - 오류: {}", options.getName(), ex.getMessage());
+                return;
+            }
+            markCommitted(committed);
+        });
+    }
+
+    private void markCommitted(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((partition, offset) -> {
+            PartitionOffsetTracker tracker = trackers.get(partition);
+            if (tracker != null) {
+                tracker.markCommitted(offset.offset());
+            }
+        });
+    }
+
+    private void discardPending(Collection<TopicPartition> partitions) {
+        Iterator<Map.Entry<String, ArrayDeque<ConsumerRecord<String, V>>>> iterator = pendingByKey.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ArrayDeque<ConsumerRecord<String, V>>> entry = iterator.next();
+            ArrayDeque<ConsumerRecord<String, V>> queue = entry.getValue();
+            int before = queue.size();
+            queue.removeIf(record -> partitions.contains(new TopicPartition(record.topic(), record.partition())));
+            bufferedRecords.addAndGet(queue.size() - before);
+            if (queue.isEmpty()) {
+                iterator.remove();
+                readyKeys.remove(entry.getKey());
+            }
+        }
+        partitions.forEach(trackers::remove);
+        partitions.forEach(delayedUntil::remove);
+    }
+
+    // ============== 처리 스레드 ==============
+
+    private void process(List<ConsumerRecord<String, V>> batch, Set<String> keys) {
+        boolean processed = false;
+        try {
+            processed = handleWithRetry(batch);
+        } finally {
+            completions.add(new Completion<>(batch, keys, processed));
+        }
+    }
+
+    /**
+     * @return 처리 완료 여부 (종료 중 인터럽트되면 false - 실패로 넘기지 않고 오프셋도 커밋하지 않아 재시작 후 다시 받는다)
+     */
+    private boolean handleWithRetry(List<ConsumerRecord<String, V>> batch) {
+        long backoffMillis = options.getRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            try {
+                handler.handle(batch);
+                handleTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return true;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+                    Thread.currentThread().interrupt();
+                    log.info("[{}] 종료 중 인터럽트, 미처리로 둠 - 건수: {}", options.getName(), batch.size());
+                    return false;
+                }
+                if (attempt >= options.getMaxAttempts()) {
+                    failedCounter.increment();
+                    return handOver(batch, e);
+                }
+                log.warn("[{}] 배치 처리 실패, 재시도 예정 - 시도: {}/{}, 건수: {}, 오류: {}",
+                        options.getName(), attempt, options.getMaxAttempts(), batch.size(), e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    /**
+     * @return 실패 처리기가 넘겨받았으면 true. 실패 처리기마저 실패하면 false로 두어 해당 오프셋에서 커밋을 멈춘다.
+     *         (레코드를 잃지 않고, 재시작이나 리밸런싱 후 다시 받는다)
+     */
+    private boolean handOver(List<ConsumerRecord<String, V>> batch, Exception cause) {
+        try {
+            failureHandler.onFailure(batch, cause);
+            return true;
+        } catch (RuntimeException e) {
+            ConsumerRecord<String, V> first = batch.get(0);
+            log.error("[{}] 실패 처리기 오류, 오프셋 커밋 중단 - 건수: {}, 첫 레코드: {}-{}@{}",
+                    options.getName(), batch.size(), first.topic(), first.partition(), first.offset(), e);
+            return false;
+        }
+    }
+
+    // ============== 생명주기 ==============
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(options.getConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, options.getName() + "-worker-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+
+        pollThread = new Thread(this::runLoop, options.getName() + "-poll");
+        pollThread.start();
+        log.info("[{}] 키 순서 보장 컨슈머 시작 - 토픽: {}, 동시 처리: {}, 최대 배치: {}",
+                options.getName(), topics, options.getConcurrency(), options.getMaxBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        KafkaConsumer<String, V> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        try {
+            pollThread.join(options.getDrainTimeout().plusSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ============== 리밸런싱 ==============
+
+    private class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (partitions.isEmpty()) {
+                return;
+            }
+            // 처리 중인 배치를 마저 끝내고 완료된 지점까지 커밋한 뒤 파티션을 넘긴다
+            awaitInFlight();
+            commit(true, partitions);
+            discardPending(partitions);
+            log.info("[{}] 파티션 회수 - {}", options.getName(), partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            // 이미 다른 소유자에게 넘어갔으므로 커밋하지 않고 버린다
+            discardPending(partitions);
+            log.warn("[{}] 파티션 유실 - {}", options.getName(), partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            log.info("[{}] 파티션 할당 - {}", options.getName(), partitions);
+            if (options.getReplayOnStart() != null) {
+                replay(partitions);
+            }
+        }
+    }
+
+    /**
+     * 처음 할당받은 파티션을 replayOnStart 전 위치로 되감는다
+     * 그 뒤로 레코드가 없는 파티션은 끝으로 옮긴다. (커밋된 위치 이후도 모두 그보다 오래된 레코드다)
+     */
+    private void replay(Collection<TopicPartition> partitions) {
+        long since = System.currentTimeMillis() - options.getReplayOnStart().toMillis();
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            if (replayed.add(partition)) {
+                timestamps.put(partition, since);
+            }
+        }
+        if (timestamps.isEmpty()) {
+            return;
+        }
+
+        List<TopicPartition> noRecent = new ArrayList<>();
+        consumer.offsetsForTimes(timestamps).forEach((partition, offset) -> {
+            if (offset == null) {
+                noRecent.add(partition);
+            } else {
+                consumer.seek(partition, offset.offset());
+            }
+        });
+        consumer.seekToEnd(noRecent);
+        log.info("[{}] 파티션 되감기 - 기준 시각: {}, 파티션: {}", options.getName(), since, timestamps.keySet());
+    }
+
+    private record Completion<V>(List<ConsumerRecord<String, V>> records, Set<String> keys, boolean processed) {
+    }
+}
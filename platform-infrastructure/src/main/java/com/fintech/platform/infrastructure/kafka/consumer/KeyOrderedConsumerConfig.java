@@ -0,0 +1,22 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 키 순서 보장 컨슈머 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+public class KeyOrderedConsumerConfig {
+
+    @Bean
+    public KeyOrderedConsumerFactory keyOrderedConsumerFactory(KafkaProperties kafkaProperties,
+                                                               MeterRegistry meterRegistry) {
+        return new KeyOrderedConsumerFactory(kafkaProperties, meterRegistry);
+    }
+}
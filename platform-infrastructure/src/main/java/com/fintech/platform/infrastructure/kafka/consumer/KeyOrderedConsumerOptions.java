@@ -0,0 +1,92 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.kafka.common.header.Headers;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+/**
+ * 키 순서 보장 컨슈머 옵션
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public class KeyOrderedConsumerOptions {
+
+    /**
+     * 컨슈머 이름 (스레드 이름, 지표 태그, client.id에 사용)
+     */
+    private final String name;
+
+    /**
+     * 커밋된 오프셋이 없을 때 시작 위치 (earliest/latest, 비우면 spring.kafka.consumer 설정을 따른다)
+     */
+    private final String autoOffsetReset;
+
+    /**
+     * 동시에 처리할 배치 수 (처리 스레드 수)
+     * 파티션 수와 무관하게 키 수만큼까지 병렬 처리할 수 있다.
+     */
+    @Builder.Default
+    private final int concurrency = 16;
+
+    /**
+     * 배치당 최대 레코드 수 (1이면 레코드 단위 처리)
+     */
+    @Builder.Default
+    private final int maxBatchSize = 1;
+
+    /**
+     * 처리 대기 + 처리 중 레코드 상한
+     * 넘으면 할당된 파티션을 일시 정지하고, 절반 아래로 내려가면 재개한다.
+     */
+    @Builder.Default
+    private final int maxBufferedRecords = 10_000;
+
+    /**
+     * poll 대기 시간 (완료 처리와 배치 배분도 이 주기로 이루어진다)
+     */
+    @Builder.Default
+    private final Duration pollTimeout = Duration.ofMillis(50);
+
+    /**
+     * 오프셋 커밋 주기
+     */
+    @Builder.Default
+    private final Duration commitInterval = Duration.ofSeconds(1);
+
+    /**
+     * 배치당 최대 시도 횟수 (첫 시도 포함)
+     */
+    @Builder.Default
+    private final int maxAttempts = 3;
+
+    /**
+     * 재시도 간격 (시도마다 두 배로 증가)
+     */
+    @Builder.Default
+    private final Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 리밸런싱/종료 시 처리 중인 배치를 기다리는 최대 시간
+     */
+    @Builder.Default
+    private final Duration drainTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 레코드 헤더에서 처리 가능 시각(epoch 밀리초)을 읽는 함수 (비우면 받는 즉시 처리)
+     * 아직 처리 시각이 되지 않은 레코드를 받으면 해당 파티션을 그 레코드 위치로 되돌리고 처리 시각까지 일시 정지한다.
+     * 처리 스레드는 기다리지 않으므로 리밸런싱/종료 시 배치 대기가 길어지지 않는다.
+     */
+    private final ToLongFunction<Headers> notBefore;
+
+    /**
+     * 기동 후 처음 할당받은 파티션을 이 기간 전 위치부터 다시 읽는다 (비우면 커밋된 오프셋부터 읽는다)
+     * 메모리 상태를 토픽에서 복원하는 처리기용이다. 같은 프로세스 안에서 다시 할당받은 파티션은 되감지 않는다.
+     */
+    private final Duration replayOnStart;
+}
@@ -0,0 +1,16 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
+
+/**
+ * 재시도를 모두 소진한 배치 처리기
+ * 반환하면 해당 레코드는 처리 완료로 보고 오프셋을 커밋한다.
+ * 예외를 던지면 해당 오프셋에서 커밋을 멈추고, 레코드는 재시작이나 리밸런싱 후 다시 전달된다.
+ */
+@FunctionalInterface
+public interface KeyOrderedFailureHandler<V> {
+
+    void onFailure(List<ConsumerRecord<String, V>> records, Exception cause);
+}
@@ -0,0 +1,49 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import java.util.TreeSet;
+
+/**
+ * 파티션별 오프셋 추적기
+ * 완료 순서가 뒤섞여도 앞에서부터 연속으로 완료된 지점까지만 커밋 대상으로 삼는다.
+ * poll 스레드에서만 사용한다.
+ */
+class PartitionOffsetTracker {
+
+    private final TreeSet<Long> incomplete = new TreeSet<>();
+    private long highestSeen = -1;
+    private long lastCommitted = -1;
+
+    void received(long offset) {
+        incomplete.add(offset);
+        highestSeen = Math.max(highestSeen, offset);
+    }
+
+    void completed(long offset) {
+        incomplete.remove(offset);
+    }
+
+    /**
+     * 커밋할 다음 오프셋 (아직 받은 레코드가 없으면 -1)
+     */
+    long committableOffset() {
+        if (highestSeen < 0) {
+            return -1;
+        }
+        return incomplete.isEmpty() ? highestSeen + 1 : incomplete.first();
+    }
+
+    /**
+     * 마지막 커밋 이후 커밋 지점이 앞으로 나아갔는지 여부
+     */
+    boolean hasNewCommittable() {
+        return committableOffset() > lastCommitted;
+    }
+
+    void markCommitted(long offset) {
+        lastCommitted = Math.max(lastCommitted, offset);
+    }
+
+    int incompleteCount() {
+        return incomplete.size();
+    }
+}
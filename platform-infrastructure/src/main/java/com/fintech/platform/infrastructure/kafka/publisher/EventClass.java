@@ -0,0 +1,45 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+/**
+ * 이벤트 분류별 프로듀서 프리셋
+ * 이벤트 성격에 따라 linger/batch/압축 설정을 다르게 가져간다.
+ */
+public enum EventClass {
+
+    /**
+     * 거래 이벤트 - 전체 거래량만큼 발생하므로 배치/압축 효율 우선
+     */
+    TRANSACTION(5, 64 * 1024, "lz4"),
+
+    /**
+     * 계좌 상태 변경 - 건수가 적고 지연에 민감
+     */
+    ACCOUNT_STATE(0, 16 * 1024, "none"),
+
+    /**
+     * 감사/분석용 이벤트 - 지연보다 압축률 우선
+     */
+    AUDIT(50, 256 * 1024, "zstd");
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+
+    EventClass(int lingerMs, int batchSize, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+    }
+
+    public int getLingerMs() {
+        return lingerMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public String getCompressionType() {
+        return compressionType;
+    }
+}
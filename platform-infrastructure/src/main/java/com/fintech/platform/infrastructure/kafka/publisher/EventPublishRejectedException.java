@@ -0,0 +1,10 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+/**
+ * 발행 대기 한도 초과 (배압)
+ */
+public class EventPublishRejectedException extends RuntimeException {
+    public EventPublishRejectedException(String message) {
+        super(message);
+    }
+}
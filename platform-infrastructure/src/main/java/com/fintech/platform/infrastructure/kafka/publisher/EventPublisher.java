@@ -0,0 +1,17 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이벤트 발행기
+ * 발행은 비동기로 처리되며 호출 스레드는 브로커 응답을 기다리지 않는다.
+ */
+public interface EventPublisher {
+
+    /**
+     * @param event
+     * @return 브로커 확인 시 완료되는 Future
+     * @throws EventPublishRejectedException 프로듀서 버퍼가 가득 차 maxBlock 안에 자리를 얻지 못한 경우
+     */
+    CompletableFuture<PublishResult> publish(PublishableEvent event);
+}
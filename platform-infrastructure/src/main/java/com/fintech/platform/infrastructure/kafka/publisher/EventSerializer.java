@@ -0,0 +1,19 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+/**
+ * 이벤트 직렬화기
+ */
+public interface EventSerializer {
+
+    /**
+     * 이 직렬화기가 처리할 이벤트인지 여부
+     */
+    boolean supports(PublishableEvent event);
+
+    byte[] serialize(PublishableEvent event);
+
+    /**
+     * content-type 헤더 값
+     */
+    String contentType();
+}
@@ -0,0 +1,34 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Jackson JSON 직렬화기
+ * 전용 직렬화기가 없는 이벤트에 사용하는 기본값
+ */
+@RequiredArgsConstructor
+public class JsonEventSerializer implements EventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(PublishableEvent event) {
+        return true;
+    }
+
+    @Override
+    public byte[] serialize(PublishableEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 직렬화에 실패했습니다: " + event.eventType(), e);
+        }
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+}
@@ -0,0 +1,180 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 이벤트 발행기
+ *
+ * - 멱등 프로듀서 (enable.idempotence, acks=all): 재시도로 인한 중복/순서 역전 방지
+ * - 계좌번호 키: 같은 계좌의 이벤트는 같은 파티션에 순서대로 기록
+ * - 비동기 발행: send().get()으로 기다리지 않고 콜백으로 결과 처리
+ * - 이벤트 분류별 프로듀서: linger/batch/압축 프리셋을 분류마다 따로 적용
+ * - 배압: 브로커 확인 대기 중인 바이트가 한도를 넘으면 호출자를 maxBlock 만큼 대기시킨 뒤 거절
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class KafkaEventPublisher implements EventPublisher, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(KafkaEventPublisher.class);
+
+    public static final String HEADER_EVENT_TYPE = "event-type";
+    public static final String HEADER_CONTENT_TYPE = "content-type";
+
+    private final Map<EventClass, DefaultKafkaProducerFactory<String, byte[]>> producerFactories = new EnumMap<>(EventClass.class);
+    private final Map<EventClass, KafkaTemplate<String, byte[]>> templates = new EnumMap<>(EventClass.class);
+
+    private final List<EventSerializer> serializers;
+    private final EventSerializer fallbackSerializer;
+
+    private final Semaphore inFlightBytes;
+    private final int maxInFlightBytes;
+    private final long maxBlockNanos;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public KafkaEventPublisher(Map<String, Object> baseProducerConfig,
+                               KafkaPublisherProperties properties,
+                               List<EventSerializer> serializers,
+                               EventSerializer fallbackSerializer,
+                               MeterRegistry meterRegistry) {
+        this.serializers = List.copyOf(serializers);
+        this.fallbackSerializer = fallbackSerializer;
+        this.maxInFlightBytes = properties.getMaxInFlightBytes();
+        this.inFlightBytes = new Semaphore(maxInFlightBytes);
+        this.maxBlockNanos = properties.getMaxBlock().toNanos();
+
+        for (EventClass eventClass : EventClass.values()) {
+            DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(
+                    producerConfig(baseProducerConfig, properties, eventClass));
+            producerFactories.put(eventClass, factory);
+            templates.put(eventClass, new KafkaTemplate<>(factory));
+        }
+
+        this.sentCounter = Counter.builder("kafka.publisher.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("kafka.publisher.failed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kafka.publisher.rejected")
+                .description("배압으로 거절된 발행 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.publisher.in_flight_bytes", inFlightBytes,
+                        semaphore -> maxInFlightBytes - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    private Map<String, Object> producerConfig(Map<String, Object> base, KafkaPublisherProperties properties,
+                                               EventClass eventClass) {
+        KafkaPublisherProperties.Preset override = properties.getPresets().get(eventClass);
+
+        Map<String, Object> config = new HashMap<>(base);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        // 멱등 프로듀서
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        // 분류별 프리셋
+        config.put(ProducerConfig.LINGER_MS_CONFIG,
+                override != null && override.getLingerMs() != null ? override.getLingerMs() : eventClass.getLingerMs());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG,
+                override != null && override.getBatchSize() != null ? override.getBatchSize() : eventClass.getBatchSize());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                override != null && override.getCompressionType() != null ? override.getCompressionType() : eventClass.getCompressionType());
+
+        // 프로듀서 버퍼보다 발행 대기 한도가 먼저 차도록 버퍼를 넉넉히 잡는다
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, Math.max(32L * 1024 * 1024, 2L * maxInFlightBytes));
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.getMaxBlock().toMillis());
+        config.put(ProducerConfig.CLIENT_ID_CONFIG, properties.getClientIdPrefix() + "-" + eventClass.name().toLowerCase());
+        return config;
+    }
+
+    @Override
+    public CompletableFuture<PublishResult> publish(PublishableEvent event) {
+        EventSerializer serializer = serializerFor(event);
+        byte[] payload = serializer.serialize(event);
+
+        int permits = Math.max(1, Math.min(payload.length, maxInFlightBytes));
+        acquire(permits, event);
+
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(event.topic(), event.key(), payload);
+        record.headers().add(HEADER_EVENT_TYPE, event.eventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_CONTENT_TYPE, serializer.contentType().getBytes(StandardCharsets.UTF_8));
+
+        try {
+            return templates.get(event.eventClass()).send(record)
+                    .whenComplete((result, ex) -> {
+                        inFlightBytes.release(permits);
+                        if (ex != null) {
+                            failedCounter.increment();
+                            log.warn("이벤트 발행 실패 - 토픽: {}, 키: {}, 유형: {}, 오류: {}",
+                                    event.topic(), event.key(), event.eventType(), ex.getMessage());
+                        } else {
+                            sentCounter.increment();
+                        }
+                    })
+                    .thenApply(result -> {
+                        RecordMetadata metadata = result.getRecordMetadata();
+                        return new PublishResult(metadata.topic(), metadata.partition(), metadata.offset(), metadata.timestamp());
+                    });
+        } catch (RuntimeException e) {
+            // send 자체가 실패한 경우 (직렬화 오류, max.block.ms 초과 등)
+            inFlightBytes.release(permits);
+            failedCounter.increment();
+            throw e;
+        }
+    }
+
+    private void acquire(int permits, PublishableEvent event) {
+        try {
+            if (!inFlightBytes.tryAcquire(permits, maxBlockNanos, TimeUnit.NANOSECONDS)) {
+                rejectedCounter.increment();
+                throw new EventPublishRejectedException(String.format(
+                        "발행 대기 한도를 초과했습니다. 토픽: %s, 키: %s", event.topic(), event.key()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventPublishRejectedException("발행 대기 중 인터럽트되었습니다. 토픽: " + event.topic());
+        }
+    }
+
+    private EventSerializer serializerFor(PublishableEvent event) {
+        for (EventSerializer serializer : serializers) {
+            if (serializer.supports(event)) {
+                return serializer;
+            }
+        }
+        return fallbackSerializer;
+    }
+
+    @Override
+    public void destroy() {
+        // 종료 시 버퍼에 남은 메시지를 모두 보낸 뒤 닫는다
+        templates.values().forEach(KafkaTemplate::flush);
+        producerFactories.values().forEach(DefaultKafkaProducerFactory::destroy);
+    }
+}
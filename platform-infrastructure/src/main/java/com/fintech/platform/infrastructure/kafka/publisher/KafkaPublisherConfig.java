@@ -0,0 +1,37 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이벤트 발행기 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(KafkaPublisherProperties.class)
+public class KafkaPublisherConfig {
+
+    /**
+     * 도메인 모듈에서 등록한 EventSerializer 빈을 먼저 사용하고, 없으면 JSON으로 직렬화한다.
+     */
+    @Bean
+    public KafkaEventPublisher kafkaEventPublisher(KafkaProperties kafkaProperties,
+                                                   KafkaPublisherProperties publisherProperties,
+                                                   ObjectProvider<EventSerializer> serializers,
+                                                   ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) {
+        return new KafkaEventPublisher(
+                kafkaProperties.buildProducerProperties(null),
+                publisherProperties,
+                serializers.orderedStream().toList(),
+                new JsonEventSerializer(objectMapper),
+                meterRegistry);
+    }
+}
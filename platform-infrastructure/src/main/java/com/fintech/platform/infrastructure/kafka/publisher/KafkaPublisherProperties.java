@@ -0,0 +1,51 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 이벤트 발행기 설정 (fintech.kafka.publisher.*)
+ * 브로커 주소 등 공통 설정은 spring.kafka.* 를 그대로 사용한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.kafka.publisher")
+public class KafkaPublisherProperties {
+
+    /**
+     * 브로커 확인을 기다리는 중인 메시지의 최대 바이트 수
+     * 이 한도를 넘으면 발행 호출이 maxBlock 만큼 대기한 뒤 거절된다.
+     */
+    private int maxInFlightBytes = 16 * 1024 * 1024;
+
+    /**
+     * 발행 자리가 날 때까지 기다리는 최대 시간
+     */
+    private Duration maxBlock = Duration.ofMillis(200);
+
+    /**
+     * 프로듀서 client.id 접두사
+     */
+    private String clientIdPrefix = "fintech-publisher";
+
+    /**
+     * 이벤트 분류별 프리셋 덮어쓰기
+     */
+    private Map<EventClass, Preset> presets = new EnumMap<>(EventClass.class);
+
+    @Getter
+    @Setter
+    public static class Preset {
+        private Integer lingerMs;
+        private Integer batchSize;
+        private String compressionType;
+    }
+}
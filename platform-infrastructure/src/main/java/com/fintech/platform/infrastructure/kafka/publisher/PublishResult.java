@@ -0,0 +1,7 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+/**
+ * 발행 결과 (브로커 확인 완료 시점)
+ */
+public record PublishResult(String topic, int partition, long offset, long timestamp) {
+}
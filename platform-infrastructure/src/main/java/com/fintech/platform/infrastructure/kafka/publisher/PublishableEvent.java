@@ -0,0 +1,28 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+/**
+ * 발행 가능한 이벤트
+ * 같은 계좌의 이벤트가 같은 파티션에 순서대로 쌓이도록 계좌번호를 키로 사용한다.
+ */
+public interface PublishableEvent {
+
+    /**
+     * 발행 토픽
+     */
+    String topic();
+
+    /**
+     * 파티션 키 (계좌번호)
+     */
+    String key();
+
+    /**
+     * 이벤트 유형 (헤더로 전달)
+     */
+    String eventType();
+
+    /**
+     * 프로듀서 프리셋
+     */
+    EventClass eventClass();
+}
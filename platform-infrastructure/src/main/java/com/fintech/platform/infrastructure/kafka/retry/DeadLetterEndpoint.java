@@ -0,0 +1,28 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 데드레터 재주입 운영 엔드포인트
+ * POST /actuator/deadletters/{deadLetterTopic}  {"maxRecords": 1000}
+ */
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterEndpoint {
+
+    private static final int DEFAULT_MAX_RECORDS = 1000;
+
+    private final DeadLetterReplayer replayer;
+
+    @WriteOperation
+    public DeadLetterReplayResult replay(@Selector String deadLetterTopic, @Nullable Integer maxRecords) {
+        if (!deadLetterTopic.endsWith(".dlt")) {
+            throw new IllegalArgumentException("데드레터 토픽만 재주입할 수 있습니다: " + deadLetterTopic);
+        }
+        return replayer.replay(deadLetterTopic, maxRecords != null ? maxRecords : DEFAULT_MAX_RECORDS);
+    }
+}
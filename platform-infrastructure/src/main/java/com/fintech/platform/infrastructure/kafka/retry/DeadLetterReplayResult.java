@@ -0,0 +1,15 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import java.util.Map;
+
+/**
+ * 데드레터 재주입 결과
+ *
+ * @param deadLetterTopic    데드레터 토픽
+ * @param replayed           재주입 건수
+ * @param skipped            원본 토픽 헤더가 없어 건너뛴 건수
+ * @param replayedByTopic    원본 토픽별 재주입 건수
+ */
+public record DeadLetterReplayResult(String deadLetterTopic, int replayed, int skipped,
+                                     Map<String, Integer> replayedByTopic) {
+}
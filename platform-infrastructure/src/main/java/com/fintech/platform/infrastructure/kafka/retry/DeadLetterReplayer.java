@@ -0,0 +1,132 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 데드레터 재주입 도구
+ *
+ * 데드레터 토픽의 레코드를 원본 토픽(x-original-topic 헤더)으로 배치 단위로 다시 기록한다.
+ * 재주입 진행 위치는 "<데드레터 토픽>.replay" 컨슈머 그룹 오프셋으로 남으므로, 중간에 멈춰도 이어서 재주입한다.
+ * 실패 정보 헤더는 지우고 원본 위치 헤더는 남겨, 재주입된 레코드는 재시도 단계를 처음부터 다시 밟는다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class DeadLetterReplayer {
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayer.class);
+
+    private static final List<String> FAILURE_HEADERS = List.of(
+            RetryTopicHeaders.ATTEMPT,
+            RetryTopicHeaders.NEXT_ATTEMPT_AT,
+            RetryTopicHeaders.EXCEPTION_CLASS,
+            RetryTopicHeaders.EXCEPTION_MESSAGE,
+            RetryTopicHeaders.FAILED_AT);
+
+    private final KafkaProperties kafkaProperties;
+    private final RetryTopicRouter router;
+    private final RetryTopicProperties properties;
+
+    public DeadLetterReplayer(KafkaProperties kafkaProperties, RetryTopicRouter router, RetryTopicProperties properties) {
+        this.kafkaProperties = kafkaProperties;
+        this.router = router;
+        this.properties = properties;
+    }
+
+    /**
+     * 데드레터 재주입
+     * @param deadLetterTopic
+     * @param maxRecords 이번에 재주입할 최대 건수
+     * @return 재주입 결과
+     */
+    public synchronized DeadLetterReplayResult replay(String deadLetterTopic, int maxRecords) {
+        int batchSize = properties.getReplayBatchSize();
+        int replayed = 0;
+        int skipped = 0;
+        Map<String, Integer> replayedByTopic = new TreeMap<>();
+
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(
+                consumerConfig(deadLetterTopic, batchSize), new StringDeserializer(), new ByteArrayDeserializer())) {
+
+            List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            while (replayed + skipped < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(properties.getReplayPollTimeout());
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                List<ProducerRecord<String, byte[]>> outgoing = new ArrayList<>(records.count());
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed + skipped + outgoing.size() >= maxRecords) {
+                        break;
+                    }
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+
+                    String originalTopic = RetryTopicHeaders.get(record.headers(), RetryTopicHeaders.ORIGINAL_TOPIC);
+                    if (originalTopic == null) {
+                        log.warn("원본 토픽 헤더 없음, 재주입 건너뜀 - 토픽: {}, 파티션: {}, 오프셋: {}",
+                                record.topic(), record.partition(), record.offset());
+                        skipped++;
+                        continue;
+                    }
+                    outgoing.add(new ProducerRecord<>(originalTopic, null, record.key(), record.value(),
+                            replayHeaders(record.headers())));
+                    replayedByTopic.merge(originalTopic, 1, Integer::sum);
+                }
+
+                // 원본 토픽 기록이 확인된 뒤에 진행 위치를 커밋한다
+                if (!outgoing.isEmpty()) {
+                    router.sendAll(outgoing);
+                }
+                consumer.commitSync(offsets);
+                replayed += outgoing.size();
+            }
+        }
+
+        log.info("데드레터 재주입 완료 - 토픽: {}, 재주입: {}, 건너뜀: {}, 원본별: {}",
+                deadLetterTopic, replayed, skipped, replayedByTopic);
+        return new DeadLetterReplayResult(deadLetterTopic, replayed, skipped, replayedByTopic);
+    }
+
+    private Map<String, Object> consumerConfig(String deadLetterTopic, int batchSize) {
+        Map<String, Object> config = kafkaProperties.buildConsumerProperties(null);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, deadLetterTopic + ".replay");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        return config;
+    }
+
+    private Headers replayHeaders(Headers source) {
+        Headers headers = new RecordHeaders(source.toArray());
+        FAILURE_HEADERS.forEach(headers::remove);
+        RetryTopicHeaders.set(headers, RetryTopicHeaders.REPLAYED_AT, System.currentTimeMillis());
+        return headers;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재시도/데드레터 토픽 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(RetryTopicProperties.class)
+public class RetryTopicConfig {
+
+    @Bean
+    public RetryTopicRouter retryTopicRouter(KafkaProperties kafkaProperties,
+                                             RetryTopicProperties properties,
+                                             MeterRegistry meterRegistry) {
+        return new RetryTopicRouter(kafkaProperties.buildProducerProperties(null), properties, meterRegistry);
+    }
+
+    @Bean
+    public RetryTopicConsumerFactory retryTopicConsumerFactory(KeyOrderedConsumerFactory keyOrderedConsumerFactory,
+                                                               RetryTopicRouter retryTopicRouter) {
+        return new RetryTopicConsumerFactory(keyOrderedConsumerFactory, retryTopicRouter);
+    }
+
+    @Bean
+    public DeadLetterReplayer deadLetterReplayer(KafkaProperties kafkaProperties,
+                                                 RetryTopicRouter retryTopicRouter,
+                                                 RetryTopicProperties properties) {
+        return new DeadLetterReplayer(kafkaProperties, retryTopicRouter, properties);
+    }
+
+    @Bean
+    public DeadLetterEndpoint deadLetterEndpoint(DeadLetterReplayer deadLetterReplayer) {
+        return new DeadLetterEndpoint(deadLetterReplayer);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedBatchHandler;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumer;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerFactory;
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumerOptions;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비차단 재시도 컨슈머 생성기
+ *
+ * 원본 토픽에서 실패한 레코드는 제자리에서 재시도하지 않고 곧바로 retry-1 토픽으로 넘긴다.
+ * 원본 파티션은 멈추지 않으므로 하위 서비스가 느려져도 원본 토픽의 지연(lag)은 늘지 않는다.
+ * 각 재시도 토픽의 컨슈머는 다음 시도 시각이 되지 않은 레코드를 받으면 해당 파티션을 멈춰 두었다가
+ * (KeyOrderedConsumerOptions.notBefore) 같은 처리기로 다시 처리하고, 실패하면 다음 단계로,
+ * 마지막 단계까지 실패하면 데드레터 토픽으로 보낸다.
+ * 처리 스레드가 잠들지 않으므로 리밸런싱/종료 시 배치 대기가 길어지지 않고, 종료 인터럽트가 실패로 처리되지 않는다.
+ *
+ * 재시도 토픽으로 넘어간 레코드는 같은 키의 뒤 레코드보다 늦게 처리될 수 있다.
+ * 키 순서에 의존하는 처리기(버전 순서대로 반영해야 하는 프로젝션 등)에는 사용하지 않는다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class RetryTopicConsumerFactory {
+
+    private final KeyOrderedConsumerFactory consumerFactory;
+    private final RetryTopicRouter router;
+
+    public <V> RetryTopicConsumerGroup create(String groupId,
+                                              String topic,
+                                              Deserializer<V> valueDeserializer,
+                                              KeyOrderedBatchHandler<V> handler,
+                                              KeyOrderedConsumerOptions options) {
+        KeyOrderedBatchHandler<byte[]> deserializing = records -> handler.handle(deserialize(records, valueDeserializer));
+
+        List<KeyOrderedConsumer<byte[]>> consumers = new ArrayList<>();
+        consumers.add(consumerFactory.create(
+                groupId,
+                List.of(topic),
+                new ByteArrayDeserializer(),
+                deserializing,
+                (records, cause) -> router.route(topic, 0, records, cause),
+                options.toBuilder().maxAttempts(1).build()));
+
+        for (int tier = 1; tier <= router.tierCount(); tier++) {
+            int failedTier = tier;
+            consumers.add(consumerFactory.create(
+                    groupId,
+                    List.of(RetryTopics.retryTopic(topic, tier)),
+                    new ByteArrayDeserializer(),
+                    deserializing,
+                    (records, cause) -> router.route(topic, failedTier, records, cause),
+                    options.toBuilder()
+                            .name(options.getName() + "-retry-" + tier)
+                            .maxAttempts(1)
+                            .autoOffsetReset("earliest")
+                            // 같은 단계의 레코드는 지연 시간이 같아 파티션 안에서 처리 시각 순으로 쌓인다
+                            .notBefore(headers -> RetryTopicHeaders.getLong(headers, RetryTopicHeaders.NEXT_ATTEMPT_AT, 0L))
+                            .build()));
+        }
+        return new RetryTopicConsumerGroup(consumers);
+    }
+
+    private static <V> List<ConsumerRecord<String, V>> deserialize(List<ConsumerRecord<String, byte[]>> records,
+                                                                   Deserializer<V> deserializer) {
+        List<ConsumerRecord<String, V>> result = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            V value = deserializer.deserialize(record.topic(), record.headers(), record.value());
+            result.add(new ConsumerRecord<>(record.topic(), record.partition(), record.offset(),
+                    record.timestamp(), record.timestampType(), record.serializedKeySize(), record.serializedValueSize(),
+                    record.key(), value, record.headers(), record.leaderEpoch()));
+        }
+        return result;
+    }
+}
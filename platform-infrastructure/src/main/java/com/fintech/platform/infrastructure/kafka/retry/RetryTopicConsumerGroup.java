@@ -0,0 +1,34 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import com.fintech.platform.infrastructure.kafka.consumer.KeyOrderedConsumer;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+
+/**
+ * 원본 토픽 컨슈머와 재시도 단계별 컨슈머 묶음
+ * 빈으로 등록하면 모든 컨슈머가 함께 시작/종료된다.
+ */
+public class RetryTopicConsumerGroup implements SmartLifecycle {
+
+    private final List<KeyOrderedConsumer<byte[]>> consumers;
+
+    public RetryTopicConsumerGroup(List<KeyOrderedConsumer<byte[]>> consumers) {
+        this.consumers = List.copyOf(consumers);
+    }
+
+    @Override
+    public void start() {
+        consumers.forEach(KeyOrderedConsumer::start);
+    }
+
+    @Override
+    public void stop() {
+        consumers.forEach(KeyOrderedConsumer::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return consumers.stream().anyMatch(KeyOrderedConsumer::isRunning);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 재시도/데드레터 토픽 헤더
+ */
+public final class RetryTopicHeaders {
+
+    /**
+     * 지금까지 실패한 횟수
+     */
+    public static final String ATTEMPT = "x-retry-attempt";
+    public static final String ORIGINAL_TOPIC = "x-original-topic";
+    public static final String ORIGINAL_PARTITION = "x-original-partition";
+    public static final String ORIGINAL_OFFSET = "x-original-offset";
+    public static final String ORIGINAL_TIMESTAMP = "x-original-timestamp";
+    public static final String EXCEPTION_CLASS = "x-exception-class";
+    public static final String EXCEPTION_MESSAGE = "x-exception-message";
+    public static final String FAILED_AT = "x-failed-at";
+
+    /**
+     * 재시도 토픽에서 다시 처리할 시각 (epoch millis)
+     */
+    public static final String NEXT_ATTEMPT_AT = "x-next-attempt-at";
+
+    /**
+     * 데드레터에서 재주입된 시각 (epoch millis)
+     */
+    public static final String REPLAYED_AT = "x-replayed-at";
+
+    private RetryTopicHeaders() {
+    }
+
+    public static String get(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public static long getLong(Headers headers, String name, long defaultValue) {
+        String value = get(headers, name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static void set(Headers headers, String name, Object value) {
+        headers.remove(name);
+        headers.add(name, String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
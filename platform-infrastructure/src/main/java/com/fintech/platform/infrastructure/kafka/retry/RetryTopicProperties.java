@@ -0,0 +1,43 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재시도 토픽 설정 (fintech.kafka.retry.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.kafka.retry")
+public class RetryTopicProperties {
+
+    /**
+     * 재시도 단계별 지연 시간 (단계 수 = 재시도 토픽 수)
+     * 마지막 단계까지 실패하면 데드레터 토픽으로 보낸다.
+     */
+    private List<Duration> delays = new ArrayList<>(List.of(
+            Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1)));
+
+    /**
+     * 재시도/데드레터 토픽 기록 확인 대기 시간
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 데드레터 재주입 배치 크기
+     */
+    private int replayBatchSize = 500;
+
+    /**
+     * 데드레터 재주입 시 poll 대기 시간 (이 시간 동안 레코드가 없으면 끝까지 읽은 것으로 본다)
+     */
+    private Duration replayPollTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,19 @@
+package com.fintech.platform.infrastructure.kafka.retry;
+
+/**
+ * 재시도/데드레터 토픽 이름 규칙
+ * account.transactions -> account.transactions.retry-1 ... account.transactions.retry-N -> account.transactions.dlt
+ */
+public final class RetryTopics {
+
+    private RetryTopics() {
+    }
+
+    public static String retryTopic(String topic, int tier) {
+        return topic + ".retry-" + tier;
+    }
+
+    public static String deadLetterTopic(String topic) {
+        return topic + ".dlt";
+    }
+}
@@ -0,0 +1,346 @@
+package com.fintech.platform.infrastructure.lock;
+
+import com.fintech.platform.shared.lock.DistributedLock;
+import com.fintech.platform.shared.lock.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분산 락 Aspect (@DistributedLock)
+ *
+ * 2단계로 락을 잡는다.
+ * 1. 노드 내 스트라이프 락: 같은 노드의 경쟁자는 JVM 안에서 줄을 선다.
+ * 2. Redis 락 (Redisson): 노드 내 승자만 Redis에 락을 요청하므로, 경합이 심한 키라도
+ *    Redis 락 대기자 수는 노드 수를 넘지 않는다.
+ *
+ * 키가 여러 개면 노드 내 락은 스트라이프 번호 순으로, Redis 락은 키 정렬 순으로 모두 잡는다.
+ * 모든 호출자가 같은 순서로 잡으므로 서로 겹치는 키 묶음끼리 교착이 생기지 않는다.
+ *
+ * 트랜잭션보다 먼저 적용되도록 가장 높은 우선순위로 등록한다 (커밋 후 락 해제).
+ *
+ * 지표:
+ * - lock.wait      : 락 획득까지 대기 시간 (name, result=acquired|timeout|error)
+ * - lock.hold      : 락 보유 시간 (name)
+ * - lock.contended : 바로 획득하지 못한 횟수 (name, level=local|remote)
+ * 키별 경합은 LockContentionTracker에 모아 /actuator/lockcontention 으로 조회한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DistributedLockAspect {
+    private static final Logger log = LoggerFactory.getLogger(DistributedLockAspect.class);
+
+    private final RedissonClient redissonClient;
+    private final DistributedLockProperties properties;
+    private final LockContentionTracker contentionTracker;
+    private final MeterRegistry meterRegistry;
+    private final BeanFactoryResolver beanResolver;
+    private final StripedLocks localLocks;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public DistributedLockAspect(RedissonClient redissonClient,
+                                 DistributedLockProperties properties,
+                                 LockContentionTracker contentionTracker,
+                                 MeterRegistry meterRegistry,
+                                 BeanFactory beanFactory) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.contentionTracker = contentionTracker;
+        this.meterRegistry = meterRegistry;
+        this.beanResolver = new BeanFactoryResolver(beanFactory);
+        this.localLocks = new StripedLocks(properties.getLocalStripes());
+    }
+
+    @Around("@annotation(distributedLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+        context.setBeanResolver(beanResolver);
+
+        if (!distributedLock.condition().isEmpty()
+                && !Boolean.TRUE.equals(expression(distributedLock.condition()).getValue(context, Boolean.class))) {
+            return joinPoint.proceed();
+        }
+
+        String name = distributedLock.name();
+        Object key = expression(distributedLock.key()).getValue(context);
+        if (key instanceof Collection<?> || key instanceof Object[]) {
+            return lockAll(joinPoint, distributedLock, lockKeys(name, key));
+        }
+        String lockKey = properties.getKeyPrefix() + name + ":" + key;
+
+        long startedAt = System.nanoTime();
+        ReentrantLock localLock = localLocks.get(lockKey);
+        RLock remoteLock = acquire(lockKey, name, distributedLock, localLock, startedAt);
+
+        long acquiredAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Timer.builder("lock.hold")
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            release(lockKey, remoteLock, localLock);
+        }
+    }
+
+    private RLock acquire(String lockKey, String name, DistributedLock distributedLock,
+                          ReentrantLock localLock, long startedAt) {
+        TimeUnit unit = distributedLock.timeUnit();
+        long waitNanos = unit.toNanos(distributedLock.waitTime());
+        long leaseMillis = distributedLock.leaseTime() < 0 ? -1 : unit.toMillis(distributedLock.leaseTime());
+        boolean contended = false;
+
+        try {
+            // 1단계: 노드 내 락
+            if (!localLock.tryLock()) {
+                contended = true;
+                contendedCounter(name, "local").increment();
+                if (!localLock.tryLock(waitNanos, TimeUnit.NANOSECONDS)) {
+                    recordWait(name, "timeout", startedAt);
+                    throw new LockAcquisitionException(lockKey, "락 획득 대기 시간을 초과했습니다: " + lockKey);
+                }
+            }
+
+            // 2단계: Redis 락 (노드 내 승자만 요청)
+            RLock remoteLock = redissonClient.getLock(lockKey);
+            boolean acquired;
+            try {
+                acquired = remoteLock.tryLock(0, leaseMillis, TimeUnit.MILLISECONDS);
+                if (!acquired) {
+                    contended = true;
+                    contendedCounter(name, "remote").increment();
+                    long remainingNanos = waitNanos - (System.nanoTime() - startedAt);
+                    acquired = remainingNanos > 0
+                            && remoteLock.tryLock(TimeUnit.NANOSECONDS.toMillis(remainingNanos), leaseMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                localLock.unlock();
+                throw e;
+            } catch (RuntimeException e) {
+                localLock.unlock();
+                recordWait(name, "error", startedAt);
+                throw new LockAcquisitionException(lockKey, "락 저장소 오류로 락을 획득하지 못했습니다: " + lockKey, e);
+            }
+
+            if (!acquired) {
+                localLock.unlock();
+                recordWait(name, "timeout", startedAt);
+                throw new LockAcquisitionException(lockKey, "락 획득 대기 시간을 초과했습니다: " + lockKey);
+            }
+
+            long waited = recordWait(name, "acquired", startedAt);
+            if (contended) {
+                contentionTracker.record(lockKey, waited);
+            }
+            return remoteLock;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordWait(name, "error", startedAt);
+            throw new LockAcquisitionException(lockKey, "락 대기 중 인터럽트되었습니다: " + lockKey, e);
+        }
+    }
+
+    /**
+     * 여러 키를 정렬해 모두 잡은 뒤 실행한다.
+     */
+    private Object lockAll(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                           List<String> lockKeys) throws Throwable {
+        String name = distributedLock.name();
+        long startedAt = System.nanoTime();
+        List<ReentrantLock> orderedLocalLocks = localLocks.getOrdered(lockKeys);
+        List<RLock> remoteLocks = acquireAll(lockKeys, name, distributedLock, orderedLocalLocks, startedAt);
+
+        long acquiredAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Timer.builder("lock.hold")
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            for (int i = remoteLocks.size() - 1; i >= 0; i--) {
+                releaseRemote(lockKeys.get(i), remoteLocks.get(i));
+            }
+            for (int i = orderedLocalLocks.size() - 1; i >= 0; i--) {
+                orderedLocalLocks.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * 노드 내 락을 스트라이프 순으로, Redis 락을 키 순으로 잡는다. (대기 시간은 전체 합계)
+     * 하나라도 실패하면 이미 잡은 락을 모두 풀고 예외를 던진다.
+     */
+    private List<RLock> acquireAll(List<String> lockKeys, String name, DistributedLock distributedLock,
+                                   List<ReentrantLock> orderedLocalLocks, long startedAt) {
+        TimeUnit unit = distributedLock.timeUnit();
+        long waitNanos = unit.toNanos(distributedLock.waitTime());
+        long leaseMillis = distributedLock.leaseTime() < 0 ? -1 : unit.toMillis(distributedLock.leaseTime());
+        List<RLock> remoteLocks = new ArrayList<>(lockKeys.size());
+        int localHeld = 0;
+        String contendedKey = null;
+
+        try {
+            // 1단계: 노드 내 락
+            for (ReentrantLock localLock : orderedLocalLocks) {
+                if (!localLock.tryLock()) {
+                    contendedKey = contendedKey != null ? contendedKey : String.join(",", lockKeys);
+                    contendedCounter(name, "local").increment();
+                    long remainingNanos = waitNanos - (System.nanoTime() - startedAt);
+                    if (remainingNanos <= 0 || !localLock.tryLock(remainingNanos, TimeUnit.NANOSECONDS)) {
+                        recordWait(name, "timeout", startedAt);
+                        throw new LockAcquisitionException(contendedKey, "락 획득 대기 시간을 초과했습니다: " + contendedKey);
+                    }
+                }
+                localHeld++;
+            }
+
+            // 2단계: Redis 락 (노드 내 승자만 요청)
+            for (String lockKey : lockKeys) {
+                RLock remoteLock = redissonClient.getLock(lockKey);
+                boolean acquired;
+                try {
+                    acquired = remoteLock.tryLock(0, leaseMillis, TimeUnit.MILLISECONDS);
+                    if (!acquired) {
+                        contendedKey = lockKey;
+                        contendedCounter(name, "remote").increment();
+                        long remainingNanos = waitNanos - (System.nanoTime() - startedAt);
+                        acquired = remainingNanos > 0 && remoteLock.tryLock(
+                                TimeUnit.NANOSECONDS.toMillis(remainingNanos), leaseMillis, TimeUnit.MILLISECONDS);
+                    }
+                } catch (RuntimeException e) {
+                    recordWait(name, "error", startedAt);
+                    throw new LockAcquisitionException(lockKey, "락 저장소 오류로 락을 획득하지 못했습니다: " + lockKey, e);
+                }
+                if (!acquired) {
+                    recordWait(name, "timeout", startedAt);
+                    throw new LockAcquisitionException(lockKey, "락 획득 대기 시간을 초과했습니다: " + lockKey);
+                }
+                remoteLocks.add(remoteLock);
+            }
+
+            long waited = recordWait(name, "acquired", startedAt);
+            if (contendedKey != null) {
+                contentionTracker.record(contendedKey, waited);
+            }
+            return remoteLocks;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordWait(name, "error", startedAt);
+            unwind(lockKeys, remoteLocks, orderedLocalLocks, localHeld);
+            throw new LockAcquisitionException(String.join(",", lockKeys), "락 대기 중 인터럽트되었습니다: " + lockKeys, e);
+        } catch (RuntimeException e) {
+            unwind(lockKeys, remoteLocks, orderedLocalLocks, localHeld);
+            throw e;
+        }
+    }
+
+    private void unwind(List<String> lockKeys, List<RLock> remoteLocks, List<ReentrantLock> orderedLocalLocks,
+                        int localHeld) {
+        for (int i = remoteLocks.size() - 1; i >= 0; i--) {
+            releaseRemote(lockKeys.get(i), remoteLocks.get(i));
+        }
+        for (int i = localHeld - 1; i >= 0; i--) {
+            orderedLocalLocks.get(i).unlock();
+        }
+    }
+
+    /**
+     * 키 SpEL 값(컬렉션/배열)을 정렬된 락 키 목록으로 (중복 제거)
+     */
+    private List<String> lockKeys(String name, Object keys) {
+        Collection<?> values = keys instanceof Collection<?> collection ? collection : Arrays.asList((Object[]) keys);
+        TreeSet<String> lockKeys = new TreeSet<>();
+        for (Object value : values) {
+            lockKeys.add(properties.getKeyPrefix() + name + ":" + value);
+        }
+        return new ArrayList<>(lockKeys);
+    }
+
+    private void release(String lockKey, RLock remoteLock, ReentrantLock localLock) {
+        try {
+            releaseRemote(lockKey, remoteLock);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private void releaseRemote(String lockKey, RLock remoteLock) {
+        try {
+            remoteLock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            // 작업이 임대 시간보다 오래 걸려 락이 이미 풀린 경우 - 그 사이 다른 노드가 같은 키로 실행했을 수 있다
+            log.warn("락 임대 시간 초과 후 해제 시도 - 락 키: {}", lockKey);
+        } catch (RuntimeException e) {
+            // 해제 실패 시 임대 시간이 지나면 자동으로 풀린다
+            log.error("락 해제 실패 - 락 키: {}, 오류: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private long recordWait(String name, String result, long startedAt) {
+        long waited = System.nanoTime() - startedAt;
+        Timer.builder("lock.wait")
+                .tag("name", name)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waited, TimeUnit.NANOSECONDS);
+        return waited;
+    }
+
+    private Counter contendedCounter(String name, String level) {
+        return Counter.builder("lock.contended")
+                .tag("name", name)
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+
+    private Expression expression(String expression) {
+        return expressions.computeIfAbsent(expression, parser::parseExpression);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintech.platform.infrastructure.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 락 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(DistributedLockProperties.class)
+public class DistributedLockConfig {
+
+    @Bean
+    public LockContentionTracker lockContentionTracker(DistributedLockProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        return new LockContentionTracker(properties.getTrackedKeys(), meterRegistry);
+    }
+
+    @Bean
+    public DistributedLockAspect distributedLockAspect(RedissonClient redissonClient,
+                                                       DistributedLockProperties properties,
+                                                       LockContentionTracker lockContentionTracker,
+                                                       MeterRegistry meterRegistry,
+                                                       BeanFactory beanFactory) {
+        return new DistributedLockAspect(redissonClient, properties, lockContentionTracker, meterRegistry, beanFactory);
+    }
+
+    @Bean
+    public LockContentionEndpoint lockContentionEndpoint(LockContentionTracker lockContentionTracker) {
+        return new LockContentionEndpoint(lockContentionTracker);
+    }
+}
@@ -0,0 +1,38 @@
+package com.fintech.platform.infrastructure.lock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 분산 락 설정 (fintech.lock.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.lock")
+public class DistributedLockProperties {
+
+    /**
+     * 분산 락 사용 여부 (false면 @DistributedLock 메서드를 락 없이 실행)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 락 키 접두어 (실제 키: {접두어}{락 이름}:{키})
+     */
+    private String keyPrefix = "lock:";
+
+    /**
+     * 노드 내 락 스트라이프 수 (2의 거듭제곱으로 올림)
+     * 서로 다른 키가 같은 스트라이프를 공유하면 노드 안에서만 불필요하게 대기하므로 동시 처리 키 수보다 넉넉하게 잡는다.
+     */
+    private int localStripes = 1024;
+
+    /**
+     * 경합 통계를 보관할 최대 키 수 (초과한 키는 통계에서 제외)
+     */
+    private int trackedKeys = 10000;
+}
@@ -0,0 +1,33 @@
+package com.fintech.platform.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 락 경합 운영 엔드포인트
+ * GET    /actuator/lockcontention?limit=20  경합 상위 키 (이 노드 기준)
+ * DELETE /actuator/lockcontention           통계 초기화
+ */
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockContentionTracker tracker;
+
+    @ReadOperation
+    public List<LockContentionTracker.LockContention> top(@Nullable Integer limit) {
+        return tracker.top(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        tracker.reset();
+    }
+}
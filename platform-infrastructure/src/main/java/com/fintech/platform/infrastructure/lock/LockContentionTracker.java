@@ -0,0 +1,96 @@
+package com.fintech.platform.infrastructure.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 키별 경합 통계
+ *
+ * 키(계좌번호 등)를 지표 태그로 쓰면 시계열 수가 키 수만큼 늘어나므로, 키별 경합은 메모리에 따로 모아
+ * 운영 엔드포인트로 상위 키를 조회한다. 경합이 발생한 키만 보관하고 보관 키 수에 상한을 둔다.
+ */
+public class LockContentionTracker {
+
+    private final int maxTrackedKeys;
+    private final Map<String, KeyStats> stats = new ConcurrentHashMap<>();
+    private final Counter untrackedCounter;
+
+    public LockContentionTracker(int maxTrackedKeys, MeterRegistry meterRegistry) {
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.untrackedCounter = Counter.builder("lock.contention.untracked")
+                .description("보관 키 수 상한으로 통계에서 제외된 경합 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경합 기록
+     * @param lockKey   락 키
+     * @param waitNanos 락 획득까지 대기한 시간
+     */
+    public void record(String lockKey, long waitNanos) {
+        KeyStats keyStats = stats.get(lockKey);
+        if (keyStats == null) {
+            if (stats.size() >= maxTrackedKeys) {
+                untrackedCounter.increment();
+                return;
+            }
+            keyStats = stats.computeIfAbsent(lockKey, key -> new KeyStats());
+        }
+        keyStats.contentions.increment();
+        keyStats.totalWaitNanos.add(waitNanos);
+        keyStats.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * 경합 상위 키 (경합 횟수 내림차순)
+     */
+    public List<LockContention> top(int limit) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(LockContention::contentions).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static final class KeyStats {
+        private final LongAdder contentions = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private LockContention snapshot(String lockKey) {
+            long count = contentions.sum();
+            long total = totalWaitNanos.sum();
+            return new LockContention(
+                    lockKey,
+                    count,
+                    TimeUnit.NANOSECONDS.toMillis(total),
+                    count > 0 ? TimeUnit.NANOSECONDS.toMillis(total / count) : 0,
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        }
+    }
+
+    /**
+     * 키별 경합 통계
+     *
+     * @param lockKey         락 키
+     * @param contentions     경합 횟수 (바로 획득하지 못한 횟수)
+     * @param totalWaitMillis 경합 시 누적 대기 시간
+     * @param avgWaitMillis   경합 시 평균 대기 시간
+     * @param maxWaitMillis   경합 시 최대 대기 시간
+     */
+    public record LockContention(String lockKey, long contentions, long totalWaitMillis,
+                                 long avgWaitMillis, long maxWaitMillis) {
+    }
+}
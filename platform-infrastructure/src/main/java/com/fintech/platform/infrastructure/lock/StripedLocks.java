@@ -0,0 +1,47 @@
+package com.fintech.platform.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키 해시로 고른 스트라이프 락
+ * 키마다 락 객체를 만들지 않으므로 메모리가 키 수와 무관하게 일정하다.
+ */
+class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    ReentrantLock get(String key) {
+        return locks[indexOf(key)];
+    }
+
+    /**
+     * 여러 키의 스트라이프 락을 스트라이프 번호 순으로 (같은 스트라이프는 한 번만)
+     * 서로 다른 키가 같은 스트라이프를 나눠 쓰므로 키 순서가 아니라 스트라이프 순서로 잡아야 교착이 생기지 않는다.
+     */
+    List<ReentrantLock> getOrdered(Collection<String> keys) {
+        int[] indexes = keys.stream().mapToInt(this::indexOf).sorted().distinct().toArray();
+        List<ReentrantLock> ordered = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            ordered.add(locks[index]);
+        }
+        return ordered;
+    }
+
+    private int indexOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
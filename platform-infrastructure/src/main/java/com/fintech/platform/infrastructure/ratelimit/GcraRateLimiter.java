@@ -0,0 +1,245 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 요청 한도기
+ *
+ * 대상마다 이론적 도착 시각(TAT) 하나만 저장한다. 요청 간격 T = 기간 / rate, 허용 편차 = T * burst 일 때
+ * max(TAT, now) + T - now <= 허용 편차 이면 허용하고 TAT를 갱신한다.
+ * 토큰 버킷과 같은 결과를 내지만 키당 값 하나, 판정당 스크립트 호출 한 번으로 끝난다.
+ *
+ * - 원자적 판정: 계좌/클라이언트 등 여러 대상을 스크립트 한 번에 판정하고, 모두 허용일 때만 함께 갱신한다.
+ *   시각은 Redis TIME을 사용하므로 노드 간 시계 차이의 영향을 받지 않는다.
+ * - 노드 내 사전 검사: Redis가 거절하며 알려준 재시도 시각 전이거나, 이 노드에서 허용된 요청만으로도
+ *   한도를 넘는 대상은 Redis 호출 없이 거절한다. 노드가 보는 요청은 전체 요청의 일부이므로
+ *   사전 검사가 거절하는 요청은 Redis도 반드시 거절한다. (허용 판정은 항상 Redis가 한다)
+ *   노드 상태는 Redis 호출 직전 시각 기준으로 갱신한다. 응답 시각 기준이면 왕복 시간만큼 Redis보다 늦게 풀린다.
+ * - 키 배치: 한 번에 판정하는 키가 같은 슬롯에 있어야 하므로 정책 이름을 해시 태그로 쓴다. (ratelimit:{transfer}:account:...)
+ *   Redis Cluster에서도 동작하며, 정책 하나의 키는 한 샤드에 모인다.
+ *
+ * 지표
+ * - ratelimit.decisions{policy, outcome} : allowed, rejected, rejected_local, error
+ * - ratelimit.redis                      : 판정 스크립트 실행 시간
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class GcraRateLimiter {
+    private static final Logger log = LoggerFactory.getLogger(GcraRateLimiter.class);
+
+    /**
+     * KEYS: 대상별 TAT 키, ARGV: 대상별 [요청 간격(us), 허용 편차(us)]
+     * 반환: {허용 여부, 기준 대상 인덱스(1부터), 남은 요청 수, 재시도까지(us), 회복까지(us)}
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local allowed = 1
+            local index = 1
+            local remaining = -1
+            local retry = 0
+            local reset = 0
+            local tats = {}
+            for i = 1, #KEYS do
+              local interval = tonumber(ARGV[i * 2 - 1])
+              local tolerance = tonumber(ARGV[i * 2])
+              local tat = tonumber(redis.call('GET', KEYS[i]) or now)
+              if tat < now then tat = now end
+              local newTat = tat + interval
+              local diff = newTat - now
+              if diff > tolerance then
+                if allowed == 1 or diff - tolerance > retry then index = i end
+                allowed = 0
+                if diff - tolerance > retry then retry = diff - tolerance end
+              elseif allowed == 1 then
+                local left = math.floor((tolerance - diff) / interval)
+                if remaining < 0 or left < remaining then
+                  remaining = left
+                  index = i
+                end
+              end
+              tats[i] = newTat
+              if diff > reset then reset = diff end
+            end
+            if allowed == 1 then
+              for i = 1, #KEYS do
+                local ttl = math.ceil((tats[i] - now) / 1000)
+                if ttl < 1 then ttl = 1 end
+                redis.call('SET', KEYS[i], string.format('%.0f', tats[i]), 'PX', ttl)
+              end
+            else
+              remaining = 0
+            end
+            return {allowed, index, remaining, math.floor(retry), math.floor(reset)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer redisTimer;
+
+    /**
+     * 노드 내 사전 검사 상태 (Redis 키 -> 상태)
+     */
+    private final Cache<String, LocalState> localStates;
+
+    public GcraRateLimiter(StringRedisTemplate redisTemplate,
+                           RateLimitProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.redisTimer = Timer.builder("ratelimit.redis")
+                .description("요청 한도 판정 스크립트 실행 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.localStates = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalTrackedKeys())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * 요청 한도 판정 (모든 대상이 허용일 때만 허용하고 한도를 차감한다)
+     * @param policy 정책 이름
+     * @param keys   적용 대상
+     */
+    public RateLimitDecision tryAcquire(String policy, List<RateLimitKey> keys) {
+        if (keys.isEmpty()) {
+            return RateLimitDecision.unlimited();
+        }
+
+        List<String> redisKeys = new ArrayList<>(keys.size());
+        for (RateLimitKey key : keys) {
+            redisKeys.add(properties.getKeyPrefix() + "{" + policy + "}:" + key.scope() + ":" + key.id());
+        }
+
+        if (properties.isLocalPrecheck()) {
+            RateLimitDecision local = precheck(redisKeys, keys);
+            if (local != null) {
+                record(policy, "rejected_local");
+                return local;
+            }
+        }
+
+        List<String> args = new ArrayList<>(keys.size() * 2);
+        for (RateLimitKey key : keys) {
+            long interval = intervalMicros(key.limit());
+            args.add(Long.toString(interval));
+            args.add(Long.toString(interval * key.limit().effectiveBurst()));
+        }
+
+        List<?> result;
+        long started = System.nanoTime();
+        try {
+            result = redisTemplate.execute(GCRA_SCRIPT, redisKeys, args.toArray());
+        } catch (RuntimeException e) {
+            record(policy, "error");
+            log.warn("요청 한도 판정 실패 - 정책: {}, 허용 여부: {}, 오류: {}", policy, properties.isFailOpen(), e.getMessage());
+            return new RateLimitDecision(properties.isFailOpen(), 0, 0, Duration.ZERO, Duration.ZERO, false);
+        } finally {
+            redisTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+        boolean allowed = ((Number) result.get(0)).longValue() == 1;
+        int index = (int) ((Number) result.get(1)).longValue() - 1;
+        long remaining = ((Number) result.get(2)).longValue();
+        Duration retryAfter = Duration.of(((Number) result.get(3)).longValue(), ChronoUnit.MICROS);
+        Duration resetAfter = Duration.of(((Number) result.get(4)).longValue(), ChronoUnit.MICROS);
+
+        if (properties.isLocalPrecheck()) {
+            // Redis 판정 시각은 호출 직전 이후이므로, 호출 직전 시각 기준이면 노드 상태가 Redis보다 엄격해지지 않는다
+            if (allowed) {
+                for (int i = 0; i < keys.size(); i++) {
+                    localState(redisKeys.get(i)).accepted(started, intervalMicros(keys.get(i).limit()) * 1000);
+                }
+            } else {
+                localState(redisKeys.get(index)).blockUntil(started + retryAfter.toNanos());
+            }
+        }
+
+        record(policy, allowed ? "allowed" : "rejected");
+        return new RateLimitDecision(allowed, keys.get(index).limit().effectiveBurst(), remaining,
+                resetAfter, retryAfter, false);
+    }
+
+    private RateLimitDecision precheck(List<String> redisKeys, List<RateLimitKey> keys) {
+        long now = System.nanoTime();
+        for (int i = 0; i < keys.size(); i++) {
+            LocalState state = localStates.getIfPresent(redisKeys.get(i));
+            if (state == null) {
+                continue;
+            }
+            RateLimitProperties.Limit limit = keys.get(i).limit();
+            long intervalNanos = intervalMicros(limit) * 1000;
+            long waitNanos = state.rejectWaitNanos(now, intervalNanos, intervalNanos * limit.effectiveBurst());
+            if (waitNanos > 0) {
+                Duration retryAfter = Duration.ofNanos(waitNanos);
+                return new RateLimitDecision(false, limit.effectiveBurst(), 0, retryAfter, retryAfter, true);
+            }
+        }
+        return null;
+    }
+
+    private LocalState localState(String redisKey) {
+        return localStates.get(redisKey, key -> new LocalState());
+    }
+
+    private static long intervalMicros(RateLimitProperties.Limit limit) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(limit.getPeriod().toNanos()) / Math.max(1, limit.getRate()));
+    }
+
+    private void record(String policy, String outcome) {
+        meterRegistry.counter("ratelimit.decisions", "policy", policy, "outcome", outcome).increment();
+    }
+
+    /**
+     * 노드 내 대상 상태
+     * tat: 이 노드에서 허용된 요청만으로 계산한 TAT (항상 Redis의 TAT 이하)
+     * blockedUntil: Redis가 거절하며 알려준 재시도 시각 (호출 직전 시각 기준이므로 Redis의 재시도 시각 이하)
+     */
+    private static final class LocalState {
+        private boolean hasTat;
+        private long tat;
+        private boolean blocked;
+        private long blockedUntil;
+
+        synchronized long rejectWaitNanos(long now, long interval, long tolerance) {
+            if (blocked && blockedUntil - now > 0) {
+                return blockedUntil - now;
+            }
+            long base = hasTat && tat - now > 0 ? tat : now;
+            return Math.max(0, base + interval - now - tolerance);
+        }
+
+        synchronized void accepted(long now, long interval) {
+            long base = hasTat && tat - now > 0 ? tat : now;
+            tat = base + interval;
+            hasTat = true;
+        }
+
+        synchronized void blockUntil(long until) {
+            if (!blocked || until - blockedUntil > 0) {
+                blockedUntil = until;
+                blocked = true;
+            }
+        }
+    }
+}
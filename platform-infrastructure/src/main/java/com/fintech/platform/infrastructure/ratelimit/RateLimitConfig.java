@@ -0,0 +1,30 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 요청 한도 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public GcraRateLimiter gcraRateLimiter(StringRedisTemplate redisTemplate,
+                                           RateLimitProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new GcraRateLimiter(redisTemplate, properties, meterRegistry);
+    }
+
+    @Bean
+    public RateLimitPolicies rateLimitPolicies(RateLimitProperties properties) {
+        return new RateLimitPolicies(properties);
+    }
+}
@@ -0,0 +1,25 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 한도 판정 결과 (여러 대상 중 가장 여유가 적은 대상 기준)
+ *
+ * @param allowed    허용 여부
+ * @param limit      한 번에 허용하는 최대 요청 수 (RateLimit-Limit)
+ * @param remaining  남은 요청 수 (RateLimit-Remaining)
+ * @param resetAfter 한도가 모두 회복되기까지 남은 시간 (RateLimit-Reset)
+ * @param retryAfter 거절된 경우 다시 시도할 수 있기까지 남은 시간 (Retry-After)
+ * @param local      Redis 호출 없이 노드 내 사전 검사로 판정했는지 여부
+ */
+public record RateLimitDecision(boolean allowed,
+                                int limit,
+                                long remaining,
+                                Duration resetAfter,
+                                Duration retryAfter,
+                                boolean local) {
+
+    static RateLimitDecision unlimited() {
+        return new RateLimitDecision(true, 0, 0, Duration.ZERO, Duration.ZERO, true);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+/**
+ * 한도 적용 대상
+ *
+ * @param scope 적용 단위 (account, client)
+ * @param id    식별자 (계좌번호, 클라이언트 ID)
+ * @param limit 한도
+ */
+public record RateLimitKey(String scope, String id, RateLimitProperties.Limit limit) {
+}
@@ -0,0 +1,85 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 엔드포인트 분류별 요청 한도 정책 (설정 순서대로 검사해 먼저 일치한 정책 하나를 적용)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+public class RateLimitPolicies {
+
+    private final RateLimitProperties properties;
+    private final List<CompiledPolicy> policies = new ArrayList<>();
+
+    public RateLimitPolicies(RateLimitProperties properties) {
+        this.properties = properties;
+        properties.getPolicies().forEach((name, policy) -> {
+            Set<String> methods = policy.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            List<PathPattern> patterns = policy.getPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            policies.add(new CompiledPolicy(name, methods, patterns, policy));
+        });
+    }
+
+    /**
+     * 요청에 적용할 한도 대상
+     * @param method   HTTP 메서드
+     * @param path     요청 경로 (컨텍스트 경로 제외)
+     * @param clientId 클라이언트 식별자
+     * @return 일치하는 정책이 없으면 empty
+     */
+    public Optional<Match> match(String method, String path, String clientId) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledPolicy compiled : policies) {
+            if (!compiled.methods().isEmpty() && !compiled.methods().contains(method)) {
+                continue;
+            }
+            for (PathPattern pattern : compiled.patterns()) {
+                PathPattern.PathMatchInfo matchInfo = pattern.matchAndExtract(pathContainer);
+                if (matchInfo != null) {
+                    return Optional.of(new Match(compiled.name(), keys(compiled.policy(), matchInfo.getUriVariables(), clientId)));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<RateLimitKey> keys(RateLimitProperties.Policy policy, Map<String, String> uriVariables, String clientId) {
+        List<RateLimitKey> keys = new ArrayList<>(2);
+        String accountNumber = uriVariables.get(properties.getAccountPathVariable());
+        if (policy.getAccount() != null && accountNumber != null) {
+            keys.add(new RateLimitKey("account", accountNumber, policy.getAccount()));
+        }
+        if (policy.getClient() != null && clientId != null) {
+            keys.add(new RateLimitKey("client", clientId, policy.getClient()));
+        }
+        return keys;
+    }
+
+    /**
+     * 정책 일치 결과
+     * @param policy 정책 이름 (지표 태그, Redis 키에 사용)
+     * @param keys   적용 대상
+     */
+    public record Match(String policy, List<RateLimitKey> keys) {
+    }
+
+    private record CompiledPolicy(String name, Set<String> methods, List<PathPattern> patterns,
+                                  RateLimitProperties.Policy policy) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 한도 설정 (fintech.rate-limit.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 키 접두어 (실제 키: 접두어 + "{정책 이름}:account|client:식별자", 중괄호 부분이 클러스터 해시 태그)
+     */
+    private String keyPrefix = "ratelimit:";
+
+    /**
+     * 계좌번호를 담은 경로 변수 이름 (정책 경로 패턴의 {accountNumber})
+     */
+    private String accountPathVariable = "accountNumber";
+
+    /**
+     * 클라이언트 식별 헤더 (없으면 접속 IP)
+     */
+    private String clientIdHeader = "X-Client-Id";
+
+    /**
+     * 노드 내 사전 검사 사용 여부
+     * 이 노드에서 허용한 요청만으로도 한도를 넘었거나, Redis가 알려준 재시도 시각 전이면 Redis 호출 없이 거절한다.
+     */
+    private boolean localPrecheck = true;
+
+    /**
+     * 노드 내 사전 검사 상태를 보관할 최대 키 수
+     */
+    private long localTrackedKeys = 100_000;
+
+    /**
+     * Redis 장애 시 허용 여부 (false면 503으로 거절)
+     */
+    private boolean failOpen = true;
+
+    /**
+     * 엔드포인트 분류별 정책 (먼저 일치한 정책 하나만 적용)
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 경로 패턴 (예: /api/v1/accounts/{accountNumber}/withdraw)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 계좌 단위 한도 (없으면 적용하지 않음)
+         */
+        private Limit account;
+
+        /**
+         * 클라이언트 단위 한도 (없으면 적용하지 않음)
+         */
+        private Limit client;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * 기간당 허용 요청 수 (지속 처리율)
+         */
+        private int rate;
+
+        /**
+         * 기간
+         */
+        private Duration period = Duration.ofSeconds(1);
+
+        /**
+         * 한 번에 허용하는 최대 요청 수 (0이면 rate와 같음)
+         */
+        private int burst;
+
+        public int effectiveBurst() {
+            return burst > 0 ? burst : rate;
+        }
+    }
+}
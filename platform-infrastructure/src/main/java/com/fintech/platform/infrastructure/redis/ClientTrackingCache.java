@@ -0,0 +1,238 @@
+package com.fintech.platform.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Redis 클라이언트 측 캐시 (RESP3 클라이언트 추적)
+ *
+ * 추적 전용 연결에서 CLIENT TRACKING ON을 켜고 읽으면, Redis가 이 연결이 읽은 키가 바뀔 때
+ * invalidate 푸시 메시지를 보낸다. 읽은 값은 노드 메모리에 두고 푸시를 받으면 버리므로,
+ * 자주 읽고 드물게 바뀌는 키(상위 가맹점 잔액, 한도 카운터 등)는 네트워크 왕복 없이 읽는다.
+ *
+ * - 읽기와 무효화 경합: 읽기 전에 자리표시를 넣고, 응답을 받은 뒤 자리표시가 그대로일 때만 값으로 바꾼다.
+ *   읽는 사이 무효화가 도착하면 자리표시가 지워지므로 오래된 값이 남지 않는다.
+ * - 연결 끊김: 끊긴 동안의 무효화는 받을 수 없으므로 끊기는 즉시 노드 캐시를 모두 비우고,
+ *   다시 연결되면 다음 읽기에서 추적을 다시 켠 뒤에야 값을 보관한다.
+ * - Redis가 보낸 전체 무효화(FLUSHALL 등, 키 목록 없음)도 노드 캐시를 모두 비운다.
+ * - 쓰기는 기존처럼 StringRedisTemplate으로 하면 된다. (쓰기가 일어나면 Redis가 무효화를 보낸다)
+ *
+ * 지표
+ * - redis.client_tracking.hits          : 노드 캐시로 처리해 생략한 왕복 수
+ * - redis.client_tracking.misses        : Redis까지 다녀온 읽기 수
+ * - redis.client_tracking.invalidations : 무효화 푸시로 버린 키 수
+ * - redis.client_tracking.flushes       : 전체 비우기 횟수 (연결 끊김, 전체 무효화)
+ * - redis.client_tracking.size          : 보관 중인 키 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class ClientTrackingCache implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ClientTrackingCache.class);
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final RedisClient redisClient;
+    private final StatefulRedisConnection<String, String> connection;
+    private final Cache<String, Slot> store;
+
+    /**
+     * 현재 연결에서 추적이 켜져 있는지 (끊기면 false, 다음 읽기에서 다시 켠다)
+     */
+    private volatile boolean tracking;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Counter flushCounter;
+
+    public ClientTrackingCache(RedisClient redisClient, ClientTrackingProperties properties, MeterRegistry meterRegistry) {
+        this.redisClient = redisClient;
+        this.store = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+
+        this.hitCounter = Counter.builder("redis.client_tracking.hits")
+                .description("노드 캐시로 처리해 생략한 Redis 왕복 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("redis.client_tracking.misses")
+                .description("Redis까지 다녀온 읽기 수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("redis.client_tracking.invalidations")
+                .description("무효화 푸시로 버린 키 수")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("redis.client_tracking.flushes")
+                .description("노드 캐시 전체 비우기 횟수")
+                .register(meterRegistry);
+        Gauge.builder("redis.client_tracking.size", store, Cache::estimatedSize)
+                .register(meterRegistry);
+
+        redisClient.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                log.info("클라이언트 추적 연결 복구 - 주소: {}", address);
+            }
+
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                tracking = false;
+                flush("연결 끊김");
+            }
+        });
+
+        this.connection = redisClient.connect();
+        this.connection.addListener(this::onPushMessage);
+        enableTracking();
+    }
+
+    /**
+     * 문자열 값 조회 (GET)
+     * @return 키가 없으면 null (없는 키도 노드 캐시에 보관한다)
+     */
+    public String get(String key) {
+        return read(key, commands -> commands.get(key));
+    }
+
+    /**
+     * 해시 전체 조회 (HGETALL)
+     */
+    public Map<String, String> hgetall(String key) {
+        return read(key, commands -> commands.hgetall(key));
+    }
+
+    /**
+     * 키 하나를 읽는 명령을 추적 연결에서 실행하고 결과를 노드 캐시에 보관한다.
+     * reader는 key 하나만 읽어야 한다. (다른 키를 읽으면 그 키의 변경으로는 무효화되지 않는다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Function<RedisCommands<String, String>, T> reader) {
+        Slot cached = store.getIfPresent(key);
+        if (cached != null && !cached.pending()) {
+            hitCounter.increment();
+            return (T) cached.value();
+        }
+
+        missCounter.increment();
+        if (!tracking && !enableTracking()) {
+            // 추적을 켤 수 없으면 보관하지 않고 읽기만 한다
+            return reader.apply(connection.sync());
+        }
+
+        Slot pending = Slot.placeholder();
+        store.put(key, pending);
+        T value = reader.apply(connection.sync());
+        // 읽는 사이 무효화나 연결 끊김으로 자리표시가 지워졌으면 보관하지 않는다
+        if (tracking) {
+            store.asMap().replace(key, pending, Slot.of(value));
+        } else {
+            store.asMap().remove(key, pending);
+        }
+        return value;
+    }
+
+    /**
+     * 노드 캐시에서 키 제거 (Redis 무효화와 별개로 즉시 버려야 할 때)
+     */
+    public void evict(String key) {
+        store.invalidate(key);
+    }
+
+    private synchronized boolean enableTracking() {
+        if (tracking) {
+            return true;
+        }
+        try {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            // 추적을 다시 켜기 전에 보관한 값은 무효화를 받지 못했을 수 있다
+            flush("추적 재시작");
+            tracking = true;
+            log.info("클라이언트 추적 시작");
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("클라이언트 추적 시작 실패, 노드 캐시 없이 조회 - 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof Collection<?> invalidated) {
+            for (Object key : invalidated) {
+                store.invalidate(String.valueOf(key));
+            }
+            invalidationCounter.increment(invalidated.size());
+        } else {
+            // 키 목록이 없는 무효화는 전체 무효화 (FLUSHALL, FLUSHDB)
+            flush("전체 무효화");
+        }
+    }
+
+    private void flush(String reason) {
+        long size = store.estimatedSize();
+        store.invalidateAll();
+        flushCounter.increment();
+        log.info("클라이언트 추적 캐시 비움 - 사유: {}, 키 수: {}", reason, size);
+    }
+
+    @Override
+    public void destroy() {
+        connection.close();
+        redisClient.shutdown();
+    }
+
+    /**
+     * 노드 캐시 항목 (읽는 중인 자리표시 또는 값, null 값 포함)
+     * 자리표시는 인스턴스 비교로 구분하므로 equals를 재정의하지 않는다.
+     */
+    private static final class Slot {
+        private final boolean pending;
+        private final Object value;
+
+        private Slot(boolean pending, Object value) {
+            this.pending = pending;
+            this.value = value;
+        }
+
+        static Slot placeholder() {
+            return new Slot(true, null);
+        }
+
+        static Slot of(Object value) {
+            return new Slot(false, value);
+        }
+
+        boolean pending() {
+            return pending;
+        }
+
+        Object value() {
+            return value;
+        }
+    }
+}
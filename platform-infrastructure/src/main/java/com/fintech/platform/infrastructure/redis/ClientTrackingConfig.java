@@ -0,0 +1,61 @@
+package com.fintech.platform.infrastructure.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Redis 클라이언트 측 캐시 설정
+ * 추적은 연결 단위로 켜지므로 Spring Data Redis 연결 풀과 별개로 RESP3 전용 연결을 만든다.
+ * 접속 정보는 spring.data.redis.* 를 그대로 사용한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fintech.redis.client-tracking", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ClientTrackingProperties.class)
+public class ClientTrackingConfig {
+
+    @Bean
+    public ClientTrackingCache clientTrackingCache(RedisProperties redisProperties,
+                                                   ClientTrackingProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        RedisClient redisClient = RedisClient.create(redisUri(redisProperties));
+        redisClient.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .autoReconnect(true)
+                .build());
+        return new ClientTrackingCache(redisClient, properties, meterRegistry);
+    }
+
+    private RedisURI redisUri(RedisProperties redisProperties) {
+        if (StringUtils.hasText(redisProperties.getUrl())) {
+            return RedisURI.create(redisProperties.getUrl());
+        }
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(redisProperties.getDatabase())
+                .withSsl(redisProperties.getSsl().isEnabled());
+        if (redisProperties.getTimeout() != null) {
+            builder.withTimeout(redisProperties.getTimeout());
+        }
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            if (StringUtils.hasText(redisProperties.getUsername())) {
+                builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword().toCharArray());
+            } else {
+                builder.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.fintech.platform.infrastructure.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 클라이언트 측 캐시 설정 (fintech.redis.client-tracking.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.redis.client-tracking")
+public class ClientTrackingProperties {
+
+    /**
+     * 사용 여부 (true면 RESP3 추적 전용 연결을 하나 연다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 노드 내 보관 최대 키 수 (초과하면 오래 쓰지 않은 키부터 버린다)
+     */
+    private long maximumSize = 100_000;
+}
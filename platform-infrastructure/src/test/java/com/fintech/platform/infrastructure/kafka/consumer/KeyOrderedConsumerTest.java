@@ -0,0 +1,188 @@
+package com.fintech.platform.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키 순서 보장 컨슈머 테스트 (내장 Kafka 브로커)
+ */
+class KeyOrderedConsumerTest {
+    private static final String DELAY_TOPIC = "key-ordered-delay";
+    private static final String INTERRUPT_TOPIC = "key-ordered-interrupt";
+    private static final String REPLAY_TOPIC = "key-ordered-replay";
+    private static final String NOT_BEFORE = "x-not-before";
+
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 2, DELAY_TOPIC, INTERRUPT_TOPIC, REPLAY_TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void holdsPartitionUntilNotBeforeWithoutBlockingOthers() throws Exception {
+        Map<String, Long> handledAt = new ConcurrentHashMap<>();
+        KeyOrderedConsumer<String> consumer = factory().create(
+                "key-ordered-delay-test",
+                List.of(DELAY_TOPIC),
+                new StringDeserializer(),
+                records -> records.forEach(record -> handledAt.put(record.key(), System.currentTimeMillis())),
+                KeyOrderedConsumerOptions.builder()
+                        .name("delay-test")
+                        .autoOffsetReset("earliest")
+                        .notBefore(headers -> headers.lastHeader(NOT_BEFORE) == null ? 0L
+                                : Long.parseLong(new String(headers.lastHeader(NOT_BEFORE).value(), StandardCharsets.UTF_8)))
+                        .build());
+        consumer.start();
+        try {
+            // 파티션 할당이 끝날 때까지 기다린다
+            send(DELAY_TOPIC, 1, "warm-up", List.of());
+            awaitHandled(handledAt, "warm-up");
+
+            long dueAt = System.currentTimeMillis() + 1_500;
+            send(DELAY_TOPIC, 0, "delayed", List.of(new RecordHeader(NOT_BEFORE, String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8))));
+            send(DELAY_TOPIC, 1, "immediate", List.of());
+            awaitHandled(handledAt, "immediate");
+            awaitHandled(handledAt, "delayed");
+
+            assertThat(handledAt.get("immediate")).isLessThan(dueAt);
+            assertThat(handledAt.get("delayed")).isGreaterThanOrEqualTo(dueAt);
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    void interruptedBatchIsLeftUnprocessedInsteadOfFailed() throws Exception {
+        send(INTERRUPT_TOPIC, 0, "stuck", List.of());
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger handedOver = new AtomicInteger();
+        KeyOrderedConsumer<String> consumer = factory().create(
+                "key-ordered-interrupt-test",
+                List.of(INTERRUPT_TOPIC),
+                new StringDeserializer(),
+                records -> {
+                    started.countDown();
+                    // 종료 시 인터럽트될 때까지 끝나지 않는 처리
+                    new CountDownLatch(1).await();
+                },
+                (records, cause) -> handedOver.incrementAndGet(),
+                KeyOrderedConsumerOptions.builder()
+                        .name("interrupt-test")
+                        .autoOffsetReset("earliest")
+                        .maxAttempts(1)
+                        .drainTimeout(Duration.ofMillis(300))
+                        .build());
+        consumer.start();
+        assertThat(started.await(30, TimeUnit.SECONDS)).isTrue();
+        consumer.stop();
+        Thread.sleep(500);
+
+        assertThat(handedOver.get()).isZero();
+        // 처리하지 못한 레코드 위치를 넘어 커밋하지 않는다
+        OffsetAndMetadata committed = committedOffset("key-ordered-interrupt-test", new TopicPartition(INTERRUPT_TOPIC, 0));
+        assertThat(committed == null ? 0L : committed.offset()).isZero();
+    }
+
+    @Test
+    void replaysRecentRecordsAfterRestartWithSameGroup() throws Exception {
+        send(REPLAY_TOPIC, 0, "before-restart", List.of());
+
+        Map<String, Long> firstRun = new ConcurrentHashMap<>();
+        KeyOrderedConsumer<String> first = replayConsumer(firstRun);
+        first.start();
+        try {
+            awaitHandled(firstRun, "before-restart");
+        } finally {
+            first.stop();
+        }
+        // 같은 그룹이 이미 처리한 위치까지 커밋했다
+        assertThat(committedOffset("key-ordered-replay-test", new TopicPartition(REPLAY_TOPIC, 0)).offset()).isEqualTo(1L);
+
+        Map<String, Long> secondRun = new ConcurrentHashMap<>();
+        KeyOrderedConsumer<String> second = replayConsumer(secondRun);
+        second.start();
+        try {
+            send(REPLAY_TOPIC, 0, "after-restart", List.of());
+            awaitHandled(secondRun, "after-restart");
+            assertThat(secondRun).containsKey("before-restart");
+        } finally {
+            second.stop();
+        }
+    }
+
+    private KeyOrderedConsumer<String> replayConsumer(Map<String, Long> handledAt) {
+        return factory().create(
+                "key-ordered-replay-test",
+                List.of(REPLAY_TOPIC),
+                new StringDeserializer(),
+                records -> records.forEach(record -> handledAt.put(record.key(), System.currentTimeMillis())),
+                KeyOrderedConsumerOptions.builder()
+                        .name("replay-test")
+                        .autoOffsetReset("earliest")
+                        .replayOnStart(Duration.ofHours(1))
+                        .build());
+    }
+
+    private static void awaitHandled(Map<String, Long> handledAt, String key) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!handledAt.containsKey(key) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(handledAt).containsKey(key);
+    }
+
+    private KeyOrderedConsumerFactory factory() {
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of(broker.getBrokersAsString()));
+        return new KeyOrderedConsumerFactory(kafkaProperties, new SimpleMeterRegistry());
+    }
+
+    private void send(String topic, int partition, String key, List<Header> headers) throws Exception {
+        Map<String, Object> config = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(config, new StringSerializer(), new StringSerializer())) {
+            producer.send(new ProducerRecord<>(topic, partition, key, key, headers)).get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private OffsetAndMetadata committedOffset(String groupId, TopicPartition partition) throws Exception {
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            return admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata().get(30, TimeUnit.SECONDS)
+                    .get(partition);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.platform.infrastructure.kafka.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이벤트 발행기 테스트 (내장 Kafka 브로커)
+ *
+ * 처리량 측정은 @Tag("benchmark") - 실행: ./gradlew :platform-infrastructure:test -Pbenchmark --tests '*KafkaEventPublisherTest'
+ */
+class KafkaEventPublisherTest {
+    private static final String TOPIC = "publisher-test";
+    private static final String BACKPRESSURE_TOPIC = "publisher-backpressure";
+    private static final String BENCHMARK_TOPIC = "publisher-benchmark";
+    private static final int PARTITIONS = 6;
+
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC, BACKPRESSURE_TOPIC, BENCHMARK_TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void publishesKeyedEventsWithTypeHeaders() throws Exception {
+        KafkaEventPublisher publisher = publisher(new KafkaPublisherProperties());
+        List<CompletableFuture<PublishResult>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 30; i++) {
+                results.add(publisher.publish(new TestEvent(TOPIC, "11000000000" + (i % 3), EventClass.TRANSACTION, i)));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            publisher.destroy();
+        }
+
+        // 같은 키는 같은 파티션에 발행 순서대로 쌓인다
+        Map<String, List<Integer>> partitionsByKey = new HashMap<>();
+        Map<String, List<Long>> offsetsByKey = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            String key = "11000000000" + (i % 3);
+            PublishResult result = results.get(i).join();
+            partitionsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(result.partition());
+            offsetsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(result.offset());
+        }
+        partitionsByKey.values().forEach(partitions -> assertThat(partitions).containsOnly(partitions.get(0)));
+        offsetsByKey.values().forEach(offsets -> assertThat(offsets).isSorted());
+
+        List<ConsumerRecord<String, byte[]>> records = consume(TOPIC, results.size());
+        assertThat(records).hasSize(results.size());
+        ConsumerRecord<String, byte[]> first = records.get(0);
+        assertThat(new String(first.headers().lastHeader(KafkaEventPublisher.HEADER_EVENT_TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("TEST_EVENT");
+        assertThat(new String(first.headers().lastHeader(KafkaEventPublisher.HEADER_CONTENT_TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("application/json");
+    }
+
+    @Test
+    void rejectsWhenInFlightLimitIsExhausted() {
+        KafkaPublisherProperties properties = new KafkaPublisherProperties();
+        properties.setMaxInFlightBytes(64);
+        properties.setMaxBlock(Duration.ofMillis(500));
+        // 배치를 오래 붙잡아 두어 확인 전 바이트가 빠지지 않게 한다
+        KafkaPublisherProperties.Preset preset = new KafkaPublisherProperties.Preset();
+        preset.setLingerMs(5_000);
+        properties.getPresets().put(EventClass.AUDIT, preset);
+
+        KafkaEventPublisher publisher = publisher(properties);
+        try {
+            publisher.publish(new TestEvent(BACKPRESSURE_TOPIC, "110000000001", EventClass.AUDIT, 1));
+            assertThatThrownBy(() -> publisher.publish(new TestEvent(BACKPRESSURE_TOPIC, "110000000001", EventClass.AUDIT, 2)))
+                    .isInstanceOf(EventPublishRejectedException.class);
+        } finally {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void throughputPerEventClass() throws Exception {
+        int events = 200_000;
+        for (EventClass eventClass : EventClass.values()) {
+            KafkaEventPublisher publisher = publisher(new KafkaPublisherProperties());
+            try {
+                // 프로듀서 연결/메타데이터 준비
+                publisher.publish(new TestEvent(BENCHMARK_TOPIC, "110000000000", eventClass, -1)).get(30, TimeUnit.SECONDS);
+
+                List<CompletableFuture<PublishResult>> results = new ArrayList<>(events);
+                long begin = System.nanoTime();
+                for (int i = 0; i < events; i++) {
+                    results.add(publisher.publish(new TestEvent(BENCHMARK_TOPIC, String.valueOf(110000000000L + i % 1000), eventClass, i)));
+                }
+                long sent = System.nanoTime() - begin;
+                CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(120, TimeUnit.SECONDS);
+                long acked = System.nanoTime() - begin;
+
+                System.out.printf("[%s] %d건, 발행 호출: %.0f건/s, 브로커 확인까지: %.0f건/s (%.2fs)%n",
+                        eventClass, events, events / (sent / 1e9), events / (acked / 1e9), acked / 1e9);
+                assertThat(results).allMatch(future -> !future.isCompletedExceptionally());
+            } finally {
+                publisher.destroy();
+            }
+        }
+    }
+
+    private KafkaEventPublisher publisher(KafkaPublisherProperties properties) {
+        Map<String, Object> base = new HashMap<>();
+        base.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        return new KafkaEventPublisher(base, properties, List.of(),
+                new JsonEventSerializer(new ObjectMapper()), new SimpleMeterRegistry());
+    }
+
+    private List<ConsumerRecord<String, byte[]>> consume(String topic, int expected) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "publisher-test-" + System.nanoTime());
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        try (KafkaConsumer<String, byte[]> consumer =
+                     new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer())) {
+            consumer.subscribe(List.of(topic));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (records.size() < expected && System.nanoTime() < deadline) {
+                ConsumerRecords<String, byte[]> polled = consumer.poll(Duration.ofMillis(200));
+                polled.forEach(records::add);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 약 200바이트 JSON 이벤트
+     */
+    record TestEvent(String topic, String key, EventClass eventClass, long sequence) implements PublishableEvent {
+
+        @Override
+        public String eventType() {
+            return "TEST_EVENT";
+        }
+
+        public String getDescription() {
+            return "테스트 거래 이벤트 본문 - 압축 효과를 볼 수 있도록 반복되는 필드 값을 담는다";
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.fintech.platform.infrastructure.lock;
+
+import com.fintech.platform.shared.lock.DistributedLock;
+import com.fintech.platform.shared.lock.LockAcquisitionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnectionException;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분산 락 Aspect 테스트
+ *
+ * Redis 락은 키마다 재진입 락 하나를 두는 메모리 대용으로 바꾸고, 잡은/푼 순서를 기록한다.
+ */
+class DistributedLockAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, ReentrantLock> remoteLocks = new ConcurrentHashMap<>();
+    private final List<String> acquired = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> released = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> unreachable = ConcurrentHashMap.newKeySet();
+    private final Set<String> heldElsewhere = ConcurrentHashMap.newKeySet();
+    private final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+    private Ledger ledger;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getLock(anyString())).thenAnswer(invocation -> remoteLock(invocation.getArgument(0)));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("lockPolicy", new LockPolicy());
+        DistributedLockAspect aspect = new DistributedLockAspect(redissonClient, new DistributedLockProperties(),
+                new LockContentionTracker(100, meterRegistry), meterRegistry, beanFactory);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new Ledger());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            DistributedLock distributedLock = invocation.getMethod().getAnnotation(DistributedLock.class);
+            return distributedLock == null ? invocation.proceed()
+                    : aspect.lock(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation), distributedLock);
+        });
+        ledger = (Ledger) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherThread.shutdownNow();
+    }
+
+    @Test
+    void waitersQueueOnNodeLockBeforeAskingRedis() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch leave = new CountDownLatch(1);
+        Future<?> holder = otherThread.submit(() -> ledger.withdraw("A", () -> {
+            entered.countDown();
+            await(leave);
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService waiterThread = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiter = waiterThread.submit(() -> ledger.withdraw("A", () -> { }));
+            while (meterRegistry.counter("lock.contended", "name", "account", "level", "local").count() == 0) {
+                Thread.sleep(5);
+            }
+
+            // 같은 노드의 대기자는 노드 내 락에서 기다리므로 Redis 락은 보유자 한 번만 요청했다
+            assertThat(acquired).containsExactly("lock:account:A");
+            leave.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            waiter.get(5, TimeUnit.SECONDS);
+        } finally {
+            waiterThread.shutdownNow();
+        }
+
+        assertThat(acquired).containsExactly("lock:account:A", "lock:account:A");
+        assertThat(meterRegistry.counter("lock.contended", "name", "account", "level", "remote").count()).isZero();
+    }
+
+    @Test
+    void releasesNodeLockWhenRedisAcquireFails() throws Exception {
+        unreachable.add("lock:account:A");
+        assertThatThrownBy(() -> ledger.withdraw("A", () -> { }))
+                .isInstanceOf(LockAcquisitionException.class)
+                .hasCauseInstanceOf(RedisConnectionException.class);
+
+        unreachable.clear();
+        heldElsewhere.add("lock:account:A");
+        assertThatThrownBy(() -> ledger.withdraw("A", () -> { }))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        assertFreeForOtherThreads("A", "A");
+    }
+
+    @Test
+    void skipsLockingWhenConditionIsFalse() {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        ledger.withdrawIfRequired("HOT_A", () -> ran.set(true));
+
+        assertThat(ran).isTrue();
+        assertThat(acquired).isEmpty();
+        ledger.withdrawIfRequired("A", () -> { });
+        assertThat(acquired).containsExactly("lock:account:A");
+    }
+
+    @Test
+    void reentersWhenNestedCallUsesSameKey() throws Exception {
+        // TransferDebitService.debitIfAbsent 안에서 같은 계좌 키로 보류 매입/출금을 부르는 경우
+        ledger.withdraw("A", () -> ledger.withdrawIfRequired("A", () -> { }));
+
+        assertThat(acquired).containsExactly("lock:account:A", "lock:account:A");
+        assertThat(released).containsExactly("lock:account:A", "lock:account:A");
+        assertFreeForOtherThreads("A", "A");
+    }
+
+    @Test
+    void locksMultipleKeysInSortedOrderAndReleasesInReverse() {
+        ledger.transfer("B", "A", () -> assertThat(acquired).containsExactly("lock:account:A", "lock:account:B"));
+        ledger.transfer("A", "B", () -> { });
+
+        assertThat(acquired).containsExactly(
+                "lock:account:A", "lock:account:B", "lock:account:A", "lock:account:B");
+        assertThat(released).containsExactly(
+                "lock:account:B", "lock:account:A", "lock:account:B", "lock:account:A");
+    }
+
+    @Test
+    void locksRepeatedKeyOnce() {
+        ledger.transfer("A", "A", () -> { });
+
+        assertThat(acquired).containsExactly("lock:account:A");
+        assertThat(released).containsExactly("lock:account:A");
+    }
+
+    @Test
+    void releasesHeldKeysWhenLaterKeyTimesOut() throws Exception {
+        heldElsewhere.add("lock:account:B");
+
+        assertThatThrownBy(() -> ledger.transfer("A", "B", () -> { }))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        assertThat(acquired).containsExactly("lock:account:A");
+        assertThat(released).containsExactly("lock:account:A");
+        assertFreeForOtherThreads("A", "B");
+    }
+
+    @Test
+    void releasesHeldKeysWhenLockStoreFails() throws Exception {
+        unreachable.add("lock:account:B");
+
+        assertThatThrownBy(() -> ledger.transfer("A", "B", () -> { }))
+                .isInstanceOf(LockAcquisitionException.class)
+                .hasCauseInstanceOf(RedisConnectionException.class);
+
+        assertThat(released).containsExactly("lock:account:A");
+        assertFreeForOtherThreads("A", "B");
+    }
+
+    /**
+     * 다른 스레드가 두 키를 바로 잡을 수 있는지 (노드 내 락과 Redis 락이 모두 풀렸는지)
+     */
+    private void assertFreeForOtherThreads(String... accounts) throws Exception {
+        heldElsewhere.clear();
+        unreachable.clear();
+        boolean ran = otherThread.submit(() -> {
+            long startedAt = System.nanoTime();
+            ledger.transfer(accounts[0], accounts[1], () -> { });
+            return System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(200);
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(ran).isTrue();
+    }
+
+    /**
+     * Redis 락 대용 - 키마다 재진입 락 하나 (다른 곳에서 잡힌 키는 대기 없이 실패, 연결 불가 키는 예외)
+     */
+    private RLock remoteLock(String key) throws InterruptedException {
+        ReentrantLock lock = remoteLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        RLock remoteLock = mock(RLock.class);
+        when(remoteLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            if (unreachable.contains(key)) {
+                throw new RedisConnectionException("Redis 연결 실패");
+            }
+            if (heldElsewhere.contains(key) || !lock.tryLock(invocation.<Long>getArgument(0), invocation.getArgument(2))) {
+                return false;
+            }
+            acquired.add(key);
+            return true;
+        });
+        doAnswer(invocation -> {
+            lock.unlock();
+            released.add(key);
+            return null;
+        }).when(remoteLock).unlock();
+        return remoteLock;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 락 적용 조건 빈 - HOT_ 로 시작하는 계좌는 락 없이 처리한다
+     */
+    static class LockPolicy {
+
+        public boolean requiresLock(String account) {
+            return !account.startsWith("HOT_");
+        }
+    }
+
+    /**
+     * 락 대상 - 본문은 락 안에서 실행된다
+     */
+    static class Ledger {
+
+        @DistributedLock(name = "account", key = "#account", waitTime = 2000, leaseTime = 3000)
+        public void withdraw(String account, Runnable body) {
+            body.run();
+        }
+
+        @DistributedLock(name = "account", key = "#account", condition = "@lockPolicy.requiresLock(#account)",
+                waitTime = 300, leaseTime = 3000)
+        public void withdrawIfRequired(String account, Runnable body) {
+            body.run();
+        }
+
+        @DistributedLock(name = "account", key = "{#from, #to}", waitTime = 300, leaseTime = 3000)
+        public void transfer(String from, String to, Runnable body) {
+            body.run();
+        }
+    }
+}
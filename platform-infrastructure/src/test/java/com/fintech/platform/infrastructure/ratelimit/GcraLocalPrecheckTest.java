@@ -0,0 +1,138 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.fintech.platform.infrastructure.ratelimit.GcraRateLimiterTest.limit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 내 사전 검사 테스트 - 사전 검사가 Redis보다 엄격하지 않은지
+ *
+ * Redis 대신 판정 스크립트와 같은 계산을 하는 대용을 쓰고, 호출 전후로 왕복 지연을 넣는다.
+ * 두 노드가 같은 대용을 나눠 쓰며 한도를 넘게 요청하고, 노드 내에서 거절할 때마다
+ * 그 노드가 알려준 재시도 시각이 Redis가 허용하기 시작하는 시각보다 늦지 않은지 확인한다.
+ */
+class GcraLocalPrecheckTest {
+    private static final long ONE_WAY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void localRejectionNeverOutlastsRedisRejection() {
+        FakeRedis redis = new FakeRedis();
+        RateLimitProperties properties = new RateLimitProperties();
+        GcraRateLimiter nodeA = new GcraRateLimiter(redis, properties, new SimpleMeterRegistry());
+        GcraRateLimiter nodeB = new GcraRateLimiter(redis, properties, new SimpleMeterRegistry());
+        // 계좌: 초당 20건(간격 50ms), 한 번에 4건 / 클라이언트: 초당 30건, 한 번에 6건
+        RateLimitProperties.Limit accountLimit = limit(20, Duration.ofSeconds(1), 4);
+        RateLimitProperties.Limit clientLimit = limit(30, Duration.ofSeconds(1), 6);
+
+        int localRejections = 0;
+        int allowed = 0;
+        for (int i = 0; i < 2_000; i++) {
+            GcraRateLimiter node = i % 3 == 0 ? nodeB : nodeA;
+            List<RateLimitKey> keys = List.of(
+                    new RateLimitKey("account", i % 2 == 0 ? "A" : "B", accountLimit),
+                    new RateLimitKey("client", "C", clientLimit));
+
+            long requestedAt = System.nanoTime();
+            RateLimitDecision decision = node.tryAcquire("transfer", keys);
+            if (decision.local()) {
+                localRejections++;
+                assertThat(decision.allowed()).isFalse();
+                assertThat(requestedAt + decision.retryAfter().toNanos())
+                        .as("노드 내 재시도 시각은 Redis가 허용하기 시작하는 시각 이하")
+                        .isLessThanOrEqualTo(redis.allowedFromNanos(keys));
+            } else if (decision.allowed()) {
+                allowed++;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+
+        assertThat(localRejections).isPositive();
+        assertThat(allowed).isPositive();
+    }
+
+    /**
+     * 판정 스크립트 대용 - 시각은 System.nanoTime()을 마이크로초로 자른 값 (노드와 같은 시계)
+     */
+    private static final class FakeRedis extends StringRedisTemplate {
+        private final Map<String, Long> tats = new HashMap<>();
+        private final Map<String, Long> intervals = new HashMap<>();
+        private final Map<String, Long> tolerances = new HashMap<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            LockSupport.parkNanos(ONE_WAY_DELAY_NANOS);
+            List<Long> result = evaluate(keys, args);
+            LockSupport.parkNanos(ONE_WAY_DELAY_NANOS);
+            return (T) result;
+        }
+
+        private synchronized List<Long> evaluate(List<String> keys, Object[] args) {
+            long now = System.nanoTime() / 1000;
+            long allowed = 1;
+            long index = 1;
+            long remaining = -1;
+            long retry = 0;
+            long reset = 0;
+            long[] newTats = new long[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                long interval = Long.parseLong((String) args[i * 2]);
+                long tolerance = Long.parseLong((String) args[i * 2 + 1]);
+                intervals.put(keys.get(i), interval);
+                tolerances.put(keys.get(i), tolerance);
+                long tat = Math.max(tats.getOrDefault(keys.get(i), now), now);
+                long newTat = tat + interval;
+                long diff = newTat - now;
+                if (diff > tolerance) {
+                    if (allowed == 1 || diff - tolerance > retry) {
+                        index = i + 1;
+                    }
+                    allowed = 0;
+                    retry = Math.max(retry, diff - tolerance);
+                } else if (allowed == 1) {
+                    long left = (tolerance - diff) / interval;
+                    if (remaining < 0 || left < remaining) {
+                        remaining = left;
+                        index = i + 1;
+                    }
+                }
+                newTats[i] = newTat;
+                reset = Math.max(reset, diff);
+            }
+            if (allowed == 1) {
+                for (int i = 0; i < keys.size(); i++) {
+                    tats.put(keys.get(i), newTats[i]);
+                }
+            } else {
+                remaining = 0;
+            }
+            return List.of(allowed, index, remaining, retry, reset);
+        }
+
+        /**
+         * 대상이 모두 허용되기 시작하는 시각 (nanoTime 기준, 마이크로초 절삭분 포함)
+         */
+        synchronized long allowedFromNanos(List<RateLimitKey> keys) {
+            long from = Long.MIN_VALUE;
+            for (RateLimitKey key : keys) {
+                String redisKey = "ratelimit:{transfer}:" + key.scope() + ":" + key.id();
+                Long tat = tats.get(redisKey);
+                if (tat != null) {
+                    from = Math.max(from, tat + intervals.get(redisKey) - tolerances.get(redisKey));
+                }
+            }
+            return from == Long.MIN_VALUE ? from : from * 1000 + 999;
+        }
+    }
+}
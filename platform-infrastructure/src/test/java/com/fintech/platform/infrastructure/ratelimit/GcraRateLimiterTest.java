@@ -0,0 +1,133 @@
+package com.fintech.platform.infrastructure.ratelimit;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 요청 한도기 테스트 (Redis 7 컨테이너)
+ *
+ * 판정 스크립트를 실제 Redis에서 실행한다. 노드 내 사전 검사는 끄고 Redis 판정만 본다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class GcraRateLimiterTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLocalPrecheck(false);
+        rateLimiter = new GcraRateLimiter(redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void allowsBurstAtOnceThenRejectsWithOneIntervalRetryAfter() throws Exception {
+        // 초당 10건(간격 100ms), 한 번에 5건
+        List<RateLimitKey> keys = List.of(new RateLimitKey("account", "A", limit(10, Duration.ofSeconds(1), 5)));
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            RateLimitDecision decision = rateLimiter.tryAcquire("transfer", keys);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.limit()).isEqualTo(5);
+            assertThat(decision.remaining()).isEqualTo(4 - i);
+        }
+        RateLimitDecision rejected = rateLimiter.tryAcquire("transfer", keys);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // 첫 요청 이후 지난 시간만큼 간격 하나(100ms)에서 줄어든다
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfter())
+                .isLessThanOrEqualTo(Duration.ofMillis(100))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(100).minus(elapsed));
+
+        Thread.sleep(rejected.retryAfter().toMillis() + 5);
+        assertThat(rateLimiter.tryAcquire("transfer", keys).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("transfer", keys).allowed()).isFalse();
+    }
+
+    @Test
+    void rejectedMultiKeyRequestChargesNoKey() {
+        RateLimitProperties.Limit account = limit(1, Duration.ofHours(1), 1);
+        RateLimitProperties.Limit client = limit(3, Duration.ofHours(1), 3);
+
+        assertThat(rateLimiter.tryAcquire("transfer", keys("A", account, client)).allowed()).isTrue();
+        String clientTat = redisTemplate.opsForValue().get("ratelimit:{transfer}:client:C");
+
+        // 계좌 한도에서 거절 - 클라이언트 한도는 차감하지 않는다
+        RateLimitDecision rejected = rateLimiter.tryAcquire("transfer", keys("A", account, client));
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.limit()).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get("ratelimit:{transfer}:client:C")).isEqualTo(clientTat);
+
+        assertThat(rateLimiter.tryAcquire("transfer", keys("B", account, client)).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("transfer", keys("D", account, client)).allowed()).isTrue();
+
+        // 클라이언트 한도에서 거절 - 처음 보는 계좌 키도 만들지 않는다
+        RateLimitDecision clientRejected = rateLimiter.tryAcquire("transfer", keys("E", account, client));
+        assertThat(clientRejected.allowed()).isFalse();
+        assertThat(clientRejected.limit()).isEqualTo(3);
+        assertThat(redisTemplate.hasKey("ratelimit:{transfer}:account:E")).isFalse();
+    }
+
+    @Test
+    void keysOfOneRequestShareClusterSlot() {
+        rateLimiter.tryAcquire("transfer", keys("A", limit(10, Duration.ofSeconds(1), 0),
+                limit(100, Duration.ofSeconds(1), 0)));
+
+        Set<String> keys = redisTemplate.keys("ratelimit:*");
+        assertThat(keys).containsExactlyInAnyOrder("ratelimit:{transfer}:account:A", "ratelimit:{transfer}:client:C");
+        assertThat(keys.stream().map(SlotHash::getSlot).distinct()).hasSize(1);
+    }
+
+    private static List<RateLimitKey> keys(String account, RateLimitProperties.Limit accountLimit,
+                                           RateLimitProperties.Limit clientLimit) {
+        return List.of(new RateLimitKey("account", account, accountLimit), new RateLimitKey("client", "C", clientLimit));
+    }
+
+    static RateLimitProperties.Limit limit(int rate, Duration period, int burst) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRate(rate);
+        limit.setPeriod(period);
+        limit.setBurst(burst);
+        return limit;
+    }
+}
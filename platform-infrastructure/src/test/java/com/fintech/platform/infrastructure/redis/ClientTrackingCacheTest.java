@@ -0,0 +1,164 @@
+package com.fintech.platform.infrastructure.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 클라이언트 측 캐시 테스트 (Redis 7 컨테이너)
+ *
+ * 읽기 함수 호출 수와 Redis INFO의 처리 명령 수로 실제 왕복을 세어, 노드 캐시가 생략한 왕복 수를 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClientTrackingCacheTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClientTrackingCache cache;
+    private RedisClient writerClient;
+    private StatefulRedisConnection<String, String> writer;
+    private RedisCommands<String, String> redis;
+
+    @BeforeEach
+    void setUp() {
+        RedisURI uri = RedisURI.create(REDIS.getHost(), REDIS.getMappedPort(6379));
+        // 쓰기는 다른 클라이언트에서 한다 (다른 노드의 쓰기와 같은 상황)
+        writerClient = RedisClient.create(uri);
+        writer = writerClient.connect();
+        redis = writer.sync();
+        redis.flushall();
+
+        RedisClient trackingClient = RedisClient.create(uri);
+        trackingClient.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .build());
+        cache = new ClientTrackingCache(trackingClient, new ClientTrackingProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+        writer.close();
+        writerClient.shutdown();
+    }
+
+    @Test
+    void servesRepeatedReadsWithoutRoundTrips() {
+        int keys = 10;
+        int readsPerKey = 100;
+        for (int i = 0; i < keys; i++) {
+            redis.set("merchant:balance:" + i, String.valueOf(i * 1000));
+        }
+        AtomicInteger roundTrips = new AtomicInteger();
+        long commandsBefore = processedCommands();
+
+        for (int round = 0; round < readsPerKey; round++) {
+            for (int i = 0; i < keys; i++) {
+                String key = "merchant:balance:" + i;
+                String value = cache.read(key, commands -> {
+                    roundTrips.incrementAndGet();
+                    return commands.get(key);
+                });
+                assertThat(value).isEqualTo(String.valueOf(i * 1000));
+            }
+        }
+
+        // INFO 자신도 명령 하나로 센다
+        long commandsSent = processedCommands() - commandsBefore - 1;
+        int reads = keys * readsPerKey;
+        System.out.printf("[클라이언트 추적] 읽기 %d건, Redis 왕복 %d건 (명령 처리 %d건), 생략 %d건 (%.1f%%)%n",
+                reads, roundTrips.get(), commandsSent, reads - roundTrips.get(),
+                100.0 * (reads - roundTrips.get()) / reads);
+
+        assertThat(roundTrips.get()).isEqualTo(keys);
+        assertThat(commandsSent).isEqualTo(keys);
+        assertThat(counter("redis.client_tracking.hits")).isEqualTo(reads - keys);
+        assertThat(counter("redis.client_tracking.misses")).isEqualTo(keys);
+    }
+
+    @Test
+    void invalidatesKeyWrittenByAnotherClient() throws InterruptedException {
+        redis.set("limit:merchant-1", "100");
+        assertThat(cache.get("limit:merchant-1")).isEqualTo("100");
+        assertThat(cache.get("limit:merchant-1")).isEqualTo("100");
+
+        redis.set("limit:merchant-1", "200");
+        await(() -> counter("redis.client_tracking.invalidations") >= 1);
+
+        assertThat(cache.get("limit:merchant-1")).isEqualTo("200");
+        assertThat(counter("redis.client_tracking.misses")).isEqualTo(2);
+    }
+
+    @Test
+    void cachesMissingKeysAndHashesUntilWritten() throws InterruptedException {
+        assertThat(cache.get("absent")).isNull();
+        assertThat(cache.get("absent")).isNull();
+        assertThat(counter("redis.client_tracking.hits")).isEqualTo(1);
+
+        redis.hset("merchant:1", Map.of("name", "가맹점", "tier", "GOLD"));
+        assertThat(cache.hgetall("merchant:1")).containsEntry("tier", "GOLD");
+        redis.hset("merchant:1", "tier", "PLATINUM");
+        await(() -> counter("redis.client_tracking.invalidations") >= 1);
+
+        assertThat(cache.hgetall("merchant:1")).containsEntry("tier", "PLATINUM");
+    }
+
+    @Test
+    void flushesEverythingOnFlushAll() throws InterruptedException {
+        redis.set("a", "1");
+        redis.set("b", "2");
+        cache.get("a");
+        cache.get("b");
+        double flushesBefore = counter("redis.client_tracking.flushes");
+
+        redis.flushall();
+        await(() -> counter("redis.client_tracking.flushes") > flushesBefore);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+    }
+
+    private long processedCommands() {
+        String stats = redis.info("stats");
+        for (String line : stats.split("\r?\n")) {
+            if (line.startsWith("total_commands_processed:")) {
+                return Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+            }
+        }
+        throw new IllegalStateException("total_commands_processed 항목이 없습니다.");
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintech.platform.shared.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 애너테이션
+ *
+ * 같은 키에 대한 메서드 실행을 노드 간에 직렬화한다.
+ * 락은 트랜잭션보다 바깥에서 잡히므로 커밋이 끝난 뒤에 풀린다.
+ *
+ * <pre>
+ * &#64;DistributedLock(name = "account", key = "#accountNumber.value", leaseTime = 3000)
+ * public Transaction withdraw(AccountNumber accountNumber, Money amount, String description) { ... }
+ * </pre>
+ *
+ * 키 SpEL이 컬렉션/배열이면 모든 키를 잡은 뒤 실행한다. 키는 정렬한 순서로 잡으므로
+ * 같은 키 묶음을 서로 다른 순서로 넘겨도 교착이 생기지 않는다. (A→B, B→A 이체 등)
+ * <pre>
+ * &#64;DistributedLock(name = "account", key = "{#from.value, #to.value}", leaseTime = 3000)
+ * </pre>
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedLock {
+
+    /**
+     * 락 이름 (락 키 접두어이자 지표 태그, 예: account)
+     */
+    String name();
+
+    /**
+     * 락 키 SpEL (메서드 파라미터를 #이름으로 참조, 컬렉션/배열이면 여러 키)
+     */
+    String key();
+
+    /**
+     * 락 적용 조건 SpEL (비어 있으면 항상 적용, @빈이름 으로 빈 참조 가능)
+     */
+    String condition() default "";
+
+    /**
+     * 락 획득 최대 대기 시간 (노드 내 대기 + Redis 대기 합계)
+     */
+    long waitTime() default 3000;
+
+    /**
+     * 락 임대 시간 (작업이 끝나지 않아도 이 시간이 지나면 Redis 락이 풀린다)
+     * 작업 최대 소요 시간보다 넉넉하게, 노드 장애 시 다른 노드가 기다릴 수 있는 시간보다 짧게 잡는다.
+     * -1이면 작업이 끝날 때까지 자동 연장한다.
+     */
+    long leaseTime() default 5000;
+
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,23 @@
+package com.fintech.platform.shared.lock;
+
+/**
+ * 락 획득 실패 예외 (대기 시간 초과, 락 저장소 오류)
+ */
+public class LockAcquisitionException extends RuntimeException {
+
+    private final String lockKey;
+
+    public LockAcquisitionException(String lockKey, String message) {
+        super(message);
+        this.lockKey = lockKey;
+    }
+
+    public LockAcquisitionException(String lockKey, String message, Throwable cause) {
+        super(message, cause);
+        this.lockKey = lockKey;
+    }
+
+    public String getLockKey() {
+        return lockKey;
+    }
+}
@@ -19,4 +19,7 @@ dependencies {
     
     // 테스트
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:mysql")
+    testImplementation("org.redisson:redisson:3.27.2")
 }
@@ -0,0 +1,25 @@
+package adapter.openbanking;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 오픈뱅킹 연동 설정
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(OpenBankingProperties.class)
+public class OpenBankingConfig {
+
+    @Bean
+    public WebClientOpenBankingAdapter openBankingAdapter(OpenBankingProperties properties,
+                                                          WebClient.Builder webClientBuilder,
+                                                          MeterRegistry meterRegistry) {
+        return new WebClientOpenBankingAdapter(properties, webClientBuilder, meterRegistry);
+    }
+}
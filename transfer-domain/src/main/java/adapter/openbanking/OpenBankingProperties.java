@@ -0,0 +1,64 @@
+package adapter.openbanking;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 오픈뱅킹 연동 설정 (fintech.transfer.open-banking.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.transfer.open-banking")
+public class OpenBankingProperties {
+
+    /**
+     * 오픈뱅킹 API 기본 URL
+     */
+    private String baseUrl;
+
+    /**
+     * API 접근 토큰 (Authorization 헤더)
+     */
+    private String accessToken;
+
+    /**
+     * 최대 연결 수
+     */
+    private int maxConnections = 200;
+
+    /**
+     * 연결 대기열 최대 길이 (초과하면 바로 실패 - 결과 불명으로 처리해 조회로 확인한다)
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * 연결 대기 최대 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofMillis(500);
+
+    /**
+     * 유휴 연결 유지 시간
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(20);
+
+    /**
+     * 연결 수립 시한
+     */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 입금 요청 시한 (연결 대기부터 응답 수신까지, 사가 처리 기한보다 짧게)
+     */
+    private Duration deadline = Duration.ofSeconds(10);
+
+    /**
+     * 입금 결과 조회 시한
+     */
+    private Duration inquiryDeadline = Duration.ofSeconds(3);
+}
@@ -0,0 +1,17 @@
+package adapter.openbanking;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 오픈뱅킹 입금 요청/조회 응답
+ *
+ * @param status     SUCCEEDED, REJECTED, PROCESSING
+ * @param resultCode 응답 코드
+ * @param message    응답 메시지
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+record OpenBankingResult(@JsonProperty("status") String status,
+                         @JsonProperty("result_code") String resultCode,
+                         @JsonProperty("message") String message) {
+}
@@ -0,0 +1,151 @@
+package adapter.openbanking;
+
+import application.port.out.OpenBankingPort;
+import application.service.transfer.CreditResult;
+import domain.model.Transfer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오픈뱅킹 입금 이체 어댑터 (WebClient)
+ *
+ * 전용 연결 풀과 호출 시한을 두고 응답을 기다리는 동안 스레드를 붙잡지 않는다.
+ * 입금 요청은 이체 ID를 멱등 키로 보내므로 같은 이체를 다시 보내도 한 번만 입금된다.
+ * 5xx/시한 초과/연결 실패처럼 입금 여부를 알 수 없는 경우는 UNKNOWN으로 돌려주고 사가가 조회로 확인한다.
+ *
+ * 지표:
+ * - transfer.openbanking.calls{operation, outcome} : 호출 시간과 결과
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class WebClientOpenBankingAdapter implements OpenBankingPort, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(WebClientOpenBankingAdapter.class);
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final OpenBankingProperties properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    public WebClientOpenBankingAdapter(OpenBankingProperties properties, WebClient.Builder webClientBuilder,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.connectionProvider = ConnectionProvider.builder("open-banking")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getDeadline());
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (properties.getBaseUrl() != null) {
+            builder.baseUrl(properties.getBaseUrl());
+        }
+        if (properties.getAccessToken() != null) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getAccessToken());
+        }
+        this.webClient = builder.build();
+    }
+
+    @Override
+    public CompletableFuture<CreditResult> deposit(Transfer transfer) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("transfer_id", transfer.getTransferId());
+        body.put("bank_code", transfer.getDestinationBankCode());
+        body.put("account_number", transfer.getDestinationAccountNumber());
+        body.put("amount", transfer.getAmount().getAmount());
+        body.put("description", transfer.getDescription());
+
+        return call("deposit", transfer, properties.getDeadline(), webClient.post()
+                .uri("/transfers/deposit")
+                .header(IDEMPOTENCY_KEY_HEADER, transfer.getTransferId())
+                .bodyValue(body)
+                .exchangeToMono(this::readResult));
+    }
+
+    @Override
+    public CompletableFuture<CreditResult> inquire(Transfer transfer) {
+        return call("inquiry", transfer, properties.getInquiryDeadline(), webClient.get()
+                .uri("/transfers/{transferId}", transfer.getTransferId())
+                .exchangeToMono(response -> response.statusCode().value() == HttpStatus.NOT_FOUND.value()
+                        ? response.releaseBody().thenReturn(CreditResult.notFound())
+                        : readResult(response)));
+    }
+
+    private CompletableFuture<CreditResult> call(String operation, Transfer transfer, Duration deadline,
+                                                 Mono<CreditResult> request) {
+        long started = System.nanoTime();
+        return request
+                .timeout(deadline)
+                .doOnSuccess(result -> record(operation, result.status().name().toLowerCase(), started))
+                .onErrorResume(e -> {
+                    record(operation, "error", started);
+                    log.warn("오픈뱅킹 호출 실패 - 작업: {}, 이체ID: {}, 오류: {}",
+                            operation, transfer.getTransferId(), e.getMessage());
+                    return Mono.just(CreditResult.unknown("오픈뱅킹 호출 실패: " + e.getMessage()));
+                })
+                .toFuture();
+    }
+
+    private Mono<CreditResult> readResult(ClientResponse response) {
+        if (response.statusCode().is5xxServerError()) {
+            return response.releaseBody().thenReturn(CreditResult.unknown(
+                    "오픈뱅킹 서버 오류 - 상태 코드: " + response.statusCode().value()));
+        }
+        // 2xx는 처리 결과, 4xx는 거절 사유를 같은 형식으로 돌려준다
+        return response.bodyToMono(OpenBankingResult.class)
+                .map(this::toCreditResult)
+                .defaultIfEmpty(CreditResult.unknown("오픈뱅킹 응답 본문이 없습니다. 상태 코드: " + response.statusCode().value()));
+    }
+
+    private CreditResult toCreditResult(OpenBankingResult result) {
+        CreditResult.CreditStatus status = switch (result.status() != null ? result.status() : "") {
+            case "SUCCEEDED" -> CreditResult.CreditStatus.SUCCEEDED;
+            case "REJECTED" -> CreditResult.CreditStatus.REJECTED;
+            default -> CreditResult.CreditStatus.UNKNOWN;
+        };
+        return new CreditResult(status, result.resultCode(), result.message());
+    }
+
+    private void record(String operation, String outcome, long started) {
+        Timer.builder("transfer.openbanking.calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+}
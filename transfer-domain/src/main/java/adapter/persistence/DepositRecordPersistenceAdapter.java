@@ -0,0 +1,49 @@
+package adapter.persistence;
+
+import application.port.out.LoadDepositRecordPort;
+import domain.model.AccountNumber;
+import domain.model.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 당행 입출금 거래 조회 어댑터 (transactions)
+ * 계좌/거래일시 인덱스로 요청 시각 이후 거래만 훑는다. (거래일시는 초 단위로 저장되므로 1초 앞에서부터 본다)
+ */
+@Component
+@RequiredArgsConstructor
+public class DepositRecordPersistenceAdapter implements LoadDepositRecordPort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean existsDeposit(AccountNumber accountNumber, String description, Instant since) {
+        return exists(accountNumber, TransactionType.DEPOSIT, description, since);
+    }
+
+    @Override
+    public boolean existsWithdrawal(AccountNumber accountNumber, String description, Instant since) {
+        return exists(accountNumber, TransactionType.WITHDRAW, description, since);
+    }
+
+    private boolean exists(AccountNumber accountNumber, TransactionType type, String description, Instant since) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT 1 FROM transactions t JOIN accounts a ON a.account_id = t.account_id " +
+                        "WHERE a.account_number = :accountNumber AND t.transaction_at >= :since " +
+                        "AND t.transaction_type = :type AND t.description = :description LIMIT 1",
+                new MapSqlParameterSource()
+                        .addValue("accountNumber", accountNumber.getValue())
+                        .addValue("since", Timestamp.from(since.truncatedTo(ChronoUnit.SECONDS).minusSeconds(1)))
+                        .addValue("type", type.name())
+                        .addValue("description", description),
+                Integer.class);
+        return !rows.isEmpty();
+    }
+}
@@ -0,0 +1,182 @@
+package adapter.persistence;
+
+import application.port.out.TransferSagaPort;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import domain.model.TransferStep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이체 사가 영속성 어댑터 (transfers / transfer_saga_steps)
+ *
+ * 이체 행은 현재 상태와 처리 기한만 갖고, 상태 전이마다 전이 기록을 (이체 ID, 버전) 한 행씩 덧붙인다.
+ * 상태는 한 바이트 코드로 저장한다. 전이는 버전 조건 UPDATE와 기록 INSERT를 한 트랜잭션으로 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferSagaPersistenceAdapter implements TransferSagaPort {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT transfer_id, source_account_number, destination_bank_code, destination_account_number, amount, " +
+                    "description, transfer_state, credit_attempts, failure_reason, requested_at, updated_at, version " +
+                    "FROM transfers ";
+
+    private static final RowMapper<Transfer> ROW_MAPPER = (rs, rowNum) -> new Transfer(
+            rs.getString("transfer_id"),
+            new AccountNumber(rs.getString("source_account_number")),
+            rs.getString("destination_bank_code"),
+            rs.getString("destination_account_number"),
+            new Money(rs.getBigDecimal("amount")),
+            rs.getString("description"),
+            TransferState.fromCode(rs.getInt("transfer_state")),
+            rs.getInt("credit_attempts"),
+            rs.getString("failure_reason"),
+            rs.getTimestamp("requested_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getLong("version"));
+
+    private static final RowMapper<TransferStep> STEP_MAPPER = (rs, rowNum) -> new TransferStep(
+            rs.getString("transfer_id"),
+            rs.getLong("version"),
+            TransferState.fromCode(rs.getInt("transfer_state")),
+            rs.getTimestamp("occurred_at").toInstant(),
+            rs.getString("detail"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public boolean insert(Transfer transfer, Instant deadlineAt) {
+        Boolean inserted = transactionTemplate.execute(status -> {
+            int rows = jdbcTemplate.update(
+                    "INSERT IGNORE INTO transfers (transfer_id, source_account_number, destination_bank_code, " +
+                            "destination_account_number, amount, description, transfer_state, credit_attempts, " +
+                            "failure_reason, requested_at, updated_at, deadline_at, version) " +
+                            "VALUES (:transferId, :source, :bankCode, :destination, :amount, :description, :state, " +
+                            ":creditAttempts, :failureReason, :requestedAt, :updatedAt, :deadlineAt, :version)",
+                    params(transfer, deadlineAt));
+            if (rows == 0) {
+                return false;
+            }
+            insertStep(transfer, null);
+            return true;
+        });
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    @Override
+    public boolean transition(Transfer next, long expectedVersion, String detail, Instant deadlineAt) {
+        Boolean updated = transactionTemplate.execute(status -> {
+            int rows = jdbcTemplate.update(
+                    "UPDATE transfers SET transfer_state = :state, credit_attempts = :creditAttempts, " +
+                            "failure_reason = :failureReason, updated_at = :updatedAt, deadline_at = :deadlineAt, " +
+                            "version = :version WHERE transfer_id = :transferId AND version = :expectedVersion",
+                    params(next, deadlineAt).addValue("expectedVersion", expectedVersion));
+            if (rows == 0) {
+                return false;
+            }
+            insertStep(next, detail);
+            return true;
+        });
+        return Boolean.TRUE.equals(updated);
+    }
+
+    @Override
+    public boolean extendDeadline(String transferId, long expectedVersion, Instant deadlineAt) {
+        int rows = jdbcTemplate.update(
+                "UPDATE transfers SET deadline_at = :deadlineAt " +
+                        "WHERE transfer_id = :transferId AND version = :expectedVersion AND deadline_at IS NOT NULL",
+                new MapSqlParameterSource()
+                        .addValue("transferId", transferId)
+                        .addValue("expectedVersion", expectedVersion)
+                        .addValue("deadlineAt", Timestamp.from(deadlineAt)));
+        return rows == 1;
+    }
+
+    @Override
+    public Optional<Transfer> load(String transferId) {
+        List<Transfer> rows = jdbcTemplate.query(SELECT_COLUMNS + "WHERE transfer_id = :transferId",
+                new MapSqlParameterSource("transferId", transferId), ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public List<TransferStep> loadSteps(String transferId) {
+        return jdbcTemplate.query(
+                "SELECT transfer_id, version, transfer_state, occurred_at, detail FROM transfer_saga_steps " +
+                        "WHERE transfer_id = :transferId ORDER BY version",
+                new MapSqlParameterSource("transferId", transferId), STEP_MAPPER);
+    }
+
+    /**
+     * 기한이 지난 이체를 읽은 뒤 건별로 기한이 그대로일 때만 기한을 갱신한다. (동시에 가져가려는 노드 중 하나만 성공)
+     */
+    @Override
+    public List<Transfer> claimOverdue(Instant now, Instant leaseUntil, int limit) {
+        Timestamp nowTimestamp = Timestamp.from(now);
+        List<Transfer> overdue = jdbcTemplate.query(
+                SELECT_COLUMNS + "WHERE deadline_at <= :now ORDER BY deadline_at LIMIT :limit",
+                new MapSqlParameterSource().addValue("now", nowTimestamp).addValue("limit", limit), ROW_MAPPER);
+
+        List<Transfer> claimed = new ArrayList<>(overdue.size());
+        for (Transfer transfer : overdue) {
+            int rows = jdbcTemplate.update(
+                    "UPDATE transfers SET deadline_at = :leaseUntil " +
+                            "WHERE transfer_id = :transferId AND version = :version AND deadline_at <= :now",
+                    new MapSqlParameterSource()
+                            .addValue("transferId", transfer.getTransferId())
+                            .addValue("version", transfer.getVersion())
+                            .addValue("now", nowTimestamp)
+                            .addValue("leaseUntil", Timestamp.from(leaseUntil)));
+            if (rows == 1) {
+                claimed.add(transfer);
+            }
+        }
+        return claimed;
+    }
+
+    private void insertStep(Transfer transfer, String detail) {
+        jdbcTemplate.update(
+                "INSERT INTO transfer_saga_steps (transfer_id, version, transfer_state, occurred_at, detail) " +
+                        "VALUES (:transferId, :version, :state, :occurredAt, :detail)",
+                new MapSqlParameterSource()
+                        .addValue("transferId", transfer.getTransferId())
+                        .addValue("version", transfer.getVersion())
+                        .addValue("state", transfer.getState().getCode())
+                        .addValue("occurredAt", Timestamp.from(transfer.getUpdatedAt()))
+                        .addValue("detail", detail));
+    }
+
+    private MapSqlParameterSource params(Transfer transfer, Instant deadlineAt) {
+        return new MapSqlParameterSource()
+                .addValue("transferId", transfer.getTransferId())
+                .addValue("source", transfer.getSourceAccountNumber().getValue())
+                .addValue("bankCode", transfer.getDestinationBankCode())
+                .addValue("destination", transfer.getDestinationAccountNumber())
+                .addValue("amount", transfer.getAmount().getAmount())
+                .addValue("description", transfer.getDescription())
+                .addValue("state", transfer.getState().getCode())
+                .addValue("creditAttempts", transfer.getCreditAttempts())
+                .addValue("failureReason", transfer.getFailureReason())
+                .addValue("requestedAt", Timestamp.from(transfer.getRequestedAt()))
+                .addValue("updatedAt", Timestamp.from(transfer.getUpdatedAt()))
+                .addValue("deadlineAt", deadlineAt != null ? Timestamp.from(deadlineAt) : null)
+                .addValue("version", transfer.getVersion());
+    }
+}
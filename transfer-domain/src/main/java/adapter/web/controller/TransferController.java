@@ -0,0 +1,144 @@
+package adapter.web.controller;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import adapter.web.model.request.TransferRequest;
+import adapter.web.model.response.TransferResponse;
+import application.service.transfer.TransferService;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 이체 API Controller
+ * 당행 계좌 간 이체는 바로 처리해 완료(200)로 응답한다.
+ * 그 외 이체는 저장 후 바로 접수(202)로 응답하고, 보류/입금/확정은 비동기로 진행된다.
+ * 진행 상태는 이체 조회로 확인한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/transfers")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Transfer Management", description = "계좌 이체 API")
+public class TransferController {
+    private static final Logger log = LoggerFactory.getLogger(TransferController.class);
+
+    private final TransferService transferService;
+
+    @Operation(
+            summary = "이체 요청",
+            description = "출금 계좌에서 입금 계좌(당행 또는 타행)로 이체를 요청합니다. 같은 이체 ID로 다시 요청하면 기존 이체를 돌려줍니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "당행 이체 완료",
+                    content = @Content(schema = @Schema(implementation = TransferResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "이체 접수 (비동기 진행)",
+                    content = @Content(schema = @Schema(implementation = TransferResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "422",
+                    description = "거래 속도 심사에서 차단",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "이체 기능 사용 불가 (보류 비활성)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<TransferResponse>> requestTransfer(
+            @Parameter(description = "이체 요청 데이터", required = true)
+            @Valid @RequestBody
+            TransferRequest request,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "TRF_" + System.currentTimeMillis();
+        }
+
+        if (!transferService.isEnabled()) {
+            ErrorResponse errorResponse = ErrorResponse.businessError("TRANSFER_DISABLED", "이체 기능을 사용할 수 없습니다.")
+                    .withRequestId(requestId)
+                    .withPath("/api/v1/transfers", "POST");
+            return ResponseEntity.status(503)
+                    .body(ApiResponse.error("TRANSFER_DISABLED", errorResponse.getErrorMessage()));
+        }
+
+        log.info("[{}] 이체 요청 - 출금계좌: {}, 입금: {} {}, 금액: {}, 이체ID: {}", requestId,
+                request.getSourceAccountNumber(), request.getDestinationBankCode(),
+                request.getDestinationAccountNumber(), request.getAmount(), request.getTransferId());
+
+        Transfer transfer = transferService.request(
+                request.getTransferId(),
+                new AccountNumber(request.getSourceAccountNumber()),
+                request.getDestinationBankCode(),
+                request.getDestinationAccountNumber(),
+                new Money(request.getAmount()),
+                request.getDescription());
+
+        // 당행 직접 이체는 응답 전에 끝나므로 200, 사가로 진행하는 이체는 접수(202)로 응답한다
+        boolean completed = transfer.getState() == TransferState.COMPLETED;
+        return ResponseEntity.status(completed ? HttpStatus.OK : HttpStatus.ACCEPTED).body(
+                ApiResponse.success(TransferResponse.from(transfer), completed ? "이체가 완료되었습니다." : "이체가 접수되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+
+    @Operation(
+            summary = "이체 조회",
+            description = "이체 상태와 상태 전이 기록을 조회합니다."
+    )
+    @GetMapping("/{transferId}")
+    public ResponseEntity<ApiResponse<TransferResponse>> getTransfer(
+            @Parameter(description = "이체 ID", example = "TRF_20250712_0001", required = true)
+            @PathVariable
+            String transferId,
+
+            @Parameter(description = "요청 추적 ID", example = "REQ_20250712_142530")
+            @RequestHeader(value = "X-Request-ID", required = false)
+            String requestId) {
+
+        // 요청 ID 생성
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "TRQ_" + System.currentTimeMillis();
+        }
+
+        Transfer transfer = transferService.getTransfer(transferId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(TransferResponse.from(transfer, transferService.getSteps(transferId)),
+                                "이체 조회가 완료되었습니다.")
+                        .withRequestId(requestId)
+        );
+    }
+}
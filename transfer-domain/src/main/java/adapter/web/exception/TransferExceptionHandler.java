@@ -0,0 +1,47 @@
+package adapter.web.exception;
+
+import adapter.web.model.common.ApiResponse;
+import adapter.web.model.common.ErrorResponse;
+import domain.exception.TransferNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 이체 예외 처리기
+ * 이체 도메인 예외만 처리하고, 그 외 예외는 GlobalExceptionHandler가 처리한다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TransferExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferExceptionHandler.class);
+
+    @ExceptionHandler(TransferNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTransferNotFound(
+            TransferNotFoundException ex, HttpServletRequest request) {
+        String requestId = request.getHeader("X-Request-ID");
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = "ERR_" + System.currentTimeMillis();
+        }
+        log.warn("[{}] 이체 오류 - 경로: {}, 오류: {}", requestId, request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.businessError("TRANSFER_NOT_FOUND", ex.getMessage())
+                .withRequestId(requestId)
+                .withPath(request.getRequestURI(), request.getMethod());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("TRANSFER_NOT_FOUND", errorResponse.getErrorMessage()));
+    }
+}
@@ -0,0 +1,59 @@
+package adapter.web.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 이체 요청 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이체 요청")
+public class TransferRequest {
+
+    @Schema(description = "이체 ID (선택사항, 멱등 키 - 같은 ID로 다시 요청하면 기존 이체를 돌려줌)", example = "TRF_20250712_0001")
+    @Size(max = 64, message = "이체 ID는 64자를 초과할 수 없습니다")
+    @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "이체 ID는 영문, 숫자, _, - 만 사용 가능합니다")
+    @JsonProperty("transfer_id")
+    private String transferId;
+
+    @Schema(description = "출금 계좌번호", example = "1001234567890", required = true)
+    @NotBlank(message = "출금 계좌번호는 필수입니다")
+    @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+    @JsonProperty("source_account_number")
+    private String sourceAccountNumber;
+
+    @Schema(description = "입금 은행 코드 (선택사항, 없으면 당행)", example = "004")
+    @Pattern(regexp = "^[0-9]{3}$", message = "은행 코드는 3자리 숫자여야 합니다")
+    @JsonProperty("destination_bank_code")
+    private String destinationBankCode;
+
+    @Schema(description = "입금 계좌번호", example = "1009876543210", required = true)
+    @NotBlank(message = "입금 계좌번호는 필수입니다")
+    @Pattern(regexp = "^[0-9]{10,20}$", message = "계좌번호는 10-20자리 숫자여야 합니다")
+    @JsonProperty("destination_account_number")
+    private String destinationAccountNumber;
+
+    @Schema(description = "이체 금액", example = "50000.00", required = true)
+    @NotNull(message = "이체 금액은 필수입니다")
+    @DecimalMin(value = "0.01", message = "이체 금액은 0.01원 이상이어야 합니다")
+    @DecimalMax(value = "10000000.00", message = "이체 금액은 1천만원을 초과할 수 없습니다")
+    @Digits(integer = 10, fraction = 2, message = "금액 형식이 올바르지 않습니다")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "이체 메모", example = "월세")
+    @Size(max = 100, message = "이체 메모는 100자를 초과할 수 없습니다")
+    @JsonProperty("description")
+    private String description;
+}
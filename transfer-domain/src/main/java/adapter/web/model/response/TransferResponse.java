@@ -0,0 +1,131 @@
+package adapter.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import domain.model.Transfer;
+import domain.model.TransferStep;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 이체 응답 DTO
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "이체 정보")
+public class TransferResponse {
+
+    @Schema(description = "이체 ID", example = "TRF_20250712_0001")
+    @JsonProperty("transfer_id")
+    private String transferId;
+
+    @Schema(description = "출금 계좌번호", example = "1001234567890")
+    @JsonProperty("source_account_number")
+    private String sourceAccountNumber;
+
+    @Schema(description = "입금 은행 코드 (당행이면 없음)", example = "004")
+    @JsonProperty("destination_bank_code")
+    private String destinationBankCode;
+
+    @Schema(description = "입금 계좌번호", example = "1009876543210")
+    @JsonProperty("destination_account_number")
+    private String destinationAccountNumber;
+
+    @Schema(description = "이체 금액", example = "50000.00")
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @Schema(description = "이체 상태", example = "REQUESTED",
+            allowableValues = {"REQUESTED", "RESERVED", "CREDIT_PENDING", "CREDITED", "COMPLETED",
+                    "COMPENSATING", "COMPENSATED", "FAILED"})
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "입금 시도 횟수", example = "1")
+    @JsonProperty("credit_attempts")
+    private Integer creditAttempts;
+
+    @Schema(description = "실패/보상 사유", example = "사용 가능 잔액이 부족합니다.")
+    @JsonProperty("failure_reason")
+    private String failureReason;
+
+    @Schema(description = "요청 시각 (UTC)", example = "2025-07-12T05:25:30.123Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("requested_at")
+    private Instant requestedAt;
+
+    @Schema(description = "마지막 상태 변경 시각 (UTC)", example = "2025-07-12T05:25:31.456Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    @JsonProperty("updated_at")
+    private Instant updatedAt;
+
+    @Schema(description = "상태 전이 기록 (조회 시에만)")
+    @JsonProperty("steps")
+    private List<Step> steps;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "상태 전이 기록")
+    public static class Step {
+
+        @Schema(description = "버전", example = "1")
+        @JsonProperty("version")
+        private Long version;
+
+        @Schema(description = "상태", example = "RESERVED")
+        @JsonProperty("status")
+        private String status;
+
+        @Schema(description = "전이 시각 (UTC)", example = "2025-07-12T05:25:30.456Z")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        @JsonProperty("occurred_at")
+        private Instant occurredAt;
+
+        @Schema(description = "전이 사유", example = "SUCCEEDED A0000")
+        @JsonProperty("detail")
+        private String detail;
+    }
+
+    /**
+     * 팩토리 메서드 - 이체 변환
+     */
+    public static TransferResponse from(Transfer transfer) {
+        return from(transfer, null);
+    }
+
+    /**
+     * 팩토리 메서드 - 이체와 상태 전이 기록 변환
+     */
+    public static TransferResponse from(Transfer transfer, List<TransferStep> steps) {
+        return TransferResponse.builder()
+                .transferId(transfer.getTransferId())
+                .sourceAccountNumber(transfer.getSourceAccountNumber().getValue())
+                .destinationBankCode(transfer.getDestinationBankCode())
+                .destinationAccountNumber(transfer.getDestinationAccountNumber())
+                .amount(transfer.getAmount().getAmount())
+                .status(transfer.getState().name())
+                .creditAttempts(transfer.getCreditAttempts())
+                .failureReason(transfer.getFailureReason())
+                .requestedAt(transfer.getRequestedAt())
+                .updatedAt(transfer.getUpdatedAt())
+                .steps(steps == null ? null : steps.stream()
+                        .map(step -> new Step(step.version(), step.state().name(), step.occurredAt(), step.detail()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package application.config;
+
+import application.service.transfer.IntraBankTransferProperties;
+import application.service.transfer.TransferSagaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이체 애플리케이션 계층 설정
+ */
+@Configuration
+@EnableConfigurationProperties({
+        TransferSagaProperties.class,
+        IntraBankTransferProperties.class
+})
+public class TransferApplicationConfig {
+}
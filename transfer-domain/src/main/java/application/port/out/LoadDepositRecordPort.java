@@ -0,0 +1,22 @@
+package application.port.out;
+
+import domain.model.AccountNumber;
+
+import java.time.Instant;
+
+/**
+ * 당행 입출금 거래 조회 포트
+ * 노드 장애로 결과를 남기지 못한 이체의 당행 입금/출금 여부를 거래내역에서 확인한다.
+ */
+public interface LoadDepositRecordPort {
+
+    /**
+     * since 이후 계좌에 description으로 입금된 거래가 있는지 여부
+     */
+    boolean existsDeposit(AccountNumber accountNumber, String description, Instant since);
+
+    /**
+     * since 이후 계좌에서 description으로 출금된 거래가 있는지 여부
+     */
+    boolean existsWithdrawal(AccountNumber accountNumber, String description, Instant since);
+}
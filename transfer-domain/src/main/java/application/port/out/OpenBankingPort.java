@@ -0,0 +1,24 @@
+package application.port.out;
+
+import application.service.transfer.CreditResult;
+import domain.model.Transfer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 오픈뱅킹 입금 이체 포트 (타행 계좌 입금)
+ * 모든 호출은 비동기이며 호출 스레드를 붙잡지 않는다.
+ * 호출 실패(시한 초과, 연결 실패 등)는 예외가 아니라 UNKNOWN 결과로 끝난다.
+ */
+public interface OpenBankingPort {
+
+    /**
+     * 입금 요청 (이체 ID를 멱등 키로 보낸다)
+     */
+    CompletableFuture<CreditResult> deposit(Transfer transfer);
+
+    /**
+     * 이체 ID로 입금 결과 조회
+     */
+    CompletableFuture<CreditResult> inquire(Transfer transfer);
+}
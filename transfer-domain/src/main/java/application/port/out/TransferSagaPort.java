@@ -0,0 +1,46 @@
+package application.port.out;
+
+import domain.model.Transfer;
+import domain.model.TransferStep;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이체 사가 저장 포트
+ *
+ * 이체 행은 현재 상태와 처리 기한(deadline)을 갖고, 상태 전이마다 전이 기록을 한 행씩 덧붙인다.
+ * 처리 기한은 진행 중인 노드의 임대 기간을 겸한다. 기한이 지난 이체는 다른 노드가 가져가 이어서 처리한다.
+ */
+public interface TransferSagaPort {
+
+    /**
+     * 새 이체 저장 (첫 전이 기록 포함)
+     * @return 저장했으면 true, 같은 이체 ID가 이미 있으면 false
+     */
+    boolean insert(Transfer transfer, Instant deadlineAt);
+
+    /**
+     * 상태 전이 반영 (이체 행 갱신 + 전이 기록 추가를 한 트랜잭션으로)
+     * @param expectedVersion 이 버전일 때만 갱신한다
+     * @param deadlineAt      다음 처리 기한 (종료 상태면 null)
+     * @return 반영했으면 true (다른 노드가 먼저 전이시켰으면 false)
+     */
+    boolean transition(Transfer next, long expectedVersion, String detail, Instant deadlineAt);
+
+    /**
+     * 처리 기한 연장 (상태는 그대로, 재시도를 기다리는 동안)
+     * @return 연장했으면 true
+     */
+    boolean extendDeadline(String transferId, long expectedVersion, Instant deadlineAt);
+
+    Optional<Transfer> load(String transferId);
+
+    List<TransferStep> loadSteps(String transferId);
+
+    /**
+     * 처리 기한이 지난 진행 중 이체를 가져온다. (기한을 leaseUntil로 바꾼 이체만 돌려준다)
+     */
+    List<Transfer> claimOverdue(Instant now, Instant leaseUntil, int limit);
+}
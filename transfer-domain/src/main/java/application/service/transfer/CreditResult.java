@@ -0,0 +1,41 @@
+package application.service.transfer;
+
+/**
+ * 입금 요청/조회 결과
+ *
+ * @param resultCode 입금 기관 결과 코드 (없으면 null)
+ * @param message    결과 메시지
+ */
+public record CreditResult(CreditStatus status, String resultCode, String message) {
+
+    public static CreditResult succeeded(String resultCode) {
+        return new CreditResult(CreditStatus.SUCCEEDED, resultCode, null);
+    }
+
+    public static CreditResult unknown(String message) {
+        return new CreditResult(CreditStatus.UNKNOWN, null, message);
+    }
+
+    public static CreditResult notFound() {
+        return new CreditResult(CreditStatus.NOT_FOUND, null, null);
+    }
+
+    /**
+     * 결과 요약 (상태 전이 기록에 남긴다)
+     */
+    public String summary() {
+        String text = status.name() + (resultCode != null ? " " + resultCode : "") + (message != null ? " " + message : "");
+        return text.length() > 255 ? text.substring(0, 255) : text;
+    }
+
+    public enum CreditStatus {
+        /** 입금 완료 */
+        SUCCEEDED,
+        /** 입금 거절 (보상 대상) */
+        REJECTED,
+        /** 입금 기록 없음 (조회 결과, 다시 보내도 된다) */
+        NOT_FOUND,
+        /** 결과 불명 (시한 초과, 처리 중 등 - 조회로 다시 확인) */
+        UNKNOWN
+    }
+}
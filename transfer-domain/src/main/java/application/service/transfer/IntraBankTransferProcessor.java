@@ -0,0 +1,197 @@
+package application.service.transfer;
+
+import application.port.out.LoadAccountPort;
+import application.port.out.PublishAccountEventPort;
+import application.port.out.TransferSagaPort;
+import application.port.out.UpdateAccountStatePort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.metadata.AccountMetadataCache;
+import application.service.query.BulkAccountQueryService;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.exception.AccountNotFoundException;
+import domain.exception.InsufficientBalanceException;
+import domain.model.Account;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 당행 직접 이체 처리기
+ *
+ * 두 계좌를 모두 잠근 뒤 한 DB 트랜잭션에서 출금 계좌 Account.withdraw, 입금 계좌 Account.deposit을 적용하고
+ * 이체를 완료 상태로 저장한다. 보류/입금 요청/확정 단계를 거치지 않으므로 사가보다 짧고, 중간 상태가 남지 않는다.
+ *
+ * - 락: 두 계좌번호를 한 번에 넘겨 계좌 락(account)을 잡는다. 락은 계좌번호 순으로 잡히므로
+ *       A→B와 B→A 이체가 동시에 와도 교착이 생기지 않는다. 입출금(TransactionService)과 같은 락 키를 쓴다.
+ * - 버전 충돌: 계좌 행은 버전 조건으로 갱신하므로 락 밖에서 들어온 변경과 겹치면 트랜잭션을 되돌리고
+ *       락을 쥔 채로 다시 읽어 재시도한다.
+ * - 대상: 두 계좌 모두 락 경로(핫 계좌/명령 로그 모드가 아님)일 때만 쓴다. 나머지는 이체 사가로 처리한다.
+ *
+ * 지표:
+ * - transfer.intrabank.conflicts : 버전 충돌로 재시도한 횟수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class IntraBankTransferProcessor {
+    private static final Logger log = LoggerFactory.getLogger(IntraBankTransferProcessor.class);
+
+    private final LoadAccountPort loadAccountPort;
+    private final UpdateAccountStatePort updateAccountStatePort;
+    private final PublishAccountEventPort publishAccountEventPort;
+    private final TransferSagaPort transferSagaPort;
+    private final TransactionService transactionService;
+    private final HoldService holdService;
+    private final AccountMetadataCache accountMetadataCache;
+    private final BulkAccountQueryService bulkAccountQueryService;
+    private final TransactionTemplate transactionTemplate;
+    private final IntraBankTransferProperties properties;
+    private final Counter conflictCounter;
+
+    public IntraBankTransferProcessor(LoadAccountPort loadAccountPort, UpdateAccountStatePort updateAccountStatePort,
+                                      PublishAccountEventPort publishAccountEventPort, TransferSagaPort transferSagaPort,
+                                      TransactionService transactionService, HoldService holdService,
+                                      AccountMetadataCache accountMetadataCache,
+                                      BulkAccountQueryService bulkAccountQueryService,
+                                      TransactionTemplate transactionTemplate, IntraBankTransferProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.loadAccountPort = loadAccountPort;
+        this.updateAccountStatePort = updateAccountStatePort;
+        this.publishAccountEventPort = publishAccountEventPort;
+        this.transferSagaPort = transferSagaPort;
+        this.transactionService = transactionService;
+        this.holdService = holdService;
+        this.accountMetadataCache = accountMetadataCache;
+        this.bulkAccountQueryService = bulkAccountQueryService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.conflictCounter = Counter.builder("transfer.intrabank.conflicts")
+                .description("당행 직접 이체 버전 충돌 재시도 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 직접 이체 대상 여부 (두 계좌 모두 계좌 락으로 직렬화되는 경로여야 한다)
+     */
+    public boolean supports(AccountNumber sourceAccountNumber, AccountNumber destinationAccountNumber) {
+        return properties.isEnabled()
+                && transactionService.requiresLock(sourceAccountNumber)
+                && transactionService.requiresLock(destinationAccountNumber);
+    }
+
+    /**
+     * 두 계좌를 잠그고 이체를 한 트랜잭션으로 처리한다.
+     * @param transfer 요청 상태의 당행 이체
+     * @return 완료된 이체 (같은 이체 ID가 이미 있으면 저장되어 있던 이체)
+     * @throws InsufficientBalanceException 사용 가능 잔액(잔액 - 보류 합계)이 부족한 경우
+     * @throws OptimisticLockingFailureException 재시도 후에도 버전 충돌이 계속되는 경우
+     */
+    @DistributedLock(name = "account",
+            key = "{#transfer.sourceAccountNumber.value, #transfer.destinationAccountNumber}",
+            waitTime = 3000, leaseTime = 3000)
+    public Transfer execute(Transfer transfer) {
+        AccountNumber source = transfer.getSourceAccountNumber();
+        AccountNumber destination = new AccountNumber(transfer.getDestinationAccountNumber());
+        accountMetadataCache.requireActive(source);
+        accountMetadataCache.requireActive(destination);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Applied applied = transactionTemplate.execute(status -> apply(transfer, source, destination));
+                if (applied.debit() != null) {
+                    afterCommit(source, applied.debit());
+                    afterCommit(destination, applied.credit());
+                    log.info("당행 이체 완료 - 이체ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}",
+                            transfer.getTransferId(), source, destination, transfer.getAmount());
+                }
+                return applied.transfer();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                conflictCounter.increment();
+                log.debug("당행 이체 버전 충돌, 재시도 - 이체ID: {}, 시도: {}", transfer.getTransferId(), attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private Applied apply(Transfer transfer, AccountNumber source, AccountNumber destination) {
+        if (!transferSagaPort.insert(transfer, null)) {
+            Transfer existing = transferSagaPort.load(transfer.getTransferId())
+                    .orElseThrow(() -> new IllegalStateException("이체를 읽을 수 없습니다: " + transfer.getTransferId()));
+            return new Applied(existing, null, null);
+        }
+
+        Map<AccountNumber, Account> accounts = loadAccountPort.loadAccounts(List.of(source, destination)).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        Account sourceAccount = require(accounts, source);
+        Account destinationAccount = require(accounts, destination);
+
+        // 보류가 있으면 사용 가능 잔액(잔액 - 보류 합계)으로 검사한다 (잔액 검사는 Account.withdraw가 한다)
+        Money held = holdService.getHeldAmount(source);
+        BigDecimal available = sourceAccount.getBalance().getAmount().subtract(held.getAmount());
+        if (!held.isZero() && available.compareTo(transfer.getAmount().getAmount()) < 0) {
+            throw new InsufficientBalanceException(String.format(
+                    "사용 가능 잔액이 부족합니다. 현재 잔액: %s, 보류 합계: %s, 이체 요청: %s",
+                    sourceAccount.getBalance(), held, transfer.getAmount()));
+        }
+
+        Transaction debit = sourceAccount.withdraw(transfer.getAmount(), "이체 출금 " + transfer.getTransferId());
+        Transaction credit = destinationAccount.deposit(transfer.getAmount(), "이체 입금 " + transfer.getTransferId());
+        // 계좌 PK 순으로 버전 조건 갱신 - 겹친 변경이 있으면 OptimisticLockingFailureException으로 전체를 되돌린다
+        updateAccountStatePort.updateAccounts(List.of(sourceAccount, destinationAccount));
+
+        Transfer completed = transfer.transitionTo(TransferState.COMPLETED, null, Instant.now());
+        transferSagaPort.transition(completed, transfer.getVersion(), "당행 직접 이체", null);
+        return new Applied(completed, debit, credit);
+    }
+
+    private static Account require(Map<AccountNumber, Account> accounts, AccountNumber accountNumber) {
+        Account account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber);
+        }
+        return account;
+    }
+
+    private void afterCommit(AccountNumber accountNumber, Transaction transaction) {
+        bulkAccountQueryService.evict(accountNumber);
+        publishAccountEventPort.publishTransaction(accountNumber, transaction);
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(properties.getRetryBackoff().toMillis() * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이체 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 트랜잭션 결과 (이미 있던 이체면 거래 없음)
+     */
+    private record Applied(Transfer transfer, Transaction debit, Transaction credit) {
+    }
+}
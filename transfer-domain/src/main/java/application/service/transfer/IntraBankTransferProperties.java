@@ -0,0 +1,34 @@
+package application.service.transfer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 당행 직접 이체 설정 (fintech.transfer.intra-bank.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.transfer.intra-bank")
+public class IntraBankTransferProperties {
+
+    /**
+     * 당행 계좌 간 이체를 두 계좌 락 + 한 트랜잭션으로 바로 처리할지 여부 (끄면 이체 사가로 처리)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 버전 충돌 시 최대 시도 횟수 (첫 시도 포함)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 버전 충돌 후 재시도 대기 시간 (시도마다 배수로 늘린다)
+     */
+    private Duration retryBackoff = Duration.ofMillis(10);
+}
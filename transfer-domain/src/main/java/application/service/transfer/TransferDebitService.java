@@ -0,0 +1,79 @@
+package application.service.transfer;
+
+import application.port.out.LoadDepositRecordPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.exception.HoldNotFoundException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 이체 출금 확정
+ *
+ * 입금까지 끝난 이체의 출금을 한 번만 확정한다. 계좌 락(account) 안에서
+ * - 출금 거래가 이미 있으면(이전 시도가 출금한 뒤 상태를 저장하지 못함) 남은 보류만 지우고,
+ * - 없으면 보류를 매입하고,
+ * - 보류도 없으면(만료됨) 직접 출금한다.
+ * 확인과 출금을 같은 락 안에서 하므로, 같은 이체를 이어받은 다른 노드와 겹치거나
+ * 출금 후 보류 제거가 실패해 보류가 남아 있어도 두 번 출금하지 않는다.
+ *
+ * 이체는 출금 보류 단계에서 거래 속도 심사와 집계를 마쳤으므로 직접 출금도 심사하지 않는다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferDebitService {
+    private static final Logger log = LoggerFactory.getLogger(TransferDebitService.class);
+
+    private final LoadDepositRecordPort loadDepositRecordPort;
+    private final HoldService holdService;
+    private final TransactionService transactionService;
+
+    /**
+     * since 이후 description으로 출금된 거래가 없으면 보류를 매입하고, 보류가 없으면 직접 출금한다.
+     * @return 이번에 출금했으면 true, 이미 출금되어 있었으면 false
+     * @throws domain.exception.InsufficientBalanceException 보류 없이 출금하는데 사용 가능 잔액이 부족한 경우
+     */
+    @DistributedLock(name = "account", key = "#accountNumber.value", waitTime = 3000, leaseTime = 3000)
+    public boolean debitIfAbsent(AccountNumber accountNumber, String holdId, Money amount, String description,
+                                 Instant since) {
+        if (loadDepositRecordPort.existsWithdrawal(accountNumber, description, since)) {
+            releaseLeftoverHold(accountNumber, holdId);
+            return false;
+        }
+
+        try {
+            holdService.capture(accountNumber, holdId, amount, description);
+        } catch (HoldNotFoundException e) {
+            transactionService.withdrawScreened(accountNumber, amount, description);
+            log.warn("이체 보류 없이 직접 출금 - 계좌번호: {}, 금액: {}, 적요: {}", accountNumber, amount, description);
+        }
+        return true;
+    }
+
+    /**
+     * 이미 출금된 이체에 남은 보류 제거 (실패해도 만료 시 정리된다)
+     */
+    private void releaseLeftoverHold(AccountNumber accountNumber, String holdId) {
+        try {
+            holdService.release(accountNumber, holdId);
+            log.info("출금된 이체의 남은 보류 제거 - 계좌번호: {}, 보류ID: {}", accountNumber, holdId);
+        } catch (HoldNotFoundException e) {
+            // 출금과 함께 제거되었다
+        } catch (RuntimeException e) {
+            log.warn("출금된 이체의 남은 보류 제거 실패 - 계좌번호: {}, 보류ID: {}, 오류: {}",
+                    accountNumber, holdId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package application.service.transfer;
+
+import application.port.out.LoadDepositRecordPort;
+import application.port.out.OpenBankingPort;
+import application.port.out.TransferSagaPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.velocity.VelocityService;
+import domain.exception.AccountNotFoundException;
+import domain.exception.DuplicateHoldException;
+import domain.exception.HoldNotFoundException;
+import domain.exception.InactiveAccountException;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.TransferNotFoundException;
+import domain.exception.VelocityLimitExceededException;
+import domain.model.AccountNumber;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 이체 사가 오케스트레이터
+ *
+ * 이체 한 건을 다음 단계로 진행한다. 단계마다 상태 전이를 먼저 저장하고(버전 조건 UPDATE + 전이 기록 한 행),
+ * 저장에 성공한 노드만 다음 작업을 한다.
+ * - 요청 → 출금 보류: 이체 ID로 출금 계좌에 보류를 건다. 이미 걸려 있으면(재시도) 건 것으로 본다.
+ *                     잔액 부족/비활성/없는 계좌면 실패로 끝낸다.
+ * - 출금 보류 → 입금 요청: 입금 요청 상태를 먼저 저장한 뒤 입금한다. (저장 전에 보내지 않으므로 보낸 입금은 항상 기록이 남는다)
+ *                     타행은 오픈뱅킹으로 비동기 요청하고 응답을 기다리는 동안 스레드를 붙잡지 않는다.
+ *                     응답 대기 중인 요청 수가 상한에 이르면 보류 상태로 두고 나중에 보낸다.
+ * - 입금 요청 → 입금 완료/보상 중: 결과가 불명이면 조회로 확인한다. (타행은 오픈뱅킹 조회, 당행은 거래내역)
+ *                     입금 기록이 없으면 다시 보내고, 정해진 횟수를 넘으면 보상한다.
+ * - 입금 완료 → 완료: 출금 거래가 없을 때만 보류를 출금으로 확정한다. 보류가 없으면 직접 출금한다.
+ *                     출금할 수 없으면(잔액 부족, 거래 속도 차단 등) 수동 확인이 필요한 실패로 끝낸다.
+ * - 보상 중 → 보상 완료: 보류를 해제한다.
+ *
+ * 진행 중인 이체마다 처리 기한을 DB에 두고 같은 기한으로 타이머 휠에 타이머를 건다.
+ * 타이머가 울리면 DB에서 다시 읽어 버전이 그대로일 때만 이어서 진행한다.
+ * 노드가 죽어 기한이 지난 이체는 주기적인 복구 스캔에서 다른 노드가 기한을 갱신해 가져간다.
+ * 단계 실행 스레드는 로컬 작업(보류, 당행 입금, 상태 저장)만 하므로 타행 응답이 느려도 처리량이 줄지 않는다.
+ *
+ * 지표:
+ * - transfer.saga.transitions{state} : 상태별 전이 수
+ * - transfer.saga.active             : 이 노드에서 진행 중인 이체 수
+ * - transfer.saga.timers             : 걸려 있는 타이머 수
+ * - transfer.saga.credit             : 오픈뱅킹 입금 응답 시간
+ * - transfer.saga.recovered          : 복구 스캔으로 가져온 이체 수
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class TransferSagaOrchestrator implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(TransferSagaOrchestrator.class);
+
+    private final TransferSagaPort transferSagaPort;
+    private final OpenBankingPort openBankingPort;
+    private final LoadDepositRecordPort loadDepositRecordPort;
+    private final HoldService holdService;
+    private final TransactionService transactionService;
+    private final TransferDebitService transferDebitService;
+    private final VelocityService velocityService;
+    private final TransferSagaProperties properties;
+
+    private final ThreadPoolExecutor stepExecutor;
+    private final TransferTimerWheel timerWheel;
+    private final Semaphore creditPermits;
+    private final Set<String> active = ConcurrentHashMap.newKeySet();
+    private final Map<String, TransferTimerWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private final Map<TransferState, Counter> transitionCounters = new EnumMap<>(TransferState.class);
+    private final Timer creditTimer;
+    private final Counter recoveredCounter;
+
+    private volatile boolean running;
+
+    public TransferSagaOrchestrator(TransferSagaPort transferSagaPort, OpenBankingPort openBankingPort,
+                                    LoadDepositRecordPort loadDepositRecordPort, HoldService holdService,
+                                    TransactionService transactionService, TransferDebitService transferDebitService,
+                                    VelocityService velocityService, TransferSagaProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.transferSagaPort = transferSagaPort;
+        this.openBankingPort = openBankingPort;
+        this.loadDepositRecordPort = loadDepositRecordPort;
+        this.holdService = holdService;
+        this.transactionService = transactionService;
+        this.transferDebitService = transferDebitService;
+        this.velocityService = velocityService;
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.stepExecutor = new ThreadPoolExecutor(properties.getStepWorkers(), properties.getStepWorkers(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(properties.getStepQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "transfer-saga-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timerWheel = new TransferTimerWheel("transfer-saga-timer", properties.getTimerTick(),
+                properties.getTimerWheelSize(), stepExecutor);
+        this.creditPermits = new Semaphore(properties.getMaxInFlightCredits());
+
+        for (TransferState state : TransferState.values()) {
+            transitionCounters.put(state, Counter.builder("transfer.saga.transitions")
+                    .description("상태별 이체 전이 수")
+                    .tag("state", state.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("transfer.saga.active", active, Set::size)
+                .description("이 노드에서 진행 중인 이체 수")
+                .register(meterRegistry);
+        Gauge.builder("transfer.saga.timers", timerWheel, TransferTimerWheel::pending)
+                .description("걸려 있는 이체 타이머 수")
+                .register(meterRegistry);
+        this.creditTimer = Timer.builder("transfer.saga.credit")
+                .description("오픈뱅킹 입금 응답 시간")
+                .register(meterRegistry);
+        this.recoveredCounter = Counter.builder("transfer.saga.recovered")
+                .description("복구 스캔으로 가져온 이체 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 이체를 저장하고 비동기로 진행한다.
+     * @return 저장한 이체 (같은 이체 ID가 이미 있으면 저장되어 있던 이체)
+     */
+    public Transfer start(Transfer transfer) {
+        Instant now = Instant.now();
+        if (!transferSagaPort.insert(transfer, now.plus(properties.getStepTimeout()))) {
+            return transferSagaPort.load(transfer.getTransferId())
+                    .orElseThrow(() -> new TransferNotFoundException("이체를 찾을 수 없습니다: " + transfer.getTransferId()));
+        }
+        transitionCounters.get(TransferState.REQUESTED).increment();
+        arm(transfer, properties.getStepTimeout());
+        dispatch(transfer);
+        return transfer;
+    }
+
+    private void dispatch(Transfer transfer) {
+        try {
+            stepExecutor.execute(() -> advance(transfer));
+        } catch (RejectedExecutionException e) {
+            // 타이머 또는 처리 기한 이후 복구 스캔이 이어서 처리한다
+            log.warn("이체 단계 실행 거절 - 이체ID: {}, 상태: {}", transfer.getTransferId(), transfer.getState());
+        }
+    }
+
+    /**
+     * 현재 상태에서 다음 단계로 진행한다. (이 노드에서 이미 진행 중인 이체면 진행 중인 쪽에 맡긴다)
+     */
+    private void advance(Transfer transfer) {
+        if (!active.add(transfer.getTransferId())) {
+            return;
+        }
+        runStep(transfer, () -> step(transfer));
+    }
+
+    /**
+     * 단계 실행 (비동기 입금으로 넘긴 경우 진행 중 표시는 응답을 처리한 쪽이 지운다)
+     */
+    private void runStep(Transfer transfer, BooleanSupplier step) {
+        boolean handedOff = false;
+        try {
+            handedOff = step.getAsBoolean();
+        } catch (RuntimeException e) {
+            // Redis/DB 일시 오류 등 - 같은 단계를 다시 시도한다
+            log.warn("이체 단계 처리 실패 - 이체ID: {}, 상태: {}, 오류: {}",
+                    transfer.getTransferId(), transfer.getState(), e.getMessage());
+            retryLater(transfer);
+        } finally {
+            if (!handedOff) {
+                active.remove(transfer.getTransferId());
+            }
+        }
+    }
+
+    /**
+     * @return 비동기 입금 응답을 기다리는 중이면 true
+     */
+    private boolean step(Transfer transfer) {
+        return switch (transfer.getState()) {
+            case REQUESTED -> reserve(transfer);
+            case RESERVED -> sendCredit(transfer);
+            case CREDIT_PENDING -> inquireCredit(transfer);
+            case CREDITED -> capture(transfer);
+            case COMPENSATING -> compensate(transfer);
+            case COMPLETED, COMPENSATED, FAILED -> {
+                disarm(transfer.getTransferId());
+                yield false;
+            }
+        };
+    }
+
+    private boolean reserve(Transfer transfer) {
+        try {
+            holdService.place(transfer.getSourceAccountNumber(), holdId(transfer), transfer.getAmount(),
+                    properties.getHoldTtl());
+        } catch (DuplicateHoldException e) {
+            // 이전 시도에서 보류를 건 뒤 상태를 저장하지 못했다
+            log.info("이체 보류 재사용 - 이체ID: {}", transfer.getTransferId());
+        } catch (InsufficientBalanceException | InactiveAccountException | AccountNotFoundException e) {
+            commit(transfer, transfer.transitionTo(TransferState.FAILED, e.getMessage(), Instant.now()), e.getMessage());
+            return false;
+        }
+
+        Transfer reserved = transfer.transitionTo(TransferState.RESERVED, null, Instant.now());
+        if (!commit(transfer, reserved, null)) {
+            return false;
+        }
+        velocityService.record(transfer.getSourceAccountNumber(), null, transfer.getAmount());
+        return sendCredit(reserved);
+    }
+
+    /**
+     * 입금 요청 상태를 저장한 뒤 입금한다. (출금 보류 상태 또는 입금 기록이 없어 다시 보내는 경우)
+     */
+    private boolean sendCredit(Transfer transfer) {
+        boolean external = !transfer.isInternal();
+        if (external && !creditPermits.tryAcquire()) {
+            // 응답을 기다리는 입금이 상한에 이르렀다 - 이 이체는 나중에 보낸다
+            retryLater(transfer);
+            return false;
+        }
+
+        Transfer pending;
+        try {
+            pending = transfer.transitionTo(TransferState.CREDIT_PENDING, null, Instant.now());
+            if (!commit(transfer, pending, null)) {
+                if (external) {
+                    creditPermits.release();
+                }
+                return false;
+            }
+        } catch (RuntimeException e) {
+            if (external) {
+                creditPermits.release();
+            }
+            throw e;
+        }
+
+        if (!external) {
+            return onCreditResult(pending, depositInternal(pending));
+        }
+        long startedAt = System.nanoTime();
+        openBankingPort.deposit(pending).whenComplete((result, error) -> {
+            creditPermits.release();
+            creditTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            resume(pending, result, error);
+        });
+        return true;
+    }
+
+    private CreditResult depositInternal(Transfer transfer) {
+        try {
+            transactionService.deposit(new AccountNumber(transfer.getDestinationAccountNumber()),
+                    transfer.getAmount(), creditDescription(transfer));
+            return CreditResult.succeeded(null);
+        } catch (AccountNotFoundException | InactiveAccountException | IllegalArgumentException e) {
+            return new CreditResult(CreditResult.CreditStatus.REJECTED, null, e.getMessage());
+        } catch (RuntimeException e) {
+            // 락 대기 초과, DB 오류 등 - 반영 여부를 거래내역으로 다시 확인한다
+            return CreditResult.unknown(e.getMessage());
+        }
+    }
+
+    /**
+     * 입금 결과 확인 (입금 요청 상태에서 결과를 모르는 채로 기한이 지난 경우)
+     */
+    private boolean inquireCredit(Transfer transfer) {
+        if (transfer.isInternal()) {
+            boolean deposited = loadDepositRecordPort.existsDeposit(
+                    new AccountNumber(transfer.getDestinationAccountNumber()), creditDescription(transfer),
+                    transfer.getRequestedAt());
+            return onCreditResult(transfer, deposited ? CreditResult.succeeded(null) : CreditResult.notFound());
+        }
+        openBankingPort.inquire(transfer).whenComplete((result, error) -> resume(transfer, result, error));
+        return true;
+    }
+
+    /**
+     * 오픈뱅킹 응답 처리를 단계 실행 스레드로 넘긴다. (응답 스레드에서 DB/Redis 작업을 하지 않는다)
+     */
+    private void resume(Transfer pending, CreditResult result, Throwable error) {
+        CreditResult outcome = error != null ? CreditResult.unknown(error.getMessage()) : result;
+        try {
+            stepExecutor.execute(() -> runStep(pending, () -> onCreditResult(pending, outcome)));
+        } catch (RejectedExecutionException e) {
+            active.remove(pending.getTransferId());
+            log.warn("이체 입금 결과 처리 거절 - 이체ID: {}, 결과: {}", pending.getTransferId(), outcome.summary());
+        }
+    }
+
+    private boolean onCreditResult(Transfer pending, CreditResult result) {
+        switch (result.status()) {
+            case SUCCEEDED -> {
+                Transfer credited = pending.transitionTo(TransferState.CREDITED, null, Instant.now());
+                if (commit(pending, credited, result.summary())) {
+                    capture(credited);
+                }
+                return false;
+            }
+            case REJECTED -> {
+                return startCompensation(pending, result.summary());
+            }
+            case NOT_FOUND -> {
+                if (pending.getCreditAttempts() >= properties.getMaxCreditAttempts()) {
+                    return startCompensation(pending, "입금 미처리 - 시도: " + pending.getCreditAttempts());
+                }
+                log.info("이체 입금 재요청 - 이체ID: {}, 시도: {}", pending.getTransferId(), pending.getCreditAttempts());
+                return sendCredit(pending);
+            }
+            default -> {
+                log.warn("이체 입금 결과 불명 - 이체ID: {}, 결과: {}", pending.getTransferId(), result.summary());
+                retryLater(pending);
+                return false;
+            }
+        }
+    }
+
+    private boolean startCompensation(Transfer pending, String reason) {
+        Transfer compensating = pending.transitionTo(TransferState.COMPENSATING, reason, Instant.now());
+        if (commit(pending, compensating, reason)) {
+            compensate(compensating);
+        }
+        return false;
+    }
+
+    /**
+     * 출금 확정 (보류 매입, 보류가 없으면 출금 거래를 확인하고 없으면 직접 출금)
+     * 입금은 이미 끝났으므로 출금할 수 없으면(잔액 부족, 거래 속도 차단 등) 수동 확인이 필요한 실패로 끝낸다.
+     * 락 대기 초과, DB/Redis 오류 같은 일시 오류는 같은 단계를 다시 시도한다.
+     */
+    private boolean capture(Transfer transfer) {
+        try {
+            if (!transferDebitService.debitIfAbsent(transfer.getSourceAccountNumber(), holdId(transfer),
+                    transfer.getAmount(), debitDescription(transfer), transfer.getRequestedAt())) {
+                log.info("이체 출금 확인됨 - 이체ID: {}", transfer.getTransferId());
+            }
+        } catch (InsufficientBalanceException | InactiveAccountException | AccountNotFoundException
+                 | VelocityLimitExceededException | IllegalArgumentException e) {
+            String reason = "입금 후 출금 실패 - 수동 확인 필요: " + e.getMessage();
+            log.error("이체 출금 실패 - 이체ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}, 오류: {}",
+                    transfer.getTransferId(), transfer.getSourceAccountNumber(),
+                    transfer.getDestinationAccountNumber(), transfer.getAmount(), e.getMessage());
+            commit(transfer, transfer.transitionTo(TransferState.FAILED, reason, Instant.now()), reason);
+            return false;
+        }
+        commit(transfer, transfer.transitionTo(TransferState.COMPLETED, null, Instant.now()), null);
+        return false;
+    }
+
+    private boolean compensate(Transfer transfer) {
+        try {
+            holdService.release(transfer.getSourceAccountNumber(), holdId(transfer));
+        } catch (HoldNotFoundException e) {
+            // 이전 시도에서 이미 해제했다
+            log.info("이체 보류 이미 해제됨 - 이체ID: {}", transfer.getTransferId());
+        }
+        commit(transfer, transfer.transitionTo(TransferState.COMPENSATED, null, Instant.now()), null);
+        return false;
+    }
+
+    /**
+     * 상태 전이 저장 후 다음 처리 기한으로 타이머를 다시 건다.
+     * @return 저장했으면 true (다른 노드가 먼저 전이시켰으면 false)
+     */
+    private boolean commit(Transfer current, Transfer next, String detail) {
+        boolean terminal = next.getState().isTerminal();
+        Instant deadlineAt = terminal ? null : Instant.now().plus(properties.getStepTimeout());
+        if (!transferSagaPort.transition(next, current.getVersion(), detail, deadlineAt)) {
+            log.info("이체 상태 전이 충돌 - 이체ID: {}, 상태: {} → {}",
+                    current.getTransferId(), current.getState(), next.getState());
+            return false;
+        }
+
+        transitionCounters.get(next.getState()).increment();
+        if (terminal) {
+            disarm(next.getTransferId());
+            log.info("이체 종료 - 이체ID: {}, 상태: {}, 금액: {}, 사유: {}",
+                    next.getTransferId(), next.getState(), next.getAmount(), next.getFailureReason());
+        } else {
+            arm(next, properties.getStepTimeout());
+        }
+        return true;
+    }
+
+    /**
+     * 같은 단계를 나중에 다시 시도한다. (같은 상태에 오래 머물수록 길게 기다린다)
+     */
+    private void retryLater(Transfer transfer) {
+        Instant now = Instant.now();
+        Duration delay = Duration.between(transfer.getUpdatedAt(), now).dividedBy(2);
+        if (delay.compareTo(properties.getMinRetryBackoff()) < 0) {
+            delay = properties.getMinRetryBackoff();
+        } else if (delay.compareTo(properties.getMaxRetryBackoff()) > 0) {
+            delay = properties.getMaxRetryBackoff();
+        }
+
+        try {
+            if (transferSagaPort.extendDeadline(transfer.getTransferId(), transfer.getVersion(),
+                    now.plus(delay).plus(properties.getStepTimeout()))) {
+                arm(transfer, delay);
+            }
+        } catch (RuntimeException e) {
+            // 처리 기한이 지나면 복구 스캔이 가져간다
+            log.warn("이체 처리 기한 연장 실패 - 이체ID: {}, 오류: {}", transfer.getTransferId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 타이머를 건다. (같은 이체의 이전 타이머는 취소)
+     * 타이머가 울리면 DB에서 다시 읽어, 그 사이 다른 곳에서 진행하지 않았을 때만 이어서 진행한다.
+     */
+    private void arm(Transfer transfer, Duration delay) {
+        String transferId = transfer.getTransferId();
+        long version = transfer.getVersion();
+        TransferTimerWheel.Timeout timeout = timerWheel.schedule(() -> onTimeout(transferId, version), delay);
+        TransferTimerWheel.Timeout previous = timeouts.put(transferId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void disarm(String transferId) {
+        TransferTimerWheel.Timeout timeout = timeouts.remove(transferId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void onTimeout(String transferId, long version) {
+        timeouts.computeIfPresent(transferId, (id, timeout) -> timeout.isExpired() ? null : timeout);
+        try {
+            transferSagaPort.load(transferId)
+                    .filter(transfer -> transfer.getVersion() == version && !transfer.getState().isTerminal())
+                    .ifPresent(this::advance);
+        } catch (RuntimeException e) {
+            // 처리 기한이 지나면 복구 스캔이 가져간다
+            log.warn("이체 타이머 처리 실패 - 이체ID: {}, 오류: {}", transferId, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 기한이 지난 이체를 가져와 이어서 진행한다. (배치가 가득 차면 이어서 가져온다)
+     */
+    private void recover() {
+        try {
+            List<Transfer> claimed;
+            do {
+                Instant now = Instant.now();
+                claimed = transferSagaPort.claimOverdue(now, now.plus(properties.getStepTimeout()),
+                        properties.getRecoveryBatchSize());
+                for (Transfer transfer : claimed) {
+                    recoveredCounter.increment();
+                    log.info("이체 복구 - 이체ID: {}, 상태: {}", transfer.getTransferId(), transfer.getState());
+                    arm(transfer, properties.getStepTimeout());
+                    dispatch(transfer);
+                }
+            } while (running && claimed.size() >= properties.getRecoveryBatchSize());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다
+            log.warn("이체 복구 스캔 실패 - 오류: {}", e.getMessage());
+        } finally {
+            if (running) {
+                timerWheel.schedule(this::recover, properties.getRecoveryInterval());
+            }
+        }
+    }
+
+    private static String holdId(Transfer transfer) {
+        return "TRANSFER_" + transfer.getTransferId();
+    }
+
+    private static String creditDescription(Transfer transfer) {
+        return "이체 입금 " + transfer.getTransferId();
+    }
+
+    private static String debitDescription(Transfer transfer) {
+        return "이체 출금 " + transfer.getTransferId();
+    }
+
+    @Override
+    public void start() {
+        if (!holdService.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        timerWheel.start();
+        timerWheel.schedule(this::recover, Duration.ZERO);
+        log.info("이체 사가 시작 - 처리 기한: {}, 입금 동시 요청 상한: {}, 복구 주기: {}",
+                properties.getStepTimeout(), properties.getMaxInFlightCredits(), properties.getRecoveryInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        timerWheel.stop();
+        stepExecutor.shutdown();
+        try {
+            stepExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,85 @@
+package application.service.transfer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이체 사가 설정 (fintech.transfer.saga.*)
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fintech.transfer.saga")
+public class TransferSagaProperties {
+
+    /**
+     * 당행 은행 코드 - 입금 은행 코드가 비어 있거나 이 값이면 당행 이체로 처리한다.
+     */
+    private String ownBankCode = "999";
+
+    /**
+     * 출금 보류 만료 시간 - 이체가 끝날 때까지 보류가 남아 있어야 하므로 사가가 멈춰 있을 수 있는 최대 시간보다 길게 잡는다.
+     */
+    private Duration holdTtl = Duration.ofDays(7);
+
+    /**
+     * 단계 처리 기한 - 이 시간 안에 다음 상태로 넘어가지 않으면 멈춘 사가로 보고 다시 진행한다.
+     * 다른 노드가 가져가기 전까지의 임대 기간을 겸하므로 오픈뱅킹 호출 시한보다 길게 잡는다.
+     */
+    private Duration stepTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 재시도 최소 대기 시간 (같은 상태에 머문 시간의 절반을 기다리되 이 값 이상)
+     */
+    private Duration minRetryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 재시도 최대 대기 시간
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(1);
+
+    /**
+     * 입금 기록이 없다는 조회 결과가 나왔을 때 다시 보내는 최대 횟수 (넘으면 보상)
+     */
+    private int maxCreditAttempts = 3;
+
+    /**
+     * 동시에 응답을 기다리는 오픈뱅킹 입금 요청 수 상한 (넘으면 보류 상태로 두고 나중에 보낸다)
+     */
+    private int maxInFlightCredits = 1000;
+
+    /**
+     * 단계 실행 스레드 수 (보류/입금/상태 저장 등 로컬 작업만 하고 외부 응답은 기다리지 않는다)
+     */
+    private int stepWorkers = 8;
+
+    /**
+     * 단계 실행 대기열 크기 (가득 차면 해당 사가는 처리 기한이 지난 뒤 복구 스캔이 이어서 처리한다)
+     */
+    private int stepQueueCapacity = 10_000;
+
+    /**
+     * 타이머 휠 한 칸의 시간
+     */
+    private Duration timerTick = Duration.ofMillis(100);
+
+    /**
+     * 타이머 휠 칸 수 (2의 거듭제곱으로 올림)
+     */
+    private int timerWheelSize = 512;
+
+    /**
+     * 처리 기한이 지난 사가를 DB에서 찾는 주기 (다른 노드가 멈춘 사가 복구)
+     */
+    private Duration recoveryInterval = Duration.ofSeconds(5);
+
+    /**
+     * 한 번에 가져오는 멈춘 사가 수
+     */
+    private int recoveryBatchSize = 200;
+}
@@ -0,0 +1,99 @@
+package application.service.transfer;
+
+import application.port.out.TransferSagaPort;
+import application.service.hold.HoldService;
+import application.service.velocity.VelocityService;
+import domain.exception.TransferNotFoundException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transfer;
+import domain.model.TransferStep;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 이체 서비스
+ *
+ * 거래 속도 심사를 통과한 이체를 처리한다.
+ * - 당행 계좌 간 이체: 두 계좌를 잠그고 한 트랜잭션으로 바로 끝낸다. (IntraBankTransferProcessor)
+ * - 그 외(타행, 핫 계좌 등): 이체를 저장하고 바로 돌려준다. 보류/입금/확정은 TransferSagaOrchestrator가 비동기로 진행한다.
+ * 이체 ID를 주면 멱등 키로 쓴다. 같은 이체 ID로 다시 요청하면 새로 만들지 않고 저장된 이체를 돌려준다.
+ *
+ * @author Fintech Platform Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferService {
+    private static final Logger log = LoggerFactory.getLogger(TransferService.class);
+
+    private final TransferSagaOrchestrator orchestrator;
+    private final IntraBankTransferProcessor intraBankTransferProcessor;
+    private final TransferSagaPort transferSagaPort;
+    private final HoldService holdService;
+    private final VelocityService velocityService;
+    private final TransferSagaProperties properties;
+
+    /**
+     * 이체는 출금 보류 위에서 동작하므로 보류가 꺼져 있으면 사용할 수 없다.
+     */
+    public boolean isEnabled() {
+        return holdService.isEnabled();
+    }
+
+    /**
+     * 이체 요청
+     * @param transferId          이체 ID (없으면 생성)
+     * @param destinationBankCode 입금 은행 코드 (없거나 당행 코드면 당행 이체)
+     * @throws domain.exception.VelocityLimitExceededException 심사 점수가 차단 점수 이상인 경우
+     */
+    public Transfer request(String transferId, AccountNumber sourceAccountNumber, String destinationBankCode,
+                            String destinationAccountNumber, Money amount, String description) {
+        if (transferId != null) {
+            Optional<Transfer> existing = transferSagaPort.load(transferId);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+
+        String bankCode = destinationBankCode == null || destinationBankCode.isBlank()
+                || destinationBankCode.equals(properties.getOwnBankCode()) ? null : destinationBankCode;
+
+        velocityService.screen(sourceAccountNumber, null, amount);
+        Transfer requested = Transfer.request(transferId != null ? transferId : "TRF_" + UUID.randomUUID(),
+                sourceAccountNumber, bankCode, destinationAccountNumber, amount, description, Instant.now());
+
+        if (bankCode == null && intraBankTransferProcessor.supports(sourceAccountNumber,
+                new AccountNumber(destinationAccountNumber))) {
+            Transfer completed = intraBankTransferProcessor.execute(requested);
+            velocityService.record(sourceAccountNumber, null, amount);
+            return completed;
+        }
+
+        Transfer transfer = orchestrator.start(requested);
+        log.info("이체 요청 - 이체ID: {}, 출금계좌: {}, 입금: {} {}, 금액: {}", transfer.getTransferId(),
+                sourceAccountNumber, bankCode != null ? bankCode : "당행", destinationAccountNumber, amount);
+        return transfer;
+    }
+
+    public Transfer getTransfer(String transferId) {
+        return transferSagaPort.load(transferId)
+                .orElseThrow(() -> new TransferNotFoundException("이체를 찾을 수 없습니다: " + transferId));
+    }
+
+    /**
+     * 상태 전이 기록 (버전 순)
+     */
+    public List<TransferStep> getSteps(String transferId) {
+        return transferSagaPort.loadSteps(transferId);
+    }
+}
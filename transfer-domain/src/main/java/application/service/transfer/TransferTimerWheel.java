@@ -0,0 +1,238 @@
+package application.service.transfer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시 타이머 휠
+ *
+ * 사가마다 처리 기한 타이머를 걸어야 하므로 등록/취소가 O(1)이어야 한다.
+ * 기한을 tick 단위 칸에 나누어 담고, 휠 스레드가 tick마다 현재 칸만 훑어 기한이 된 작업을 실행기로 넘긴다.
+ * - 등록: 대기열에 넣기만 하고, 휠 스레드가 다음 tick에 칸으로 옮긴다. (등록 스레드끼리 잠그지 않는다)
+ * - 취소: 표시만 하고, 칸을 훑을 때 버린다.
+ * - 정밀도: tick 단위로 늦게 실행될 수 있다. (사가 기한은 초 단위이므로 충분하다)
+ * 작업 자체는 실행기에서 돌리므로 휠 스레드는 막히지 않는다.
+ */
+@Slf4j
+final class TransferTimerWheel {
+    private static final Logger log = LoggerFactory.getLogger(TransferTimerWheel.class);
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile Thread worker;
+    private volatile boolean running;
+    private volatile long startNanos;
+    private long currentTick;
+
+    TransferTimerWheel(String name, Duration tick, int wheelSize, Executor executor) {
+        this.name = name;
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), tick.toNanos());
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) * 2 - 1);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+    }
+
+    /**
+     * delay 후 task를 실행기에서 실행한다.
+     */
+    Timeout schedule(Runnable task, Duration delay) {
+        Timeout timeout = new Timeout(task, System.nanoTime() + Math.max(0, delay.toNanos()));
+        pending.incrementAndGet();
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 등록된(아직 실행/취소되지 않은) 타이머 수
+     */
+    int pending() {
+        return pending.get();
+    }
+
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startNanos = System.nanoTime();
+        currentTick = 0;
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    synchronized void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (currentTick + 1) * tickNanos;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (System.nanoTime() < deadline) {
+                    continue;
+                }
+            }
+            try {
+                transferRegistrations();
+                expire(wheel[(int) (currentTick & mask)]);
+            } catch (RuntimeException e) {
+                log.error("타이머 휠 처리 오류 - 휠: {}, 오류: {}", name, e.getMessage());
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * 등록 대기열의 타이머를 기한에 맞는 칸으로 옮긴다. (이미 지난 기한은 현재 칸에 넣어 이번 tick에 실행)
+     */
+    private void transferRegistrations() {
+        Timeout timeout;
+        while ((timeout = registrations.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(currentTick, (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+            timeout.remainingRounds = (deadlineTick - currentTick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout previous = null;
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            boolean remove = timeout.cancelled;
+            if (!remove && timeout.remainingRounds <= 0) {
+                remove = true;
+                fire(timeout);
+            } else if (!remove) {
+                timeout.remainingRounds--;
+            }
+
+            if (remove) {
+                if (previous == null) {
+                    bucket.head = next;
+                } else {
+                    previous.next = next;
+                }
+                if (bucket.tail == timeout) {
+                    bucket.tail = previous;
+                }
+                timeout.next = null;
+            } else {
+                previous = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        if (!timeout.markFired()) {
+            return;
+        }
+        try {
+            executor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            // 처리 기한이 DB에 남아 있으므로 복구 스캔이 이어서 처리한다
+            log.warn("타이머 작업 실행 거절 - 휠: {}", name);
+        }
+    }
+
+    /**
+     * 칸 (휠 스레드만 접근)
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+    }
+
+    /**
+     * 등록된 타이머 (cancel로 취소)
+     */
+    final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile boolean cancelled;
+        private boolean fired;
+        private long remainingRounds;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 취소 (이미 실행됐으면 효과 없음)
+         */
+        void cancel() {
+            synchronized (this) {
+                if (cancelled || fired) {
+                    return;
+                }
+                cancelled = true;
+            }
+            pending.decrementAndGet();
+        }
+
+        /**
+         * 실행기로 넘겨졌는지 여부
+         */
+        synchronized boolean isExpired() {
+            return fired;
+        }
+
+        private boolean markFired() {
+            synchronized (this) {
+                if (cancelled || fired) {
+                    return false;
+                }
+                fired = true;
+            }
+            pending.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class InvalidTransferStateException extends RuntimeException {
+    public InvalidTransferStateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,128 @@
+package domain.model;
+
+import domain.exception.InvalidTransferStateException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 이체 (사가)
+ *
+ * 출금 계좌에 이체 ID로 보류를 걸고, 입금 계좌에 입금한 뒤, 보류를 출금으로 확정한다.
+ * 입금이 거절되면 보류를 해제해 보상한다. 입금 계좌가 다른 은행이면 오픈뱅킹으로 입금한다.
+ *
+ * 상태 전이마다 새 인스턴스를 돌려주고 버전을 1 올린다.
+ * 저장소는 이전 버전을 조건으로 갱신하므로 같은 이체에 대한 동시 전이 중 하나만 반영된다.
+ */
+public class Transfer {
+    private final String transferId;
+    private final AccountNumber sourceAccountNumber;
+    private final String destinationBankCode;
+    private final String destinationAccountNumber;
+    private final Money amount;
+    private final String description;
+    private final TransferState state;
+    private final int creditAttempts;
+    private final String failureReason;
+    private final Instant requestedAt;
+    private final Instant updatedAt;
+    private final long version;
+
+    public Transfer(String transferId, AccountNumber sourceAccountNumber, String destinationBankCode,
+                    String destinationAccountNumber, Money amount, String description, TransferState state,
+                    int creditAttempts, String failureReason, Instant requestedAt, Instant updatedAt, long version) {
+        if (transferId == null || transferId.isBlank()) {
+            throw new IllegalArgumentException("이체 ID는 필수입니다.");
+        }
+        if (sourceAccountNumber == null) {
+            throw new IllegalArgumentException("출금 계좌번호는 필수입니다.");
+        }
+        if (destinationAccountNumber == null || destinationAccountNumber.isBlank()) {
+            throw new IllegalArgumentException("입금 계좌번호는 필수입니다.");
+        }
+        if (amount == null || amount.isZero()) {
+            throw new IllegalArgumentException("이체 금액은 0보다 커야 합니다.");
+        }
+        if (state == null || requestedAt == null) {
+            throw new IllegalArgumentException("이체 상태와 요청 시각은 필수입니다.");
+        }
+        this.transferId = transferId;
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.destinationBankCode = destinationBankCode;
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.description = description;
+        this.state = state;
+        this.creditAttempts = creditAttempts;
+        this.failureReason = failureReason;
+        this.requestedAt = requestedAt;
+        this.updatedAt = updatedAt != null ? updatedAt : requestedAt;
+        this.version = version;
+    }
+
+    /**
+     * 이체 요청 생성
+     * @param destinationBankCode 입금 은행 코드 (당행이면 null)
+     */
+    public static Transfer request(String transferId, AccountNumber sourceAccountNumber, String destinationBankCode,
+                                   String destinationAccountNumber, Money amount, String description, Instant now) {
+        if (destinationBankCode == null && sourceAccountNumber.getValue().equals(destinationAccountNumber)) {
+            throw new IllegalArgumentException("출금 계좌와 입금 계좌가 같습니다.");
+        }
+        return new Transfer(transferId, sourceAccountNumber, destinationBankCode, destinationAccountNumber, amount,
+                description, TransferState.REQUESTED, 0, null, now, now, 0L);
+    }
+
+    /**
+     * 당행 계좌로의 이체 여부
+     */
+    public boolean isInternal() {
+        return destinationBankCode == null;
+    }
+
+    /**
+     * 상태 전이 (입금 요청으로 전이할 때마다 입금 시도 횟수를 1 올린다)
+     * @param reason 실패/보상 사유 (없으면 이전 사유 유지)
+     */
+    public Transfer transitionTo(TransferState next, String reason, Instant now) {
+        if (!state.canTransitionTo(next)) {
+            throw new InvalidTransferStateException(String.format(
+                    "%s 상태의 이체는 %s 상태로 바꿀 수 없습니다: %s", state.getDescription(), next.getDescription(), transferId));
+        }
+        int attempts = next == TransferState.CREDIT_PENDING ? creditAttempts + 1 : creditAttempts;
+        return new Transfer(transferId, sourceAccountNumber, destinationBankCode, destinationAccountNumber, amount,
+                description, next, attempts, reason != null ? reason : failureReason, requestedAt, now, version + 1);
+    }
+
+    public String getTransferId() { return transferId; }
+    public AccountNumber getSourceAccountNumber() { return sourceAccountNumber; }
+    public String getDestinationBankCode() { return destinationBankCode; }
+    public String getDestinationAccountNumber() { return destinationAccountNumber; }
+    public Money getAmount() { return amount; }
+    public String getDescription() { return description; }
+    public TransferState getState() { return state; }
+    public int getCreditAttempts() { return creditAttempts; }
+    public String getFailureReason() { return failureReason; }
+    public Instant getRequestedAt() { return requestedAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public long getVersion() { return version; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Transfer transfer = (Transfer) o;
+        return Objects.equals(transferId, transfer.transferId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transferId);
+    }
+
+    @Override
+    public String toString() {
+        return "Transfer{" + transferId + ", " + state + ", amount=" + amount + ", attempts=" + creditAttempts
+                + ", v" + version + "}";
+    }
+}
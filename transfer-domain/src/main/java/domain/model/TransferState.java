@@ -0,0 +1,75 @@
+package domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 이체 사가 상태
+ *
+ * REQUESTED → RESERVED → CREDIT_PENDING → CREDITED → COMPLETED
+ *     │                           │             └ (보류 만료 후 출금 실패, 수동 확인) → FAILED
+ *     │                           └──────→ COMPENSATING → COMPENSATED
+ *     ├ (보류 실패) → FAILED
+ *     └ (당행 직접 이체) → COMPLETED
+ *
+ * 상태 전이 기록은 한 바이트 코드로 저장한다. (코드는 바꾸지 않는다)
+ */
+public enum TransferState {
+    REQUESTED(0, "요청"),
+    RESERVED(1, "출금 보류"),
+    CREDIT_PENDING(2, "입금 요청"),
+    CREDITED(3, "입금 완료"),
+    COMPLETED(4, "완료"),
+    COMPENSATING(5, "보상 중"),
+    COMPENSATED(6, "보상 완료"),
+    FAILED(7, "실패");
+
+    private static final TransferState[] BY_CODE = new TransferState[values().length];
+
+    static {
+        Arrays.stream(values()).forEach(state -> BY_CODE[state.code] = state);
+    }
+
+    private final int code;
+    private final String description;
+
+    TransferState(int code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public static TransferState fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("알 수 없는 이체 상태 코드입니다: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == COMPENSATED || this == FAILED;
+    }
+
+    /**
+     * 이 상태에서 next로 전이할 수 있는지 여부
+     * 입금 요청은 재전송할 수 있으므로 CREDIT_PENDING → CREDIT_PENDING을 허용한다.
+     * 당행 직접 이체는 출금과 입금을 한 트랜잭션에서 끝내므로 REQUESTED → COMPLETED를 허용한다.
+     * 입금 후 보류가 만료되어 출금하지 못하면 CREDITED → FAILED로 끝낸다.
+     */
+    public boolean canTransitionTo(TransferState next) {
+        return switch (this) {
+            case REQUESTED -> next == RESERVED || next == FAILED || next == COMPLETED;
+            case RESERVED -> next == CREDIT_PENDING || next == COMPENSATING;
+            case CREDIT_PENDING -> next == CREDIT_PENDING || next == CREDITED || next == COMPENSATING;
+            case CREDITED -> next == COMPLETED || next == FAILED;
+            case COMPENSATING -> next == COMPENSATED;
+            case COMPLETED, COMPENSATED, FAILED -> false;
+        };
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
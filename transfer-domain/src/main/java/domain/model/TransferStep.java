@@ -0,0 +1,11 @@
+package domain.model;
+
+import java.time.Instant;
+
+/**
+ * 이체 상태 전이 기록 한 건 (버전마다 한 행)
+ *
+ * @param detail 전이 사유 (실패/보상 사유, 입금 결과 코드 등)
+ */
+public record TransferStep(String transferId, long version, TransferState state, Instant occurredAt, String detail) {
+}
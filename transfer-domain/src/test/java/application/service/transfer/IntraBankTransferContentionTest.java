@@ -0,0 +1,307 @@
+package application.service.transfer;
+
+import adapter.persistence.AccountMapper;
+import adapter.persistence.AccountPersistenceAdapter;
+import adapter.persistence.TransferSagaPersistenceAdapter;
+import adapter.persistence.entity.AccountJpaEntity;
+import adapter.persistence.repository.AccountJpaRepository;
+import adapter.persistence.repository.TransactionJpaRepository;
+import application.port.out.PublishAccountEventPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.metadata.AccountMetadataCache;
+import application.service.query.BulkAccountQueryService;
+import com.fintech.platform.infrastructure.lock.DistributedLockAspect;
+import com.fintech.platform.infrastructure.lock.DistributedLockProperties;
+import com.fintech.platform.infrastructure.lock.LockContentionTracker;
+import com.fintech.platform.shared.lock.DistributedLock;
+import domain.model.AccountNumber;
+import domain.model.AccountStatus;
+import domain.model.Money;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 당행 직접 이체 경합 테스트 (MySQL 컨테이너)
+ *
+ * 두 계좌 사이를 양방향(A→B, B→A)으로 동시에 이체해, 두 계좌 락을 잡는 순서가 엇갈려도 교착 없이 끝나고
+ * 두 계좌 잔액 합계가 보존되는지 확인한다. 노드 두 개를 흉내 내기 위해 노드 내 락(스트라이프)을 따로 갖는
+ * 락 Aspect 두 개로 처리기 프록시를 각각 만들고, Redis 락은 두 노드가 공유하는 메모리 락으로 대신한다.
+ *
+ * 처리량/지연 측정은 @Tag("benchmark") - 실행: ./gradlew :transfer-domain:test -Pbenchmark --tests '*IntraBankTransferContentionTest'
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountPersistenceAdapter.class, AccountMapper.class, TransferSagaPersistenceAdapter.class})
+class IntraBankTransferContentionTest {
+    private static final String ACCOUNT_A = "910000000001";
+    private static final String ACCOUNT_B = "910000000002";
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 100;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 8);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "adapter.persistence.entity")
+    @EnableJpaRepositories(basePackages = "adapter.persistence.repository")
+    static class Config {
+    }
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private AccountPersistenceAdapter accountPersistenceAdapter;
+
+    @Autowired
+    private TransferSagaPersistenceAdapter transferSagaPersistenceAdapter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BeanFactory beanFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfers ("
+                + "transfer_id VARCHAR(64) PRIMARY KEY, source_account_number VARCHAR(20) NOT NULL, "
+                + "destination_bank_code CHAR(3) NULL, destination_account_number VARCHAR(20) NOT NULL, "
+                + "amount DECIMAL(19,2) NOT NULL, description VARCHAR(255), transfer_state TINYINT NOT NULL, "
+                + "credit_attempts INT NOT NULL DEFAULT 0, failure_reason VARCHAR(255) NULL, "
+                + "requested_at TIMESTAMP(3) NOT NULL, updated_at TIMESTAMP(3) NOT NULL, "
+                + "deadline_at TIMESTAMP(3) NULL, version BIGINT NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfer_saga_steps ("
+                + "transfer_id VARCHAR(64) NOT NULL, version BIGINT NOT NULL, transfer_state TINYINT NOT NULL, "
+                + "occurred_at TIMESTAMP(3) NOT NULL, detail VARCHAR(255) NULL, PRIMARY KEY (transfer_id, version))");
+        jdbcTemplate.update("DELETE FROM transfer_saga_steps");
+        jdbcTemplate.update("DELETE FROM transfers");
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        for (String accountNumber : List.of(ACCOUNT_A, ACCOUNT_B)) {
+            accountJpaRepository.save(AccountJpaEntity.builder()
+                    .accountNumber(accountNumber)
+                    .balance(INITIAL_BALANCE)
+                    .status(AccountStatus.ACTIVE)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Test
+    void opposingTransfersDoNotDeadlockAndConserveBalances() throws Exception {
+        Run run = transferBothWays(4, 25);
+
+        assertConserved(run, 4 * 25);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void opposingTransferThroughput() throws Exception {
+        Run run = transferBothWays(THREADS, TRANSFERS_PER_THREAD);
+
+        long[] all = Arrays.stream(run.latencies()).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("[양방향 이체] %d건, 처리량: %.0f건/s, 지연 p50: %.2fms, p99: %.2fms, 버전 충돌: %.0f%n",
+                all.length, all.length / (run.elapsedNanos() / 1e9), all[all.length / 2] / 1e6,
+                all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6,
+                meterRegistry.counter("transfer.intrabank.conflicts").count());
+        assertConserved(run, THREADS * TRANSFERS_PER_THREAD);
+    }
+
+    /**
+     * 두 노드로 양방향 이체를 동시에 실행한다.
+     * 짝수 스레드는 A→B, 홀수 스레드는 B→A (노드도 번갈아 쓴다)
+     */
+    private Run transferBothWays(int threads, int transfersPerThread) throws Exception {
+        IntraBankTransferProcessor target = processor();
+        RedissonClient sharedRedis = sharedLockStore();
+        IntraBankTransferProcessor[] nodes = {node(target, sharedRedis), node(target, sharedRedis)};
+
+        long[][] latencies = new long[threads][transfersPerThread];
+        BigDecimal[] sentFromA = new BigDecimal[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                boolean fromA = thread % 2 == 0;
+                BigDecimal sent = BigDecimal.ZERO;
+                int completed = 0;
+                for (int i = 0; i < transfersPerThread; i++) {
+                    BigDecimal amount = BigDecimal.valueOf(100L + (thread * 31L + i * 7L) % 900);
+                    Transfer transfer = Transfer.request("TRF_" + thread + "_" + i,
+                            new AccountNumber(fromA ? ACCOUNT_A : ACCOUNT_B), null, fromA ? ACCOUNT_B : ACCOUNT_A,
+                            new Money(amount), "경합 이체", Instant.now());
+                    long begin = System.nanoTime();
+                    Transfer result = nodes[(thread + i) % 2].execute(transfer);
+                    latencies[thread][i] = System.nanoTime() - begin;
+                    if (result.getState() == TransferState.COMPLETED) {
+                        completed++;
+                        sent = sent.add(amount);
+                    }
+                }
+                sentFromA[thread] = fromA ? sent : sent.negate();
+                return completed;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        int completed = 0;
+        for (Future<Integer> future : futures) {
+            // 락 대기 시한(3초) 안에 끝나지 않는 교착은 LockAcquisitionException으로 여기서 드러난다
+            completed += future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        return new Run(completed, Arrays.stream(sentFromA).reduce(BigDecimal.ZERO, BigDecimal::add),
+                latencies, elapsed);
+    }
+
+    private void assertConserved(Run run, int transfers) {
+        BigDecimal balanceA = balance(ACCOUNT_A);
+        BigDecimal balanceB = balance(ACCOUNT_B);
+        assertThat(run.completed()).isEqualTo(transfers);
+        assertThat(balanceA.add(balanceB)).isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(2)));
+        assertThat(balanceA).isEqualByComparingTo(INITIAL_BALANCE.subtract(run.netFromA()));
+        assertThat(balanceB).isEqualByComparingTo(INITIAL_BALANCE.add(run.netFromA()));
+        assertThat(transactionJpaRepository.count()).isEqualTo(2L * transfers);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transfers WHERE transfer_state = ?",
+                Integer.class, TransferState.COMPLETED.getCode())).isEqualTo(transfers);
+        // 두 계좌 락을 잡은 뒤 갱신하므로 버전 충돌 재시도도 없어야 한다
+        assertThat(meterRegistry.counter("transfer.intrabank.conflicts").count()).isZero();
+    }
+
+    private record Run(int completed, BigDecimal netFromA, long[][] latencies, long elapsedNanos) {
+    }
+
+    private IntraBankTransferProcessor processor() {
+        HoldService holdService = mock(HoldService.class);
+        when(holdService.getHeldAmount(any())).thenReturn(new Money(BigDecimal.ZERO));
+        return new IntraBankTransferProcessor(accountPersistenceAdapter, accountPersistenceAdapter,
+                mock(PublishAccountEventPort.class), transferSagaPersistenceAdapter, mock(TransactionService.class),
+                holdService, mock(AccountMetadataCache.class), mock(BulkAccountQueryService.class),
+                transactionTemplate, new IntraBankTransferProperties(), meterRegistry);
+    }
+
+    /**
+     * 노드 하나 - 노드 내 락을 따로 갖는 락 Aspect로 감싼 처리기
+     */
+    private IntraBankTransferProcessor node(IntraBankTransferProcessor target, RedissonClient sharedRedis) {
+        DistributedLockAspect aspect = new DistributedLockAspect(sharedRedis, new DistributedLockProperties(),
+                new LockContentionTracker(100, meterRegistry), meterRegistry, beanFactory);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            DistributedLock distributedLock = invocation.getMethod().getAnnotation(DistributedLock.class);
+            return distributedLock == null ? invocation.proceed()
+                    : aspect.lock(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation), distributedLock);
+        });
+        return (IntraBankTransferProcessor) proxyFactory.getProxy();
+    }
+
+    /**
+     * 두 노드가 공유하는 Redis 락 대용 (키마다 재진입 락 하나)
+     */
+    private static RedissonClient sharedLockStore() {
+        Map<String, RLock> locks = new ConcurrentHashMap<>();
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getLock(anyString())).thenAnswer(invocation ->
+                locks.computeIfAbsent(invocation.getArgument(0), key -> remoteLock()));
+        return redissonClient;
+    }
+
+    private static RLock remoteLock() {
+        ReentrantLock lock = new ReentrantLock();
+        RLock remoteLock = mock(RLock.class);
+        try {
+            when(remoteLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation ->
+                    lock.tryLock(invocation.<Long>getArgument(0), invocation.getArgument(2)));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        doAnswer(invocation -> {
+            lock.unlock();
+            return null;
+        }).when(remoteLock).unlock();
+        return remoteLock;
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return accountJpaRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+    }
+}
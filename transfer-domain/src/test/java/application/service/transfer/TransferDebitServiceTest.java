@@ -0,0 +1,128 @@
+package application.service.transfer;
+
+import application.port.out.AccountCommandLogPort;
+import application.port.out.HoldStorePort;
+import application.port.out.LoadAccountPort;
+import application.port.out.LoadDepositRecordPort;
+import application.port.out.PublishAccountEventPort;
+import application.service.MoneyMovementOutcome;
+import application.service.MoneyMovementProcessor;
+import application.service.TransactionService;
+import application.service.groupcommit.GroupCommitExecutor;
+import application.service.hold.HoldProperties;
+import application.service.hold.HoldService;
+import application.service.hotaccount.HotAccountService;
+import application.service.metadata.AccountMetadataCache;
+import application.service.query.BulkAccountQueryService;
+import application.service.velocity.VelocityDecision;
+import application.service.velocity.VelocityDimension;
+import application.service.velocity.VelocityProperties;
+import application.service.velocity.VelocityService;
+import application.service.velocity.VelocityWindow;
+import domain.exception.HoldNotFoundException;
+import domain.exception.VelocityLimitExceededException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transaction;
+import domain.model.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이체 출금 확정 테스트 (거래 속도 심사 사용)
+ */
+class TransferDebitServiceTest {
+    private static final AccountNumber SOURCE = new AccountNumber("110000000001");
+    private static final Money AMOUNT = new Money(new BigDecimal("50000"));
+    private static final String HOLD_ID = "TRANSFER_TRF_1";
+    private static final String DESCRIPTION = "이체 출금 TRF_1";
+
+    private final LoadDepositRecordPort loadDepositRecordPort = mock(LoadDepositRecordPort.class);
+    private final HoldService holdService = mock(HoldService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final Instant requestedAt = Instant.now().minusSeconds(60);
+
+    private VelocityService velocityService;
+    private TransactionService transactionService;
+    private TransferDebitService transferDebitService;
+
+    @BeforeEach
+    void setUp() {
+        // 1시간 출금 합계가 99,999원을 넘으면 차단
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName("hour-amount");
+        rule.setDimension(VelocityDimension.ACCOUNT);
+        rule.setWindow(VelocityWindow.HOUR);
+        rule.setMetric(VelocityProperties.Metric.AMOUNT);
+        rule.setThreshold(new BigDecimal("99999"));
+        rule.setScore(100);
+        VelocityProperties properties = new VelocityProperties();
+        properties.setEnabled(true);
+        properties.setRules(List.of(rule));
+        velocityService = new VelocityService(properties, mock(PublishAccountEventPort.class), new SimpleMeterRegistry());
+
+        transactionService = new TransactionService(mock(MoneyMovementProcessor.class), mock(GroupCommitExecutor.class),
+                mock(HotAccountService.class), mock(BulkAccountQueryService.class), mock(PublishAccountEventPort.class),
+                Optional.<AccountCommandLogPort>empty(), transactionTemplate, mock(HoldStorePort.class),
+                new HoldProperties(), mock(LoadAccountPort.class), mock(AccountMetadataCache.class), velocityService);
+        transferDebitService = new TransferDebitService(loadDepositRecordPort, holdService, transactionService);
+
+        when(transactionTemplate.execute(any())).thenReturn(List.of(MoneyMovementOutcome.success(new Transaction(
+                1L, TransactionType.WITHDRAW, AMOUNT, new Money(new BigDecimal("50000")), LocalDateTime.now(),
+                DESCRIPTION))));
+
+        // 출금 보류 단계에서 이체를 심사 집계에 더했다
+        velocityService.record(SOURCE, null, AMOUNT);
+    }
+
+    @Test
+    void skipsDebitAndClearsLeftoverHoldWhenAlreadyWithdrawn() {
+        when(loadDepositRecordPort.existsWithdrawal(SOURCE, DESCRIPTION, requestedAt)).thenReturn(true);
+
+        assertThat(transferDebitService.debitIfAbsent(SOURCE, HOLD_ID, AMOUNT, DESCRIPTION, requestedAt)).isFalse();
+
+        verify(holdService, never()).capture(any(), any(), any(), any());
+        verify(holdService).release(SOURCE, HOLD_ID);
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void capturesHoldWhenNotYetWithdrawn() {
+        assertThat(transferDebitService.debitIfAbsent(SOURCE, HOLD_ID, AMOUNT, DESCRIPTION, requestedAt)).isTrue();
+
+        verify(holdService).capture(SOURCE, HOLD_ID, AMOUNT, DESCRIPTION);
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void debitsExpiredHoldWithoutScreeningOrCountingAgain() {
+        when(holdService.capture(SOURCE, HOLD_ID, AMOUNT, DESCRIPTION))
+                .thenThrow(new HoldNotFoundException("보류를 찾을 수 없거나 만료되었습니다: " + HOLD_ID));
+        // 심사하는 출금이었다면 이체 금액이 두 번 더해져 차단된다
+        assertThatThrownBy(() -> velocityService.screen(SOURCE, null, AMOUNT))
+                .isInstanceOf(VelocityLimitExceededException.class);
+
+        assertThat(transferDebitService.debitIfAbsent(SOURCE, HOLD_ID, AMOUNT, DESCRIPTION, requestedAt)).isTrue();
+
+        verify(transactionTemplate).execute(any());
+        // 직접 출금은 집계에 더하지 않았다 (50,000 + 1 <= 99,999)
+        assertThat(velocityService.score(SOURCE, null, new Money(BigDecimal.ONE)).decision())
+                .isEqualTo(VelocityDecision.APPROVE);
+    }
+}
@@ -0,0 +1,128 @@
+package application.service.transfer;
+
+import application.port.out.LoadDepositRecordPort;
+import application.port.out.OpenBankingPort;
+import application.port.out.TransferSagaPort;
+import application.service.TransactionService;
+import application.service.hold.HoldService;
+import application.service.velocity.VelocityService;
+import domain.exception.InsufficientBalanceException;
+import domain.exception.VelocityLimitExceededException;
+import domain.model.AccountNumber;
+import domain.model.Money;
+import domain.model.Transfer;
+import domain.model.TransferState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이체 사가 오케스트레이터 테스트 - 입금 완료 후 출금 확정
+ */
+class TransferSagaOrchestratorTest {
+    private static final AccountNumber SOURCE = new AccountNumber("110000000001");
+    private static final Money AMOUNT = new Money(new BigDecimal("50000"));
+
+    private final TransferSagaPort transferSagaPort = mock(TransferSagaPort.class);
+    private final HoldService holdService = mock(HoldService.class);
+    private final TransferDebitService transferDebitService = mock(TransferDebitService.class);
+
+    private TransferSagaOrchestrator orchestrator;
+    private Transfer credited;
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new TransferSagaOrchestrator(transferSagaPort, mock(OpenBankingPort.class),
+                mock(LoadDepositRecordPort.class), holdService, mock(TransactionService.class), transferDebitService,
+                mock(VelocityService.class), new TransferSagaProperties(), new SimpleMeterRegistry());
+        Instant requestedAt = Instant.now().minusSeconds(60);
+        credited = new Transfer("TRF_1", SOURCE, null, "110000000002", AMOUNT, "이체",
+                TransferState.CREDITED, 1, null, requestedAt, requestedAt, 3L);
+
+        when(transferSagaPort.insert(any(), any())).thenReturn(true);
+        when(transferSagaPort.transition(any(), anyLong(), any(), any())).thenReturn(true);
+        when(transferSagaPort.extendDeadline(any(), anyLong(), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orchestrator.stop();
+    }
+
+    @Test
+    void completesWhenDebitAlreadyRecorded() {
+        when(transferDebitService.debitIfAbsent(SOURCE, "TRANSFER_TRF_1", AMOUNT, "이체 출금 TRF_1",
+                credited.getRequestedAt())).thenReturn(false);
+
+        orchestrator.start(credited);
+
+        verify(transferSagaPort, timeout(5_000)).transition(inState(TransferState.COMPLETED), eq(3L), any(), any());
+    }
+
+    @Test
+    void completesAfterDebiting() {
+        when(transferDebitService.debitIfAbsent(SOURCE, "TRANSFER_TRF_1", AMOUNT, "이체 출금 TRF_1",
+                credited.getRequestedAt())).thenReturn(true);
+
+        orchestrator.start(credited);
+
+        verify(transferSagaPort, timeout(5_000)).transition(inState(TransferState.COMPLETED), eq(3L), any(), any());
+        verify(transferDebitService).debitIfAbsent(SOURCE, "TRANSFER_TRF_1", AMOUNT, "이체 출금 TRF_1",
+                credited.getRequestedAt());
+    }
+
+    @Test
+    void failsForManualReviewWhenDebitIsImpossible() {
+        when(transferDebitService.debitIfAbsent(any(), any(), any(), any(), any()))
+                .thenThrow(new InsufficientBalanceException("잔액이 부족합니다."));
+
+        orchestrator.start(credited);
+
+        verify(transferSagaPort, timeout(5_000)).transition(
+                argThat(next -> next.getState() == TransferState.FAILED && next.getFailureReason().contains("수동 확인")),
+                eq(3L), any(), any());
+        verify(transferSagaPort, never()).transition(inState(TransferState.COMPLETED), anyLong(), any(), any());
+    }
+
+    @Test
+    void failsForManualReviewWhenVelocityBlocksDebit() {
+        when(transferDebitService.debitIfAbsent(any(), any(), any(), any(), any()))
+                .thenThrow(new VelocityLimitExceededException("거래 속도 한도를 초과했습니다."));
+
+        orchestrator.start(credited);
+
+        // 다시 시도해도 같은 결과이므로 재시도하지 않고 실패로 끝낸다
+        verify(transferSagaPort, timeout(5_000)).transition(inState(TransferState.FAILED), eq(3L), any(), any());
+        verify(transferSagaPort, never()).extendDeadline(any(), anyLong(), any());
+    }
+
+    @Test
+    void retriesLaterOnTransientDebitError() {
+        when(transferDebitService.debitIfAbsent(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("락 획득 실패"));
+
+        orchestrator.start(credited);
+
+        verify(transferSagaPort, timeout(5_000)).extendDeadline(eq("TRF_1"), eq(3L), any());
+        verify(transferSagaPort, after(200).never()).transition(any(), anyLong(), any(), any());
+    }
+
+    private static Transfer inState(TransferState state) {
+        return argThat(next -> next != null && next.getState() == state);
+    }
+}